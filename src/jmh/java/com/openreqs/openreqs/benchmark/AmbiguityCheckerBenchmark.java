@@ -0,0 +1,55 @@
+package com.openreqs.openreqs.benchmark;
+
+import com.openreqs.openreqs.dto.RequirementRequest;
+import com.openreqs.openreqs.service.quality.AmbiguityChecker;
+import com.openreqs.openreqs.service.quality.AmbiguityDictionaryRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compara o AmbiguityChecker (autômato único) com a implementação anterior
+ * em descrições de 2000 caracteres sem violações.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class AmbiguityCheckerBenchmark {
+
+    @Param({"2000"})
+    private int descriptionLength;
+
+    // Registro sem carga: só as listas embutidas
+    private final AmbiguityChecker checker = new AmbiguityChecker(
+            new AmbiguityDictionaryRegistry(null, "default", "pt-BR"));
+    private final LegacyAmbiguityChecker legacyChecker = new LegacyAmbiguityChecker();
+
+    private RequirementRequest request;
+
+    @Setup
+    public void setUp() {
+        request = RequirementRequest.builder()
+                .requirementId("REQ-001")
+                .description(SyntheticCorpus.description(descriptionLength, 42L))
+                .rationale("Justificativa do requisito de benchmark")
+                .build();
+    }
+
+    @Benchmark
+    public RequirementRequest singlePassMatcher() {
+        checker.validate(request);
+        return request;
+    }
+
+    @Benchmark
+    public String legacyPerWordScan() {
+        return legacyChecker.validate(request.getDescription());
+    }
+}
@@ -0,0 +1,66 @@
+package com.openreqs.openreqs.benchmark;
+
+import com.openreqs.openreqs.domain.entity.Requirement;
+import com.openreqs.openreqs.repository.DependencyEdge;
+import com.openreqs.openreqs.repository.RequirementKey;
+import com.openreqs.openreqs.repository.RequirementRepository;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * RequirementRepository em memória para medir os serviços sem banco de dados.
+ * Implementa apenas as consultas usadas nos caminhos medidos.
+ */
+final class InMemoryRequirementRepository {
+
+    private InMemoryRequirementRepository() {
+    }
+
+    static RequirementRepository create(Collection<Requirement> requirements, List<DependencyEdge> edges) {
+        Map<Long, Requirement> byId = new HashMap<>();
+        Map<String, Long> idByRequirementId = new HashMap<>();
+        for (Requirement requirement : requirements) {
+            byId.put(requirement.getId(), requirement);
+            idByRequirementId.put(requirement.getRequirementId(), requirement.getId());
+        }
+
+        return (RequirementRepository) Proxy.newProxyInstance(
+                RequirementRepository.class.getClassLoader(),
+                new Class<?>[]{RequirementRepository.class},
+                (proxy, method, args) -> switch (method.getName()) {
+                    case "findById" -> Optional.ofNullable(byId.get((Long) args[0]));
+                    case "findAllById", "findListByIdIn" -> {
+                        List<Requirement> found = new ArrayList<>();
+                        for (Object id : (Iterable<?>) args[0]) {
+                            Requirement requirement = byId.get((Long) id);
+                            if (requirement != null) {
+                                found.add(requirement);
+                            }
+                        }
+                        yield found;
+                    }
+                    case "findIdByRequirementId" -> Optional.ofNullable(idByRequirementId.get((String) args[0]));
+                    case "findKeysByIdIn" -> {
+                        List<RequirementKey> keys = new ArrayList<>();
+                        for (Object id : (Collection<?>) args[0]) {
+                            Requirement requirement = byId.get((Long) id);
+                            if (requirement != null) {
+                                keys.add(new RequirementKey(requirement.getId(), requirement.getRequirementId()));
+                            }
+                        }
+                        yield keys;
+                    }
+                    case "findAllDependencyEdges" -> edges;
+                    case "hashCode" -> System.identityHashCode(proxy);
+                    case "equals" -> proxy == args[0];
+                    case "toString" -> "InMemoryRequirementRepository";
+                    default -> throw new UnsupportedOperationException(method.getName());
+                });
+    }
+}
@@ -0,0 +1,59 @@
+package com.openreqs.openreqs.benchmark;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.regex.Pattern;
+
+/**
+ * Implementação anterior do AmbiguityChecker (uma varredura por palavra e
+ * Pattern.compile a cada chamada), mantida apenas como referência de comparação.
+ */
+final class LegacyAmbiguityChecker {
+
+    private static final List<String> SUBJECTIVE_WORDS = Arrays.asList(
+            "rápido", "lento", "fácil", "difícil", "simples", "complexo",
+            "intuitivo", "amigável", "bonito", "feio", "melhor", "pior",
+            "eficiente", "suficiente", "adequado"
+    );
+
+    private static final List<String> UNIVERSAL_QUANTIFIERS = Arrays.asList(
+            "todos", "sempre", "nunca", "qualquer", "nenhum", "cada"
+    );
+
+    private static final List<String> VAGUE_VERBS = Arrays.asList(
+            "processar", "manipular", "tratar", "gerenciar", "lidar com"
+    );
+
+    /**
+     * Retorna o primeiro termo encontrado, ou null se o texto estiver limpo.
+     */
+    String validate(String rawDescription) {
+        String text = rawDescription.toLowerCase();
+        for (String word : SUBJECTIVE_WORDS) {
+            if (text.contains(word)) {
+                return word;
+            }
+        }
+        for (String quantifier : UNIVERSAL_QUANTIFIERS) {
+            Pattern pattern = Pattern.compile("\\b" + quantifier + "\\b");
+            if (pattern.matcher(text).find()) {
+                return quantifier;
+            }
+        }
+        for (String verb : VAGUE_VERBS) {
+            if (text.contains(verb)) {
+                return verb;
+            }
+        }
+        var nominalization = Pattern.compile(
+                "\\b(\\w*)(ação|amento|imento|ção|são|tura|ência|ância)\\b",
+                Pattern.CASE_INSENSITIVE).matcher(text);
+        if (nominalization.find()) {
+            return nominalization.group();
+        }
+        var superlative = Pattern.compile(
+                "\\b\\w+(íssimo|érrimo|ílimo|zinho|inho)\\b|\\b(muito|pouco)\\s+\\w+\\b",
+                Pattern.CASE_INSENSITIVE).matcher(text);
+        return superlative.find() ? superlative.group() : null;
+    }
+}
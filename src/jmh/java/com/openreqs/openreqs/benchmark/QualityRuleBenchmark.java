@@ -0,0 +1,65 @@
+package com.openreqs.openreqs.benchmark;
+
+import com.openreqs.openreqs.dto.RequirementRequest;
+import com.openreqs.openreqs.service.quality.AmbiguityChecker;
+import com.openreqs.openreqs.service.quality.AmbiguityDictionaryRegistry;
+import com.openreqs.openreqs.service.quality.CompletenessChecker;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Custo por requisito das regras de qualidade sobre um corpus sintético sem violações,
+ * percorrido em rodízio para não medir sempre o mesmo texto em cache.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class QualityRuleBenchmark {
+
+    @Param({"200", "2000"})
+    private int descriptionLength;
+
+    @Param({"1024"})
+    private int corpusSize;
+
+    // Registro sem carga: só as listas embutidas
+    private final AmbiguityChecker ambiguityChecker = new AmbiguityChecker(
+            new AmbiguityDictionaryRegistry(null, "default", "pt-BR"));
+    private final CompletenessChecker completenessChecker = new CompletenessChecker();
+
+    private RequirementRequest[] corpus;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        corpus = SyntheticCorpus.requests(corpusSize, descriptionLength, 7L);
+    }
+
+    @Benchmark
+    public RequirementRequest ambiguityChecker() {
+        RequirementRequest request = nextRequest();
+        ambiguityChecker.validate(request);
+        return request;
+    }
+
+    @Benchmark
+    public RequirementRequest completenessChecker() {
+        RequirementRequest request = nextRequest();
+        completenessChecker.validate(request);
+        return request;
+    }
+
+    private RequirementRequest nextRequest() {
+        RequirementRequest request = corpus[next];
+        next = next + 1 == corpus.length ? 0 : next + 1;
+        return request;
+    }
+}
@@ -0,0 +1,96 @@
+package com.openreqs.openreqs.benchmark;
+
+import com.openreqs.openreqs.config.CacheConfig;
+import com.openreqs.openreqs.domain.entity.Requirement;
+import com.openreqs.openreqs.domain.entity.Stakeholder;
+import com.openreqs.openreqs.dto.DependencyExpansion;
+import com.openreqs.openreqs.dto.RequirementResponse;
+import com.openreqs.openreqs.repository.DependencyEdge;
+import com.openreqs.openreqs.repository.RequirementRepository;
+import com.openreqs.openreqs.repository.StakeholderRepository;
+import com.openreqs.openreqs.service.RequirementResponseMapper;
+import com.openreqs.openreqs.service.StakeholderService;
+import com.openreqs.openreqs.service.cache.ChangeWatermark;
+import com.openreqs.openreqs.service.cache.LookupCache;
+import com.openreqs.openreqs.service.graph.DependencyGraphIndex;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.lang.reflect.Proxy;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Conversão de requisitos em RequirementResponse (o RequirementService.convertToResponse
+ * delega ao mapper com expand=1) sobre um grafo sintético, para um requisito e para uma página.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ResponseMappingBenchmark {
+
+    @Param({"1000"})
+    private int nodes;
+
+    @Param({"LAYERED", "RANDOM"})
+    private SyntheticDag.Shape shape;
+
+    @Param({"4"})
+    private int fanOut;
+
+    @Param({"IDS", "ONE", "FULL"})
+    private DependencyExpansion expansion;
+
+    @Param({"100"})
+    private int pageSize;
+
+    private RequirementResponseMapper mapper;
+    private Requirement single;
+    private List<Requirement> page;
+
+    @Setup
+    public void setUp() {
+        Requirement[] requirements = SyntheticCorpus.requirements(nodes, 200, 11L);
+        List<DependencyEdge> edges = SyntheticDag.generate(shape, nodes, fanOut, 11L);
+        RequirementRepository repository = InMemoryRequirementRepository.create(Arrays.asList(requirements), edges);
+
+        DependencyGraphIndex index = new DependencyGraphIndex(repository);
+        index.load();
+        // O stakeholder de origem sai do cache de consulta, como em produção
+        Stakeholder source = requirements[0].getSource();
+        StakeholderRepository stakeholders = (StakeholderRepository) Proxy.newProxyInstance(
+                StakeholderRepository.class.getClassLoader(),
+                new Class<?>[]{StakeholderRepository.class},
+                (proxy, method, args) -> switch (method.getName()) {
+                    case "findById" -> Optional.of(source);
+                    case "hashCode" -> System.identityHashCode(proxy);
+                    default -> throw new UnsupportedOperationException(method.getName());
+                });
+        LookupCache lookupCache = new LookupCache(new CacheConfig().cacheManager(
+                "maximumSize=10000", "maximumSize=1000", "maximumSize=10000"));
+        mapper = new RequirementResponseMapper(repository, index,
+                new StakeholderService(stakeholders, repository, lookupCache, new ChangeWatermark()));
+
+        // Requisitos do fim da ordem, que têm mais dependências transitivas
+        single = requirements[nodes - 1];
+        page = Arrays.asList(requirements).subList(nodes - pageSize, nodes);
+    }
+
+    @Benchmark
+    public RequirementResponse mapSingle() {
+        return mapper.map(single, expansion);
+    }
+
+    @Benchmark
+    public List<RequirementResponse> mapPage() {
+        return mapper.mapAll(page, expansion);
+    }
+}
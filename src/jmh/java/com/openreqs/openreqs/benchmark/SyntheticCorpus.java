@@ -0,0 +1,77 @@
+package com.openreqs.openreqs.benchmark;
+
+import com.openreqs.openreqs.domain.entity.Requirement;
+import com.openreqs.openreqs.domain.entity.Stakeholder;
+import com.openreqs.openreqs.dto.RequirementRequest;
+
+import java.util.Random;
+
+/**
+ * Gera descrições sintéticas em português para os benchmarks.
+ * O vocabulário evita palavras sinalizadas pelas regras de qualidade, de modo que
+ * os verificadores percorram o texto inteiro (pior caso).
+ */
+final class SyntheticCorpus {
+
+    private static final String[] WORDS = {
+            "o", "sistema", "deve", "registrar", "pedido", "do", "cliente", "e", "enviar",
+            "um", "email", "de", "confirmar", "para", "usuario", "em", "ate", "dois",
+            "segundos", "apos", "receber", "dados", "validos", "no", "formulario", "web",
+            "armazenar", "valor", "total", "com", "imposto", "calculado", "sobre", "itens",
+            "exibir", "saldo", "conta", "corrente", "na", "tela", "inicial", "painel",
+            "bloquear", "acesso", "senha", "expirada", "gerar", "boleto", "prazo"
+    };
+
+    private SyntheticCorpus() {
+    }
+
+    static String description(int length, long seed) {
+        Random random = new Random(seed);
+        StringBuilder text = new StringBuilder(length + 16);
+        while (text.length() < length) {
+            if (text.length() > 0) {
+                text.append(' ');
+            }
+            text.append(WORDS[random.nextInt(WORDS.length)]);
+        }
+        text.setLength(length);
+        return text.toString();
+    }
+
+    /**
+     * Requisitos completos e sem violações, com IDs REQ-000..REQ-999 repetidos ciclicamente
+     */
+    static RequirementRequest[] requests(int count, int descriptionLength, long seed) {
+        RequirementRequest[] requests = new RequirementRequest[count];
+        for (int i = 0; i < count; i++) {
+            requests[i] = RequirementRequest.builder()
+                    .requirementId(String.format("REQ-%03d", i % 1000))
+                    .description(description(descriptionLength, seed + i))
+                    .rationale("Exigido pela area comercial para reduzir o prazo de atendimento")
+                    .fitCriterion("O pedido deve aparecer no painel em ate 2 segundos")
+                    .sourceId(1L)
+                    .priority(1)
+                    .build();
+        }
+        return requests;
+    }
+
+    /**
+     * Entidades com IDs 1..count, como se carregadas do banco
+     */
+    static Requirement[] requirements(int count, int descriptionLength, long seed) {
+        Stakeholder source = Stakeholder.builder().id(1L).name("Ana").role("PO").email("ana@exemplo.com").build();
+        Requirement[] requirements = new Requirement[count];
+        for (int i = 0; i < count; i++) {
+            requirements[i] = Requirement.builder()
+                    .id(i + 1L)
+                    .requirementId(String.format("REQ-%06d", i + 1))
+                    .description(description(descriptionLength, seed + i))
+                    .rationale("Exigido pela area comercial")
+                    .fitCriterion("O pedido deve aparecer em ate 2 segundos")
+                    .source(source)
+                    .build();
+        }
+        return requirements;
+    }
+}
@@ -0,0 +1,74 @@
+package com.openreqs.openreqs.benchmark;
+
+import com.openreqs.openreqs.repository.DependencyEdge;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Gera grafos de dependência acíclicos com IDs 1..nodes. Toda aresta vai de um requisito
+ * para outro de ID menor, então o requisito 1 é a raiz de que os demais dependem.
+ */
+public final class SyntheticDag {
+
+    public enum Shape {
+        /** Cadeia: cada requisito depende do anterior (profundidade máxima) */
+        CHAIN,
+        /** Camadas de ~sqrt(n) requisitos, cada um dependendo de fanOut requisitos da camada anterior */
+        LAYERED,
+        /** Cada requisito depende de fanOut requisitos anteriores quaisquer */
+        RANDOM
+    }
+
+    private SyntheticDag() {
+    }
+
+    static List<DependencyEdge> generate(Shape shape, int nodes, int fanOut, long seed) {
+        Random random = new Random(seed);
+        List<DependencyEdge> edges = new ArrayList<>(nodes * fanOut);
+        int layerSize = Math.max(1, (int) Math.sqrt(nodes));
+
+        for (long id = 2; id <= nodes; id++) {
+            switch (shape) {
+                case CHAIN -> edges.add(new DependencyEdge(id, id - 1));
+                case LAYERED -> {
+                    long layerStart = ((id - 1) / layerSize) * layerSize + 1;
+                    if (layerStart == 1) {
+                        // Primeira camada depende só da raiz
+                        edges.add(new DependencyEdge(id, 1L));
+                    } else {
+                        long previousStart = layerStart - layerSize;
+                        for (long target : distinct(random, previousStart, layerStart, fanOut)) {
+                            edges.add(new DependencyEdge(id, target));
+                        }
+                    }
+                }
+                case RANDOM -> {
+                    for (long target : distinct(random, 1, id, fanOut)) {
+                        edges.add(new DependencyEdge(id, target));
+                    }
+                }
+            }
+        }
+        return edges;
+    }
+
+    // Até count IDs distintos em [from, to)
+    private static long[] distinct(Random random, long from, long to, int count) {
+        int size = (int) Math.min(count, to - from);
+        long[] picked = new long[size];
+        int n = 0;
+        while (n < size) {
+            long candidate = from + (long) (random.nextDouble() * (to - from));
+            boolean repeated = false;
+            for (int i = 0; i < n; i++) {
+                repeated |= picked[i] == candidate;
+            }
+            if (!repeated) {
+                picked[n++] = candidate;
+            }
+        }
+        return picked;
+    }
+}
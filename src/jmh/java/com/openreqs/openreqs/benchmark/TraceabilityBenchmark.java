@@ -0,0 +1,110 @@
+package com.openreqs.openreqs.benchmark;
+
+import com.openreqs.openreqs.domain.entity.Requirement;
+import com.openreqs.openreqs.dto.ImpactAnalysisEntry;
+import com.openreqs.openreqs.config.CacheConfig;
+import com.openreqs.openreqs.repository.DependencyEdge;
+import com.openreqs.openreqs.repository.RequirementRepository;
+import com.openreqs.openreqs.service.TraceabilityService;
+import com.openreqs.openreqs.service.cache.ChangeWatermark;
+import com.openreqs.openreqs.service.cache.LookupCache;
+import com.openreqs.openreqs.service.graph.DependencyGraph;
+import com.openreqs.openreqs.service.graph.DependencyGraphIndex;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Detecção de ciclos e análise de impacto do TraceabilityService sobre DAGs sintéticos
+ * de tamanho e forma configuráveis.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class TraceabilityBenchmark {
+
+    @Param({"1000", "100000"})
+    private int nodes;
+
+    @Param({"CHAIN", "LAYERED", "RANDOM"})
+    private SyntheticDag.Shape shape;
+
+    @Param({"4"})
+    private int fanOut;
+
+    private TraceabilityService traceabilityService;
+    private DependencyGraphIndex index;
+    private long[][] forwardEdges;
+    private int nextEdge;
+
+    @Setup
+    public void setUp() {
+        Requirement[] requirements = SyntheticCorpus.requirements(nodes, 50, 13L);
+        List<DependencyEdge> edges = SyntheticDag.generate(shape, nodes, fanOut, 13L);
+        RequirementRepository repository = InMemoryRequirementRepository.create(Arrays.asList(requirements), edges);
+
+        index = new DependencyGraphIndex(repository);
+        index.load();
+        // Só o caminho rejeitado de addDependency é medido, que não grava no log de mudanças
+        traceabilityService = new TraceabilityService(repository, index, new SimpleMeterRegistry(),
+                new LookupCache(new CacheConfig().cacheManager("maximumSize=10", "maximumSize=10", "maximumSize=10")),
+                new ChangeWatermark(), null, Integer.MAX_VALUE, 1000);
+
+        // Arestas válidas (de um ID maior para um menor) que ainda não existem no grafo
+        Random random = new Random(13L);
+        forwardEdges = new long[1024][];
+        for (int i = 0; i < forwardEdges.length; i++) {
+            long from;
+            long to;
+            do {
+                from = 2 + random.nextInt(nodes - 1);
+                to = 1 + random.nextInt((int) from - 1);
+            } while (index.hasEdge(from, to));
+            forwardEdges[i] = new long[]{from, to};
+        }
+    }
+
+    /**
+     * Fechar o ciclo raiz → último requisito: a busca percorre a região afetada e rejeita
+     */
+    @Benchmark
+    public boolean rejectCyclicDependency() {
+        try {
+            traceabilityService.addDependency(1L, (long) nodes);
+            throw new IllegalStateException("Ciclo não detectado");
+        } catch (RuntimeException e) {
+            return e.getMessage().startsWith("Dependência circular");
+        }
+    }
+
+    /**
+     * Inclusão de uma aresta válida no índice (com reordenação topológica) e sua remoção
+     */
+    @Benchmark
+    public DependencyGraph.InsertResult acceptDependency() {
+        long[] edge = forwardEdges[nextEdge];
+        nextEdge = nextEdge + 1 == forwardEdges.length ? 0 : nextEdge + 1;
+        DependencyGraph.InsertResult result = index.addEdge(edge[0], edge[1]);
+        index.removeEdge(edge[0], edge[1]);
+        return result;
+    }
+
+    /**
+     * Impacto de uma mudança na raiz: todos os requisitos dependem dela
+     */
+    @Benchmark
+    public List<ImpactAnalysisEntry> impactOfRoot() {
+        return traceabilityService.getImpactAnalysis("REQ-000001", null);
+    }
+}
@@ -0,0 +1,155 @@
+package com.openreqs.openreqs.benchmark;
+
+import com.openreqs.openreqs.dto.RequirementRequest;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Teste de carga em malha fechada contra uma instância em execução: cada cliente envia
+ * um POST /api/requirements/validate, espera a resposta e envia o próximo.
+ *
+ * Para comparar os modos de execução, suba a aplicação em cada configuração
+ * (openreqs.quality.concurrent-rules, spring.threads.virtual.enabled em Java 21+,
+ * server.tomcat.threads.max) e rode o mesmo teste:
+ *
+ *   mvn -Pbenchmark test-compile exec:exec \
+ *       -Dbenchmark.main="com.openreqs.openreqs.benchmark.ValidationLoadTest http://localhost:8080 1000,5000,10000 30"
+ *
+ * Argumentos: URL base, quantidades de clientes simultâneos e duração de cada rodada em segundos.
+ */
+public final class ValidationLoadTest {
+
+    private static final int WARMUP_SECONDS = 5;
+
+    private ValidationLoadTest() {
+    }
+
+    public static void main(String[] args) throws InterruptedException {
+        String baseUrl = args.length > 0 ? args[0] : "http://localhost:8080";
+        int[] clientCounts = Arrays.stream((args.length > 1 ? args[1] : "1000,5000,10000").split(","))
+                .mapToInt(Integer::parseInt)
+                .toArray();
+        int durationSeconds = args.length > 2 ? Integer.parseInt(args[2]) : 30;
+
+        URI uri = URI.create(baseUrl + "/api/requirements/validate");
+        String[] bodies = Arrays.stream(SyntheticCorpus.requests(256, 400, 17L))
+                .map(ValidationLoadTest::toJson)
+                .toArray(String[]::new);
+
+        HttpClient client = HttpClient.newBuilder()
+                .executor(Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors()))
+                .connectTimeout(Duration.ofSeconds(30))
+                .build();
+
+        run(client, uri, bodies, Math.min(100, clientCounts[0]), WARMUP_SECONDS);
+        System.out.println("clientes  req/s      p50(ms)   p99(ms)   p99.9(ms)  max(ms)   erros");
+        for (int clients : clientCounts) {
+            System.out.println(run(client, uri, bodies, clients, durationSeconds));
+        }
+        System.exit(0);
+    }
+
+    private static Round run(HttpClient client, URI uri, String[] bodies, int clients, int durationSeconds)
+            throws InterruptedException {
+        LatencyLog latencies = new LatencyLog();
+        AtomicLong errors = new AtomicLong();
+        long deadline = System.nanoTime() + Duration.ofSeconds(durationSeconds).toNanos();
+        CountDownLatch finished = new CountDownLatch(clients);
+
+        long start = System.nanoTime();
+        for (int i = 0; i < clients; i++) {
+            send(client, uri, bodies, i, deadline, latencies, errors, finished);
+        }
+        finished.await();
+        double elapsedSeconds = (System.nanoTime() - start) / 1e9;
+        return new Round(clients, latencies.count() / elapsedSeconds, latencies.sorted(), errors.get());
+    }
+
+    private static void send(HttpClient client, URI uri, String[] bodies, int sequence, long deadline,
+                             LatencyLog latencies, AtomicLong errors, CountDownLatch finished) {
+        if (System.nanoTime() >= deadline) {
+            finished.countDown();
+            return;
+        }
+        HttpRequest request = HttpRequest.newBuilder(uri)
+                .header("Content-Type", "application/json")
+                .timeout(Duration.ofSeconds(60))
+                .POST(HttpRequest.BodyPublishers.ofString(bodies[sequence % bodies.length]))
+                .build();
+        long sent = System.nanoTime();
+        client.sendAsync(request, HttpResponse.BodyHandlers.discarding())
+                .whenComplete((response, failure) -> {
+                    if (failure != null || response.statusCode() >= 500) {
+                        errors.incrementAndGet();
+                    } else {
+                        latencies.add(System.nanoTime() - sent);
+                    }
+                    send(client, uri, bodies, sequence + 1, deadline, latencies, errors, finished);
+                });
+    }
+
+    private static String toJson(RequirementRequest request) {
+        return "{\"requirementId\":\"" + request.getRequirementId() + "\","
+                + "\"description\":\"" + escape(request.getDescription()) + "\","
+                + "\"rationale\":\"" + escape(request.getRationale()) + "\","
+                + "\"fitCriterion\":\"" + escape(request.getFitCriterion()) + "\","
+                + "\"sourceId\":1}";
+    }
+
+    private static String escape(String text) {
+        return text == null ? "" : text.replace("\\", "\\\\").replace("\"", "\\\"");
+    }
+
+    /**
+     * Latências em nanossegundos, acumuladas de várias threads
+     */
+    private static final class LatencyLog {
+
+        private long[] values = new long[1 << 16];
+        private int size;
+
+        synchronized void add(long nanos) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = nanos;
+        }
+
+        synchronized int count() {
+            return size;
+        }
+
+        synchronized long[] sorted() {
+            long[] copy = Arrays.copyOf(values, size);
+            Arrays.sort(copy);
+            return copy;
+        }
+    }
+
+    private record Round(int clients, double throughput, long[] latencies, long errors) {
+
+        @Override
+        public String toString() {
+            return String.format(Locale.ROOT, "%-9d %-10.0f %-9.1f %-9.1f %-10.1f %-9.1f %d",
+                    clients, throughput, percentile(0.50), percentile(0.99), percentile(0.999),
+                    latencies.length > 0 ? latencies[latencies.length - 1] / 1e6 : 0.0, errors);
+        }
+
+        private double percentile(double quantile) {
+            if (latencies.length == 0) {
+                return 0;
+            }
+            int index = (int) Math.min(latencies.length - 1, Math.ceil(quantile * latencies.length) - 1);
+            return latencies[Math.max(0, index)] / 1e6;
+        }
+    }
+}
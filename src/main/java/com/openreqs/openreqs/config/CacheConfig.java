@@ -0,0 +1,59 @@
+package com.openreqs.openreqs.config;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.openreqs.openreqs.dto.GlossaryResponse;
+import com.openreqs.openreqs.dto.RequirementResponse;
+import com.openreqs.openreqs.service.cache.CacheNames;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Caches de consulta em memória (Caffeine, política W-TinyLFU), limitados por tamanho
+ * ou peso e com expiração configuráveis por cache.
+ */
+@Configuration
+public class CacheConfig {
+
+    @Bean
+    public CaffeineCacheManager cacheManager(
+            @Value("${openreqs.cache.requirements:maximumSize=10000,expireAfterWrite=10m}") String requirements,
+            @Value("${openreqs.cache.stakeholders:maximumSize=1000,expireAfterWrite=30m}") String stakeholders,
+            @Value("${openreqs.cache.glossary:maximumSize=10000,expireAfterWrite=30m}") String glossary) {
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager();
+        // Consultas sem resultado não são guardadas
+        cacheManager.setAllowNullValues(false);
+        cacheManager.registerCustomCache(CacheNames.REQUIREMENTS, build(requirements));
+        cacheManager.registerCustomCache(CacheNames.STAKEHOLDERS, build(stakeholders));
+        cacheManager.registerCustomCache(CacheNames.GLOSSARY, build(glossary));
+        return cacheManager;
+    }
+
+    private static Cache<Object, Object> build(String spec) {
+        Caffeine<Object, Object> builder = Caffeine.from(spec).recordStats();
+        if (spec.contains("maximumWeight")) {
+            return builder.weigher(CacheConfig::weigh).build();
+        }
+        return builder.build();
+    }
+
+    /**
+     * Peso aproximado pelo volume de texto, para limitar a memória em vez da quantidade
+     */
+    private static int weigh(Object key, Object value) {
+        if (value instanceof RequirementResponse requirement) {
+            return 1 + length(requirement.getDescription()) + length(requirement.getRationale())
+                    + length(requirement.getFitCriterion());
+        }
+        if (value instanceof GlossaryResponse term) {
+            return 1 + length(term.getTerm()) + length(term.getDefinition());
+        }
+        return 1;
+    }
+
+    private static int length(String text) {
+        return text != null ? text.length() : 0;
+    }
+}
@@ -0,0 +1,59 @@
+package com.openreqs.openreqs.config;
+
+import com.openreqs.openreqs.service.metrics.PersistenceCounters;
+import com.openreqs.openreqs.service.metrics.PersistenceMetricsInterceptor;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.cfg.JdbcSettings;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.springframework.boot.hibernate.autoconfigure.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.AsyncSupportConfigurer;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * Métricas de persistência por requisição. Tempos por endpoint (http.server.requests),
+ * caches e JVM vêm da autoconfiguração do Actuator; tudo é exposto em /actuator/prometheus.
+ */
+@Configuration
+public class MetricsConfig implements WebMvcConfigurer {
+
+    private final EntityManagerFactory entityManagerFactory;
+    private final PersistenceMetricsInterceptor persistenceMetrics;
+
+    public MetricsConfig(MeterRegistry meterRegistry, EntityManagerFactory entityManagerFactory) {
+        this.entityManagerFactory = entityManagerFactory;
+        this.persistenceMetrics = new PersistenceMetricsInterceptor(meterRegistry);
+    }
+
+    // Estático: o EntityManagerFactory depende deste customizador, e esta configuração dele
+    @Bean
+    public static HibernatePropertiesCustomizer statementCounterCustomizer() {
+        return properties -> properties.put(JdbcSettings.STATEMENT_INSPECTOR,
+                new PersistenceCounters.StatementCounter());
+    }
+
+    @PostConstruct
+    public void registerEntityLoadCounter() {
+        entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+                .getServiceRegistry()
+                .requireService(EventListenerRegistry.class)
+                .appendListeners(EventType.POST_LOAD, new PersistenceCounters.EntityLoadCounter());
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(persistenceMetrics).addPathPatterns("/api/**");
+    }
+
+    // Leva a contagem para a thread das respostas em streaming
+    @Override
+    public void configureAsyncSupport(AsyncSupportConfigurer configurer) {
+        configurer.registerCallableInterceptors(persistenceMetrics);
+    }
+}
@@ -0,0 +1,12 @@
+package com.openreqs.openreqs.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Tarefas periódicas de manutenção (ex.: reconciliação dos contadores de requisitos)
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
@@ -0,0 +1,104 @@
+package com.openreqs.openreqs.controller;
+
+import com.openreqs.openreqs.dto.BaselineRequest;
+import com.openreqs.openreqs.dto.BaselineRequirement;
+import com.openreqs.openreqs.dto.BaselineSummary;
+import com.openreqs.openreqs.dto.RequirementDiff;
+import com.openreqs.openreqs.service.BaselineService;
+import com.openreqs.openreqs.service.RequirementDiffService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import tools.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/baselines")
+@RequiredArgsConstructor
+@Tag(name = "Baselines", description = "Conjuntos congelados de requisitos (IREB - Gerenciamento de Requisitos)")
+public class BaselineController {
+
+    private static final String SIZE_DESCRIPTION = "Tamanho da página (limitado pela configuração)";
+
+    private final BaselineService baselineService;
+    private final RequirementDiffService diffService;
+    private final ObjectMapper objectMapper;
+
+    @PostMapping
+    @Operation(summary = "Congelar baseline",
+            description = "Grava os requisitos informados (ou todos com o status, por padrão APPROVED) e suas " +
+                    "dependências num arquivo imutável")
+    public ResponseEntity<BaselineSummary> createBaseline(@Valid @RequestBody BaselineRequest request) {
+        return ResponseEntity.status(HttpStatus.CREATED).body(baselineService.createBaseline(request));
+    }
+
+    @GetMapping
+    @Operation(summary = "Listar baselines", description = "Da mais recente para a mais antiga")
+    public ResponseEntity<List<BaselineSummary>> getBaselines() {
+        return ResponseEntity.ok(baselineService.getBaselines());
+    }
+
+    @GetMapping("/{name}")
+    @Operation(summary = "Buscar baseline por nome")
+    public ResponseEntity<BaselineSummary> getBaseline(@PathVariable String name) {
+        return ResponseEntity.ok(baselineService.getBaseline(name));
+    }
+
+    @GetMapping("/{name}/requirements")
+    @Operation(summary = "Listar requisitos da baseline", description = "Em ordem de requirementId")
+    public ResponseEntity<List<BaselineRequirement>> getBaselineRequirements(
+            @PathVariable String name,
+            @Parameter(description = "Posição do primeiro requisito (começa em 0)") @RequestParam(required = false) Integer offset,
+            @Parameter(description = SIZE_DESCRIPTION) @RequestParam(required = false) Integer size) {
+        return ResponseEntity.ok(baselineService.getBaselineRequirements(name, offset, size));
+    }
+
+    @GetMapping("/{name}/requirements/{requirementId}")
+    @Operation(summary = "Buscar requisito na baseline")
+    public ResponseEntity<BaselineRequirement> getBaselineRequirement(
+            @PathVariable String name,
+            @Parameter(description = "ID único do requisito (ex: REQ-001)") @PathVariable String requirementId) {
+        return ResponseEntity.ok(baselineService.getBaselineRequirement(name, requirementId));
+    }
+
+    @GetMapping("/{name}/search")
+    @Operation(summary = "Buscar requisitos na baseline por texto",
+            description = "Requisitos com todos os termos na descrição, justificativa ou critério de aceitação")
+    public ResponseEntity<List<BaselineRequirement>> searchBaseline(
+            @PathVariable String name,
+            @RequestParam String keyword,
+            @Parameter(description = SIZE_DESCRIPTION) @RequestParam(required = false) Integer size) {
+        return ResponseEntity.ok(baselineService.searchBaseline(name, keyword, size));
+    }
+
+    @GetMapping(value = "/{from}/diff/{to}", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @Operation(summary = "Comparar duas baselines",
+            description = "Um RequirementDiff por linha (NDJSON), em ordem de requirementId: requisitos " +
+                    "adicionados, removidos, alterados (com diff por palavras dos textos) ou religados")
+    public ResponseEntity<StreamingResponseBody> diffBaselines(
+            @Parameter(description = "Baseline antiga") @PathVariable String from,
+            @Parameter(description = "Baseline nova") @PathVariable String to) {
+        // Valida os nomes antes de começar a resposta, para que o erro saia com o status certo
+        baselineService.getBaseline(from);
+        baselineService.getBaseline(to);
+        StreamingResponseBody stream = out -> diffService.streamBaselineDiff(from, to, (RequirementDiff diff) -> {
+            try {
+                out.write(objectMapper.writeValueAsBytes(diff));
+                out.write('\n');
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(stream);
+    }
+}
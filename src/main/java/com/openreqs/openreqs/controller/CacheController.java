@@ -0,0 +1,29 @@
+package com.openreqs.openreqs.controller;
+
+import com.openreqs.openreqs.dto.CacheStatistics;
+import com.openreqs.openreqs.service.cache.LookupCache;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/caches")
+@RequiredArgsConstructor
+@Tag(name = "Caches", description = "Estatísticas dos caches de consulta")
+public class CacheController {
+
+    private final LookupCache lookupCache;
+
+    @GetMapping
+    @Operation(summary = "Estatísticas dos caches",
+            description = "Acertos, falhas, carregamentos e remoções de cada cache, para dimensionamento")
+    public ResponseEntity<List<CacheStatistics>> getStatistics() {
+        return ResponseEntity.ok(lookupCache.statistics());
+    }
+}
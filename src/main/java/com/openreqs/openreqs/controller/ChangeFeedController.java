@@ -0,0 +1,53 @@
+package com.openreqs.openreqs.controller;
+
+import com.openreqs.openreqs.dto.RequirementChangePage;
+import com.openreqs.openreqs.service.feed.ChangeFeed;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.async.DeferredResult;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+@RestController
+@RequestMapping("/api/requirements/changes")
+@RequiredArgsConstructor
+@Tag(name = "Requirement Changes", description = "Log de mudanças dos requisitos para sincronização incremental")
+public class ChangeFeedController {
+
+    private static final String AFTER_DESCRIPTION =
+            "Sequência do último evento recebido (0 = desde o início do log)";
+
+    private final ChangeFeed changeFeed;
+
+    @GetMapping(produces = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(summary = "Ler mudanças (long-poll)",
+            description = "Retorna os eventos depois de 'after'. Sem eventos e com wait=true, aguarda até o " +
+                    "primeiro chegar ou o tempo limite; continue com o 'next' devolvido")
+    public DeferredResult<RequirementChangePage> getChanges(
+            @Parameter(description = AFTER_DESCRIPTION) @RequestParam(defaultValue = "0") long after,
+            @Parameter(description = "Máximo de eventos (limitado pela configuração)")
+            @RequestParam(defaultValue = "500") int limit,
+            @Parameter(description = "Aguardar por novos eventos quando não houver nenhum")
+            @RequestParam(defaultValue = "true") boolean wait) {
+        if (!wait) {
+            DeferredResult<RequirementChangePage> result = new DeferredResult<>();
+            result.setResult(changeFeed.read(after, limit));
+            return result;
+        }
+        return changeFeed.poll(after, limit);
+    }
+
+    @GetMapping(produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(summary = "Acompanhar mudanças (SSE)",
+            description = "Envia os eventos depois de 'after' e depois cada novo evento; na reconexão, " +
+                    "o cabeçalho Last-Event-ID tem precedência sobre 'after'")
+    public ResponseEntity<SseEmitter> streamChanges(
+            @Parameter(description = AFTER_DESCRIPTION) @RequestParam(defaultValue = "0") long after,
+            @RequestHeader(value = "Last-Event-ID", required = false) Long lastEventId) {
+        return ResponseEntity.ok(changeFeed.subscribe(lastEventId != null ? lastEventId : after));
+    }
+}
@@ -0,0 +1,93 @@
+package com.openreqs.openreqs.controller;
+
+import com.openreqs.openreqs.dto.GlossaryRequest;
+import com.openreqs.openreqs.dto.GlossaryResponse;
+import com.openreqs.openreqs.dto.GlossarySuggestion;
+import com.openreqs.openreqs.service.GlossaryService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/glossary")
+@RequiredArgsConstructor
+@Tag(name = "Glossary", description = "API para o glossário do projeto conforme IREB")
+public class GlossaryController {
+
+    private final GlossaryService glossaryService;
+
+    @PostMapping
+    @Operation(summary = "Criar termo", description = "Inclui um termo no glossário do projeto")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "201", description = "Termo criado com sucesso"),
+            @ApiResponse(responseCode = "400", description = "Dados inválidos fornecidos")
+    })
+    public ResponseEntity<GlossaryResponse> createTerm(@Valid @RequestBody GlossaryRequest request) {
+        GlossaryResponse response = glossaryService.createTerm(request);
+        return ResponseEntity.status(HttpStatus.CREATED).body(response);
+    }
+
+    @GetMapping
+    @Operation(summary = "Listar termos", description = "Retorna todos os termos em ordem alfabética")
+    public ResponseEntity<List<GlossaryResponse>> getAllTerms() {
+        return ResponseEntity.ok(glossaryService.getAllTerms());
+    }
+
+    @GetMapping("/{id}")
+    @Operation(summary = "Buscar termo por ID")
+    public ResponseEntity<GlossaryResponse> getTermById(
+            @Parameter(description = "ID do termo") @PathVariable Long id) {
+        return ResponseEntity.ok(glossaryService.getTermById(id));
+    }
+
+    @GetMapping("/term/{term}")
+    @Operation(summary = "Buscar termo pelo nome")
+    public ResponseEntity<GlossaryResponse> getTermByName(@PathVariable String term) {
+        return ResponseEntity.ok(glossaryService.getTermByName(term));
+    }
+
+    @GetMapping("/search")
+    @Operation(summary = "Buscar termos",
+            description = "Busca por termo, sigla ou definição, sem diferenciar acentos e maiúsculas")
+    public ResponseEntity<List<GlossaryResponse>> searchTerms(@RequestParam String keyword) {
+        return ResponseEntity.ok(glossaryService.searchTerms(keyword));
+    }
+
+    @GetMapping("/autocomplete")
+    @Operation(summary = "Autocompletar termos",
+            description = "Retorna, em ordem alfabética, os termos cujo nome ou sigla começa com o prefixo")
+    public ResponseEntity<List<GlossarySuggestion>> autocomplete(
+            @Parameter(description = "Início do termo ou da sigla") @RequestParam String prefix,
+            @Parameter(description = "Quantidade máxima de sugestões (limitada pela configuração)")
+            @RequestParam(defaultValue = "10") int limit) {
+        return ResponseEntity.ok(glossaryService.autocomplete(prefix, limit));
+    }
+
+    @PutMapping("/{id}")
+    @Operation(summary = "Atualizar termo")
+    public ResponseEntity<GlossaryResponse> updateTerm(
+            @PathVariable Long id,
+            @Valid @RequestBody GlossaryRequest request) {
+        return ResponseEntity.ok(glossaryService.updateTerm(id, request));
+    }
+
+    @DeleteMapping("/{id}")
+    @Operation(summary = "Remover termo")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "204", description = "Termo removido com sucesso"),
+            @ApiResponse(responseCode = "404", description = "Termo não encontrado")
+    })
+    public ResponseEntity<Void> deleteTerm(@PathVariable Long id) {
+        glossaryService.deleteTerm(id);
+        return ResponseEntity.noContent().build();
+    }
+}
@@ -0,0 +1,73 @@
+package com.openreqs.openreqs.controller;
+
+import com.openreqs.openreqs.domain.enums.DictionaryCategory;
+import com.openreqs.openreqs.dto.DictionaryCompilation;
+import com.openreqs.openreqs.dto.DictionaryResponse;
+import com.openreqs.openreqs.service.QualityDictionaryService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/quality/dictionaries")
+@RequiredArgsConstructor
+@Tag(name = "Quality Dictionaries",
+        description = "Administração das listas de palavras das regras de qualidade (IREB - Linguagem Natural)")
+public class QualityDictionaryController {
+
+    private static final String PROJECT_DESCRIPTION = "Projeto (ex: default)";
+    private static final String LANGUAGE_DESCRIPTION = "Idioma (ex: pt-BR)";
+
+    private final QualityDictionaryService dictionaryService;
+
+    @GetMapping
+    @Operation(summary = "Dicionários compilados",
+            description = "Dicionários publicados na última recompilação, com o ativo marcado")
+    public ResponseEntity<List<DictionaryCompilation>> getCompilations() {
+        return ResponseEntity.ok(dictionaryService.getCompilations());
+    }
+
+    @PostMapping("/recompile")
+    @Operation(summary = "Recompilar dicionários",
+            description = "Compila as palavras gravadas e publica os novos dicionários de uma vez; " +
+                    "validações em andamento terminam com o dicionário anterior")
+    public ResponseEntity<List<DictionaryCompilation>> recompile() {
+        return ResponseEntity.ok(dictionaryService.recompile());
+    }
+
+    @GetMapping("/{project}/{language}")
+    @Operation(summary = "Listas de palavras do dicionário",
+            description = "Categorias sem palavras cadastradas mostram a lista embutida")
+    public ResponseEntity<List<DictionaryResponse>> getDictionary(
+            @Parameter(description = PROJECT_DESCRIPTION) @PathVariable String project,
+            @Parameter(description = LANGUAGE_DESCRIPTION) @PathVariable String language) {
+        return ResponseEntity.ok(dictionaryService.getDictionary(project, language));
+    }
+
+    @PutMapping("/{project}/{language}/{category}")
+    @Operation(summary = "Substituir as palavras de uma categoria",
+            description = "Vale para as validações depois de POST /recompile")
+    public ResponseEntity<DictionaryResponse> replaceTerms(
+            @Parameter(description = PROJECT_DESCRIPTION) @PathVariable String project,
+            @Parameter(description = LANGUAGE_DESCRIPTION) @PathVariable String language,
+            @PathVariable DictionaryCategory category,
+            @RequestBody List<String> terms) {
+        return ResponseEntity.ok(dictionaryService.replaceTerms(project, language, category, terms));
+    }
+
+    @DeleteMapping("/{project}/{language}/{category}")
+    @Operation(summary = "Voltar à lista embutida",
+            description = "Remove as palavras cadastradas da categoria; vale depois de POST /recompile")
+    public ResponseEntity<Void> deleteTerms(
+            @Parameter(description = PROJECT_DESCRIPTION) @PathVariable String project,
+            @Parameter(description = LANGUAGE_DESCRIPTION) @PathVariable String language,
+            @PathVariable DictionaryCategory category) {
+        dictionaryService.deleteTerms(project, language, category);
+        return ResponseEntity.noContent().build();
+    }
+}
@@ -1,22 +1,48 @@
 package com.openreqs.openreqs.controller;
 
 import com.openreqs.openreqs.domain.enums.RequirementStatus;
+import com.openreqs.openreqs.dto.BatchResult;
+import com.openreqs.openreqs.dto.DependencyExpansion;
+import com.openreqs.openreqs.dto.ImpactAnalysisEntry;
+import com.openreqs.openreqs.dto.QualityReport;
+import com.openreqs.openreqs.dto.RequirementDiff;
+import com.openreqs.openreqs.dto.RequirementPage;
 import com.openreqs.openreqs.dto.RequirementRequest;
 import com.openreqs.openreqs.dto.RequirementResponse;
+import com.openreqs.openreqs.dto.RequirementStatisticsResponse;
+import com.openreqs.openreqs.dto.RequirementVersionResponse;
+import com.openreqs.openreqs.dto.SearchResultPage;
+import com.openreqs.openreqs.service.RequirementBatchService;
+import com.openreqs.openreqs.service.RequirementDiffService;
+import com.openreqs.openreqs.service.RequirementLintService;
 import com.openreqs.openreqs.service.RequirementService;
 import com.openreqs.openreqs.service.TraceabilityService;
+import com.openreqs.openreqs.service.graph.DependencyGraph;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+import tools.jackson.databind.ObjectMapper;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.function.Consumer;
 
 @RestController
 @RequestMapping("/api/requirements")
@@ -24,8 +50,22 @@ import java.util.List;
 @Tag(name = "Requirements", description = "API para gerenciamento de requisitos conforme IREB")
 public class RequirementController {
 
+    private static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+    private static final String PAGE_DESCRIPTION =
+            "A próxima página é indicada pelos cabeçalhos X-Next-Cursor e Link (rel=next)";
+    private static final String AFTER_DESCRIPTION = "Cursor: retorna requisitos com ID maior que este";
+    private static final String SIZE_DESCRIPTION = "Tamanho da página (limitado pela configuração)";
+    private static final String IF_MATCH_DESCRIPTION =
+            "ETag da versão editada; se o requisito mudou desde então, responde 412";
+    private static final String EXPAND_DESCRIPTION =
+            "Expansão das dependências: ids (apenas IDs), 1 (um nível) ou full (grafo com cada requisito uma vez)";
+
     private final RequirementService requirementService;
     private final TraceabilityService traceabilityService;
+    private final RequirementLintService requirementLintService;
+    private final RequirementBatchService requirementBatchService;
+    private final RequirementDiffService diffService;
+    private final ObjectMapper objectMapper;
 
     @PostMapping
     @Operation(summary = "Criar novo requisito", description = "Cria um requisito com validações IREB")
@@ -40,37 +80,159 @@ public class RequirementController {
         return ResponseEntity.status(HttpStatus.CREATED).body(response);
     }
 
-    @GetMapping
-    @Operation(summary = "Listar todos os requisitos", description = "Retorna todos os requisitos não arquivados")
-    public ResponseEntity<List<RequirementResponse>> getAllRequirements() {
-        List<RequirementResponse> requirements = requirementService.getAllRequirements();
-        return ResponseEntity.ok(requirements);
+    @PostMapping("/batch")
+    @Operation(summary = "Criar requisitos em lote",
+            description = "Valida todos os itens e grava os válidos em blocos transacionais; " +
+                    "um item inválido não impede a gravação dos demais. Retorna a situação de cada item")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Lote processado; veja a situação de cada item"),
+            @ApiResponse(responseCode = "400", description = "Lote acima do tamanho máximo")
+    })
+    public ResponseEntity<BatchResult> createRequirements(@RequestBody List<RequirementRequest> requests) {
+        return ResponseEntity.ok(requirementBatchService.createRequirements(requests));
+    }
+
+    @PostMapping("/validate")
+    @Operation(summary = "Validar requisito sem persistir",
+            description = "Executa todas as regras de qualidade IREB e retorna o relatório completo de violações")
+    public ResponseEntity<QualityReport> validateRequirement(
+            @Valid @RequestBody RequirementRequest request) {
+        QualityReport report = requirementService.lintRequirement(request);
+        return ResponseEntity.ok(report);
+    }
+
+    @PostMapping(value = "/lint",
+            consumes = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE},
+            produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @Operation(summary = "Verificar qualidade de requisitos em lote",
+            description = "Recebe um array JSON ou NDJSON e devolve um resultado NDJSON por item, " +
+                    "na ordem em que terminam. Não acessa o banco de dados")
+    public ResponseEntity<StreamingResponseBody> lintRequirements(HttpServletRequest request) throws IOException {
+        InputStream body = request.getInputStream();
+        boolean ndjson = request.getContentType() != null &&
+                MediaType.APPLICATION_NDJSON.isCompatibleWith(MediaType.parseMediaType(request.getContentType()));
+
+        StreamingResponseBody stream = out -> {
+            if (ndjson) {
+                requirementLintService.lintNdjson(body, out);
+            } else {
+                requirementLintService.lintJsonArray(body, out);
+            }
+        };
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(stream);
+    }
+
+    @GetMapping(produces = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(summary = "Listar todos os requisitos",
+            description = "Retorna os requisitos não arquivados paginados por cursor. " + PAGE_DESCRIPTION)
+    public ResponseEntity<List<RequirementResponse>> getAllRequirements(
+            @Parameter(description = AFTER_DESCRIPTION) @RequestParam(required = false) Long after,
+            @Parameter(description = SIZE_DESCRIPTION) @RequestParam(required = false) Integer size,
+            @Parameter(description = EXPAND_DESCRIPTION) @RequestParam(defaultValue = "1") String expand,
+            WebRequest webRequest) {
+        String etag = requirementService.getCollectionTag();
+        if (webRequest.checkNotModified(etag)) {
+            return notModified(etag);
+        }
+        RequirementPage page =
+                requirementService.getAllRequirements(after, size, DependencyExpansion.fromParameter(expand));
+        return pageResponse(page, etag);
+    }
+
+    @GetMapping(produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @Operation(summary = "Exportar todos os requisitos (streaming NDJSON)",
+            description = "Um requisito por linha, com dependências apenas por ID, em memória constante")
+    public ResponseEntity<StreamingResponseBody> streamAllRequirements(
+            @Parameter(description = AFTER_DESCRIPTION) @RequestParam(required = false) Long after) {
+        return ndjson(sink -> requirementService.streamAllRequirements(after, sink));
+    }
+
+    @GetMapping("/statistics")
+    @Operation(summary = "Estatísticas dos requisitos",
+            description = "Quantidade de requisitos por status, tipo, prioridade e stakeholder, para painéis")
+    public ResponseEntity<RequirementStatisticsResponse> getStatistics() {
+        return ResponseEntity.ok(requirementService.getStatistics());
     }
 
     @GetMapping("/{id}")
     @Operation(summary = "Buscar requisito por ID")
     public ResponseEntity<RequirementResponse> getRequirementById(
-            @Parameter(description = "ID do requisito") @PathVariable Long id) {
-        RequirementResponse response = requirementService.getRequirementById(id);
-        return ResponseEntity.ok(response);
+            @Parameter(description = "ID do requisito") @PathVariable Long id,
+            @Parameter(description = EXPAND_DESCRIPTION) @RequestParam(defaultValue = "1") String expand,
+            WebRequest webRequest) {
+        DependencyExpansion expansion = DependencyExpansion.fromParameter(expand);
+        String etag = requirementService.getRequirementTag(id, expansion);
+        if (webRequest.checkNotModified(etag)) {
+            return notModified(etag);
+        }
+        RequirementResponse response = requirementService.getRequirementById(id, expansion);
+        return ResponseEntity.ok().eTag(etag).body(response);
     }
 
     @GetMapping("/req-id/{requirementId}")
     @Operation(summary = "Buscar requisito por ID único")
     public ResponseEntity<RequirementResponse> getRequirementByReqId(
             @Parameter(description = "ID único do requisito (ex: REQ-001)")
-            @PathVariable String requirementId) {
-        RequirementResponse response = requirementService.getRequirementByReqId(requirementId);
-        return ResponseEntity.ok(response);
+            @PathVariable String requirementId,
+            @Parameter(description = EXPAND_DESCRIPTION) @RequestParam(defaultValue = "1") String expand,
+            WebRequest webRequest) {
+        DependencyExpansion expansion = DependencyExpansion.fromParameter(expand);
+        String etag = requirementService.getRequirementTagByReqId(requirementId, expansion);
+        if (webRequest.checkNotModified(etag)) {
+            return notModified(etag);
+        }
+        RequirementResponse response = requirementService.getRequirementByReqId(requirementId, expansion);
+        return ResponseEntity.ok().eTag(etag).body(response);
+    }
+
+    @GetMapping("/req-id/{requirementId}/versions")
+    @Operation(summary = "Histórico de versões",
+            description = "Versões anteriores em ordem cronológica e, por último, a vigente")
+    public ResponseEntity<List<RequirementVersionResponse>> getVersionHistory(
+            @Parameter(description = "ID único do requisito (ex: REQ-001)") @PathVariable String requirementId) {
+        return ResponseEntity.ok(requirementService.getVersionHistory(requirementId));
+    }
+
+    @GetMapping("/req-id/{requirementId}/versions/{version}")
+    @Operation(summary = "Buscar uma versão do requisito")
+    public ResponseEntity<RequirementVersionResponse> getRequirementVersion(
+            @Parameter(description = "ID único do requisito (ex: REQ-001)") @PathVariable String requirementId,
+            @Parameter(description = "Versão (ex: v1.0)") @PathVariable String version) {
+        return ResponseEntity.ok(requirementService.getRequirementVersion(requirementId, version));
+    }
+
+    @GetMapping("/req-id/{requirementId}/versions/{version}/diff")
+    @Operation(summary = "Comparar versões do requisito",
+            description = "Atributos alterados e diff por palavras da descrição, justificativa e critério de aceitação")
+    public ResponseEntity<RequirementDiff> diffRequirementVersions(
+            @Parameter(description = "ID único do requisito (ex: REQ-001)") @PathVariable String requirementId,
+            @Parameter(description = "Versão antiga (ex: v1.0)") @PathVariable String version,
+            @Parameter(description = "Versão nova; por padrão a vigente") @RequestParam(required = false) String to) {
+        return ResponseEntity.ok(diffService.diffVersions(requirementId, version, to));
+    }
+
+    @GetMapping("/req-id/{requirementId}/as-of")
+    @Operation(summary = "Requisito em uma data",
+            description = "Conteúdo da versão que estava vigente na data e hora informadas")
+    public ResponseEntity<RequirementVersionResponse> getRequirementAsOf(
+            @Parameter(description = "ID único do requisito (ex: REQ-001)") @PathVariable String requirementId,
+            @Parameter(description = "Data e hora ISO-8601 (ex: 2025-01-31T18:00:00)")
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime date) {
+        return ResponseEntity.ok(requirementService.getRequirementAsOf(requirementId, date));
     }
 
     @PutMapping("/{id}")
-    @Operation(summary = "Atualizar requisito", description = "Atualiza um requisito. Se estiver APROVADO, cria nova versão")
+    @Operation(summary = "Atualizar requisito", description = "Atualiza um requisito. Se estiver APROVADO, a versão atual vai para o histórico e o requisito passa à próxima versão")
+    @ApiResponse(responseCode = "412", description = "O requisito mudou desde a versão informada em If-Match")
     public ResponseEntity<RequirementResponse> updateRequirement(
             @PathVariable Long id,
+            @Parameter(description = IF_MATCH_DESCRIPTION)
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
             @Valid @RequestBody RequirementRequest request) {
-        RequirementResponse response = requirementService.updateRequirement(id, request);
-        return ResponseEntity.ok(response);
+        RequirementResponse response = requirementService.updateRequirement(id, request, ifMatch);
+        return ResponseEntity.ok()
+                .eTag(requirementService.getRequirementTag(id, DependencyExpansion.IDS))
+                .body(response);
     }
 
     @DeleteMapping("/{id}")
@@ -82,27 +244,61 @@ public class RequirementController {
 
     @PatchMapping("/{id}/status")
     @Operation(summary = "Alterar status do requisito", description = "Muda o status seguindo a máquina de estados IREB")
+    @ApiResponse(responseCode = "412", description = "O requisito mudou desde a versão informada em If-Match")
     public ResponseEntity<RequirementResponse> changeStatus(
             @PathVariable Long id,
-            @RequestParam RequirementStatus status) {
-        RequirementResponse response = requirementService.changeStatus(id, status);
-        return ResponseEntity.ok(response);
+            @RequestParam RequirementStatus status,
+            @Parameter(description = IF_MATCH_DESCRIPTION)
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        RequirementResponse response = requirementService.changeStatus(id, status, ifMatch);
+        return ResponseEntity.ok()
+                .eTag(requirementService.getRequirementTag(id, DependencyExpansion.IDS))
+                .body(response);
     }
 
-    @GetMapping("/status/{status}")
-    @Operation(summary = "Buscar requisitos por status")
+    @GetMapping(value = "/status/{status}", produces = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(summary = "Buscar requisitos por status", description = PAGE_DESCRIPTION)
     public ResponseEntity<List<RequirementResponse>> getRequirementsByStatus(
-            @PathVariable RequirementStatus status) {
-        List<RequirementResponse> responses = requirementService.getRequirementsByStatus(status);
-        return ResponseEntity.ok(responses);
+            @PathVariable RequirementStatus status,
+            @Parameter(description = AFTER_DESCRIPTION) @RequestParam(required = false) Long after,
+            @Parameter(description = SIZE_DESCRIPTION) @RequestParam(required = false) Integer size,
+            @Parameter(description = EXPAND_DESCRIPTION) @RequestParam(defaultValue = "1") String expand,
+            WebRequest webRequest) {
+        String etag = requirementService.getCollectionTag();
+        if (webRequest.checkNotModified(etag)) {
+            return notModified(etag);
+        }
+        RequirementPage page = requirementService.getRequirementsByStatus(
+                status, after, size, DependencyExpansion.fromParameter(expand));
+        return pageResponse(page, etag);
+    }
+
+    @GetMapping(value = "/status/{status}", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @Operation(summary = "Exportar requisitos por status (streaming NDJSON)")
+    public ResponseEntity<StreamingResponseBody> streamRequirementsByStatus(
+            @PathVariable RequirementStatus status,
+            @Parameter(description = AFTER_DESCRIPTION) @RequestParam(required = false) Long after) {
+        return ndjson(sink -> requirementService.streamRequirementsByStatus(status, after, sink));
+    }
+
+    @GetMapping(value = "/search", produces = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(summary = "Buscar requisitos por texto",
+            description = "Busca na descrição, justificativa e critério de aceitação dos requisitos não arquivados, " +
+                    "ignorando acentos e flexões, com resultados em ordem de relevância (BM25) e trechos destacados")
+    public ResponseEntity<SearchResultPage> searchRequirements(
+            @RequestParam String keyword,
+            @Parameter(description = "Número da página (começa em 0)") @RequestParam(required = false) Integer page,
+            @Parameter(description = SIZE_DESCRIPTION) @RequestParam(required = false) Integer size,
+            @Parameter(description = EXPAND_DESCRIPTION) @RequestParam(defaultValue = "1") String expand) {
+        SearchResultPage result = requirementService.searchRequirements(
+                keyword, page, size, DependencyExpansion.fromParameter(expand));
+        return ResponseEntity.ok(result);
     }
 
-    @GetMapping("/search")
-    @Operation(summary = "Buscar requisitos por palavra-chave")
-    public ResponseEntity<List<RequirementResponse>> searchRequirements(
-            @RequestParam String keyword) {
-        List<RequirementResponse> responses = requirementService.searchRequirements(keyword);
-        return ResponseEntity.ok(responses);
+    @GetMapping(value = "/search", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @Operation(summary = "Exportar resultados da busca em ordem de relevância (streaming NDJSON)")
+    public ResponseEntity<StreamingResponseBody> streamSearchResults(@RequestParam String keyword) {
+        return ndjson(sink -> requirementService.streamSearchResults(keyword, sink));
     }
 
     @PostMapping("/{requirementId}/dependencies/{dependsOnId}")
@@ -122,11 +318,62 @@ public class RequirementController {
         return ResponseEntity.ok(traceability);
     }
 
-    @GetMapping("/{requirementId}/impact")
-    @Operation(summary = "Análise de impacto do requisito")
-    public ResponseEntity<List<String>> getImpactAnalysis(
-            @PathVariable String requirementId) {
-        List<String> impact = traceabilityService.getImpactAnalysis(requirementId);
+    @GetMapping(value = "/{requirementId}/impact", produces = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(summary = "Análise de impacto do requisito",
+            description = "Retorna todos os requisitos que dependem deste, direta ou transitivamente, com a profundidade")
+    public ResponseEntity<List<ImpactAnalysisEntry>> getImpactAnalysis(
+            @PathVariable String requirementId,
+            @Parameter(description = "Profundidade máxima da análise (limitada pela configuração)")
+            @RequestParam(required = false) Integer maxDepth) {
+        List<ImpactAnalysisEntry> impact = traceabilityService.getImpactAnalysis(requirementId, maxDepth);
         return ResponseEntity.ok(impact);
     }
+
+    @GetMapping(value = "/{requirementId}/impact", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @Operation(summary = "Análise de impacto do requisito (streaming NDJSON)")
+    public ResponseEntity<StreamingResponseBody> streamImpactAnalysis(
+            @PathVariable String requirementId,
+            @RequestParam(required = false) Integer maxDepth) {
+        DependencyGraph.Traversal traversal = traceabilityService.findImpactedRequirements(requirementId, maxDepth);
+        return ndjson(sink -> traceabilityService.streamImpactAnalysis(traversal, sink));
+    }
+
+    /**
+     * Corpo da página com o cursor da próxima nos cabeçalhos X-Next-Cursor e Link
+     */
+    private ResponseEntity<List<RequirementResponse>> pageResponse(RequirementPage page, String etag) {
+        if (page.getNextCursor() == null) {
+            return ResponseEntity.ok().eTag(etag).body(page.getItems());
+        }
+        String next = ServletUriComponentsBuilder.fromCurrentRequest()
+                .replaceQueryParam("after", page.getNextCursor())
+                .toUriString();
+        return ResponseEntity.ok()
+                .eTag(etag)
+                .header(NEXT_CURSOR_HEADER, String.valueOf(page.getNextCursor()))
+                .header(HttpHeaders.LINK, "<" + next + ">; rel=\"next\"")
+                .body(page.getItems());
+    }
+
+    /**
+     * 304 para If-None-Match que ainda casa: a ETag é calculada antes de carregar qualquer entidade
+     */
+    private static <T> ResponseEntity<T> notModified(String etag) {
+        return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build();
+    }
+
+    /**
+     * Escreve cada item produzido como uma linha JSON, à medida que é gerado
+     */
+    private ResponseEntity<StreamingResponseBody> ndjson(Consumer<Consumer<Object>> producer) {
+        StreamingResponseBody stream = out -> producer.accept(item -> {
+            try {
+                out.write(objectMapper.writeValueAsBytes(item));
+                out.write('\n');
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(stream);
+    }
 }
\ No newline at end of file
@@ -0,0 +1,84 @@
+package com.openreqs.openreqs.controller;
+
+import com.openreqs.openreqs.dto.ExportFormat;
+import com.openreqs.openreqs.service.RequirementExportService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.util.Locale;
+import java.util.zip.GZIPOutputStream;
+
+@RestController
+@RequestMapping("/api/requirements/export")
+@RequiredArgsConstructor
+@Tag(name = "Requirements Export", description = "Exportação do repositório de requisitos")
+public class RequirementExportController {
+
+    private static final int GZIP_BUFFER_SIZE = 64 * 1024;
+
+    private final RequirementExportService exportService;
+
+    @GetMapping
+    @Operation(summary = "Exportar requisitos (streaming)",
+            description = "Gera CSV, JSON Lines ou ReqIF em ordem de ID, com as dependências numa seção própria. " +
+                    "Comprimido com gzip quando o cliente envia Accept-Encoding: gzip")
+    public ResponseEntity<StreamingResponseBody> export(
+            @Parameter(description = "Formato: csv, jsonl ou reqif") @RequestParam(defaultValue = "jsonl") String format,
+            @Parameter(description = "Retoma a partir deste ID (exclusive)") @RequestParam(required = false) Long after,
+            @Parameter(description = "Incluir requisitos arquivados") @RequestParam(defaultValue = "false") boolean includeArchived,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        ExportFormat exportFormat = ExportFormat.fromParameter(format);
+        boolean gzip = acceptsGzip(acceptEncoding);
+
+        StreamingResponseBody body = out -> {
+            if (gzip) {
+                GZIPOutputStream compressed = new GZIPOutputStream(out, GZIP_BUFFER_SIZE);
+                exportService.export(exportFormat, after, includeArchived, compressed);
+                compressed.finish();
+            } else {
+                exportService.export(exportFormat, after, includeArchived, out);
+            }
+        };
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(exportFormat.getMediaType() + ";charset=UTF-8"))
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename("requirements." + exportFormat.getExtension())
+                        .build()
+                        .toString())
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (gzip) {
+            response.header(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        return response.body(body);
+    }
+
+    // gzip listado e sem q=0
+    private static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        for (String coding : acceptEncoding.toLowerCase(Locale.ROOT).split(",")) {
+            String[] parts = coding.trim().split(";");
+            if (!parts[0].trim().equals("gzip")) {
+                continue;
+            }
+            for (int i = 1; i < parts.length; i++) {
+                String parameter = parts[i].replace(" ", "");
+                if (parameter.startsWith("q=") && Double.parseDouble(parameter.substring(2)) == 0) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        return false;
+    }
+}
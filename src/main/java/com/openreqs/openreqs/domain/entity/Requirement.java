@@ -8,6 +8,7 @@ import lombok.*;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Locale;
 
 /**
  * IREB Syllabus - Entidade central do sistema
@@ -15,14 +16,35 @@ import java.util.List;
  */
 @Entity
 @Table(name = "requirements")
+// Planos de carga: cada consulta traz, numa só ida ao banco, o que o endpoint serializa
+@NamedEntityGraph(name = Requirement.LIST_GRAPH,
+        attributeNodes = @NamedAttributeNode("source"))
+@NamedEntityGraph(name = Requirement.DETAIL_GRAPH,
+        attributeNodes = {
+                @NamedAttributeNode("source"),
+                @NamedAttributeNode(value = "dependencies", subgraph = "dependency")
+        },
+        subgraphs = @NamedSubgraph(name = "dependency", attributeNodes = @NamedAttributeNode("source")))
+@NamedEntityGraph(name = Requirement.TRACEABILITY_GRAPH,
+        attributeNodes = @NamedAttributeNode("dependencies"))
 @Data
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
 public class Requirement {
 
+    /** Listagens: requisito e stakeholder de origem */
+    public static final String LIST_GRAPH = "Requirement.list";
+    /** Detalhe: também as dependências diretas, cada uma com sua origem */
+    public static final String DETAIL_GRAPH = "Requirement.detail";
+    /** Rastreabilidade: requisito e dependências diretas */
+    public static final String TRACEABILITY_GRAPH = "Requirement.traceability";
+
+    // Sequência com alocação em blocos (pooled): o ID é conhecido antes do INSERT,
+    // o que permite ao Hibernate agrupar as inserções em lotes JDBC
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "requirement_seq")
+    @SequenceGenerator(name = "requirement_seq", sequenceName = "requirement_seq", allocationSize = 50)
     private Long id;
 
     @Column(name = "requirement_id", nullable = false, unique = true)
@@ -65,12 +87,16 @@ public class Requirement {
     @Builder.Default
     private LocalDateTime lastUpdated = LocalDateTime.now();
 
+    // Início da vigência da versão atual; as anteriores ficam em RequirementVersion
+    @Column(name = "version_since")
+    private LocalDateTime versionSince;
+
     @Column(name = "is_archived")
     @Builder.Default
     private Boolean isArchived = false;
 
-    // Relacionamentos
-    @ManyToOne
+    // Relacionamentos (carregados sob demanda; os planos de carga acima decidem o que vem junto)
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "source_id")
     private Stakeholder source;
 
@@ -92,6 +118,9 @@ public class Requirement {
     protected void onCreate() {
         createdAt = LocalDateTime.now();
         lastUpdated = LocalDateTime.now();
+        if (versionSince == null) {
+            versionSince = createdAt;
+        }
     }
 
     @PreUpdate
@@ -104,24 +133,15 @@ public class Requirement {
         this.status = RequirementStatus.DEPRECATED;
     }
 
-    public Requirement createNewVersion() {
-        Requirement newVersion = Requirement.builder()
-                .requirementId(this.requirementId)
-                .description(this.description)
-                .rationale(this.rationale)
-                .fitCriterion(this.fitCriterion)
-                .type(this.type)
-                .status(RequirementStatus.DRAFT)
-                .priority(this.priority)
-                .source(this.source)
-                .dependencies(new ArrayList<>(this.dependencies))
-                .build();
-
-        // Incrementa versão
+    /**
+     * Passa o próprio registro para a próxima versão (a anterior vai para o histórico
+     * antes desta chamada): volta a DRAFT e a vigência recomeça em {@code since}
+     */
+    public void startNewVersion(LocalDateTime since) {
         String currentVersion = this.version.replace("v", "");
         double versionNum = Double.parseDouble(currentVersion);
-        newVersion.setVersion(String.format("v%.1f", versionNum + 0.1));
-
-        return newVersion;
+        this.version = String.format(Locale.ROOT, "v%.1f", versionNum + 0.1);
+        this.status = RequirementStatus.DRAFT;
+        this.versionSince = since;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,57 @@
+package com.openreqs.openreqs.domain.entity;
+
+import com.openreqs.openreqs.domain.enums.ChangeType;
+import com.openreqs.openreqs.domain.enums.RequirementStatus;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * IREB Syllabus - Unidade 6: Gerenciamento de Requisitos (rastreamento de mudanças)
+ * Evento do log de mudanças, gravado na mesma transação da alteração e nunca modificado.
+ *
+ * A sequência vem de uma sequence do banco reservada em blocos, como a dos requisitos: o
+ * Hibernate entrega os números do bloco em ordem crescente, e é só dessa ordem que o
+ * ChangeFeed depende para saber quais números ainda estão em transações abertas. Números
+ * de um bloco não usados (reinício da aplicação) viram lacunas, tratadas como rollbacks.
+ */
+@Entity
+@Table(name = "requirement_changes")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class RequirementChange {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "requirement_change_seq")
+    @SequenceGenerator(name = "requirement_change_seq", sequenceName = "requirement_change_seq", allocationSize = 50)
+    private Long sequence;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private ChangeType type;
+
+    // ID técnico do requisito alterado
+    @Column(name = "requirement_ref", nullable = false)
+    private Long requirementRef;
+
+    @Column(name = "requirement_id", nullable = false)
+    private String requirementId;
+
+    // Outro requisito envolvido nas alterações de dependência
+    @Column(name = "depends_on_ref")
+    private Long dependsOnRef;
+
+    private String version;
+
+    @Enumerated(EnumType.STRING)
+    private RequirementStatus status;
+
+    @Column(name = "occurred_at", nullable = false)
+    private LocalDateTime occurredAt;
+}
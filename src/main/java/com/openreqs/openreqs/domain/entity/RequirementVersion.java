@@ -0,0 +1,75 @@
+package com.openreqs.openreqs.domain.entity;
+
+import com.openreqs.openreqs.domain.enums.RequirementStatus;
+import com.openreqs.openreqs.domain.enums.RequirementType;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * IREB Syllabus - Unidade 6: Gerenciamento de Requisitos (versionamento)
+ * Versão substituída de um requisito, gravada uma única vez e nunca alterada.
+ *
+ * A versão vigente continua na tabela de requisitos; aqui ficam só as anteriores.
+ * Os textos são guardados como delta em relação à versão anterior, com uma versão
+ * completa a cada RequirementHistory.KEYFRAME_INTERVAL.
+ */
+@Entity
+@Table(name = "requirement_versions",
+        uniqueConstraints = {
+                @UniqueConstraint(name = "uk_requirement_version", columnNames = {"requirement_id", "version"}),
+                @UniqueConstraint(name = "uk_requirement_sequence", columnNames = {"requirement_id", "sequence"})
+        },
+        indexes = @Index(name = "idx_requirement_valid_to", columnList = "requirement_id, valid_to"))
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class RequirementVersion {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "requirement_id", nullable = false)
+    private String requirementId;
+
+    @Column(nullable = false)
+    private String version;
+
+    // Posição da versão no histórico do requisito (1, 2, 3...)
+    @Column(nullable = false)
+    private Integer sequence;
+
+    // Textos codificados por TextDelta
+    @Column(length = 2100)
+    private String description;
+
+    @Column(length = 3100)
+    private String rationale;
+
+    @Column(name = "fit_criterion", length = 2100)
+    private String fitCriterion;
+
+    @Enumerated(EnumType.STRING)
+    private RequirementType type;
+
+    @Enumerated(EnumType.STRING)
+    private RequirementStatus status;
+
+    private Integer priority;
+
+    @Column(name = "source_id")
+    private Long sourceId;
+
+    // Vigência da versão: [validFrom, validTo)
+    @Column(name = "valid_from", nullable = false)
+    private LocalDateTime validFrom;
+
+    @Column(name = "valid_to", nullable = false)
+    private LocalDateTime validTo;
+}
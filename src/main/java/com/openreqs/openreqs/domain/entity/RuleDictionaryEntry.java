@@ -0,0 +1,43 @@
+package com.openreqs.openreqs.domain.entity;
+
+import com.openreqs.openreqs.domain.enums.DictionaryCategory;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * IREB Syllabus - Unidade 5.4: Documentação em Linguagem Natural
+ * Palavra de um dicionário das regras de qualidade, por projeto e idioma.
+ *
+ * Uma categoria com palavras cadastradas substitui a lista embutida da regra;
+ * as alterações só valem para as validações depois da recompilação.
+ */
+@Entity
+@Table(name = "rule_dictionary_entries",
+        uniqueConstraints = @UniqueConstraint(name = "uk_rule_dictionary_term",
+                columnNames = {"project", "language", "category", "term"}))
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class RuleDictionaryEntry {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, length = 64)
+    private String project;
+
+    @Column(nullable = false, length = 16)
+    private String language;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private DictionaryCategory category;
+
+    @Column(nullable = false, length = 100)
+    private String term;
+}
@@ -0,0 +1,22 @@
+package com.openreqs.openreqs.domain.enums;
+
+/**
+ * IREB Syllabus - Unidade 6: Gerenciamento de Requisitos
+ * Tipos de alteração registrados no log de mudanças dos requisitos
+ */
+public enum ChangeType {
+    CREATED("Requisito criado"),
+    UPDATED("Conteúdo alterado (pode ter gerado nova versão)"),
+    STATUS_CHANGED("Status alterado"),
+    ARCHIVED("Requisito arquivado"),
+    DEPENDENCY_ADDED("Dependência adicionada"),
+    DEPENDENCY_REMOVED("Dependência removida");
+
+    private final String description;
+
+    ChangeType(String description) {
+        this.description = description;
+    }
+
+    public String getDescription() { return description; }
+}
@@ -0,0 +1,22 @@
+package com.openreqs.openreqs.domain.enums;
+
+/**
+ * IREB Syllabus - Unidade 5.4: Documentação em Linguagem Natural
+ * Listas de palavras usadas pela verificação de ambiguidade
+ */
+public enum DictionaryCategory {
+    SUBJECTIVE_WORDS("Palavras subjetivas"),
+    UNIVERSAL_QUANTIFIERS("Quantificadores universais"),
+    VAGUE_VERBS("Verbos imprecisos (aceita expressões com mais de uma palavra)"),
+    INTENSIFIERS("Intensificadores, sinalizados junto com a palavra seguinte"),
+    NOMINALIZATION_SUFFIXES("Terminações de substantivos derivados de verbos"),
+    SUPERLATIVE_SUFFIXES("Terminações de superlativos e diminutivos");
+
+    private final String description;
+
+    DictionaryCategory(String description) {
+        this.description = description;
+    }
+
+    public String getDescription() { return description; }
+}
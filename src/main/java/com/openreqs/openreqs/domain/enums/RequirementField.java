@@ -0,0 +1,11 @@
+package com.openreqs.openreqs.domain.enums;
+
+/**
+ * Campos textuais de um requisito analisados pelas regras de qualidade
+ */
+public enum RequirementField {
+    REQUIREMENT_ID,
+    DESCRIPTION,
+    RATIONALE,
+    FIT_CRITERION
+}
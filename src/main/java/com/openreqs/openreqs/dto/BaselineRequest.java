@@ -0,0 +1,35 @@
+package com.openreqs.openreqs.dto;
+
+import com.openreqs.openreqs.domain.enums.RequirementStatus;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "DTO para congelar uma baseline")
+public class BaselineRequest {
+
+    @NotBlank(message = "O nome da baseline é obrigatório")
+    @Schema(description = "Nome único (letras, dígitos, '.', '_' ou '-')", example = "release-1.0")
+    private String name;
+
+    @Size(max = 1000, message = "Descrição máximo 1000 caracteres")
+    @Schema(description = "Descrição da baseline", example = "Escopo aprovado para a release 1.0")
+    private String description;
+
+    @Schema(description = "Requisitos a congelar; se vazio, todos os não arquivados com o status informado",
+            example = "[\"REQ-001\", \"REQ-002\"]")
+    private List<String> requirementIds;
+
+    @Schema(description = "Status usado quando requirementIds está vazio (padrão: APPROVED)", example = "APPROVED")
+    private RequirementStatus status;
+}
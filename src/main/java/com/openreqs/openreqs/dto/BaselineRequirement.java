@@ -0,0 +1,49 @@
+package com.openreqs.openreqs.dto;
+
+import com.openreqs.openreqs.domain.enums.RequirementStatus;
+import com.openreqs.openreqs.domain.enums.RequirementType;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Requisito como estava no congelamento da baseline")
+public class BaselineRequirement {
+
+    private Long id;
+
+    @Schema(description = "Identificador único do requisito", example = "REQ-001")
+    private String requirementId;
+
+    private String description;
+
+    private String rationale;
+
+    private String fitCriterion;
+
+    private RequirementType type;
+
+    private RequirementStatus status;
+
+    private Integer priority;
+
+    @Schema(example = "v1.0")
+    private String version;
+
+    private Long sourceId;
+
+    private String sourceName;
+
+    private LocalDateTime lastUpdated;
+
+    @Schema(description = "requirementId das dependências diretas (podem estar fora da baseline)")
+    private List<String> dependencies;
+}
@@ -0,0 +1,32 @@
+package com.openreqs.openreqs.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Dados de uma baseline congelada")
+public class BaselineSummary {
+
+    @Schema(example = "release-1.0")
+    private String name;
+
+    private String description;
+
+    @Schema(description = "Momento do congelamento (UTC)")
+    private LocalDateTime createdAt;
+
+    private Integer requirementCount;
+
+    private Integer dependencyCount;
+
+    @Schema(description = "Tamanho do arquivo da baseline em bytes")
+    private Long sizeInBytes;
+}
@@ -0,0 +1,40 @@
+package com.openreqs.openreqs.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Resultado de um item da criação em lote")
+public class BatchItemResult {
+
+    /**
+     * CREATED: gravado; REJECTED: não passou nas validações; FAILED: erro ao gravar
+     */
+    public enum Status { CREATED, REJECTED, FAILED }
+
+    @Schema(description = "Posição do item na entrada (começando em 0)", example = "0")
+    private Integer index;
+
+    @Schema(description = "Identificador do requisito", example = "REQ-001")
+    private String requirementId;
+
+    @Schema(description = "Situação do item")
+    private Status status;
+
+    @Schema(description = "ID do banco de dados, se criado")
+    private Long id;
+
+    @Schema(description = "Violações das regras de qualidade, se houver")
+    private List<QualityFinding> findings;
+
+    @Schema(description = "Motivo da rejeição ou da falha")
+    private String error;
+}
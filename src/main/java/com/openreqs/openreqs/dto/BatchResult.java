@@ -0,0 +1,29 @@
+package com.openreqs.openreqs.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Resultado da criação em lote, com a situação de cada item na ordem da entrada")
+public class BatchResult {
+
+    @Schema(description = "Quantidade de itens recebidos")
+    private Integer total;
+
+    @Schema(description = "Quantidade de requisitos criados")
+    private Integer created;
+
+    @Schema(description = "Quantidade de itens rejeitados ou com falha")
+    private Integer notCreated;
+
+    @Schema(description = "Situação de cada item")
+    private List<BatchItemResult> items;
+}
@@ -0,0 +1,42 @@
+package com.openreqs.openreqs.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Estatísticas de um cache de consulta desde a inicialização")
+public class CacheStatistics {
+
+    @Schema(description = "Nome do cache", example = "requirements")
+    private String name;
+
+    @Schema(description = "Quantidade aproximada de entradas")
+    private Long size;
+
+    @Schema(description = "Consultas atendidas pelo cache")
+    private Long hitCount;
+
+    @Schema(description = "Consultas que foram ao banco")
+    private Long missCount;
+
+    @Schema(description = "Proporção de acertos (0 a 1)")
+    private Double hitRate;
+
+    @Schema(description = "Carregamentos a partir do banco")
+    private Long loadCount;
+
+    @Schema(description = "Tempo médio de carregamento em milissegundos")
+    private Double averageLoadPenaltyMillis;
+
+    @Schema(description = "Entradas removidas por tamanho, peso ou expiração")
+    private Long evictionCount;
+
+    @Schema(description = "Peso total das entradas removidas")
+    private Long evictionWeight;
+}
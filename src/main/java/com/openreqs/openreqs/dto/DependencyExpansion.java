@@ -0,0 +1,30 @@
+package com.openreqs.openreqs.dto;
+
+/**
+ * Quanto do grafo de dependências é incluído em um RequirementResponse
+ */
+public enum DependencyExpansion {
+    /** Apenas os IDs das dependências diretas */
+    IDS("ids"),
+    /** Dependências diretas completas, cada uma apenas com os IDs das suas */
+    ONE("1"),
+    /** Grafo transitivo: cada requisito mapeado uma única vez e referenciado por ID */
+    FULL("full");
+
+    private final String parameter;
+
+    DependencyExpansion(String parameter) {
+        this.parameter = parameter;
+    }
+
+    public String getParameter() { return parameter; }
+
+    public static DependencyExpansion fromParameter(String value) {
+        for (DependencyExpansion expansion : values()) {
+            if (expansion.parameter.equalsIgnoreCase(value)) {
+                return expansion;
+            }
+        }
+        throw new IllegalArgumentException("Valor inválido para expand: '" + value + "'. Use ids, 1 ou full");
+    }
+}
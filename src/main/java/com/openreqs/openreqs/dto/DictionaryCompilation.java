@@ -0,0 +1,30 @@
+package com.openreqs.openreqs.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Dicionário das regras de qualidade compilado e publicado")
+public class DictionaryCompilation {
+
+    @Schema(description = "Projeto", example = "default")
+    private String project;
+
+    @Schema(description = "Idioma", example = "pt-BR")
+    private String language;
+
+    @Schema(description = "Indica se é o dicionário usado nas validações")
+    private Boolean active;
+
+    @Schema(description = "Palavras e terminações compiladas, incluindo as listas embutidas")
+    private Integer termCount;
+
+    @Schema(description = "Tempo de compilação em milissegundos")
+    private Double compileMillis;
+}
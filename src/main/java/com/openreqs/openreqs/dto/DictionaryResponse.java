@@ -0,0 +1,31 @@
+package com.openreqs.openreqs.dto;
+
+import com.openreqs.openreqs.domain.enums.DictionaryCategory;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Lista de palavras de uma categoria do dicionário")
+public class DictionaryResponse {
+
+    @Schema(description = "Projeto", example = "default")
+    private String project;
+
+    @Schema(description = "Idioma", example = "pt-BR")
+    private String language;
+
+    private DictionaryCategory category;
+
+    @Schema(description = "false quando a categoria não tem palavras cadastradas e usa a lista embutida")
+    private Boolean custom;
+
+    private List<String> terms;
+}
@@ -0,0 +1,36 @@
+package com.openreqs.openreqs.dto;
+
+/**
+ * Formatos da exportação de requisitos
+ */
+public enum ExportFormat {
+    /** Tabela de requisitos, linha em branco e tabela de dependências */
+    CSV("csv", "text/csv", "csv"),
+    /** Um objeto JSON por linha; "record" distingue requisitos de dependências */
+    JSONL("jsonl", "application/jsonl", "jsonl"),
+    /** Requirements Interchange Format 1.2 (OMG): SPEC-OBJECTS e SPEC-RELATIONS */
+    REQIF("reqif", "application/xml", "reqif");
+
+    private final String parameter;
+    private final String mediaType;
+    private final String extension;
+
+    ExportFormat(String parameter, String mediaType, String extension) {
+        this.parameter = parameter;
+        this.mediaType = mediaType;
+        this.extension = extension;
+    }
+
+    public String getParameter() { return parameter; }
+    public String getMediaType() { return mediaType; }
+    public String getExtension() { return extension; }
+
+    public static ExportFormat fromParameter(String value) {
+        for (ExportFormat format : values()) {
+            if (format.parameter.equalsIgnoreCase(value)) {
+                return format;
+            }
+        }
+        throw new IllegalArgumentException("Formato de exportação inválido: '" + value + "'. Use csv, jsonl ou reqif");
+    }
+}
@@ -0,0 +1,24 @@
+package com.openreqs.openreqs.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Atributo de valor simples alterado entre dois lados de uma comparação")
+public class FieldChange {
+
+    @Schema(description = "Nome do atributo", example = "status")
+    private String field;
+
+    @Schema(example = "REVIEW")
+    private String before;
+
+    @Schema(example = "APPROVED")
+    private String after;
+}
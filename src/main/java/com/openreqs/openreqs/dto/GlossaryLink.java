@@ -0,0 +1,37 @@
+package com.openreqs.openreqs.dto;
+
+import com.openreqs.openreqs.domain.enums.RequirementField;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Termo do glossário encontrado no texto do requisito")
+public class GlossaryLink {
+
+    @Schema(description = "ID do termo no glossário")
+    private Long termId;
+
+    @Schema(description = "Termo do glossário", example = "Nota Fiscal Eletrônica")
+    private String term;
+
+    @Schema(description = "Sigla do termo", example = "NF-e")
+    private String acronym;
+
+    @Schema(description = "Trecho do texto que casou com o termo ou a sigla", example = "NF-e")
+    private String text;
+
+    @Schema(description = "Campo onde o termo aparece", example = "DESCRIPTION")
+    private RequirementField field;
+
+    @Schema(description = "Offset inicial do trecho no campo (inclusivo)", example = "31")
+    private Integer start;
+
+    @Schema(description = "Offset final do trecho no campo (exclusivo)", example = "35")
+    private Integer end;
+}
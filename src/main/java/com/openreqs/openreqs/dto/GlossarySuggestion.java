@@ -0,0 +1,24 @@
+package com.openreqs.openreqs.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Sugestão de termo do glossário para autocompletar")
+public class GlossarySuggestion {
+
+    @Schema(description = "ID do termo")
+    private Long id;
+
+    @Schema(description = "Termo", example = "API")
+    private String term;
+
+    @Schema(description = "Sigla", example = "API")
+    private String acronym;
+}
@@ -0,0 +1,27 @@
+package com.openreqs.openreqs.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Requisito impactado por uma mudança, direta ou transitivamente")
+public class ImpactAnalysisEntry {
+
+    @Schema(description = "ID do banco de dados")
+    private Long id;
+
+    @Schema(description = "Identificador único do requisito impactado", example = "REQ-002")
+    private String requirementId;
+
+    @Schema(description = "Distância até o requisito analisado (1 = dependência direta)", example = "1")
+    private Integer depth;
+
+    @Schema(description = "Requisito do qual este depende no caminho até o analisado", example = "REQ-001")
+    private String dependsOn;
+}
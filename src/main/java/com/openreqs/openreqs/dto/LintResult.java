@@ -0,0 +1,38 @@
+package com.openreqs.openreqs.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Resultado da verificação de qualidade de um item do lote")
+public class LintResult {
+
+    @Schema(description = "Posição do item na entrada (começando em 0)", example = "0")
+    private Integer index;
+
+    @Schema(description = "Identificador do requisito analisado", example = "REQ-001")
+    private String requirementId;
+
+    @Schema(description = "O requisito passou em todas as regras?")
+    private Boolean valid;
+
+    @Schema(description = "Quantidade de violações encontradas")
+    private Integer violationCount;
+
+    @Schema(description = "Violações encontradas")
+    private List<QualityFinding> findings;
+
+    @Schema(description = "Avisos que não invalidam o requisito")
+    private List<QualityFinding> warnings;
+
+    @Schema(description = "Erro de leitura ou processamento do item, se houver")
+    private String error;
+}
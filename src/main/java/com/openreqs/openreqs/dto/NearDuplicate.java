@@ -0,0 +1,24 @@
+package com.openreqs.openreqs.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Requisito existente com descrição muito parecida")
+public class NearDuplicate {
+
+    @Schema(description = "ID do banco de dados")
+    private Long id;
+
+    @Schema(description = "Identificador único do requisito", example = "REQ-001")
+    private String requirementId;
+
+    @Schema(description = "Similaridade estimada das descrições (0 a 1)", example = "0.86")
+    private Double similarity;
+}
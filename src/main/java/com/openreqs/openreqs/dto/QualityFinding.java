@@ -0,0 +1,40 @@
+package com.openreqs.openreqs.dto;
+
+import com.openreqs.openreqs.domain.enums.RequirementField;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Violação de qualidade encontrada por uma regra IREB")
+public class QualityFinding {
+
+    @Schema(description = "Regra que encontrou a violação", example = "Ambiguity Checker")
+    private String ruleName;
+
+    @Schema(description = "Categoria da violação", example = "SUBJECTIVITY")
+    private String violationType;
+
+    @Schema(description = "Mensagem explicativa")
+    private String message;
+
+    @Schema(description = "Trecho problemático", example = "rápido")
+    private String problematicContent;
+
+    @Schema(description = "Sugestão de correção")
+    private String suggestion;
+
+    @Schema(description = "Campo analisado", example = "DESCRIPTION")
+    private RequirementField field;
+
+    @Schema(description = "Offset inicial do trecho no campo (inclusivo)", example = "18")
+    private Integer start;
+
+    @Schema(description = "Offset final do trecho no campo (exclusivo)", example = "24")
+    private Integer end;
+}
@@ -0,0 +1,38 @@
+package com.openreqs.openreqs.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Relatório com todas as violações de qualidade de um requisito")
+public class QualityReport {
+
+    @Schema(description = "Identificador do requisito analisado", example = "REQ-001")
+    private String requirementId;
+
+    @Schema(description = "O requisito passou em todas as regras?")
+    private Boolean valid;
+
+    @Schema(description = "Quantidade de violações encontradas")
+    private Integer violationCount;
+
+    @Schema(description = "Regras aplicadas")
+    private List<String> rulesApplied;
+
+    @Schema(description = "Violações encontradas, agrupadas por regra")
+    private List<QualityFinding> findings;
+
+    @Schema(description = "Avisos que não invalidam o requisito (ex.: siglas fora do glossário)")
+    private List<QualityFinding> warnings;
+
+    @Schema(description = "Termos do glossário encontrados na descrição e no critério de aceitação")
+    private List<GlossaryLink> glossaryTerms;
+}
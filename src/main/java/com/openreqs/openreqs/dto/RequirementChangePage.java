@@ -0,0 +1,24 @@
+package com.openreqs.openreqs.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Trecho do log de mudanças; next é o cursor para a próxima leitura, mesmo sem eventos
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class RequirementChangePage {
+
+    private List<RequirementChangeResponse> changes;
+
+    @Schema(description = "Passe como 'after' na próxima leitura", example = "42")
+    private Long next;
+}
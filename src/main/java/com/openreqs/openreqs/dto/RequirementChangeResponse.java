@@ -0,0 +1,41 @@
+package com.openreqs.openreqs.dto;
+
+import com.openreqs.openreqs.domain.enums.ChangeType;
+import com.openreqs.openreqs.domain.enums.RequirementStatus;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Evento do log de mudanças dos requisitos")
+public class RequirementChangeResponse {
+
+    @Schema(description = "Posição no log; use como 'after' (ou Last-Event-ID) para continuar daqui", example = "42")
+    private Long sequence;
+
+    private ChangeType type;
+
+    @Schema(description = "ID do requisito alterado")
+    private Long id;
+
+    @Schema(description = "Identificador único do requisito", example = "REQ-001")
+    private String requirementId;
+
+    @Schema(description = "ID do outro requisito, nas alterações de dependência")
+    private Long dependsOnId;
+
+    @Schema(description = "Versão do requisito após a alteração", example = "v1.1")
+    private String version;
+
+    @Schema(description = "Status do requisito após a alteração")
+    private RequirementStatus status;
+
+    private LocalDateTime occurredAt;
+}
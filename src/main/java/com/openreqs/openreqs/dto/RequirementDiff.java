@@ -0,0 +1,52 @@
+package com.openreqs.openreqs.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Diferença de um requisito entre duas baselines ou duas versões")
+public class RequirementDiff {
+
+    /**
+     * ADDED: só no lado novo; REMOVED: só no antigo; MODIFIED: conteúdo alterado;
+     * RELINKED: só as dependências mudaram; UNCHANGED: nada mudou (apenas na comparação de versões)
+     */
+    public enum Change { ADDED, REMOVED, MODIFIED, RELINKED, UNCHANGED }
+
+    @Schema(description = "Identificador único do requisito", example = "REQ-001")
+    private String requirementId;
+
+    private Change change;
+
+    @Schema(description = "Versão no lado antigo", example = "v1.0")
+    private String fromVersion;
+
+    @Schema(description = "Versão no lado novo", example = "v1.1")
+    private String toVersion;
+
+    @Schema(description = "Atributos de valor simples alterados (tipo, status, prioridade, versão, origem)")
+    private List<FieldChange> fields;
+
+    @Schema(description = "Diff por palavras da descrição, se mudou")
+    private List<TextSegment> description;
+
+    @Schema(description = "Diff por palavras da justificativa, se mudou")
+    private List<TextSegment> rationale;
+
+    @Schema(description = "Diff por palavras do critério de aceitação, se mudou")
+    private List<TextSegment> fitCriterion;
+
+    @Schema(description = "Dependências que passaram a existir (requirementId)")
+    private List<String> addedDependencies;
+
+    @Schema(description = "Dependências que deixaram de existir (requirementId)")
+    private List<String> removedDependencies;
+}
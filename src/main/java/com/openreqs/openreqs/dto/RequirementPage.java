@@ -0,0 +1,22 @@
+package com.openreqs.openreqs.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Página de requisitos obtida por cursor; nextCursor é nulo na última página
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class RequirementPage {
+
+    private List<RequirementResponse> items;
+
+    private Long nextCursor;
+}
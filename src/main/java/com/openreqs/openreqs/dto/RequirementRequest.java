@@ -42,4 +42,12 @@ public class RequirementRequest {
 
     @Schema(description = "Prioridade (1-Alta, 2-Média, 3-Baixa)", example = "1")
     private Integer priority;
+
+    @Schema(description = "Projeto cujo dicionário de qualidade valida o texto (não é gravado); "
+            + "sem ele, o de openreqs.quality.dictionary.project", example = "loja")
+    private String project;
+
+    @Schema(description = "Idioma do dicionário de qualidade (não é gravado); "
+            + "sem ele, o de openreqs.quality.dictionary.language", example = "pt-BR")
+    private String language;
 }
\ No newline at end of file
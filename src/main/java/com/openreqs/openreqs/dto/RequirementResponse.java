@@ -10,9 +10,10 @@ import lombok.NoArgsConstructor;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 
 @Data
-@Builder
+@Builder(toBuilder = true)
 @NoArgsConstructor
 @AllArgsConstructor
 @Schema(description = "DTO para resposta de requisitos")
@@ -54,9 +55,18 @@ public class RequirementResponse {
     @Schema(description = "Última atualização")
     private LocalDateTime lastUpdated;
 
-    @Schema(description = "Requisitos dependentes")
+    @Schema(description = "IDs das dependências diretas")
+    private List<Long> dependencyIds;
+
+    @Schema(description = "Dependências diretas (expand=1)")
     private List<RequirementResponse> dependencies;
 
+    @Schema(description = "Grafo de dependências transitivas indexado por ID, cada requisito uma única vez (expand=full)")
+    private Map<Long, RequirementResponse> linkedRequirements;
+
     @Schema(description = "Está arquivado?")
     private Boolean isArchived;
+
+    @Schema(description = "Requisitos com descrição quase igual, apontados na criação (não impedem a gravação)")
+    private List<NearDuplicate> nearDuplicates;
 }
\ No newline at end of file
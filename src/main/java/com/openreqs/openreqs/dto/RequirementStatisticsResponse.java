@@ -0,0 +1,42 @@
+package com.openreqs.openreqs.dto;
+
+import com.openreqs.openreqs.domain.enums.RequirementStatus;
+import com.openreqs.openreqs.domain.enums.RequirementType;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Contagem de requisitos não arquivados por status, tipo, prioridade e stakeholder")
+public class RequirementStatisticsResponse {
+
+    @Schema(description = "Requisitos não arquivados")
+    private Long total;
+
+    @Schema(description = "Requisitos arquivados")
+    private Long archived;
+
+    private Map<RequirementStatus, Long> byStatus;
+
+    private Map<RequirementType, Long> byType;
+
+    @Schema(description = "Quantidade por prioridade (1-Alta, 2-Média, 3-Baixa)")
+    private Map<Integer, Long> byPriority;
+
+    @Schema(description = "Quantidade por ID do stakeholder de origem")
+    private Map<Long, Long> bySource;
+
+    @Schema(description = "Última reconciliação com o banco de dados")
+    private LocalDateTime reconciledAt;
+
+    @Schema(description = "Soma das diferenças corrigidas na última reconciliação (0 = sem desvio)")
+    private Long lastDrift;
+}
@@ -0,0 +1,50 @@
+package com.openreqs.openreqs.dto;
+
+import com.openreqs.openreqs.domain.enums.RequirementStatus;
+import com.openreqs.openreqs.domain.enums.RequirementType;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Conteúdo de um requisito em uma versão específica")
+public class RequirementVersionResponse {
+
+    @Schema(description = "Identificador único do requisito", example = "REQ-001")
+    private String requirementId;
+
+    @Schema(description = "Versão", example = "v1.0")
+    private String version;
+
+    private String description;
+
+    private String rationale;
+
+    private String fitCriterion;
+
+    private RequirementType type;
+
+    @Schema(description = "Status em que a versão estava ao ser substituída (ou o atual, se vigente)")
+    private RequirementStatus status;
+
+    private Integer priority;
+
+    @Schema(description = "ID do stakeholder de origem")
+    private Long sourceId;
+
+    @Schema(description = "Início da vigência da versão")
+    private LocalDateTime validFrom;
+
+    @Schema(description = "Fim da vigência; vazio para a versão vigente")
+    private LocalDateTime validTo;
+
+    @Schema(description = "Indica se é a versão vigente")
+    private Boolean current;
+}
@@ -0,0 +1,27 @@
+package com.openreqs.openreqs.dto;
+
+import com.openreqs.openreqs.domain.enums.RequirementField;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Requisito encontrado pela busca textual, com relevância e trechos destacados")
+public class SearchHit {
+
+    @Schema(description = "Requisito encontrado")
+    private RequirementResponse requirement;
+
+    @Schema(description = "Relevância BM25 (maior é mais relevante)", example = "3.27")
+    private Double score;
+
+    @Schema(description = "Trechos de cada campo com os termos encontrados entre <em> e </em>")
+    private Map<RequirementField, String> highlights;
+}
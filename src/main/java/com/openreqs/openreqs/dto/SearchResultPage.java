@@ -0,0 +1,32 @@
+package com.openreqs.openreqs.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Página de resultados da busca textual, em ordem de relevância")
+public class SearchResultPage {
+
+    @Schema(description = "Consulta informada", example = "validação de senha")
+    private String query;
+
+    @Schema(description = "Total de requisitos que casam com a consulta")
+    private Integer totalHits;
+
+    @Schema(description = "Número da página (começa em 0)")
+    private Integer page;
+
+    @Schema(description = "Tamanho da página")
+    private Integer size;
+
+    @Schema(description = "Resultados da página")
+    private List<SearchHit> hits;
+}
@@ -0,0 +1,25 @@
+package com.openreqs.openreqs.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Trecho de um diff por palavras")
+public class TextSegment {
+
+    /**
+     * EQUAL: presente nos dois lados; INSERT: só no novo; DELETE: só no antigo
+     */
+    public enum Operation { EQUAL, INSERT, DELETE }
+
+    private Operation operation;
+
+    @Schema(description = "Texto do trecho, com os espaços originais", example = "em até 2 segundos")
+    private String text;
+}
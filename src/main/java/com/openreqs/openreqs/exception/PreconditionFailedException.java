@@ -0,0 +1,11 @@
+package com.openreqs.openreqs.exception;
+
+/**
+ * A versão que o cliente editou (If-Match) não é mais a atual
+ */
+public class PreconditionFailedException extends RuntimeException {
+
+    public PreconditionFailedException(String message) {
+        super(message);
+    }
+}
@@ -1,7 +1,10 @@
 package com.openreqs.openreqs.exception;
 
+import com.openreqs.openreqs.dto.QualityFinding;
 import lombok.Getter;
 
+import java.util.List;
+
 /**
  * IREB Syllabus - Unidade 5: Qualidade dos Requisitos
  * Exceção lançada quando um requisito viola regras de qualidade
@@ -12,6 +15,7 @@ public class RequirementViolationException extends RuntimeException {
     private final String violationType;
     private final String problematicContent;
     private final String suggestion;
+    private final List<QualityFinding> findings;
 
     public RequirementViolationException(String message, String violationType,
                                          String problematicContent, String suggestion) {
@@ -19,6 +23,25 @@ public class RequirementViolationException extends RuntimeException {
         this.violationType = violationType;
         this.problematicContent = problematicContent;
         this.suggestion = suggestion;
+        this.findings = null;
+    }
+
+    public RequirementViolationException(QualityFinding finding) {
+        this(finding.getMessage(), finding.getViolationType(),
+                finding.getProblematicContent(), finding.getSuggestion());
+    }
+
+    /**
+     * Reúne todas as violações de um relatório de qualidade numa única exceção
+     */
+    public RequirementViolationException(List<QualityFinding> findings) {
+        super(String.format("Requisito viola %d regra(s) de qualidade. Primeira: %s",
+                findings.size(), findings.get(0).getMessage()));
+        QualityFinding first = findings.get(0);
+        this.violationType = first.getViolationType();
+        this.problematicContent = first.getProblematicContent();
+        this.suggestion = first.getSuggestion();
+        this.findings = List.copyOf(findings);
     }
 
     public RequirementViolationException(String message, String violationType) {
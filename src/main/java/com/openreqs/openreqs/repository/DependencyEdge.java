@@ -0,0 +1,7 @@
+package com.openreqs.openreqs.repository;
+
+/**
+ * Linha da tabela requirement_dependencies: requirementId depende de dependsOnId
+ */
+public record DependencyEdge(Long requirementId, Long dependsOnId) {
+}
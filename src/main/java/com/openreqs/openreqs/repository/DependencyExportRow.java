@@ -0,0 +1,7 @@
+package com.openreqs.openreqs.repository;
+
+/**
+ * Aresta de dependência com os IDs técnicos e de negócio das duas pontas
+ */
+public record DependencyExportRow(Long id, String requirementId, Long dependsOnId, String dependsOnRequirementId) {
+}
@@ -0,0 +1,19 @@
+package com.openreqs.openreqs.repository;
+
+import com.openreqs.openreqs.domain.entity.RequirementChange;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface RequirementChangeRepository extends JpaRepository<RequirementChange, Long> {
+
+    Optional<RequirementChange> findTopByOrderBySequenceDesc();
+
+    // Eventos em (after, upTo], na ordem do log
+    List<RequirementChange> findBySequenceGreaterThanAndSequenceLessThanEqualOrderBySequenceAsc(
+            Long after, Long upTo, Limit limit);
+}
@@ -0,0 +1,11 @@
+package com.openreqs.openreqs.repository;
+
+import com.openreqs.openreqs.domain.enums.RequirementStatus;
+import com.openreqs.openreqs.domain.enums.RequirementType;
+
+/**
+ * Quantidade de requisitos não arquivados com a mesma combinação de atributos
+ */
+public record RequirementCount(RequirementStatus status, RequirementType type, Integer priority,
+                               Long sourceId, Long count) {
+}
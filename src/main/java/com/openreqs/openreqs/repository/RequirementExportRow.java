@@ -0,0 +1,25 @@
+package com.openreqs.openreqs.repository;
+
+import com.openreqs.openreqs.domain.enums.RequirementStatus;
+import com.openreqs.openreqs.domain.enums.RequirementType;
+
+import java.time.LocalDateTime;
+
+/**
+ * Projeção de um requisito para exportação: não entra no contexto de persistência
+ */
+public record RequirementExportRow(Long id,
+                                   String requirementId,
+                                   String description,
+                                   String rationale,
+                                   String fitCriterion,
+                                   RequirementType type,
+                                   RequirementStatus status,
+                                   Integer priority,
+                                   String version,
+                                   Boolean archived,
+                                   Long sourceId,
+                                   String sourceName,
+                                   LocalDateTime createdAt,
+                                   LocalDateTime lastUpdated) {
+}
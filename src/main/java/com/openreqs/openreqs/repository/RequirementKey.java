@@ -0,0 +1,7 @@
+package com.openreqs.openreqs.repository;
+
+/**
+ * Chaves de um requisito (id do banco e identificador único) sem carregar a entidade
+ */
+public record RequirementKey(Long id, String requirementId) {
+}
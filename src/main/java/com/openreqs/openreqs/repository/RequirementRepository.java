@@ -3,31 +3,138 @@ package com.openreqs.openreqs.repository;
 import com.openreqs.openreqs.domain.entity.Requirement;
 import com.openreqs.openreqs.domain.enums.RequirementStatus;
 import com.openreqs.openreqs.domain.enums.RequirementType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface RequirementRepository extends JpaRepository<Requirement, Long> {
 
     Optional<Requirement> findByRequirementId(String requirementId);
 
+    @Query("SELECT new com.openreqs.openreqs.repository.RequirementStamp(r.id, r.version, r.lastUpdated) " +
+            "FROM Requirement r WHERE r.id = :id")
+    Optional<RequirementStamp> findStampById(@Param("id") Long id);
+
+    @Query("SELECT new com.openreqs.openreqs.repository.RequirementStamp(r.id, r.version, r.lastUpdated) " +
+            "FROM Requirement r WHERE r.requirementId = :requirementId")
+    Optional<RequirementStamp> findStampByRequirementId(@Param("requirementId") String requirementId);
+
+    @EntityGraph(Requirement.DETAIL_GRAPH)
+    @Query("SELECT r FROM Requirement r WHERE r.id = :id")
+    Optional<Requirement> findDetailById(@Param("id") Long id);
+
+    @EntityGraph(Requirement.DETAIL_GRAPH)
+    @Query("SELECT r FROM Requirement r WHERE r.requirementId = :requirementId")
+    Optional<Requirement> findDetailByRequirementId(@Param("requirementId") String requirementId);
+
+    @EntityGraph(Requirement.TRACEABILITY_GRAPH)
+    @Query("SELECT r FROM Requirement r WHERE r.requirementId = :requirementId")
+    Optional<Requirement> findTraceabilityByRequirementId(@Param("requirementId") String requirementId);
+
+    // Carga em lote para o mapeamento de respostas (dependências, resultados de busca)
+    @EntityGraph(Requirement.LIST_GRAPH)
+    @Query("SELECT r FROM Requirement r WHERE r.id IN :ids")
+    List<Requirement> findListByIdIn(@Param("ids") Collection<Long> ids);
+
     List<Requirement> findByStatus(RequirementStatus status);
 
     List<Requirement> findByType(RequirementType type);
 
     List<Requirement> findBySourceId(Long sourceId);
 
+    long countBySourceId(Long sourceId);
+
     List<Requirement> findByIsArchivedFalse();
 
-    @Query("SELECT r FROM Requirement r WHERE " +
-            "LOWER(r.description) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
-            "LOWER(r.rationale) LIKE LOWER(CONCAT('%', :keyword, '%'))")
-    List<Requirement> searchByKeyword(@Param("keyword") String keyword);
+    // Paginação por cursor (keyset): itens com id maior que o último da página anterior
+    @EntityGraph(Requirement.LIST_GRAPH)
+    List<Requirement> findByIsArchivedFalseAndIdGreaterThanOrderByIdAsc(Long afterId, Limit limit);
+
+    @EntityGraph(Requirement.LIST_GRAPH)
+    List<Requirement> findByStatusAndIdGreaterThanOrderByIdAsc(RequirementStatus status, Long afterId, Limit limit);
+
+    // Leitura em streaming para exportações; precisa ser consumida dentro de uma transação
+    @EntityGraph(Requirement.LIST_GRAPH)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("SELECT r FROM Requirement r WHERE r.isArchived = false AND r.id > :afterId ORDER BY r.id")
+    Stream<Requirement> streamActiveAfter(@Param("afterId") Long afterId);
+
+    @EntityGraph(Requirement.LIST_GRAPH)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("SELECT r FROM Requirement r WHERE r.status = :status AND r.id > :afterId ORDER BY r.id")
+    Stream<Requirement> streamByStatusAfter(@Param("status") RequirementStatus status, @Param("afterId") Long afterId);
+
+    String EXPORT_ROWS = "SELECT new com.openreqs.openreqs.repository.RequirementExportRow(r.id, r.requirementId, " +
+            "r.description, r.rationale, r.fitCriterion, r.type, r.status, r.priority, r.version, " +
+            "r.isArchived, s.id, s.name, r.createdAt, r.lastUpdated) " +
+            "FROM Requirement r LEFT JOIN r.source s ";
+
+    String EXPORT_DEPENDENCIES =
+            "SELECT new com.openreqs.openreqs.repository.DependencyExportRow(r.id, r.requirementId, d.id, d.requirementId) " +
+            "FROM Requirement r JOIN r.dependencies d ";
+
+    // Exportação: projeções lidas por cursor, em ordem de ID para permitir retomar de onde parou
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query(EXPORT_ROWS + "WHERE r.id > :afterId AND (:includeArchived = true OR r.isArchived = false) ORDER BY r.id")
+    Stream<RequirementExportRow> streamExportRows(@Param("afterId") Long afterId,
+                                                  @Param("includeArchived") boolean includeArchived);
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query(EXPORT_DEPENDENCIES + "WHERE r.id > :afterId AND (:includeArchived = true OR (r.isArchived = false AND d.isArchived = false)) " +
+            "ORDER BY r.id, d.id")
+    Stream<DependencyExportRow> streamExportDependencies(@Param("afterId") Long afterId,
+                                                         @Param("includeArchived") boolean includeArchived);
+
+    // Conteúdo de uma baseline
+    @Query(EXPORT_ROWS + "WHERE r.status = :status AND r.isArchived = false")
+    List<RequirementExportRow> findExportRowsByStatus(@Param("status") RequirementStatus status);
+
+    @Query(EXPORT_ROWS + "WHERE r.requirementId IN :requirementIds")
+    List<RequirementExportRow> findExportRowsByRequirementIdIn(@Param("requirementIds") Collection<String> requirementIds);
+
+    @Query(EXPORT_DEPENDENCIES + "WHERE r.id IN :ids")
+    List<DependencyExportRow> findExportDependenciesByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Query("SELECT new com.openreqs.openreqs.repository.DependencyEdge(r.id, d.id) " +
+            "FROM Requirement r JOIN r.dependencies d")
+    List<DependencyEdge> findAllDependencyEdges();
+
+    @Query("SELECT r.requirementId FROM Requirement r WHERE r.requirementId IN :requirementIds")
+    List<String> findExistingRequirementIds(@Param("requirementIds") Collection<String> requirementIds);
+
+    @Query("SELECT r.id FROM Requirement r WHERE r.requirementId = :requirementId")
+    Optional<Long> findIdByRequirementId(@Param("requirementId") String requirementId);
+
+    @Query("SELECT new com.openreqs.openreqs.repository.RequirementKey(r.id, r.requirementId) " +
+            "FROM Requirement r WHERE r.id IN :ids")
+    List<RequirementKey> findKeysByIdIn(@Param("ids") Collection<Long> ids);
+
+    // Base da reconciliação dos contadores: uma linha por combinação existente
+    @Query("SELECT new com.openreqs.openreqs.repository.RequirementCount(" +
+            "r.status, r.type, r.priority, r.source.id, COUNT(r)) " +
+            "FROM Requirement r WHERE r.isArchived = false " +
+            "GROUP BY r.status, r.type, r.priority, r.source.id")
+    List<RequirementCount> countActiveByAttributes();
+
+    long countByIsArchivedTrue();
 
     @Query("SELECT r FROM Requirement r WHERE r.version = :version")
     List<Requirement> findByVersion(@Param("version") String version);
@@ -0,0 +1,9 @@
+package com.openreqs.openreqs.repository;
+
+import java.time.LocalDateTime;
+
+/**
+ * Campos que identificam o estado de um requisito, para ETags sem carregar a entidade
+ */
+public record RequirementStamp(Long id, String version, LocalDateTime lastUpdated) {
+}
@@ -0,0 +1,27 @@
+package com.openreqs.openreqs.repository;
+
+import com.openreqs.openreqs.domain.entity.RequirementVersion;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface RequirementVersionRepository extends JpaRepository<RequirementVersion, Long> {
+
+    Optional<RequirementVersion> findTopByRequirementIdOrderBySequenceDesc(String requirementId);
+
+    Optional<RequirementVersion> findByRequirementIdAndVersion(String requirementId, String version);
+
+    // Versão vigente numa data: a primeira que terminou depois dela
+    Optional<RequirementVersion> findFirstByRequirementIdAndValidToGreaterThanOrderByValidToAsc(
+            String requirementId, LocalDateTime date);
+
+    // Cadeia de deltas desde a última versão completa
+    List<RequirementVersion> findByRequirementIdAndSequenceBetweenOrderBySequenceAsc(
+            String requirementId, Integer from, Integer to);
+
+    List<RequirementVersion> findByRequirementIdOrderBySequenceAsc(String requirementId);
+}
@@ -0,0 +1,23 @@
+package com.openreqs.openreqs.repository;
+
+import com.openreqs.openreqs.domain.entity.RuleDictionaryEntry;
+import com.openreqs.openreqs.domain.enums.DictionaryCategory;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface RuleDictionaryEntryRepository extends JpaRepository<RuleDictionaryEntry, Long> {
+
+    List<RuleDictionaryEntry> findByProjectAndLanguageOrderByCategoryAscTermAsc(String project, String language);
+
+    @Modifying
+    @Query("DELETE FROM RuleDictionaryEntry e WHERE e.project = :project AND e.language = :language " +
+            "AND e.category = :category")
+    int deleteCategory(@Param("project") String project, @Param("language") String language,
+                       @Param("category") DictionaryCategory category);
+}
@@ -0,0 +1,178 @@
+package com.openreqs.openreqs.service;
+
+import com.openreqs.openreqs.domain.enums.RequirementStatus;
+import com.openreqs.openreqs.dto.BaselineRequest;
+import com.openreqs.openreqs.dto.BaselineRequirement;
+import com.openreqs.openreqs.dto.BaselineSummary;
+import com.openreqs.openreqs.repository.DependencyExportRow;
+import com.openreqs.openreqs.repository.RequirementExportRow;
+import com.openreqs.openreqs.repository.RequirementRepository;
+import com.openreqs.openreqs.service.baseline.BaselineSnapshot;
+import com.openreqs.openreqs.service.baseline.BaselineStore;
+import com.openreqs.openreqs.service.search.RequirementSearchIndex;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * IREB Syllabus - Unidade 6: Gerenciamento de Requisitos (baselines)
+ * Congela um conjunto de requisitos e suas dependências num arquivo imutável.
+ *
+ * Só o congelamento lê o banco; listar, ler e buscar numa baseline usam apenas o
+ * arquivo mapeado, então o resultado não muda com alterações posteriores.
+ */
+@Service
+@RequiredArgsConstructor
+public class BaselineService {
+
+    // Limite de parâmetros por consulta IN
+    private static final int LOOKUP_BATCH_SIZE = 1000;
+
+    private final RequirementRepository requirementRepository;
+    private final BaselineStore baselineStore;
+    private final RequirementSearchIndex searchIndex;
+
+    @Value("${openreqs.pagination.default-size:100}")
+    private int defaultPageSize;
+
+    @Value("${openreqs.pagination.max-size:1000}")
+    private int maxPageSize;
+
+    @Transactional(readOnly = true)
+    public BaselineSummary createBaseline(BaselineRequest request) {
+        List<RequirementExportRow> requirements = selectRequirements(request);
+
+        List<Long> ids = requirements.stream().map(RequirementExportRow::id).toList();
+        List<DependencyExportRow> dependencies = new ArrayList<>();
+        for (int from = 0; from < ids.size(); from += LOOKUP_BATCH_SIZE) {
+            dependencies.addAll(requirementRepository.findExportDependenciesByIdIn(
+                    ids.subList(from, Math.min(from + LOOKUP_BATCH_SIZE, ids.size()))));
+        }
+
+        BaselineSnapshot snapshot = baselineStore.create(request.getName(), request.getDescription(),
+                System.currentTimeMillis(), requirements, dependencies);
+        return toSummary(snapshot);
+    }
+
+    public List<BaselineSummary> getBaselines() {
+        return baselineStore.list().stream()
+                .map(BaselineService::toSummary)
+                .toList();
+    }
+
+    public BaselineSummary getBaseline(String name) {
+        return toSummary(findBaseline(name));
+    }
+
+    /**
+     * Requisitos da baseline em ordem de requirementId, paginados por posição
+     */
+    public List<BaselineRequirement> getBaselineRequirements(String name, Integer offset, Integer size) {
+        BaselineSnapshot snapshot = findBaseline(name);
+        int from = offset != null && offset > 0 ? Math.min(offset, snapshot.size()) : 0;
+        int to = (int) Math.min((long) from + pageSize(size), snapshot.size());
+        List<BaselineRequirement> requirements = new ArrayList<>(to - from);
+        for (int row = from; row < to; row++) {
+            requirements.add(toRequirement(snapshot, row));
+        }
+        return requirements;
+    }
+
+    public BaselineRequirement getBaselineRequirement(String name, String requirementId) {
+        BaselineSnapshot snapshot = findBaseline(name);
+        int row = snapshot.rowOf(requirementId);
+        if (row < 0) {
+            throw new RuntimeException("Requisito não encontrado na baseline " + name + ": " + requirementId);
+        }
+        return toRequirement(snapshot, row);
+    }
+
+    /**
+     * Requisitos com todos os termos da consulta em algum dos textos, com a mesma análise
+     * (acentos, stopwords e radicais) da busca nos requisitos vigentes
+     */
+    public List<BaselineRequirement> searchBaseline(String name, String keyword, Integer size) {
+        BaselineSnapshot snapshot = findBaseline(name);
+        Set<String> terms = searchIndex.queryTerms(keyword);
+        if (terms.isEmpty()) {
+            return List.of();
+        }
+        List<Integer> rows = snapshot.rowsWithText(text -> searchIndex.queryTerms(text).containsAll(terms));
+        return rows.stream()
+                .limit(pageSize(size))
+                .map(row -> toRequirement(snapshot, row))
+                .toList();
+    }
+
+    private List<RequirementExportRow> selectRequirements(BaselineRequest request) {
+        if (request.getRequirementIds() == null || request.getRequirementIds().isEmpty()) {
+            RequirementStatus status = request.getStatus() != null ? request.getStatus() : RequirementStatus.APPROVED;
+            return requirementRepository.findExportRowsByStatus(status);
+        }
+
+        List<String> requested = new ArrayList<>(new LinkedHashSet<>(request.getRequirementIds()));
+        List<RequirementExportRow> requirements = new ArrayList<>(requested.size());
+        for (int from = 0; from < requested.size(); from += LOOKUP_BATCH_SIZE) {
+            requirements.addAll(requirementRepository.findExportRowsByRequirementIdIn(
+                    requested.subList(from, Math.min(from + LOOKUP_BATCH_SIZE, requested.size()))));
+        }
+        if (requirements.size() < requested.size()) {
+            Set<String> found = new HashSet<>();
+            requirements.forEach(requirement -> found.add(requirement.requirementId()));
+            String missing = requested.stream()
+                    .filter(requirementId -> !found.contains(requirementId))
+                    .findFirst()
+                    .orElseThrow();
+            throw new RuntimeException("Requisito não encontrado: " + missing);
+        }
+        return requirements;
+    }
+
+    private BaselineSnapshot findBaseline(String name) {
+        return baselineStore.find(name)
+                .orElseThrow(() -> new RuntimeException("Baseline não encontrada: " + name));
+    }
+
+    private int pageSize(Integer requested) {
+        if (requested == null || requested <= 0) {
+            return defaultPageSize;
+        }
+        return Math.min(requested, maxPageSize);
+    }
+
+    private static BaselineSummary toSummary(BaselineSnapshot snapshot) {
+        return BaselineSummary.builder()
+                .name(snapshot.name())
+                .description(snapshot.description())
+                .createdAt(snapshot.createdAt())
+                .requirementCount(snapshot.size())
+                .dependencyCount(snapshot.edgeCount())
+                .sizeInBytes(snapshot.sizeInBytes())
+                .build();
+    }
+
+    private static BaselineRequirement toRequirement(BaselineSnapshot snapshot, int row) {
+        return BaselineRequirement.builder()
+                .id(snapshot.id(row))
+                .requirementId(snapshot.requirementId(row))
+                .description(snapshot.description(row))
+                .rationale(snapshot.rationale(row))
+                .fitCriterion(snapshot.fitCriterion(row))
+                .type(snapshot.type(row))
+                .status(snapshot.status(row))
+                .priority(snapshot.priority(row))
+                .version(snapshot.version(row))
+                .sourceId(snapshot.sourceId(row))
+                .sourceName(snapshot.sourceName(row))
+                .lastUpdated(snapshot.lastUpdated(row))
+                .dependencies(snapshot.dependencies(row))
+                .build();
+    }
+}
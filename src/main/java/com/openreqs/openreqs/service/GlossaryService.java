@@ -3,10 +3,17 @@ package com.openreqs.openreqs.service;
 import com.openreqs.openreqs.domain.entity.ProjectGlossary;
 import com.openreqs.openreqs.dto.GlossaryRequest;
 import com.openreqs.openreqs.dto.GlossaryResponse;
+import com.openreqs.openreqs.dto.GlossarySuggestion;
 import com.openreqs.openreqs.repository.ProjectGlossaryRepository;
+import com.openreqs.openreqs.service.cache.CacheNames;
+import com.openreqs.openreqs.service.cache.LookupCache;
+import com.openreqs.openreqs.service.glossary.GlossaryIndex;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.util.List;
 import java.util.stream.Collectors;
@@ -16,6 +23,11 @@ import java.util.stream.Collectors;
 public class GlossaryService {
 
     private final ProjectGlossaryRepository glossaryRepository;
+    private final GlossaryIndex glossaryIndex;
+    private final LookupCache lookupCache;
+
+    @Value("${openreqs.glossary.autocomplete-max-size:50}")
+    private int autocompleteMaxSize;
 
     @Transactional
     public GlossaryResponse createTerm(GlossaryRequest request) {
@@ -33,6 +45,8 @@ public class GlossaryService {
                 .build();
 
         ProjectGlossary saved = glossaryRepository.save(term);
+        lookupCache.evict(CacheNames.GLOSSARY, saved.getTerm());
+        afterCommit(() -> glossaryIndex.put(saved));
         return convertToResponse(saved);
     }
 
@@ -53,15 +67,18 @@ public class GlossaryService {
 
     @Transactional(readOnly = true)
     public GlossaryResponse getTermByName(String termName) {
-        ProjectGlossary term = glossaryRepository.findByTerm(termName)
+        return lookupCache.<GlossaryResponse>get(CacheNames.GLOSSARY, termName,
+                        () -> glossaryRepository.findByTerm(termName).map(this::convertToResponse))
                 .orElseThrow(() -> new RuntimeException("Termo não encontrado: " + termName));
-        return convertToResponse(term);
     }
 
     @Transactional
     public GlossaryResponse updateTerm(Long id, GlossaryRequest request) {
         ProjectGlossary term = glossaryRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("Termo não encontrado"));
+        // O nome antigo e o novo deixam de valer no cache
+        lookupCache.evict(CacheNames.GLOSSARY, term.getTerm());
+        lookupCache.evict(CacheNames.GLOSSARY, request.getTerm());
 
         term.setTerm(request.getTerm());
         term.setDefinition(request.getDefinition());
@@ -70,26 +87,54 @@ public class GlossaryService {
         term.setBusinessDomain(request.getBusinessDomain());
 
         ProjectGlossary updated = glossaryRepository.save(term);
+        afterCommit(() -> glossaryIndex.put(updated));
         return convertToResponse(updated);
     }
 
     @Transactional
     public void deleteTerm(Long id) {
-        if (!glossaryRepository.existsById(id)) {
-            throw new RuntimeException("Termo não encontrado");
-        }
-        glossaryRepository.deleteById(id);
+        ProjectGlossary term = glossaryRepository.findById(id)
+                .orElseThrow(() -> new RuntimeException("Termo não encontrado"));
+        glossaryRepository.delete(term);
+        lookupCache.evict(CacheNames.GLOSSARY, term.getTerm());
+        afterCommit(() -> glossaryIndex.remove(id));
     }
 
-    @Transactional(readOnly = true)
+    /**
+     * Busca no índice em memória por termo, sigla ou definição, sem acentos nem diferença
+     * de maiúsculas; termos que casam pelo nome vêm antes dos que casam só pela definição
+     */
     public List<GlossaryResponse> searchTerms(String keyword) {
-        return glossaryRepository.findAll().stream()
-                .filter(term -> term.getTerm().toLowerCase().contains(keyword.toLowerCase()) ||
-                        term.getDefinition().toLowerCase().contains(keyword.toLowerCase()))
+        return glossaryIndex.search(keyword).stream()
                 .map(this::convertToResponse)
                 .collect(Collectors.toList());
     }
 
+    /**
+     * Sugestões para autocompletar: termos cujo nome ou sigla começa com o prefixo
+     */
+    public List<GlossarySuggestion> autocomplete(String prefix, int limit) {
+        return glossaryIndex.autocomplete(prefix, Math.min(limit, autocompleteMaxSize)).stream()
+                .map(term -> GlossarySuggestion.builder()
+                        .id(term.getId())
+                        .term(term.getTerm())
+                        .acronym(term.getAcronym())
+                        .build())
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * O índice só reflete alterações confirmadas; um rollback não deixa rastro nele
+     */
+    private void afterCommit(Runnable action) {
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
     private GlossaryResponse convertToResponse(ProjectGlossary term) {
         return GlossaryResponse.builder()
                 .id(term.getId())
@@ -0,0 +1,137 @@
+package com.openreqs.openreqs.service;
+
+import com.openreqs.openreqs.domain.entity.RuleDictionaryEntry;
+import com.openreqs.openreqs.domain.enums.DictionaryCategory;
+import com.openreqs.openreqs.dto.DictionaryCompilation;
+import com.openreqs.openreqs.dto.DictionaryResponse;
+import com.openreqs.openreqs.repository.RuleDictionaryEntryRepository;
+import com.openreqs.openreqs.service.quality.AmbiguityDictionary;
+import com.openreqs.openreqs.service.quality.AmbiguityDictionaryRegistry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * IREB Syllabus - Unidade 5.4: Documentação em Linguagem Natural
+ * Manutenção dos dicionários das regras de qualidade. As alterações são gravadas
+ * e passam a valer nas validações na próxima recompilação.
+ */
+@Service
+@RequiredArgsConstructor
+public class QualityDictionaryService {
+
+    private static final Pattern NAME = Pattern.compile("[A-Za-z0-9][A-Za-z0-9._-]{0,15}");
+    private static final Pattern PROJECT = Pattern.compile("[A-Za-z0-9][A-Za-z0-9._-]{0,63}");
+    private static final int MAX_TERM_LENGTH = 100;
+
+    private final RuleDictionaryEntryRepository dictionaryRepository;
+    private final AmbiguityDictionaryRegistry dictionaryRegistry;
+
+    /**
+     * Todas as categorias do dicionário; as que não têm palavras cadastradas mostram a lista embutida
+     */
+    @Transactional(readOnly = true)
+    public List<DictionaryResponse> getDictionary(String project, String language) {
+        validateKey(project, language);
+        Map<DictionaryCategory, List<String>> custom = new EnumMap<>(DictionaryCategory.class);
+        for (RuleDictionaryEntry entry : dictionaryRepository.findByProjectAndLanguageOrderByCategoryAscTermAsc(
+                project, language)) {
+            custom.computeIfAbsent(entry.getCategory(), category -> new ArrayList<>()).add(entry.getTerm());
+        }
+
+        List<DictionaryResponse> categories = new ArrayList<>();
+        for (DictionaryCategory category : DictionaryCategory.values()) {
+            List<String> terms = custom.get(category);
+            categories.add(DictionaryResponse.builder()
+                    .project(project)
+                    .language(language)
+                    .category(category)
+                    .custom(terms != null)
+                    .terms(terms != null ? terms : AmbiguityDictionary.BUILT_IN.get(category))
+                    .build());
+        }
+        return categories;
+    }
+
+    /**
+     * Substitui as palavras da categoria. Repetições (sem diferença de maiúsculas) contam uma vez
+     */
+    @Transactional
+    public DictionaryResponse replaceTerms(String project, String language, DictionaryCategory category,
+                                           List<String> terms) {
+        validateKey(project, language);
+        Set<String> distinct = new LinkedHashSet<>();
+        Set<String> seen = new LinkedHashSet<>();
+        for (String term : terms) {
+            String stripped = term == null ? "" : term.strip();
+            if (stripped.isEmpty()) {
+                throw new IllegalArgumentException("Palavra vazia na categoria " + category);
+            }
+            if (stripped.length() > MAX_TERM_LENGTH) {
+                throw new IllegalArgumentException("Palavra com mais de " + MAX_TERM_LENGTH + " caracteres: " + stripped);
+            }
+            if (seen.add(stripped.toLowerCase())) {
+                distinct.add(stripped);
+            }
+        }
+        if (distinct.isEmpty()) {
+            throw new IllegalArgumentException("Informe ao menos uma palavra; para voltar à lista embutida, remova a categoria");
+        }
+
+        dictionaryRepository.deleteCategory(project, language, category);
+        dictionaryRepository.flush();
+        List<RuleDictionaryEntry> entries = distinct.stream()
+                .map(term -> RuleDictionaryEntry.builder()
+                        .project(project)
+                        .language(language)
+                        .category(category)
+                        .term(term)
+                        .build())
+                .toList();
+        dictionaryRepository.saveAll(entries);
+
+        return DictionaryResponse.builder()
+                .project(project)
+                .language(language)
+                .category(category)
+                .custom(true)
+                .terms(new ArrayList<>(distinct))
+                .build();
+    }
+
+    /**
+     * Remove as palavras cadastradas da categoria, que volta a usar a lista embutida
+     */
+    @Transactional
+    public void deleteTerms(String project, String language, DictionaryCategory category) {
+        validateKey(project, language);
+        if (dictionaryRepository.deleteCategory(project, language, category) == 0) {
+            throw new RuntimeException("Categoria sem palavras cadastradas: " + category);
+        }
+    }
+
+    public List<DictionaryCompilation> getCompilations() {
+        return dictionaryRegistry.compilations();
+    }
+
+    public List<DictionaryCompilation> recompile() {
+        return dictionaryRegistry.recompile();
+    }
+
+    private static void validateKey(String project, String language) {
+        if (project == null || !PROJECT.matcher(project).matches()) {
+            throw new IllegalArgumentException("Projeto inválido: use letras, números, '.', '_' ou '-' (até 64)");
+        }
+        if (language == null || !NAME.matcher(language).matches()) {
+            throw new IllegalArgumentException("Idioma inválido: use letras, números, '.', '_' ou '-' (até 16)");
+        }
+    }
+}
@@ -0,0 +1,195 @@
+package com.openreqs.openreqs.service;
+
+import com.openreqs.openreqs.dto.GlossaryLink;
+import com.openreqs.openreqs.dto.QualityFinding;
+import com.openreqs.openreqs.dto.QualityReport;
+import com.openreqs.openreqs.dto.RequirementRequest;
+import com.openreqs.openreqs.exception.RequirementViolationException;
+import com.openreqs.openreqs.service.quality.QualityRule;
+import com.openreqs.openreqs.service.quality.RuleResult;
+import com.openreqs.openreqs.service.quality.text.AnalyzedRequirement;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * IREB Syllabus - Unidade 5: Padrões de Qualidade
+ * Executa todas as regras registradas sobre uma única forma tokenizada do requisito.
+ * Só as violações invalidam o requisito; avisos e termos do glossário vão para o relatório.
+ *
+ * Métricas: openreqs.quality.rule (tempo de cada regra, por regra e pela violação
+ * principal encontrada, ou NONE), openreqs.quality.violations (ocorrências por regra e
+ * código) e openreqs.quality.analysis (análise completa, por resultado). Os medidores são
+ * registrados uma vez por regra e por código de violação, fora do caminho de cada análise.
+ *
+ * Com openreqs.quality.concurrent-rules as regras de cada requisito rodam em paralelo no
+ * applicationTaskExecutor do Spring, que usa threads virtuais quando
+ * spring.threads.virtual.enabled está ativo (Java 21+) e um pool de threads caso contrário.
+ */
+@Service
+public class QualityService {
+
+    private static final String NO_VIOLATION = "NONE";
+
+    private final List<InstrumentedRule> qualityRules;
+    private final List<String> ruleNames;
+    private final MeterRegistry meterRegistry;
+    private final Timer validAnalysis;
+    private final Timer invalidAnalysis;
+    private final Executor ruleExecutor;
+    private final boolean concurrentRules;
+
+    public QualityService(List<QualityRule> qualityRules,
+                          MeterRegistry meterRegistry,
+                          @Qualifier("applicationTaskExecutor") Executor ruleExecutor,
+                          @Value("${openreqs.quality.concurrent-rules:false}") boolean concurrentRules) {
+        this.meterRegistry = meterRegistry;
+        this.qualityRules = qualityRules.stream().map(InstrumentedRule::new).toList();
+        this.ruleNames = qualityRules.stream().map(QualityRule::getRuleName).toList();
+        this.validAnalysis = analysisTimer(true);
+        this.invalidAnalysis = analysisTimer(false);
+        this.ruleExecutor = ruleExecutor;
+        this.concurrentRules = concurrentRules && qualityRules.size() > 1;
+    }
+
+    public QualityReport analyze(RequirementRequest request) {
+        return analyze(request, concurrentRules);
+    }
+
+    /**
+     * Análise com as regras em sequência na thread atual, para quem já paraleliza por item
+     * (validação em lote)
+     */
+    public QualityReport analyzeInline(RequirementRequest request) {
+        return analyze(request, false);
+    }
+
+    private QualityReport analyze(RequirementRequest request, boolean concurrent) {
+        long start = System.nanoTime();
+        AnalyzedRequirement analyzed = AnalyzedRequirement.of(request);
+
+        List<RuleResult> results;
+        if (concurrent) {
+            List<CompletableFuture<RuleResult>> pending = qualityRules.stream()
+                    .map(rule -> CompletableFuture.supplyAsync(() -> rule.evaluate(analyzed), ruleExecutor))
+                    .toList();
+            // Junta na ordem de registro das regras, como na execução em sequência
+            results = pending.stream().map(QualityService::join).toList();
+        } else {
+            results = qualityRules.stream().map(rule -> rule.evaluate(analyzed)).toList();
+        }
+
+        List<QualityFinding> findings = new ArrayList<>();
+        List<QualityFinding> warnings = new ArrayList<>();
+        List<GlossaryLink> glossaryTerms = new ArrayList<>();
+        for (RuleResult result : results) {
+            findings.addAll(result.findings());
+            warnings.addAll(result.warnings());
+            glossaryTerms.addAll(result.glossaryTerms());
+        }
+
+        (findings.isEmpty() ? validAnalysis : invalidAnalysis).record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+
+        return QualityReport.builder()
+                .requirementId(request.getRequirementId())
+                .valid(findings.isEmpty())
+                .violationCount(findings.size())
+                .rulesApplied(ruleNames)
+                .findings(findings)
+                .warnings(warnings)
+                .glossaryTerms(glossaryTerms)
+                .build();
+    }
+
+    private static RuleResult join(CompletableFuture<RuleResult> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private Timer analysisTimer(boolean valid) {
+        return Timer.builder("openreqs.quality.analysis")
+                .description("Tempo da análise de qualidade completa de um requisito")
+                .tag("valid", String.valueOf(valid))
+                .register(meterRegistry);
+    }
+
+    /**
+     * Regra com seus medidores: um Timer por violação principal e um Counter por código
+     * (violações e avisos), registrados na primeira ocorrência e reaproveitados daí em diante
+     */
+    private final class InstrumentedRule {
+
+        private final QualityRule rule;
+        private final Timer passed;
+        private final Map<String, Timer> timers = new ConcurrentHashMap<>();
+        private final Map<String, Counter> violations = new ConcurrentHashMap<>();
+
+        InstrumentedRule(QualityRule rule) {
+            this.rule = rule;
+            this.passed = timer(NO_VIOLATION);
+        }
+
+        RuleResult evaluate(AnalyzedRequirement analyzed) {
+            long start = System.nanoTime();
+            RuleResult result = rule.evaluate(analyzed);
+            long nanos = System.nanoTime() - start;
+
+            List<QualityFinding> findings = result.findings();
+            Timer timer = findings.isEmpty() ? passed
+                    : timers.computeIfAbsent(violationCode(findings.get(0)), this::timer);
+            timer.record(nanos, TimeUnit.NANOSECONDS);
+            for (QualityFinding finding : findings) {
+                violations.computeIfAbsent(violationCode(finding), this::counter).increment();
+            }
+            for (QualityFinding warning : result.warnings()) {
+                violations.computeIfAbsent(violationCode(warning), this::counter).increment();
+            }
+            return result;
+        }
+
+        private Timer timer(String violation) {
+            return Timer.builder("openreqs.quality.rule")
+                    .description("Tempo de execução de uma regra de qualidade")
+                    .tag("rule", rule.getRuleName())
+                    .tag("violation", violation)
+                    .register(meterRegistry);
+        }
+
+        private Counter counter(String violation) {
+            return meterRegistry.counter("openreqs.quality.violations",
+                    "rule", rule.getRuleName(), "violation", violation);
+        }
+    }
+
+    private static String violationCode(QualityFinding finding) {
+        return finding.getViolationType() != null ? finding.getViolationType() : "UNKNOWN";
+    }
+
+    /**
+     * Lança uma única exceção com todas as violações encontradas
+     */
+    public void enforce(RequirementRequest request) {
+        QualityReport report = analyze(request);
+        if (!report.getValid()) {
+            throw new RequirementViolationException(report.getFindings());
+        }
+    }
+}
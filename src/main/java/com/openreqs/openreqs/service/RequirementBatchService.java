@@ -0,0 +1,273 @@
+package com.openreqs.openreqs.service;
+
+import com.openreqs.openreqs.domain.entity.Requirement;
+import com.openreqs.openreqs.domain.entity.Stakeholder;
+import com.openreqs.openreqs.domain.enums.ChangeType;
+import com.openreqs.openreqs.domain.enums.RequirementStatus;
+import com.openreqs.openreqs.dto.BatchItemResult;
+import com.openreqs.openreqs.dto.BatchResult;
+import com.openreqs.openreqs.dto.QualityReport;
+import com.openreqs.openreqs.dto.RequirementRequest;
+import com.openreqs.openreqs.repository.RequirementRepository;
+import com.openreqs.openreqs.repository.StakeholderRepository;
+import com.openreqs.openreqs.service.cache.ChangeWatermark;
+import com.openreqs.openreqs.service.duplicate.NearDuplicateIndex;
+import com.openreqs.openreqs.service.feed.ChangeFeed;
+import com.openreqs.openreqs.service.search.RequirementSearchIndex;
+import com.openreqs.openreqs.service.stats.RequirementStatistics;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Criação de requisitos em lote.
+ *
+ * Todos os itens são validados antes de qualquer gravação: regras de qualidade em paralelo,
+ * unicidade dos identificadores e stakeholders resolvidos com uma consulta IN cada.
+ * Os itens válidos são gravados em blocos, um por transação, com inserções agrupadas
+ * em lotes JDBC. Se um bloco falhar, seus itens são regravados um a um para isolar o culpado.
+ */
+@Service
+public class RequirementBatchService {
+
+    // Limite de parâmetros por consulta IN
+    private static final int LOOKUP_BATCH_SIZE = 1000;
+
+    private final RequirementRepository requirementRepository;
+    private final StakeholderRepository stakeholderRepository;
+    private final RequirementLintService lintService;
+    private final RequirementSearchIndex searchIndex;
+    private final NearDuplicateIndex duplicateIndex;
+    private final RequirementStatistics statistics;
+    private final ChangeWatermark changeWatermark;
+    private final ChangeFeed changeFeed;
+    private final TransactionTemplate transactionTemplate;
+    private final EntityManager entityManager;
+    private final Validator validator;
+    private final int chunkSize;
+    private final int maxItems;
+
+    public RequirementBatchService(RequirementRepository requirementRepository,
+                                   StakeholderRepository stakeholderRepository,
+                                   RequirementLintService lintService,
+                                   RequirementSearchIndex searchIndex,
+                                   NearDuplicateIndex duplicateIndex,
+                                   RequirementStatistics statistics,
+                                   ChangeWatermark changeWatermark,
+                                   ChangeFeed changeFeed,
+                                   TransactionTemplate transactionTemplate,
+                                   EntityManager entityManager,
+                                   Validator validator,
+                                   @Value("${openreqs.batch.chunk-size:500}") int chunkSize,
+                                   @Value("${openreqs.batch.max-items:10000}") int maxItems) {
+        this.requirementRepository = requirementRepository;
+        this.stakeholderRepository = stakeholderRepository;
+        this.lintService = lintService;
+        this.searchIndex = searchIndex;
+        this.duplicateIndex = duplicateIndex;
+        this.statistics = statistics;
+        this.changeWatermark = changeWatermark;
+        this.changeFeed = changeFeed;
+        this.transactionTemplate = transactionTemplate;
+        this.entityManager = entityManager;
+        this.validator = validator;
+        this.chunkSize = Math.max(1, chunkSize);
+        this.maxItems = maxItems;
+    }
+
+    public BatchResult createRequirements(List<RequirementRequest> requests) {
+        if (requests.size() > maxItems) {
+            throw new IllegalArgumentException(
+                    "O lote tem " + requests.size() + " itens; o máximo é " + maxItems);
+        }
+
+        BatchItemResult[] results = new BatchItemResult[requests.size()];
+        List<Integer> accepted = validate(requests, results);
+
+        for (int from = 0; from < accepted.size(); from += chunkSize) {
+            List<Integer> chunk = accepted.subList(from, Math.min(from + chunkSize, accepted.size()));
+            insertChunk(chunk, requests, results);
+        }
+
+        int created = (int) Arrays.stream(results)
+                .filter(result -> result.getStatus() == BatchItemResult.Status.CREATED)
+                .count();
+        return BatchResult.builder()
+                .total(results.length)
+                .created(created)
+                .notCreated(results.length - created)
+                .items(Arrays.asList(results))
+                .build();
+    }
+
+    /**
+     * Preenche o resultado dos itens rejeitados e retorna as posições dos aceitos
+     */
+    private List<Integer> validate(List<RequirementRequest> requests, BatchItemResult[] results) {
+        List<QualityReport> reports = lintService.analyzeAll(requests);
+        Set<String> existingIds = existingRequirementIds(requests);
+        Set<Long> stakeholderIds = existingStakeholderIds(requests);
+        Set<String> seenInBatch = new HashSet<>();
+
+        List<Integer> accepted = new ArrayList<>();
+        for (int i = 0; i < requests.size(); i++) {
+            RequirementRequest request = requests.get(i);
+            if (request == null) {
+                results[i] = rejected(i, null, "Item vazio");
+                continue;
+            }
+
+            String requirementId = request.getRequirementId();
+            Set<ConstraintViolation<RequirementRequest>> violations = validator.validate(request);
+            if (!violations.isEmpty()) {
+                results[i] = rejected(i, requirementId, violations.stream()
+                        .map(ConstraintViolation::getMessage)
+                        .sorted()
+                        .collect(Collectors.joining("; ")));
+            } else if (!reports.get(i).getValid()) {
+                results[i] = rejected(i, requirementId, "Requisito viola regras de qualidade");
+                results[i].setFindings(reports.get(i).getFindings());
+            } else if (existingIds.contains(requirementId)) {
+                results[i] = rejected(i, requirementId, "Requisito já existe: " + requirementId);
+            } else if (!seenInBatch.add(requirementId)) {
+                results[i] = rejected(i, requirementId, "Requisito repetido no lote: " + requirementId);
+            } else if (request.getSourceId() == null || !stakeholderIds.contains(request.getSourceId())) {
+                results[i] = rejected(i, requirementId, "Stakeholder não encontrado");
+            } else {
+                accepted.add(i);
+            }
+        }
+        return accepted;
+    }
+
+    private void insertChunk(List<Integer> chunk, List<RequirementRequest> requests, BatchItemResult[] results) {
+        try {
+            List<Requirement> saved = transactionTemplate.execute(status -> insert(chunk, requests));
+            for (int i = 0; i < chunk.size(); i++) {
+                results[chunk.get(i)] = created(chunk.get(i), saved.get(i));
+            }
+        } catch (RuntimeException chunkFailure) {
+            // O bloco foi desfeito inteiro; regrava item a item para isolar o que falhou
+            for (Integer index : chunk) {
+                try {
+                    List<Requirement> saved = transactionTemplate.execute(status -> insert(List.of(index), requests));
+                    results[index] = created(index, saved.get(0));
+                } catch (RuntimeException itemFailure) {
+                    results[index] = BatchItemResult.builder()
+                            .index(index)
+                            .requirementId(requests.get(index).getRequirementId())
+                            .status(BatchItemResult.Status.FAILED)
+                            .error(rootMessage(itemFailure))
+                            .build();
+                }
+            }
+        }
+    }
+
+    private List<Requirement> insert(List<Integer> indexes, List<RequirementRequest> requests) {
+        List<Requirement> requirements = new ArrayList<>(indexes.size());
+        for (Integer index : indexes) {
+            requirements.add(toEntity(requests.get(index)));
+        }
+        requirementRepository.saveAll(requirements);
+        requirements.forEach(requirement -> {
+            changeFeed.record(ChangeType.CREATED, requirement);
+            statistics.recordAfterCommit(null, requirement);
+        });
+        // Envia os INSERTs agrupados e libera o contexto para o próximo bloco
+        entityManager.flush();
+        entityManager.clear();
+        return requirements;
+    }
+
+    private Requirement toEntity(RequirementRequest request) {
+        Requirement requirement = Requirement.builder()
+                .requirementId(request.getRequirementId())
+                .description(request.getDescription())
+                .rationale(request.getRationale())
+                .fitCriterion(request.getFitCriterion())
+                .status(RequirementStatus.DRAFT)
+                // Referência sem SELECT: a existência já foi verificada
+                .source(entityManager.getReference(Stakeholder.class, request.getSourceId()))
+                .build();
+        if (request.getType() != null) {
+            requirement.setType(request.getType());
+        }
+        if (request.getPriority() != null) {
+            requirement.setPriority(request.getPriority());
+        }
+        return requirement;
+    }
+
+    private BatchItemResult created(int index, Requirement requirement) {
+        // O bloco já foi confirmado, então os índices podem ser atualizados
+        searchIndex.index(requirement.getId(), requirement.getDescription(),
+                requirement.getRationale(), requirement.getFitCriterion());
+        duplicateIndex.index(requirement.getId(), requirement.getRequirementId(), requirement.getDescription());
+        changeWatermark.advanceAfterCommit();
+        return BatchItemResult.builder()
+                .index(index)
+                .requirementId(requirement.getRequirementId())
+                .status(BatchItemResult.Status.CREATED)
+                .id(requirement.getId())
+                .build();
+    }
+
+    private static BatchItemResult rejected(int index, String requirementId, String error) {
+        return BatchItemResult.builder()
+                .index(index)
+                .requirementId(requirementId)
+                .status(BatchItemResult.Status.REJECTED)
+                .error(error)
+                .build();
+    }
+
+    private Set<String> existingRequirementIds(List<RequirementRequest> requests) {
+        List<String> ids = requests.stream()
+                .filter(Objects::nonNull)
+                .map(RequirementRequest::getRequirementId)
+                .filter(Objects::nonNull)
+                .distinct()
+                .toList();
+        Set<String> existing = new HashSet<>();
+        for (int from = 0; from < ids.size(); from += LOOKUP_BATCH_SIZE) {
+            existing.addAll(requirementRepository.findExistingRequirementIds(
+                    ids.subList(from, Math.min(from + LOOKUP_BATCH_SIZE, ids.size()))));
+        }
+        return existing;
+    }
+
+    private Set<Long> existingStakeholderIds(List<RequirementRequest> requests) {
+        List<Long> ids = requests.stream()
+                .filter(Objects::nonNull)
+                .map(RequirementRequest::getSourceId)
+                .filter(Objects::nonNull)
+                .distinct()
+                .toList();
+        Set<Long> existing = new HashSet<>();
+        for (int from = 0; from < ids.size(); from += LOOKUP_BATCH_SIZE) {
+            stakeholderRepository.findAllById(ids.subList(from, Math.min(from + LOOKUP_BATCH_SIZE, ids.size())))
+                    .forEach(stakeholder -> existing.add(stakeholder.getId()));
+        }
+        return existing;
+    }
+
+    private static String rootMessage(Throwable error) {
+        Throwable root = error;
+        while (root.getCause() != null && root.getCause() != root) {
+            root = root.getCause();
+        }
+        return root.getMessage();
+    }
+}
@@ -0,0 +1,149 @@
+package com.openreqs.openreqs.service;
+
+import com.openreqs.openreqs.dto.RequirementDiff;
+import com.openreqs.openreqs.dto.RequirementVersionResponse;
+import com.openreqs.openreqs.service.baseline.BaselineSnapshot;
+import com.openreqs.openreqs.service.baseline.BaselineStore;
+import com.openreqs.openreqs.service.diff.RequirementDiffer;
+import com.openreqs.openreqs.service.diff.RequirementState;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.function.Consumer;
+
+/**
+ * IREB Syllabus - Unidade 6: Gerenciamento de Requisitos (comparação de baselines e versões)
+ *
+ * As duas baselines já estão em ordem de requirementId, então são alinhadas numa única
+ * passada conjunta. Requisitos presentes nos dois lados são comparados byte a byte nos
+ * arquivos mapeados; só os que mudaram são decodificados e recebem diff por palavras,
+ * em blocos num ForkJoinPool. Os resultados são entregues em ordem de requirementId.
+ */
+@Service
+public class RequirementDiffService implements DisposableBean {
+
+    private final BaselineStore baselineStore;
+    private final RequirementService requirementService;
+    private final ForkJoinPool pool;
+    private final int chunkSize;
+
+    public RequirementDiffService(BaselineStore baselineStore,
+                                  RequirementService requirementService,
+                                  @Value("${openreqs.diff.parallelism:0}") int parallelism,
+                                  @Value("${openreqs.diff.chunk-size:256}") int chunkSize) {
+        this.baselineStore = baselineStore;
+        this.requirementService = requirementService;
+        this.pool = new ForkJoinPool(parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors());
+        this.chunkSize = Math.max(1, chunkSize);
+    }
+
+    /**
+     * Entrega ao sink um RequirementDiff por requisito adicionado, removido, alterado ou religado
+     */
+    public void streamBaselineDiff(String from, String to, Consumer<? super RequirementDiff> sink) {
+        BaselineSnapshot before = findBaseline(from);
+        BaselineSnapshot after = findBaseline(to);
+
+        // Blocos em ordem; o mais antigo é escrito assim que termina, preservando a ordem
+        Deque<Future<List<RequirementDiff>>> pending = new ArrayDeque<>();
+        int maxInFlight = pool.getParallelism() * 2;
+        List<int[]> chunk = new ArrayList<>(chunkSize);
+
+        try {
+            int i = 0;
+            int j = 0;
+            while (i < before.size() || j < after.size()) {
+                int comparison = i >= before.size() ? 1
+                        : j >= after.size() ? -1
+                        : before.compareRequirementId(i, after, j);
+                if (comparison < 0) {
+                    chunk.add(new int[]{i++, -1});
+                } else if (comparison > 0) {
+                    chunk.add(new int[]{-1, j++});
+                } else {
+                    if (!before.sameContent(i, after, j)) {
+                        chunk.add(new int[]{i, j});
+                    }
+                    i++;
+                    j++;
+                }
+
+                if (chunk.size() == chunkSize) {
+                    List<int[]> rows = chunk;
+                    pending.add(pool.submit(() -> diffChunk(before, after, rows)));
+                    chunk = new ArrayList<>(chunkSize);
+                    while (pending.size() >= maxInFlight || (!pending.isEmpty() && pending.peek().isDone())) {
+                        pending.poll().get().forEach(sink);
+                    }
+                }
+            }
+            if (!chunk.isEmpty()) {
+                List<int[]> rows = chunk;
+                pending.add(pool.submit(() -> diffChunk(before, after, rows)));
+            }
+            while (!pending.isEmpty()) {
+                pending.poll().get().forEach(sink);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Comparação de baselines interrompida", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Falha na comparação de baselines", e.getCause());
+        } finally {
+            pending.forEach(future -> future.cancel(false));
+        }
+    }
+
+    /**
+     * Compara duas versões do requisito; to vazio compara com a versão vigente.
+     * O histórico não guarda dependências, então a comparação de versões nunca é RELINKED
+     */
+    public RequirementDiff diffVersions(String requirementId, String from, String to) {
+        RequirementState before = RequirementState.of(requirementService.getRequirementVersion(requirementId, from));
+        RequirementState after;
+        if (to == null || to.isBlank()) {
+            List<RequirementVersionResponse> versions = requirementService.getVersionHistory(requirementId);
+            after = RequirementState.of(versions.get(versions.size() - 1));
+        } else {
+            after = RequirementState.of(requirementService.getRequirementVersion(requirementId, to));
+        }
+        return RequirementDiffer.compare(before, after);
+    }
+
+    private List<RequirementDiff> diffChunk(BaselineSnapshot before, BaselineSnapshot after, List<int[]> rows) {
+        List<RequirementDiff> diffs = new ArrayList<>(rows.size());
+        for (int[] row : rows) {
+            if (row[1] < 0) {
+                diffs.add(RequirementDiffer.removed(RequirementState.of(before, row[0])));
+            } else if (row[0] < 0) {
+                diffs.add(RequirementDiffer.added(RequirementState.of(after, row[1])));
+            } else {
+                RequirementDiff diff = RequirementDiffer.compare(
+                        RequirementState.of(before, row[0]), RequirementState.of(after, row[1]));
+                // Diferenças só em campos que não entram na comparação (como o nome da origem)
+                if (diff.getChange() != RequirementDiff.Change.UNCHANGED) {
+                    diffs.add(diff);
+                }
+            }
+        }
+        return diffs;
+    }
+
+    private BaselineSnapshot findBaseline(String name) {
+        return baselineStore.find(name)
+                .orElseThrow(() -> new RuntimeException("Baseline não encontrada: " + name));
+    }
+
+    @Override
+    public void destroy() {
+        pool.shutdown();
+    }
+}
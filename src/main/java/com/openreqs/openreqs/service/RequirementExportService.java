@@ -0,0 +1,65 @@
+package com.openreqs.openreqs.service;
+
+import com.openreqs.openreqs.dto.ExportFormat;
+import com.openreqs.openreqs.repository.DependencyExportRow;
+import com.openreqs.openreqs.repository.RequirementExportRow;
+import com.openreqs.openreqs.repository.RequirementRepository;
+import com.openreqs.openreqs.service.export.ExportWriter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import tools.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * IREB Syllabus - Unidade 6: Gerenciamento de Requisitos
+ * Exportação do repositório de requisitos em CSV, JSON Lines ou ReqIF.
+ *
+ * Lê projeções por cursor (sem entidades no contexto de persistência) e escreve cada linha
+ * assim que chega, então a memória usada não depende do tamanho do repositório.
+ * Os requisitos saem em ordem de ID; `after` retoma uma exportação interrompida a partir
+ * do último ID recebido. As dependências vêm numa seção própria, depois dos requisitos.
+ */
+@Service
+@RequiredArgsConstructor
+public class RequirementExportService {
+
+    private final RequirementRepository requirementRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+
+    public void export(ExportFormat format, Long after, boolean includeArchived, OutputStream out) throws IOException {
+        long afterId = after != null ? after : 0L;
+        ExportWriter writer = ExportWriter.create(format, out, objectMapper);
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                try {
+                    writer.start();
+                    try (Stream<RequirementExportRow> rows =
+                                 requirementRepository.streamExportRows(afterId, includeArchived)) {
+                        for (Iterator<RequirementExportRow> it = rows.iterator(); it.hasNext(); ) {
+                            writer.writeRequirement(it.next());
+                        }
+                    }
+                    writer.startDependencies();
+                    try (Stream<DependencyExportRow> dependencies =
+                                 requirementRepository.streamExportDependencies(afterId, includeArchived)) {
+                        for (Iterator<DependencyExportRow> it = dependencies.iterator(); it.hasNext(); ) {
+                            writer.writeDependency(it.next());
+                        }
+                    }
+                    writer.finish();
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+}
@@ -0,0 +1,224 @@
+package com.openreqs.openreqs.service;
+
+import com.openreqs.openreqs.dto.LintResult;
+import com.openreqs.openreqs.dto.QualityReport;
+import com.openreqs.openreqs.dto.RequirementRequest;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import tools.jackson.core.JsonParser;
+import tools.jackson.core.JsonToken;
+import tools.jackson.databind.DeserializationFeature;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.ObjectReader;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+
+/**
+ * Verificação de qualidade em lote, sem acesso ao banco.
+ * Os itens são lidos em streaming, validados em blocos num ForkJoinPool e
+ * escritos como NDJSON na ordem em que terminam.
+ */
+@Service
+public class RequirementLintService implements DisposableBean {
+
+    private final QualityService qualityService;
+    private final ObjectMapper objectMapper;
+    // Lê o item de cada linha NDJSON; tokens após o item não são erro
+    private final ObjectReader itemReader;
+    private final ForkJoinPool pool;
+    private final int chunkSize;
+
+    public RequirementLintService(QualityService qualityService,
+                                  ObjectMapper objectMapper,
+                                  @Value("${openreqs.lint.parallelism:0}") int parallelism,
+                                  @Value("${openreqs.lint.chunk-size:256}") int chunkSize) {
+        this.qualityService = qualityService;
+        this.objectMapper = objectMapper;
+        this.itemReader = objectMapper.readerFor(RequirementRequest.class)
+                .without(DeserializationFeature.FAIL_ON_TRAILING_TOKENS);
+        this.pool = new ForkJoinPool(parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors());
+        this.chunkSize = Math.max(1, chunkSize);
+    }
+
+    /**
+     * Lê um array JSON de RequirementRequest sem materializá-lo inteiro
+     */
+    public void lintJsonArray(InputStream in, OutputStream out) {
+        try (JsonParser parser = objectMapper.createParser(in)) {
+            if (parser.nextToken() != JsonToken.START_ARRAY) {
+                throw new IllegalArgumentException("O corpo deve ser um array JSON de requisitos");
+            }
+            lint(new ItemSource() {
+                private int index;
+
+                @Override
+                public LintItem next() {
+                    JsonToken token = parser.nextToken();
+                    if (token == null || token == JsonToken.END_ARRAY) {
+                        return null;
+                    }
+                    int current = index++;
+                    // O elemento é lido inteiro antes da conversão, então um campo inválido só
+                    // afeta o próprio item e o parser continua no próximo
+                    JsonNode element = parser.readValueAsTree();
+                    try {
+                        return new LintItem(current, objectMapper.treeToValue(element, RequirementRequest.class), null);
+                    } catch (RuntimeException e) {
+                        return new LintItem(current, null, "JSON inválido: " + e.getMessage());
+                    }
+                }
+            }, out);
+        }
+    }
+
+    /**
+     * Lê um requisito por linha (NDJSON). Linhas inválidas viram resultados com erro.
+     */
+    public void lintNdjson(InputStream in, OutputStream out) {
+        BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+        lint(new ItemSource() {
+            private int index;
+
+            @Override
+            public LintItem next() throws IOException {
+                String line;
+                do {
+                    line = reader.readLine();
+                    if (line == null) {
+                        return null;
+                    }
+                } while (line.isBlank());
+
+                int current = index++;
+                try {
+                    return new LintItem(current, itemReader.readValue(line), null);
+                } catch (RuntimeException e) {
+                    return new LintItem(current, null, "JSON inválido: " + e.getMessage());
+                }
+            }
+        }, out);
+    }
+
+    /**
+     * Analisa uma lista já carregada em paralelo no mesmo pool, preservando a ordem
+     */
+    public List<QualityReport> analyzeAll(List<RequirementRequest> requests) {
+        return pool.submit(() -> requests.parallelStream()
+                        .map(request -> request != null ? qualityService.analyzeInline(request) : null)
+                        .toList())
+                .join();
+    }
+
+    private void lint(ItemSource source, OutputStream out) {
+        ExecutorCompletionService<List<LintResult>> completion = new ExecutorCompletionService<>(pool);
+        // Limita os blocos em andamento para que a leitura não avance muito além da validação
+        int maxInFlight = pool.getParallelism() * 2;
+        int inFlight = 0;
+
+        try {
+            List<LintItem> chunk = nextChunk(source);
+            while (!chunk.isEmpty()) {
+                List<LintItem> items = chunk;
+                completion.submit(() -> lintChunk(items));
+                inFlight++;
+
+                Future<List<LintResult>> done;
+                while ((done = inFlight >= maxInFlight ? completion.take() : completion.poll()) != null) {
+                    write(done.get(), out);
+                    inFlight--;
+                }
+                chunk = nextChunk(source);
+            }
+            while (inFlight > 0) {
+                write(completion.take().get(), out);
+                inFlight--;
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Verificação em lote interrompida", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Falha na verificação em lote", e.getCause());
+        }
+    }
+
+    private List<LintItem> nextChunk(ItemSource source) throws IOException {
+        List<LintItem> chunk = new ArrayList<>(chunkSize);
+        LintItem item;
+        while (chunk.size() < chunkSize && (item = source.next()) != null) {
+            chunk.add(item);
+        }
+        return chunk;
+    }
+
+    private List<LintResult> lintChunk(List<LintItem> items) {
+        List<LintResult> results = new ArrayList<>(items.size());
+        for (LintItem item : items) {
+            results.add(lintItem(item));
+        }
+        return results;
+    }
+
+    private LintResult lintItem(LintItem item) {
+        if (item.error() != null || item.request() == null) {
+            return LintResult.builder()
+                    .index(item.index())
+                    .valid(false)
+                    .error(item.error() != null ? item.error() : "Item vazio")
+                    .build();
+        }
+        try {
+            QualityReport report = qualityService.analyzeInline(item.request());
+            return LintResult.builder()
+                    .index(item.index())
+                    .requirementId(report.getRequirementId())
+                    .valid(report.getValid())
+                    .violationCount(report.getViolationCount())
+                    .findings(report.getFindings())
+                    .warnings(report.getWarnings())
+                    .build();
+        } catch (RuntimeException e) {
+            return LintResult.builder()
+                    .index(item.index())
+                    .requirementId(item.request().getRequirementId())
+                    .valid(false)
+                    .error(e.getMessage())
+                    .build();
+        }
+    }
+
+    private void write(List<LintResult> results, OutputStream out) throws IOException {
+        for (LintResult result : results) {
+            out.write(objectMapper.writeValueAsBytes(result));
+            out.write('\n');
+        }
+        out.flush();
+    }
+
+    @Override
+    public void destroy() {
+        pool.shutdown();
+    }
+
+    private interface ItemSource {
+        LintItem next() throws IOException;
+    }
+
+    private record LintItem(int index, RequirementRequest request, String error) {
+    }
+}
@@ -0,0 +1,230 @@
+package com.openreqs.openreqs.service;
+
+import com.openreqs.openreqs.domain.entity.Requirement;
+import com.openreqs.openreqs.domain.entity.Stakeholder;
+import com.openreqs.openreqs.dto.DependencyExpansion;
+import com.openreqs.openreqs.dto.RequirementResponse;
+import com.openreqs.openreqs.dto.StakeholderResponse;
+import com.openreqs.openreqs.repository.RequirementRepository;
+import com.openreqs.openreqs.service.graph.DependencyGraph;
+import com.openreqs.openreqs.service.graph.DependencyGraphIndex;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.Hibernate;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Converte requisitos em RequirementResponse com profundidade controlada.
+ * As dependências vêm do índice em memória e as entidades necessárias são carregadas
+ * em lote, de modo que cada requisito é consultado e mapeado no máximo uma vez por chamada.
+ */
+@Component
+@RequiredArgsConstructor
+public class RequirementResponseMapper {
+
+    private static final int LOAD_BATCH_SIZE = 1000;
+
+    private final RequirementRepository requirementRepository;
+    private final DependencyGraphIndex dependencyGraph;
+    private final StakeholderService stakeholderService;
+
+    public RequirementResponse map(Requirement requirement, DependencyExpansion expansion) {
+        return mapAll(List.of(requirement), expansion).get(0);
+    }
+
+    public List<RequirementResponse> mapAll(List<Requirement> requirements, DependencyExpansion expansion) {
+        Mapping mapping = new Mapping();
+        requirements.forEach(mapping::register);
+        if (expansion == DependencyExpansion.ONE) {
+            // Dependências já trazidas pelo plano de carga de detalhe dispensam nova consulta
+            requirements.forEach(mapping::registerFetchedDependencies);
+        }
+        return expand(mapping, requirements.stream().map(Requirement::getId).toList(), expansion);
+    }
+
+    /**
+     * Mesma conversão a partir da resposta base guardada no cache de consulta: o requisito
+     * não é relido, só as dependências são carregadas em lote
+     */
+    public RequirementResponse mapBase(RequirementResponse base, DependencyExpansion expansion) {
+        Mapping mapping = new Mapping();
+        mapping.registerBase(base);
+        return expand(mapping, List.of(base.getId()), expansion).get(0);
+    }
+
+    private List<RequirementResponse> expand(Mapping mapping, List<Long> rootIds, DependencyExpansion expansion) {
+        if (expansion == DependencyExpansion.ONE) {
+            Set<Long> dependencyIds = new LinkedHashSet<>();
+            rootIds.forEach(id -> addAll(dependencyIds, dependencyGraph.directDependencies(id)));
+            mapping.load(dependencyIds);
+
+            return rootIds.stream()
+                    .map(id -> {
+                        RequirementResponse response = mapping.copyOf(id);
+                        response.setDependencies(mapping.resolve(response.getDependencyIds()));
+                        return response;
+                    })
+                    .collect(Collectors.toList());
+        }
+
+        if (expansion == DependencyExpansion.FULL) {
+            Map<Long, Set<Long>> reachableByRoot = new HashMap<>();
+            Set<Long> allReachable = new LinkedHashSet<>();
+            for (Long rootId : rootIds) {
+                DependencyGraph.Traversal traversal = dependencyGraph.dependenciesOf(rootId, Integer.MAX_VALUE);
+                Set<Long> reachable = new LinkedHashSet<>();
+                for (int i = 0; i < traversal.size(); i++) {
+                    reachable.add(traversal.id(i));
+                }
+                reachableByRoot.put(rootId, reachable);
+                allReachable.addAll(reachable);
+            }
+            mapping.load(allReachable);
+
+            return rootIds.stream()
+                    .map(rootId -> {
+                        RequirementResponse response = mapping.copyOf(rootId);
+                        Map<Long, RequirementResponse> linked = new LinkedHashMap<>();
+                        for (Long id : reachableByRoot.get(rootId)) {
+                            RequirementResponse node = mapping.get(id);
+                            if (node != null) {
+                                linked.put(id, node);
+                            }
+                        }
+                        response.setLinkedRequirements(linked);
+                        return response;
+                    })
+                    .collect(Collectors.toList());
+        }
+
+        return rootIds.stream()
+                .map(mapping::copyOf)
+                .collect(Collectors.toList());
+    }
+
+    private static void addAll(Set<Long> target, long[] ids) {
+        for (long id : ids) {
+            target.add(id);
+        }
+    }
+
+    /**
+     * Memoiza as respostas "planas" (apenas com dependencyIds) de uma chamada
+     */
+    private final class Mapping {
+
+        private final Map<Long, RequirementResponse> flatById = new HashMap<>();
+
+        void register(Requirement requirement) {
+            flatById.computeIfAbsent(requirement.getId(), id -> toFlatResponse(requirement));
+        }
+
+        void registerBase(RequirementResponse base) {
+            flatById.computeIfAbsent(base.getId(), id -> withDependencyIds(base));
+        }
+
+        void registerFetchedDependencies(Requirement requirement) {
+            if (Hibernate.isInitialized(requirement.getDependencies())) {
+                requirement.getDependencies().forEach(this::register);
+            }
+        }
+
+        void load(Set<Long> ids) {
+            List<Long> missing = ids.stream()
+                    .filter(id -> !flatById.containsKey(id))
+                    .collect(Collectors.toList());
+            for (int from = 0; from < missing.size(); from += LOAD_BATCH_SIZE) {
+                List<Long> batch = missing.subList(from, Math.min(from + LOAD_BATCH_SIZE, missing.size()));
+                requirementRepository.findListByIdIn(batch).forEach(this::register);
+            }
+        }
+
+        RequirementResponse get(Long id) {
+            return flatById.get(id);
+        }
+
+        /**
+         * Cópia rasa para que os campos expandidos do nó raiz não apareçam nos nós compartilhados
+         */
+        RequirementResponse copyOf(Long id) {
+            return flatById.get(id).toBuilder().build();
+        }
+
+        List<RequirementResponse> resolve(List<Long> ids) {
+            List<RequirementResponse> resolved = new ArrayList<>(ids.size());
+            for (Long id : ids) {
+                RequirementResponse response = flatById.get(id);
+                if (response != null) {
+                    resolved.add(response);
+                }
+            }
+            return resolved;
+        }
+    }
+
+    private RequirementResponse toFlatResponse(Requirement requirement) {
+        return withDependencyIds(toBaseResponse(requirement));
+    }
+
+    /**
+     * Cópia da resposta com os IDs das dependências diretas vindos do índice do grafo
+     */
+    private RequirementResponse withDependencyIds(RequirementResponse base) {
+        List<Long> dependencyIds = new ArrayList<>();
+        for (long id : dependencyGraph.directDependencies(base.getId())) {
+            dependencyIds.add(id);
+        }
+        return base.toBuilder().dependencyIds(dependencyIds).build();
+    }
+
+    /**
+     * Campos próprios do requisito, sem dependências; é o que o cache de consulta guarda.
+     * O stakeholder de origem é usado se o plano de carga já o trouxe; caso contrário vem
+     * do cache de stakeholders, sem inicializar o proxy da entidade.
+     */
+    public RequirementResponse toBaseResponse(Requirement requirement) {
+        Stakeholder source = requirement.getSource();
+        StakeholderResponse stakeholderResponse = null;
+        if (source != null && Hibernate.isInitialized(source)) {
+            stakeholderResponse = StakeholderResponse.builder()
+                    .id(source.getId())
+                    .name(source.getName())
+                    .role(source.getRole())
+                    .email(source.getEmail())
+                    .build();
+        } else if (source != null) {
+            stakeholderResponse = stakeholderService.findStakeholder(source.getId())
+                    .map(cached -> StakeholderResponse.builder()
+                            .id(cached.getId())
+                            .name(cached.getName())
+                            .role(cached.getRole())
+                            .email(cached.getEmail())
+                            .build())
+                    .orElse(null);
+        }
+
+        return RequirementResponse.builder()
+                .id(requirement.getId())
+                .requirementId(requirement.getRequirementId())
+                .description(requirement.getDescription())
+                .rationale(requirement.getRationale())
+                .fitCriterion(requirement.getFitCriterion())
+                .type(requirement.getType())
+                .status(requirement.getStatus())
+                .version(requirement.getVersion())
+                .priority(requirement.getPriority())
+                .source(stakeholderResponse)
+                .createdAt(requirement.getCreatedAt())
+                .lastUpdated(requirement.getLastUpdated())
+                .isArchived(requirement.getIsArchived())
+                .build();
+    }
+}
@@ -2,40 +2,88 @@ package com.openreqs.openreqs.service;
 
 import com.openreqs.openreqs.domain.entity.Requirement;
 import com.openreqs.openreqs.domain.entity.Stakeholder;
+import com.openreqs.openreqs.domain.enums.ChangeType;
 import com.openreqs.openreqs.domain.enums.RequirementStatus;
+import com.openreqs.openreqs.dto.DependencyExpansion;
+import com.openreqs.openreqs.dto.NearDuplicate;
+import com.openreqs.openreqs.dto.QualityReport;
+import com.openreqs.openreqs.dto.RequirementPage;
 import com.openreqs.openreqs.dto.RequirementRequest;
 import com.openreqs.openreqs.dto.RequirementResponse;
-import com.openreqs.openreqs.dto.StakeholderResponse;
+import com.openreqs.openreqs.dto.RequirementStatisticsResponse;
+import com.openreqs.openreqs.dto.RequirementVersionResponse;
+import com.openreqs.openreqs.dto.SearchHit;
+import com.openreqs.openreqs.dto.SearchResultPage;
+import com.openreqs.openreqs.exception.PreconditionFailedException;
 import com.openreqs.openreqs.exception.RequirementViolationException;
 import com.openreqs.openreqs.repository.RequirementRepository;
-import com.openreqs.openreqs.repository.StakeholderRepository;
-import com.openreqs.openreqs.service.quality.AmbiguityChecker;
-import com.openreqs.openreqs.service.quality.CompletenessChecker;
+import com.openreqs.openreqs.repository.RequirementStamp;
+import com.openreqs.openreqs.service.cache.CacheNames;
+import com.openreqs.openreqs.service.cache.ChangeWatermark;
+import com.openreqs.openreqs.service.cache.LookupCache;
+import com.openreqs.openreqs.service.duplicate.NearDuplicateIndex;
+import com.openreqs.openreqs.service.feed.ChangeFeed;
+import com.openreqs.openreqs.service.history.RequirementHistory;
+import com.openreqs.openreqs.service.search.RequirementSearchIndex;
+import com.openreqs.openreqs.service.stats.RequirementStatistics;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.LockModeType;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 @RequiredArgsConstructor
 public class RequirementService {
 
     private final RequirementRepository requirementRepository;
-    private final StakeholderRepository stakeholderRepository;
-    private final AmbiguityChecker ambiguityChecker;
-    private final CompletenessChecker completenessChecker;
+    private final StakeholderService stakeholderService;
+    private final QualityService qualityService;
+    private final RequirementSearchIndex searchIndex;
+    private final NearDuplicateIndex duplicateIndex;
+    private final RequirementResponseMapper responseMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final EntityManager entityManager;
+    private final LookupCache lookupCache;
+    private final RequirementHistory requirementHistory;
+    private final RequirementStatistics statistics;
+    private final ChangeWatermark changeWatermark;
+    private final ChangeFeed changeFeed;
+
+    private static final int SEARCH_STREAM_BATCH_SIZE = 500;
+
+    @Value("${openreqs.pagination.default-size:100}")
+    private int defaultPageSize;
+
+    @Value("${openreqs.pagination.max-size:1000}")
+    private int maxPageSize;
 
     @Transactional
     public RequirementResponse createRequirement(RequirementRequest request) {
-        // Validações IREB
-        ambiguityChecker.validate(request);
-        completenessChecker.validate(request);
+        // Validações IREB (todas as violações de uma vez)
+        qualityService.enforce(request);
 
-        // Verifica stakeholder
-        Stakeholder source = stakeholderRepository.findById(request.getSourceId())
+        // Verifica stakeholder (cache de consulta) e o associa por referência, sem novo SELECT
+        stakeholderService.findStakeholder(request.getSourceId())
                 .orElseThrow(() -> new RuntimeException("Stakeholder não encontrado"));
+        Stakeholder source = entityManager.getReference(Stakeholder.class, request.getSourceId());
 
         // Cria requisito
         Requirement requirement = Requirement.builder()
@@ -49,61 +97,149 @@ public class RequirementService {
                 .source(source)
                 .build();
 
+        // Duplicatas são apenas apontadas: a decisão fica com quem documenta
+        List<NearDuplicate> nearDuplicates = duplicateIndex.findSimilar(request.getDescription(), null).stream()
+                .map(match -> new NearDuplicate(match.id(), match.requirementId(), match.similarity()))
+                .toList();
+
         Requirement saved = requirementRepository.save(requirement);
-        return convertToResponse(saved);
+        changeFeed.record(ChangeType.CREATED, saved);
+        reindexAfterCommit(saved);
+        statistics.recordAfterCommit(null, saved);
+        changeWatermark.advanceAfterCommit();
+        RequirementResponse response = convertToResponse(saved);
+        response.setNearDuplicates(nearDuplicates);
+        return response;
+    }
+
+    /**
+     * Dry-run: aplica todas as regras de qualidade sem persistir nada
+     */
+    public QualityReport lintRequirement(RequirementRequest request) {
+        return qualityService.analyze(request);
     }
 
     @Transactional(readOnly = true)
-    public List<RequirementResponse> getAllRequirements() {
-        return requirementRepository.findByIsArchivedFalse().stream()
-                .map(this::convertToResponse)
-                .collect(Collectors.toList());
+    public RequirementPage getAllRequirements(Long after, Integer size, DependencyExpansion expansion) {
+        int pageSize = pageSize(size);
+        return toPage(requirementRepository.findByIsArchivedFalseAndIdGreaterThanOrderByIdAsc(
+                cursor(after), Limit.of(pageSize + 1)), pageSize, expansion);
+    }
+
+    /**
+     * Exporta todos os requisitos ativos em memória constante (cursor JPA + detach por linha)
+     */
+    public void streamAllRequirements(Long after, Consumer<? super RequirementResponse> sink) {
+        stream(() -> requirementRepository.streamActiveAfter(cursor(after)), sink);
     }
 
     @Transactional(readOnly = true)
-    public RequirementResponse getRequirementById(Long id) {
-        Requirement requirement = requirementRepository.findById(id)
+    public RequirementResponse getRequirementById(Long id, DependencyExpansion expansion) {
+        Requirement requirement = requirementRepository.findDetailById(id)
                 .orElseThrow(() -> new RuntimeException("Requisito não encontrado"));
-        return convertToResponse(requirement);
+        return responseMapper.map(requirement, expansion);
     }
 
+    /**
+     * Consulta pelo identificador de negócio. Os campos do requisito vêm do cache de consulta;
+     * as dependências, sempre do índice do grafo, carregadas em lote conforme a expansão.
+     * Na falta do cache, o plano de detalhe traz o requisito e as dependências diretas numa só consulta
+     */
     @Transactional(readOnly = true)
-    public RequirementResponse getRequirementByReqId(String requirementId) {
-        Requirement requirement = requirementRepository.findByRequirementId(requirementId)
+    public RequirementResponse getRequirementByReqId(String requirementId, DependencyExpansion expansion) {
+        Requirement[] loaded = new Requirement[1];
+        RequirementResponse base = lookupCache.<RequirementResponse>get(CacheNames.REQUIREMENTS, requirementId,
+                        () -> requirementRepository.findDetailByRequirementId(requirementId).map(requirement -> {
+                            loaded[0] = requirement;
+                            return responseMapper.toBaseResponse(requirement);
+                        }))
                 .orElseThrow(() -> new RuntimeException("Requisito não encontrado: " + requirementId));
-        return convertToResponse(requirement);
+        return loaded[0] != null ? responseMapper.map(loaded[0], expansion) : responseMapper.mapBase(base, expansion);
+    }
+
+    /**
+     * Histórico completo: versões anteriores em ordem e, por último, a vigente
+     */
+    @Transactional(readOnly = true)
+    public List<RequirementVersionResponse> getVersionHistory(String requirementId) {
+        Requirement current = findCurrent(requirementId);
+        List<RequirementVersionResponse> versions = new ArrayList<>(requirementHistory.history(requirementId));
+        versions.add(RequirementHistory.currentVersion(current));
+        return versions;
+    }
+
+    @Transactional(readOnly = true)
+    public RequirementVersionResponse getRequirementVersion(String requirementId, String version) {
+        Requirement current = findCurrent(requirementId);
+        if (current.getVersion().equals(version)) {
+            return RequirementHistory.currentVersion(current);
+        }
+        return requirementHistory.findVersion(requirementId, version)
+                .orElseThrow(() -> new RuntimeException("Versão não encontrada: " + requirementId + " " + version));
+    }
+
+    /**
+     * Conteúdo do requisito como estava na data informada
+     */
+    @Transactional(readOnly = true)
+    public RequirementVersionResponse getRequirementAsOf(String requirementId, LocalDateTime date) {
+        Requirement current = findCurrent(requirementId);
+        if (!date.isBefore(RequirementHistory.versionSince(current))) {
+            return RequirementHistory.currentVersion(current);
+        }
+        return requirementHistory.findAsOf(requirementId, date)
+                .orElseThrow(() -> new RuntimeException("Requisito " + requirementId + " não existia em " + date));
     }
 
+    private Requirement findCurrent(String requirementId) {
+        return requirementRepository.findByRequirementId(requirementId)
+                .orElseThrow(() -> new RuntimeException("Requisito não encontrado: " + requirementId));
+    }
+
+    /**
+     * ETag forte de um requisito: o estado próprio (ID, versão e última alteração) mais o que
+     * a forma da resposta traz de outras entidades. Lê só uma projeção, sem carregar a entidade
+     */
+    @Transactional(readOnly = true)
+    public String getRequirementTag(Long id, DependencyExpansion expansion) {
+        return requirementTag(requirementRepository.findStampById(id)
+                .orElseThrow(() -> new RuntimeException("Requisito não encontrado")), expansion);
+    }
+
+    @Transactional(readOnly = true)
+    public String getRequirementTagByReqId(String requirementId, DependencyExpansion expansion) {
+        return requirementTag(requirementRepository.findStampByRequirementId(requirementId)
+                .orElseThrow(() -> new RuntimeException("Requisito não encontrado: " + requirementId)), expansion);
+    }
+
+    /**
+     * ETag das listagens: muda a cada escrita confirmada em requisitos, dependências ou stakeholders
+     */
+    public String getCollectionTag() {
+        return changeWatermark.collectionTag();
+    }
+
+    /**
+     * @param ifMatch cabeçalho If-Match do cliente (null = sem verificação); aceita a ETag
+     *                de qualquer forma da resposta desde que o requisito em si não tenha mudado
+     */
     @Transactional
-    public RequirementResponse updateRequirement(Long id, RequirementRequest request) {
-        Requirement existing = requirementRepository.findById(id)
-                .orElseThrow(() -> new RuntimeException("Requisito não encontrado"));
+    public RequirementResponse updateRequirement(Long id, RequirementRequest request, String ifMatch) {
+        // Sempre trava: uma edição de requisito APROVADO grava a versão encerrada no histórico
+        Requirement existing = findForUpdate(id, ifMatch, true);
+        lookupCache.evict(CacheNames.REQUIREMENTS, existing.getRequirementId());
+        RequirementStatistics.Facet before = RequirementStatistics.Facet.of(existing);
+
+        qualityService.enforce(request);
 
-        // IREB: Se estiver APROVADO, cria nova versão
+        // IREB: Se estiver APROVADO, a versão atual vai para o histórico e o requisito
+        // segue numa nova versão, no mesmo registro (mesmo ID e mesmas dependências)
         if (existing.getStatus() == RequirementStatus.APPROVED) {
-            existing.archive();
-            requirementRepository.save(existing);
-
-            // Cria nova versão
-            Requirement newVersion = existing.createNewVersion();
-            newVersion.setDescription(request.getDescription());
-            newVersion.setRationale(request.getRationale());
-            newVersion.setFitCriterion(request.getFitCriterion());
-            newVersion.setType(request.getType());
-            newVersion.setPriority(request.getPriority());
-
-            // Valida nova versão
-            ambiguityChecker.validate(request);
-            completenessChecker.validate(request);
-
-            Requirement saved = requirementRepository.save(newVersion);
-            return convertToResponse(saved);
+            LocalDateTime now = LocalDateTime.now();
+            requirementHistory.recordSuperseded(existing, now);
+            existing.startNewVersion(now);
         }
 
-        // Validações para atualização normal
-        ambiguityChecker.validate(request);
-        completenessChecker.validate(request);
-
         // Atualiza campos
         existing.setDescription(request.getDescription());
         existing.setRationale(request.getRationale());
@@ -112,6 +248,10 @@ public class RequirementService {
         existing.setPriority(request.getPriority());
 
         Requirement updated = requirementRepository.save(existing);
+        changeFeed.record(ChangeType.UPDATED, updated);
+        reindexAfterCommit(updated);
+        statistics.recordAfterCommit(before, updated);
+        changeWatermark.advanceAfterCommit();
         return convertToResponse(updated);
     }
 
@@ -121,14 +261,19 @@ public class RequirementService {
                 .orElseThrow(() -> new RuntimeException("Requisito não encontrado"));
 
         // IREB: Em vez de deletar, arquiva
+        RequirementStatistics.Facet before = RequirementStatistics.Facet.of(requirement);
         requirement.archive();
         requirementRepository.save(requirement);
+        changeFeed.record(ChangeType.ARCHIVED, requirement);
+        lookupCache.evict(CacheNames.REQUIREMENTS, requirement.getRequirementId());
+        reindexAfterCommit(requirement);
+        statistics.recordAfterCommit(before, requirement);
+        changeWatermark.advanceAfterCommit();
     }
 
     @Transactional
-    public RequirementResponse changeStatus(Long id, RequirementStatus newStatus) {
-        Requirement requirement = requirementRepository.findById(id)
-                .orElseThrow(() -> new RuntimeException("Requisito não encontrado"));
+    public RequirementResponse changeStatus(Long id, RequirementStatus newStatus, String ifMatch) {
+        Requirement requirement = findForUpdate(id, ifMatch, false);
 
         if (!requirement.getStatus().canChangeTo(newStatus)) {
             throw new RequirementViolationException(
@@ -140,23 +285,205 @@ public class RequirementService {
             );
         }
 
+        RequirementStatistics.Facet before = RequirementStatistics.Facet.of(requirement);
         requirement.setStatus(newStatus);
         Requirement updated = requirementRepository.save(requirement);
+        changeFeed.record(ChangeType.STATUS_CHANGED, updated);
+        lookupCache.evict(CacheNames.REQUIREMENTS, requirement.getRequirementId());
+        statistics.recordAfterCommit(before, updated);
+        changeWatermark.advanceAfterCommit();
         return convertToResponse(updated);
     }
 
+    /**
+     * Contagens para painéis, lidas dos contadores em memória
+     */
+    public RequirementStatisticsResponse getStatistics() {
+        return statistics.snapshot();
+    }
+
     @Transactional(readOnly = true)
-    public List<RequirementResponse> getRequirementsByStatus(RequirementStatus status) {
-        return requirementRepository.findByStatus(status).stream()
-                .map(this::convertToResponse)
-                .collect(Collectors.toList());
+    public RequirementPage getRequirementsByStatus(RequirementStatus status, Long after, Integer size,
+                                                   DependencyExpansion expansion) {
+        int pageSize = pageSize(size);
+        return toPage(requirementRepository.findByStatusAndIdGreaterThanOrderByIdAsc(
+                status, cursor(after), Limit.of(pageSize + 1)), pageSize, expansion);
+    }
+
+    public void streamRequirementsByStatus(RequirementStatus status, Long after, Consumer<? super RequirementResponse> sink) {
+        stream(() -> requirementRepository.streamByStatusAfter(status, cursor(after)), sink);
     }
 
+    /**
+     * Busca textual ranqueada (BM25) no índice invertido, paginada por número de página
+     */
     @Transactional(readOnly = true)
-    public List<RequirementResponse> searchRequirements(String keyword) {
-        return requirementRepository.searchByKeyword(keyword).stream()
-                .map(this::convertToResponse)
-                .collect(Collectors.toList());
+    public SearchResultPage searchRequirements(String query, Integer page, Integer size,
+                                               DependencyExpansion expansion) {
+        int pageSize = pageSize(size);
+        int pageNumber = page != null && page > 0 ? page : 0;
+        int offset = (int) Math.min((long) pageNumber * pageSize, Integer.MAX_VALUE);
+
+        Set<String> terms = searchIndex.queryTerms(query);
+        RequirementSearchIndex.SearchResult result = searchIndex.search(terms, offset, pageSize);
+        return SearchResultPage.builder()
+                .query(query)
+                .totalHits(result.totalHits())
+                .page(pageNumber)
+                .size(pageSize)
+                .hits(toHits(result.hits(), terms, expansion))
+                .build();
+    }
+
+    /**
+     * Exporta todos os resultados da busca em ordem de relevância, carregando os requisitos em lotes
+     */
+    public void streamSearchResults(String query, Consumer<? super SearchHit> sink) {
+        Set<String> terms = searchIndex.queryTerms(query);
+        List<RequirementSearchIndex.ScoredRequirement> ranked =
+                searchIndex.search(terms, 0, Integer.MAX_VALUE).hits();
+
+        transactionTemplate.executeWithoutResult(status -> {
+            for (int from = 0; from < ranked.size(); from += SEARCH_STREAM_BATCH_SIZE) {
+                List<RequirementSearchIndex.ScoredRequirement> batch =
+                        ranked.subList(from, Math.min(from + SEARCH_STREAM_BATCH_SIZE, ranked.size()));
+                toHits(batch, terms, DependencyExpansion.IDS).forEach(sink);
+                entityManager.clear();
+            }
+        });
+    }
+
+    private int pageSize(Integer requested) {
+        if (requested == null || requested <= 0) {
+            return defaultPageSize;
+        }
+        return Math.min(requested, maxPageSize);
+    }
+
+    private long cursor(Long after) {
+        return after != null ? after : 0L;
+    }
+
+    // A consulta busca pageSize + 1 itens: o excedente indica que há próxima página
+    private RequirementPage toPage(List<Requirement> requirements, int pageSize, DependencyExpansion expansion) {
+        boolean hasMore = requirements.size() > pageSize;
+        List<Requirement> page = hasMore ? requirements.subList(0, pageSize) : requirements;
+        return RequirementPage.builder()
+                .items(responseMapper.mapAll(page, expansion))
+                .nextCursor(hasMore ? page.get(page.size() - 1).getId() : null)
+                .build();
+    }
+
+    private List<SearchHit> toHits(List<RequirementSearchIndex.ScoredRequirement> scored, Set<String> terms,
+                                   DependencyExpansion expansion) {
+        Map<Long, Requirement> byId = requirementRepository.findListByIdIn(
+                        scored.stream().map(RequirementSearchIndex.ScoredRequirement::requirementId).toList())
+                .stream()
+                .collect(Collectors.toMap(Requirement::getId, Function.identity()));
+
+        // O índice é atualizado após o commit; um requisito removido nesse intervalo é ignorado
+        List<RequirementSearchIndex.ScoredRequirement> found = scored.stream()
+                .filter(hit -> byId.containsKey(hit.requirementId()))
+                .toList();
+        List<RequirementResponse> responses = responseMapper.mapAll(
+                found.stream().map(hit -> byId.get(hit.requirementId())).toList(), expansion);
+
+        List<SearchHit> hits = new ArrayList<>(found.size());
+        for (int i = 0; i < found.size(); i++) {
+            Requirement requirement = byId.get(found.get(i).requirementId());
+            hits.add(SearchHit.builder()
+                    .requirement(responses.get(i))
+                    .score(found.get(i).score())
+                    .highlights(searchIndex.highlights(requirement, terms))
+                    .build());
+        }
+        return hits;
+    }
+
+    private void stream(Supplier<Stream<Requirement>> query, Consumer<? super RequirementResponse> sink) {
+        transactionTemplate.executeWithoutResult(status -> {
+            try (Stream<Requirement> requirements = query.get()) {
+                requirements.forEach(requirement -> {
+                    sink.accept(responseMapper.map(requirement, DependencyExpansion.IDS));
+                    // Libera a entidade do contexto de persistência para manter a memória constante
+                    entityManager.detach(requirement);
+                });
+            }
+        });
+    }
+
+    /**
+     * Atualiza os índices de busca e de duplicatas só depois do commit, para que nunca apontem
+     * para dados desfeitos; requisitos arquivados saem dos índices
+     */
+    private void reindexAfterCommit(Requirement requirement) {
+        long id = requirement.getId();
+        String requirementId = requirement.getRequirementId();
+        boolean archived = Boolean.TRUE.equals(requirement.getIsArchived());
+        String description = requirement.getDescription();
+        String rationale = requirement.getRationale();
+        String fitCriterion = requirement.getFitCriterion();
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                if (archived) {
+                    searchIndex.remove(id);
+                    duplicateIndex.remove(id);
+                } else {
+                    searchIndex.index(id, description, rationale, fitCriterion);
+                    duplicateIndex.index(id, requirementId, description);
+                }
+            }
+        });
+    }
+
+    /**
+     * Com If-Match, trava a linha antes de comparar, para que duas edições concorrentes
+     * da mesma versão não passem ambas pela verificação. Com {@code lock}, trava mesmo sem
+     * If-Match, para que duas edições concorrentes não encerrem a mesma versão
+     */
+    private Requirement findForUpdate(Long id, String ifMatch, boolean lock) {
+        if (lock || ifMatch != null) {
+            entityManager.find(Requirement.class, id, LockModeType.PESSIMISTIC_WRITE);
+        }
+        Requirement requirement = requirementRepository.findDetailById(id)
+                .orElseThrow(() -> new RuntimeException("Requisito não encontrado"));
+        if (ifMatch != null && !matchesState(ifMatch, stateTag(new RequirementStamp(
+                requirement.getId(), requirement.getVersion(), requirement.getLastUpdated())))) {
+            throw new PreconditionFailedException(
+                    "O requisito " + requirement.getRequirementId() + " foi alterado por outra pessoa. "
+                            + "Busque a versão atual e refaça a edição.");
+        }
+        return requirement;
+    }
+
+    private String requirementTag(RequirementStamp stamp, DependencyExpansion expansion) {
+        return "\"" + stateTag(stamp) + changeWatermark.dependentPart(expansion != DependencyExpansion.IDS) + "\"";
+    }
+
+    private static String stateTag(RequirementStamp stamp) {
+        LocalDateTime lastUpdated = stamp.lastUpdated();
+        long micros = lastUpdated == null ? 0
+                : lastUpdated.toEpochSecond(ZoneOffset.UTC) * 1_000_000 + lastUpdated.getNano() / 1_000;
+        return "r" + stamp.id() + "-" + stamp.version() + "-" + Long.toString(micros, 36);
+    }
+
+    // Comparação forte: W/ nunca casa; "*" casa com qualquer versão existente
+    private static boolean matchesState(String ifMatch, String stateTag) {
+        for (String candidate : ifMatch.split(",")) {
+            String tag = candidate.trim();
+            if (tag.equals("*")) {
+                return true;
+            }
+            if (tag.length() >= 2 && tag.startsWith("\"") && tag.endsWith("\"")) {
+                String value = tag.substring(1, tag.length() - 1);
+                if (value.equals(stateTag) || value.startsWith(stateTag + "-")) {
+                    return true;
+                }
+            }
+        }
+        return false;
     }
 
     private String getValidTransitions(RequirementStatus currentStatus) {
@@ -171,35 +498,6 @@ public class RequirementService {
     }
 
     private RequirementResponse convertToResponse(Requirement requirement) {
-        StakeholderResponse stakeholderResponse = null;
-        if (requirement.getSource() != null) {
-            stakeholderResponse = StakeholderResponse.builder()
-                    .id(requirement.getSource().getId())
-                    .name(requirement.getSource().getName())
-                    .role(requirement.getSource().getRole())
-                    .email(requirement.getSource().getEmail())
-                    .build();
-        }
-
-        List<RequirementResponse> dependencies = requirement.getDependencies().stream()
-                .map(this::convertToResponse)
-                .collect(Collectors.toList());
-
-        return RequirementResponse.builder()
-                .id(requirement.getId())
-                .requirementId(requirement.getRequirementId())
-                .description(requirement.getDescription())
-                .rationale(requirement.getRationale())
-                .fitCriterion(requirement.getFitCriterion())
-                .type(requirement.getType())
-                .status(requirement.getStatus())
-                .version(requirement.getVersion())
-                .priority(requirement.getPriority())
-                .source(stakeholderResponse)
-                .createdAt(requirement.getCreatedAt())
-                .lastUpdated(requirement.getLastUpdated())
-                .dependencies(dependencies)
-                .isArchived(requirement.getIsArchived())
-                .build();
+        return responseMapper.map(requirement, DependencyExpansion.ONE);
     }
 }
\ No newline at end of file
@@ -1,15 +1,20 @@
 package com.openreqs.openreqs.service;
 
 import com.openreqs.openreqs.domain.entity.Stakeholder;
+import com.openreqs.openreqs.dto.RequirementResponse;
 import com.openreqs.openreqs.dto.StakeholderRequest;
 import com.openreqs.openreqs.dto.StakeholderResponse;
 import com.openreqs.openreqs.repository.StakeholderRepository;
 import com.openreqs.openreqs.repository.RequirementRepository;
+import com.openreqs.openreqs.service.cache.CacheNames;
+import com.openreqs.openreqs.service.cache.ChangeWatermark;
+import com.openreqs.openreqs.service.cache.LookupCache;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
 @Service
@@ -18,6 +23,8 @@ public class StakeholderService {
 
     private final StakeholderRepository stakeholderRepository;
     private final RequirementRepository requirementRepository;
+    private final LookupCache lookupCache;
+    private final ChangeWatermark changeWatermark;
 
     @Transactional
     public StakeholderResponse createStakeholder(StakeholderRequest request) {
@@ -47,9 +54,20 @@ public class StakeholderService {
 
     @Transactional(readOnly = true)
     public StakeholderResponse getStakeholderById(Long id) {
-        Stakeholder stakeholder = stakeholderRepository.findById(id)
+        StakeholderResponse stakeholder = findStakeholder(id)
                 .orElseThrow(() -> new RuntimeException("Stakeholder não encontrado"));
-        return convertToResponse(stakeholder);
+        return stakeholder.toBuilder()
+                .requirementCount((int) requirementRepository.countBySourceId(id))
+                .build();
+    }
+
+    /**
+     * Dados cadastrais do stakeholder, servidos pelo cache de consulta.
+     * Não inclui requirementCount, que muda a cada requisito criado.
+     */
+    public Optional<StakeholderResponse> findStakeholder(Long id) {
+        return lookupCache.get(CacheNames.STAKEHOLDERS, id,
+                () -> stakeholderRepository.findById(id).map(this::toSummary));
     }
 
     @Transactional
@@ -72,6 +90,7 @@ public class StakeholderService {
         stakeholder.setInfluenceLevel(request.getInfluenceLevel());
 
         Stakeholder updated = stakeholderRepository.save(stakeholder);
+        evict(id);
         return convertToResponse(updated);
     }
 
@@ -81,7 +100,7 @@ public class StakeholderService {
                 .orElseThrow(() -> new RuntimeException("Stakeholder não encontrado"));
 
         // Verifica se tem requisitos associados
-        long requirementCount = requirementRepository.findBySourceId(id).size();
+        long requirementCount = requirementRepository.countBySourceId(id);
         if (requirementCount > 0) {
             throw new RuntimeException(
                     String.format("Não é possível deletar. Stakeholder tem %d requisito(s) associado(s).", requirementCount)
@@ -89,6 +108,28 @@ public class StakeholderService {
         }
 
         stakeholderRepository.delete(stakeholder);
+        evict(id);
+    }
+
+    /**
+     * Remove o stakeholder e os requisitos que o trazem como origem dos caches de consulta
+     */
+    private void evict(Long id) {
+        changeWatermark.advanceStakeholdersAfterCommit();
+        lookupCache.evict(CacheNames.STAKEHOLDERS, id);
+        lookupCache.evictIf(CacheNames.REQUIREMENTS, value -> value instanceof RequirementResponse requirement
+                && requirement.getSource() != null && id.equals(requirement.getSource().getId()));
+    }
+
+    private StakeholderResponse toSummary(Stakeholder stakeholder) {
+        return StakeholderResponse.builder()
+                .id(stakeholder.getId())
+                .name(stakeholder.getName())
+                .role(stakeholder.getRole())
+                .email(stakeholder.getEmail())
+                .responsibilities(stakeholder.getResponsibilities())
+                .influenceLevel(stakeholder.getInfluenceLevel())
+                .build();
     }
 
     private StakeholderResponse convertToResponse(Stakeholder stakeholder) {
@@ -1,19 +1,71 @@
 package com.openreqs.openreqs.service;
 
 import com.openreqs.openreqs.domain.entity.Requirement;
+import com.openreqs.openreqs.domain.enums.ChangeType;
+import com.openreqs.openreqs.dto.ImpactAnalysisEntry;
 import com.openreqs.openreqs.repository.RequirementRepository;
-import lombok.RequiredArgsConstructor;
+import com.openreqs.openreqs.service.cache.CacheNames;
+import com.openreqs.openreqs.service.cache.ChangeWatermark;
+import com.openreqs.openreqs.service.cache.LookupCache;
+import com.openreqs.openreqs.service.feed.ChangeFeed;
+import com.openreqs.openreqs.service.graph.DependencyGraph;
+import com.openreqs.openreqs.service.graph.DependencyGraphIndex;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
 @Service
-@RequiredArgsConstructor
 public class TraceabilityService {
 
     private final RequirementRepository requirementRepository;
+    private final DependencyGraphIndex dependencyGraph;
+    private final LookupCache lookupCache;
+    private final ChangeWatermark changeWatermark;
+    private final ChangeFeed changeFeed;
+    private final int impactMaxDepth;
+    private final int impactBatchSize;
+    // Medidores das travessias, registrados uma única vez
+    private final Timer cycleCheckTimer;
+    private final Timer impactTimer;
+    private final DistributionSummary cycleCheckNodes;
+    private final DistributionSummary impactNodes;
+
+    public TraceabilityService(RequirementRepository requirementRepository,
+                               DependencyGraphIndex dependencyGraph,
+                               MeterRegistry meterRegistry,
+                               LookupCache lookupCache,
+                               ChangeWatermark changeWatermark,
+                               ChangeFeed changeFeed,
+                               @Value("${openreqs.traceability.impact-max-depth:50}") int impactMaxDepth,
+                               @Value("${openreqs.traceability.impact-batch-size:1000}") int impactBatchSize) {
+        this.requirementRepository = requirementRepository;
+        this.dependencyGraph = dependencyGraph;
+        this.lookupCache = lookupCache;
+        this.changeWatermark = changeWatermark;
+        this.changeFeed = changeFeed;
+        this.impactMaxDepth = impactMaxDepth;
+        this.impactBatchSize = Math.max(1, impactBatchSize);
+        this.cycleCheckTimer = walkTimer(meterRegistry, "cycle-check");
+        this.impactTimer = walkTimer(meterRegistry, "impact");
+        this.cycleCheckNodes = walkNodes(meterRegistry, "cycle-check");
+        this.impactNodes = walkNodes(meterRegistry, "impact");
+    }
 
     @Transactional
     public void addDependency(Long requirementId, Long dependsOnId) {
@@ -23,13 +75,27 @@ public class TraceabilityService {
         Requirement dependency = requirementRepository.findById(dependsOnId)
                 .orElseThrow(() -> new RuntimeException("Dependência não encontrada: " + dependsOnId));
 
-        // Verifica dependência circular
-        if (createsCircularDependency(requirement, dependency)) {
+        // Verifica dependência circular no índice em memória (sem percorrer as entidades)
+        long start = System.nanoTime();
+        DependencyGraph.InsertResult result = dependencyGraph.addEdge(requirementId, dependsOnId,
+                cycleCheckNodes::record);
+        cycleCheckTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        if (result == DependencyGraph.InsertResult.CYCLE) {
             throw new RuntimeException("Dependência circular detectada!");
         }
+        if (result == DependencyGraph.InsertResult.ALREADY_PRESENT) {
+            return;
+        }
+        afterCompletion(committed -> {
+            if (!committed) {
+                dependencyGraph.removeEdge(requirementId, dependsOnId);
+            }
+        });
 
         requirement.getDependencies().add(dependency);
+        touch(requirement);
         requirementRepository.save(requirement);
+        changeFeed.record(ChangeType.DEPENDENCY_ADDED, requirement, dependsOnId);
     }
 
     @Transactional
@@ -40,13 +106,25 @@ public class TraceabilityService {
         Requirement dependency = requirementRepository.findById(dependsOnId)
                 .orElseThrow(() -> new RuntimeException("Dependência não encontrada"));
 
-        requirement.getDependencies().remove(dependency);
+        // Dependência inexistente: nada muda, nem a ETag nem o log
+        if (!requirement.getDependencies().remove(dependency)) {
+            return;
+        }
+        touch(requirement);
         requirementRepository.save(requirement);
+        changeFeed.record(ChangeType.DEPENDENCY_REMOVED, requirement, dependsOnId);
+
+        // Remove do índice só após o commit; até lá a aresta continua bloqueando ciclos
+        afterCompletion(committed -> {
+            if (committed) {
+                dependencyGraph.removeEdge(requirementId, dependsOnId);
+            }
+        });
     }
 
     @Transactional(readOnly = true)
     public List<String> getRequirementTraceability(String requirementId) {
-        Requirement requirement = requirementRepository.findByRequirementId(requirementId)
+        Requirement requirement = requirementRepository.findTraceabilityByRequirementId(requirementId)
                 .orElseThrow(() -> new RuntimeException("Requisito não encontrado"));
 
         return requirement.getDependencies().stream()
@@ -58,41 +136,86 @@ public class TraceabilityService {
     }
 
     @Transactional(readOnly = true)
-    public List<String> getImpactAnalysis(String requirementId) {
-        Requirement requirement = requirementRepository.findByRequirementId(requirementId)
-                .orElseThrow(() -> new RuntimeException("Requisito não encontrado"));
+    public List<ImpactAnalysisEntry> getImpactAnalysis(String requirementId, Integer maxDepth) {
+        List<ImpactAnalysisEntry> impact = new ArrayList<>();
+        streamImpactAnalysis(findImpactedRequirements(requirementId, maxDepth), impact::add);
+        return impact;
+    }
 
-        // Encontra todos os requisitos que dependem deste
-        List<Requirement> allRequirements = requirementRepository.findAll();
+    /**
+     * Todos os dependentes diretos e transitivos, respondidos pelo índice reverso em memória
+     */
+    public DependencyGraph.Traversal findImpactedRequirements(String requirementId, Integer maxDepth) {
+        Long id = requirementRepository.findIdByRequirementId(requirementId)
+                .orElseThrow(() -> new RuntimeException("Requisito não encontrado"));
 
-        return allRequirements.stream()
-                .filter(req -> req.getDependencies().contains(requirement))
-                .map(req -> String.format("%s depende de %s",
-                        req.getRequirementId(),
-                        requirementId))
-                .collect(Collectors.toList());
+        int depthLimit = maxDepth != null && maxDepth > 0 ? Math.min(maxDepth, impactMaxDepth) : impactMaxDepth;
+        long start = System.nanoTime();
+        DependencyGraph.Traversal traversal = dependencyGraph.dependentsOf(id, depthLimit);
+        impactTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        impactNodes.record(traversal.size());
+        return traversal;
     }
 
-    private boolean createsCircularDependency(Requirement requirement, Requirement newDependency) {
-        if (requirement.equals(newDependency)) {
-            return true;
+    /**
+     * Resolve os identificadores únicos em blocos e entrega cada requisito impactado
+     * na ordem da travessia (por profundidade)
+     */
+    public void streamImpactAnalysis(DependencyGraph.Traversal traversal, Consumer<? super ImpactAnalysisEntry> sink) {
+        Map<Long, String> requirementIds = new HashMap<>();
+        for (int from = 0; from < traversal.size(); from += impactBatchSize) {
+            int to = Math.min(from + impactBatchSize, traversal.size());
+
+            Set<Long> missing = new HashSet<>();
+            for (int i = from; i < to; i++) {
+                missing.add(traversal.id(i));
+                missing.add(traversal.parent(i));
+            }
+            missing.removeAll(requirementIds.keySet());
+            requirementRepository.findKeysByIdIn(missing)
+                    .forEach(key -> requirementIds.put(key.id(), key.requirementId()));
+
+            for (int i = from; i < to; i++) {
+                sink.accept(ImpactAnalysisEntry.builder()
+                        .id(traversal.id(i))
+                        .requirementId(requirementIds.get(traversal.id(i)))
+                        .depth(traversal.depth(i))
+                        .dependsOn(requirementIds.get(traversal.parent(i)))
+                        .build());
+            }
         }
+    }
 
-        // Verifica se o novo dependente já depende do requisito atual
-        return checkDependencyChain(newDependency, requirement);
+    private static Timer walkTimer(MeterRegistry meterRegistry, String walk) {
+        return Timer.builder("openreqs.traceability.walk")
+                .description("Tempo de travessia do grafo de dependências")
+                .tag("walk", walk)
+                .register(meterRegistry);
     }
 
-    private boolean checkDependencyChain(Requirement start, Requirement target) {
-        if (start.getDependencies().contains(target)) {
-            return true;
-        }
+    private static DistributionSummary walkNodes(MeterRegistry meterRegistry, String walk) {
+        return DistributionSummary.builder("openreqs.traceability.walk.nodes")
+                .description("Requisitos visitados por travessia do grafo")
+                .tag("walk", walk)
+                .register(meterRegistry);
+    }
 
-        for (Requirement dep : start.getDependencies()) {
-            if (checkDependencyChain(dep, target)) {
-                return true;
-            }
-        }
+    /**
+     * As dependências fazem parte do estado do requisito: a alteração muda sua ETag
+     * e a das listagens
+     */
+    private void touch(Requirement requirement) {
+        requirement.setLastUpdated(LocalDateTime.now());
+        lookupCache.evict(CacheNames.REQUIREMENTS, requirement.getRequirementId());
+        changeWatermark.advanceAfterCommit();
+    }
 
-        return false;
+    private void afterCompletion(Consumer<Boolean> callback) {
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                callback.accept(status == STATUS_COMMITTED);
+            }
+        });
     }
-}
\ No newline at end of file
+}
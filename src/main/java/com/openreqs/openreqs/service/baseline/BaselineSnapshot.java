@@ -0,0 +1,378 @@
+package com.openreqs.openreqs.service.baseline;
+
+import com.openreqs.openreqs.domain.enums.RequirementStatus;
+import com.openreqs.openreqs.domain.enums.RequirementType;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.function.Predicate;
+
+/**
+ * IREB Syllabus - Unidade 6: Gerenciamento de Requisitos (baselines)
+ * Baseline gravada em arquivo binário imutável e lida por mapeamento em memória.
+ *
+ * Layout (big-endian):
+ * <pre>
+ * cabeçalho  magic, versão do formato, data, nome, descrição, contagens e posições das seções
+ * strings    offsets[n + 1] e os bytes UTF-8 de cada texto distinto, uma única vez
+ * colunas    id, sourceId e lastUpdated (long) e depois requirementId, description, rationale,
+ *            fitCriterion, type, status, priority, version e sourceName (int: referência à
+ *            tabela de strings ou valor), cada coluna com uma entrada por requisito
+ * arestas    from[m] (linha do requisito) e to[m] (requirementId da dependência na tabela)
+ * </pre>
+ * As linhas estão em ordem de requirementId e as arestas em ordem de linha e, dentro dela,
+ * do requirementId de destino (bytes UTF-8), então as consultas são buscas binárias e duas
+ * baselines comparam as arestas de um requisito par a par. Todas as leituras usam posições absolutas, sem estado
+ * compartilhado, e podem ser feitas por várias threads ao mesmo tempo.
+ */
+public final class BaselineSnapshot {
+
+    static final int MAGIC = 0x4F52424C; // "ORBL"
+    static final int FORMAT_VERSION = 1;
+    static final int HEADER_SIZE = 72;
+    static final int NO_VALUE = -1;
+    static final long NO_TIMESTAMP = Long.MIN_VALUE;
+
+    // Colunas na ordem em que aparecem no arquivo
+    static final int LONG_COLUMNS = 3;
+    static final int COL_ID = 0;
+    static final int COL_SOURCE_ID = 1;
+    static final int COL_LAST_UPDATED = 2;
+    static final int INT_COLUMNS = 9;
+    static final int COL_REQUIREMENT_ID = 0;
+    static final int COL_DESCRIPTION = 1;
+    static final int COL_RATIONALE = 2;
+    static final int COL_FIT_CRITERION = 3;
+    static final int COL_TYPE = 4;
+    static final int COL_STATUS = 5;
+    static final int COL_PRIORITY = 6;
+    static final int COL_VERSION = 7;
+    static final int COL_SOURCE_NAME = 8;
+
+    private final String name;
+    private final ByteBuffer buffer;
+    private final long createdAt;
+    private final int nameRef;
+    private final int descriptionRef;
+    private final int rowCount;
+    private final int edgeCount;
+    private final int stringCount;
+    private final int stringIndexPos;
+    private final int stringDataPos;
+    private final int columnsPos;
+    private final int edgesPos;
+
+    private BaselineSnapshot(String name, ByteBuffer buffer) {
+        this.name = name;
+        this.buffer = buffer;
+        if (buffer.capacity() < HEADER_SIZE || buffer.getInt(0) != MAGIC) {
+            throw new IllegalStateException("Arquivo de baseline inválido: " + name);
+        }
+        if (buffer.getInt(4) != FORMAT_VERSION) {
+            throw new IllegalStateException("Versão de formato não suportada na baseline " + name + ": " + buffer.getInt(4));
+        }
+        this.createdAt = buffer.getLong(8);
+        this.nameRef = buffer.getInt(16);
+        this.descriptionRef = buffer.getInt(20);
+        this.rowCount = buffer.getInt(24);
+        this.edgeCount = buffer.getInt(28);
+        this.stringCount = buffer.getInt(32);
+        this.stringIndexPos = (int) buffer.getLong(40);
+        this.stringDataPos = (int) buffer.getLong(48);
+        this.columnsPos = (int) buffer.getLong(56);
+        this.edgesPos = (int) buffer.getLong(64);
+    }
+
+    /**
+     * Mapeia o arquivo só para leitura; o canal pode ser fechado, o mapeamento continua válido
+     */
+    static BaselineSnapshot open(String name, Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            if (channel.size() > Integer.MAX_VALUE) {
+                throw new IOException("Baseline maior que 2 GB: " + file);
+            }
+            return new BaselineSnapshot(name, channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+        }
+    }
+
+    public String name() {
+        return string(nameRef);
+    }
+
+    public String description() {
+        return string(descriptionRef);
+    }
+
+    public LocalDateTime createdAt() {
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(createdAt), ZoneOffset.UTC);
+    }
+
+    public int size() {
+        return rowCount;
+    }
+
+    public int edgeCount() {
+        return edgeCount;
+    }
+
+    public long sizeInBytes() {
+        return buffer.capacity();
+    }
+
+    public long id(int row) {
+        return longColumn(COL_ID, row);
+    }
+
+    public Long sourceId(int row) {
+        long value = longColumn(COL_SOURCE_ID, row);
+        return value == NO_VALUE ? null : value;
+    }
+
+    public LocalDateTime lastUpdated(int row) {
+        long micros = longColumn(COL_LAST_UPDATED, row);
+        if (micros == NO_TIMESTAMP) {
+            return null;
+        }
+        return LocalDateTime.ofEpochSecond(Math.floorDiv(micros, 1_000_000),
+                Math.floorMod(micros, 1_000_000) * 1_000, ZoneOffset.UTC);
+    }
+
+    public String requirementId(int row) {
+        return string(intColumn(COL_REQUIREMENT_ID, row));
+    }
+
+    public String description(int row) {
+        return string(intColumn(COL_DESCRIPTION, row));
+    }
+
+    public String rationale(int row) {
+        return string(intColumn(COL_RATIONALE, row));
+    }
+
+    public String fitCriterion(int row) {
+        return string(intColumn(COL_FIT_CRITERION, row));
+    }
+
+    public RequirementType type(int row) {
+        String type = string(intColumn(COL_TYPE, row));
+        return type == null ? null : RequirementType.valueOf(type);
+    }
+
+    public RequirementStatus status(int row) {
+        String status = string(intColumn(COL_STATUS, row));
+        return status == null ? null : RequirementStatus.valueOf(status);
+    }
+
+    public Integer priority(int row) {
+        int priority = intColumn(COL_PRIORITY, row);
+        return priority == NO_VALUE ? null : priority;
+    }
+
+    public String version(int row) {
+        return string(intColumn(COL_VERSION, row));
+    }
+
+    public String sourceName(int row) {
+        return string(intColumn(COL_SOURCE_NAME, row));
+    }
+
+    /**
+     * Linha do requisito ou -1; compara os bytes UTF-8 sem montar as strings
+     */
+    public int rowOf(String requirementId) {
+        byte[] key = requirementId.getBytes(StandardCharsets.UTF_8);
+        int low = 0;
+        int high = rowCount - 1;
+        while (low <= high) {
+            int middle = (low + high) >>> 1;
+            int comparison = compare(intColumn(COL_REQUIREMENT_ID, middle), key);
+            if (comparison < 0) {
+                low = middle + 1;
+            } else if (comparison > 0) {
+                high = middle - 1;
+            } else {
+                return middle;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * requirementId das dependências diretas do requisito, na ordem gravada
+     */
+    public List<String> dependencies(int row) {
+        List<String> dependencies = new ArrayList<>();
+        for (int edge = firstEdge(row); edge < edgeCount && buffer.getInt(edgesPos + 4 * edge) == row; edge++) {
+            dependencies.add(string(edgeTarget(edge)));
+        }
+        return dependencies;
+    }
+
+    /**
+     * Linhas com algum texto (descrição, justificativa ou critério) aceito pelo filtro.
+     * Cada texto distinto é decodificado e testado uma única vez
+     */
+    public List<Integer> rowsWithText(Predicate<String> filter) {
+        BitSet candidates = new BitSet(stringCount);
+        for (int column : new int[]{COL_DESCRIPTION, COL_RATIONALE, COL_FIT_CRITERION}) {
+            for (int row = 0; row < rowCount; row++) {
+                int ref = intColumn(column, row);
+                if (ref != NO_VALUE) {
+                    candidates.set(ref);
+                }
+            }
+        }
+        BitSet matches = new BitSet(stringCount);
+        for (int ref = candidates.nextSetBit(0); ref >= 0; ref = candidates.nextSetBit(ref + 1)) {
+            if (filter.test(string(ref))) {
+                matches.set(ref);
+            }
+        }
+
+        List<Integer> rows = new ArrayList<>();
+        for (int row = 0; row < rowCount; row++) {
+            if (matches(matches, intColumn(COL_DESCRIPTION, row))
+                    || matches(matches, intColumn(COL_RATIONALE, row))
+                    || matches(matches, intColumn(COL_FIT_CRITERION, row))) {
+                rows.add(row);
+            }
+        }
+        return rows;
+    }
+
+    /**
+     * Compara o requirementId de uma linha com o de uma linha de outra baseline, na ordem das linhas.
+     * Permite alinhar duas baselines percorrendo ambas uma única vez
+     */
+    public int compareRequirementId(int row, BaselineSnapshot other, int otherRow) {
+        return compare(intColumn(COL_REQUIREMENT_ID, row), other, other.intColumn(COL_REQUIREMENT_ID, otherRow));
+    }
+
+    /**
+     * Indica se o conteúdo do requisito é o mesmo nas duas baselines, comparando os bytes sem
+     * decodificar strings. id e lastUpdated não contam: o conteúdo é o que a versão congela
+     */
+    public boolean sameContent(int row, BaselineSnapshot other, int otherRow) {
+        if (longColumn(COL_SOURCE_ID, row) != other.longColumn(COL_SOURCE_ID, otherRow)
+                || intColumn(COL_PRIORITY, row) != other.intColumn(COL_PRIORITY, otherRow)) {
+            return false;
+        }
+        for (int column : new int[]{COL_VERSION, COL_STATUS, COL_TYPE, COL_DESCRIPTION,
+                COL_RATIONALE, COL_FIT_CRITERION, COL_SOURCE_NAME}) {
+            if (!sameString(intColumn(column, row), other, other.intColumn(column, otherRow))) {
+                return false;
+            }
+        }
+        int first = firstEdge(row);
+        int otherFirst = other.firstEdge(otherRow);
+        int edge = first;
+        int otherEdge = otherFirst;
+        while (edge < edgeCount && buffer.getInt(edgesPos + 4 * edge) == row) {
+            if (otherEdge >= other.edgeCount || other.buffer.getInt(other.edgesPos + 4 * otherEdge) != otherRow
+                    || !sameString(edgeTarget(edge), other, other.edgeTarget(otherEdge))) {
+                return false;
+            }
+            edge++;
+            otherEdge++;
+        }
+        return otherEdge >= other.edgeCount || other.buffer.getInt(other.edgesPos + 4 * otherEdge) != otherRow;
+    }
+
+    private static boolean matches(BitSet matches, int ref) {
+        return ref != NO_VALUE && matches.get(ref);
+    }
+
+    private long longColumn(int column, int row) {
+        checkRow(row);
+        return buffer.getLong(columnsPos + 8 * (column * rowCount + row));
+    }
+
+    private int intColumn(int column, int row) {
+        checkRow(row);
+        return buffer.getInt(columnsPos + 8 * LONG_COLUMNS * rowCount + 4 * (column * rowCount + row));
+    }
+
+    // Primeira aresta com from >= row (as arestas estão em ordem de linha)
+    private int firstEdge(int row) {
+        int low = 0;
+        int high = edgeCount;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (buffer.getInt(edgesPos + 4 * middle) < row) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    private int edgeTarget(int edge) {
+        return buffer.getInt(edgesPos + 4 * edgeCount + 4 * edge);
+    }
+
+    private void checkRow(int row) {
+        if (row < 0 || row >= rowCount) {
+            throw new IndexOutOfBoundsException("Linha " + row + " fora da baseline " + name);
+        }
+    }
+
+    private String string(int ref) {
+        if (ref == NO_VALUE) {
+            return null;
+        }
+        int start = buffer.getInt(stringIndexPos + 4 * ref);
+        int end = buffer.getInt(stringIndexPos + 4 * (ref + 1));
+        byte[] bytes = new byte[end - start];
+        buffer.get(stringDataPos + start, bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    // Ordem dos bytes UTF-8 sem sinal, a mesma usada pelo BaselineWriter ao ordenar as linhas
+    private int compare(int ref, byte[] key) {
+        int start = buffer.getInt(stringIndexPos + 4 * ref);
+        int length = buffer.getInt(stringIndexPos + 4 * (ref + 1)) - start;
+        int common = Math.min(length, key.length);
+        for (int i = 0; i < common; i++) {
+            int difference = (buffer.get(stringDataPos + start + i) & 0xFF) - (key[i] & 0xFF);
+            if (difference != 0) {
+                return difference;
+            }
+        }
+        return length - key.length;
+    }
+
+    private int compare(int ref, BaselineSnapshot other, int otherRef) {
+        int start = buffer.getInt(stringIndexPos + 4 * ref);
+        int length = buffer.getInt(stringIndexPos + 4 * (ref + 1)) - start;
+        int otherStart = other.buffer.getInt(other.stringIndexPos + 4 * otherRef);
+        int otherLength = other.buffer.getInt(other.stringIndexPos + 4 * (otherRef + 1)) - otherStart;
+        int mismatch = buffer.slice(stringDataPos + start, length)
+                .mismatch(other.buffer.slice(other.stringDataPos + otherStart, otherLength));
+        if (mismatch < 0) {
+            return 0;
+        }
+        if (mismatch >= length || mismatch >= otherLength) {
+            return length - otherLength;
+        }
+        return (buffer.get(stringDataPos + start + mismatch) & 0xFF)
+                - (other.buffer.get(other.stringDataPos + otherStart + mismatch) & 0xFF);
+    }
+
+    private boolean sameString(int ref, BaselineSnapshot other, int otherRef) {
+        if (ref == NO_VALUE || otherRef == NO_VALUE) {
+            return ref == otherRef;
+        }
+        return compare(ref, other, otherRef) == 0;
+    }
+}
@@ -0,0 +1,112 @@
+package com.openreqs.openreqs.service.baseline;
+
+import com.openreqs.openreqs.repository.DependencyExportRow;
+import com.openreqs.openreqs.repository.RequirementExportRow;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+/**
+ * Diretório de baselines: um arquivo por baseline, gravado uma vez e nunca alterado.
+ *
+ * Os arquivos são mapeados na primeira leitura e os mapeamentos reaproveitados; como só
+ * o índice de cada arquivo é tocado até alguém ler seus requisitos, manter centenas de
+ * baselines custa espaço em disco e quase nada de heap.
+ */
+@Component
+public class BaselineStore {
+
+    private static final String EXTENSION = ".baseline";
+    private static final Pattern NAME = Pattern.compile("[A-Za-z0-9][A-Za-z0-9._-]{0,63}");
+
+    private final Path directory;
+    private final Map<String, BaselineSnapshot> mapped = new ConcurrentHashMap<>();
+
+    public BaselineStore(@Value("${openreqs.baseline.directory:data/baselines}") Path directory) {
+        this.directory = directory;
+    }
+
+    /**
+     * Grava num arquivo temporário e o move para o nome final, então uma baseline
+     * nunca é vista pela metade
+     */
+    public synchronized BaselineSnapshot create(String name, String description, long createdAt,
+                                                Collection<RequirementExportRow> requirements,
+                                                Collection<DependencyExportRow> dependencies) {
+        Path file = file(name);
+        if (Files.exists(file)) {
+            throw new RuntimeException("Baseline já existe: " + name);
+        }
+        try {
+            Files.createDirectories(directory);
+            Path temporary = Files.createTempFile(directory, name, ".tmp");
+            try {
+                BaselineWriter.write(temporary, name, description, createdAt, requirements, dependencies);
+                Files.move(temporary, file, StandardCopyOption.ATOMIC_MOVE);
+            } finally {
+                Files.deleteIfExists(temporary);
+            }
+            file.toFile().setReadOnly();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return find(name).orElseThrow();
+    }
+
+    public Optional<BaselineSnapshot> find(String name) {
+        Path file = file(name);
+        if (!Files.exists(file)) {
+            return Optional.empty();
+        }
+        return Optional.of(mapped.computeIfAbsent(name, key -> {
+            try {
+                return BaselineSnapshot.open(key, file);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }));
+    }
+
+    /**
+     * Todas as baselines, da mais recente para a mais antiga
+     */
+    public List<BaselineSnapshot> list() {
+        if (!Files.isDirectory(directory)) {
+            return List.of();
+        }
+        try (Stream<Path> files = Files.list(directory)) {
+            return files
+                    .map(path -> path.getFileName().toString())
+                    .filter(fileName -> fileName.endsWith(EXTENSION))
+                    .map(fileName -> fileName.substring(0, fileName.length() - EXTENSION.length()))
+                    .filter(name -> NAME.matcher(name).matches())
+                    .map(this::find)
+                    .flatMap(Optional::stream)
+                    .sorted(Comparator.comparing(BaselineSnapshot::createdAt).reversed())
+                    .toList();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private Path file(String name) {
+        if (name == null || !NAME.matcher(name).matches()) {
+            throw new IllegalArgumentException(
+                    "Nome de baseline inválido: use até 64 letras, dígitos, '.', '_' ou '-'");
+        }
+        return directory.resolve(name + EXTENSION);
+    }
+}
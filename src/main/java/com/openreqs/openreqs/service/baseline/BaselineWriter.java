@@ -0,0 +1,183 @@
+package com.openreqs.openreqs.service.baseline;
+
+import com.openreqs.openreqs.repository.DependencyExportRow;
+import com.openreqs.openreqs.repository.RequirementExportRow;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Grava o arquivo no layout descrito em BaselineSnapshot
+ */
+final class BaselineWriter {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    // Texto → posição na tabela; textos repetidos (status, versões, origens) são gravados uma vez
+    private final Map<String, Integer> strings = new LinkedHashMap<>();
+
+    private BaselineWriter() {
+    }
+
+    static void write(Path file, String name, String description, long createdAt,
+                      Collection<RequirementExportRow> requirements,
+                      Collection<DependencyExportRow> dependencies) throws IOException {
+        new BaselineWriter().writeFile(file, name, description, createdAt, requirements, dependencies);
+    }
+
+    private void writeFile(Path file, String name, String description, long createdAt,
+                           Collection<RequirementExportRow> requirements,
+                           Collection<DependencyExportRow> dependencies) throws IOException {
+        int nameRef = ref(name);
+        int descriptionRef = ref(description);
+
+        // Linhas em ordem dos bytes UTF-8 do requirementId, como compara a busca binária
+        List<RequirementExportRow> rows = new ArrayList<>(requirements);
+        rows.sort(Comparator.comparing(row -> row.requirementId().getBytes(StandardCharsets.UTF_8),
+                Arrays::compareUnsigned));
+        Map<Long, Integer> rowById = new HashMap<>();
+        for (int row = 0; row < rows.size(); row++) {
+            rowById.put(rows.get(row).id(), row);
+        }
+
+        int rowCount = rows.size();
+        long[][] longColumns = new long[BaselineSnapshot.LONG_COLUMNS][rowCount];
+        int[][] intColumns = new int[BaselineSnapshot.INT_COLUMNS][rowCount];
+        for (int row = 0; row < rowCount; row++) {
+            RequirementExportRow requirement = rows.get(row);
+            longColumns[BaselineSnapshot.COL_ID][row] = requirement.id();
+            longColumns[BaselineSnapshot.COL_SOURCE_ID][row] =
+                    requirement.sourceId() == null ? BaselineSnapshot.NO_VALUE : requirement.sourceId();
+            longColumns[BaselineSnapshot.COL_LAST_UPDATED][row] = micros(requirement.lastUpdated());
+            intColumns[BaselineSnapshot.COL_REQUIREMENT_ID][row] = ref(requirement.requirementId());
+            intColumns[BaselineSnapshot.COL_DESCRIPTION][row] = ref(requirement.description());
+            intColumns[BaselineSnapshot.COL_RATIONALE][row] = ref(requirement.rationale());
+            intColumns[BaselineSnapshot.COL_FIT_CRITERION][row] = ref(requirement.fitCriterion());
+            intColumns[BaselineSnapshot.COL_TYPE][row] =
+                    ref(requirement.type() == null ? null : requirement.type().name());
+            intColumns[BaselineSnapshot.COL_STATUS][row] =
+                    ref(requirement.status() == null ? null : requirement.status().name());
+            intColumns[BaselineSnapshot.COL_PRIORITY][row] =
+                    requirement.priority() == null ? BaselineSnapshot.NO_VALUE : requirement.priority();
+            intColumns[BaselineSnapshot.COL_VERSION][row] = ref(requirement.version());
+            intColumns[BaselineSnapshot.COL_SOURCE_NAME][row] = ref(requirement.sourceName());
+        }
+
+        // Só as arestas que partem de requisitos da baseline; o destino pode estar fora dela.
+        // Dentro de uma linha, destinos em ordem dos bytes UTF-8, como as linhas: a ordem não
+        // depende da tabela de strings, e duas baselines comparam as arestas par a par
+        List<Edge> pending = new ArrayList<>();
+        for (DependencyExportRow dependency : dependencies) {
+            Integer from = rowById.get(dependency.id());
+            if (from != null) {
+                String target = dependency.dependsOnRequirementId();
+                pending.add(new Edge(from, target, target.getBytes(StandardCharsets.UTF_8)));
+            }
+        }
+        pending.sort(Comparator.comparingInt(Edge::from).thenComparing(Edge::targetBytes, Arrays::compareUnsigned));
+        List<int[]> edges = new ArrayList<>(pending.size());
+        for (Edge edge : pending) {
+            edges.add(new int[]{edge.from(), ref(edge.target())});
+        }
+
+        List<byte[]> encoded = new ArrayList<>(strings.size());
+        long stringBytes = 0;
+        for (String text : strings.keySet()) {
+            byte[] bytes = text.getBytes(StandardCharsets.UTF_8);
+            encoded.add(bytes);
+            stringBytes += bytes.length;
+        }
+
+        long stringIndexPos = BaselineSnapshot.HEADER_SIZE;
+        long stringDataPos = stringIndexPos + 4L * (encoded.size() + 1);
+        long columnsPos = align(stringDataPos + stringBytes);
+        long edgesPos = columnsPos
+                + 8L * BaselineSnapshot.LONG_COLUMNS * rowCount
+                + 4L * BaselineSnapshot.INT_COLUMNS * rowCount;
+        if (edgesPos + 8L * edges.size() > Integer.MAX_VALUE) {
+            throw new IOException("Baseline excede 2 GB");
+        }
+
+        try (DataOutputStream out = new DataOutputStream(
+                new BufferedOutputStream(Files.newOutputStream(file), BUFFER_SIZE))) {
+            out.writeInt(BaselineSnapshot.MAGIC);
+            out.writeInt(BaselineSnapshot.FORMAT_VERSION);
+            out.writeLong(createdAt);
+            out.writeInt(nameRef);
+            out.writeInt(descriptionRef);
+            out.writeInt(rowCount);
+            out.writeInt(edges.size());
+            out.writeInt(encoded.size());
+            out.writeInt(0);
+            out.writeLong(stringIndexPos);
+            out.writeLong(stringDataPos);
+            out.writeLong(columnsPos);
+            out.writeLong(edgesPos);
+
+            int offset = 0;
+            out.writeInt(offset);
+            for (byte[] bytes : encoded) {
+                offset += bytes.length;
+                out.writeInt(offset);
+            }
+            for (byte[] bytes : encoded) {
+                out.write(bytes);
+            }
+            for (long padding = stringDataPos + stringBytes; padding < columnsPos; padding++) {
+                out.writeByte(0);
+            }
+
+            for (long[] column : longColumns) {
+                for (long value : column) {
+                    out.writeLong(value);
+                }
+            }
+            for (int[] column : intColumns) {
+                for (int value : column) {
+                    out.writeInt(value);
+                }
+            }
+            for (int[] edge : edges) {
+                out.writeInt(edge[0]);
+            }
+            for (int[] edge : edges) {
+                out.writeInt(edge[1]);
+            }
+        }
+    }
+
+    private int ref(String text) {
+        if (text == null) {
+            return BaselineSnapshot.NO_VALUE;
+        }
+        return strings.computeIfAbsent(text, key -> strings.size());
+    }
+
+    private static long micros(LocalDateTime time) {
+        if (time == null) {
+            return BaselineSnapshot.NO_TIMESTAMP;
+        }
+        return time.toEpochSecond(ZoneOffset.UTC) * 1_000_000 + time.getNano() / 1_000;
+    }
+
+    private static long align(long position) {
+        return (position + 7) & ~7L;
+    }
+
+    private record Edge(int from, String target, byte[] targetBytes) {
+    }
+}
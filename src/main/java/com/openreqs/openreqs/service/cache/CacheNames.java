@@ -0,0 +1,19 @@
+package com.openreqs.openreqs.service.cache;
+
+/**
+ * Nomes dos caches de consulta e o que cada um guarda
+ */
+public final class CacheNames {
+
+    /** requirementId → RequirementResponse sem os campos de dependência (vêm do índice do grafo) */
+    public static final String REQUIREMENTS = "requirements";
+
+    /** ID → StakeholderResponse sem requirementCount (muda a cada requisito criado) */
+    public static final String STAKEHOLDERS = "stakeholders";
+
+    /** termo → GlossaryResponse */
+    public static final String GLOSSARY = "glossary";
+
+    private CacheNames() {
+    }
+}
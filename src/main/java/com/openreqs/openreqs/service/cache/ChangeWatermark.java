@@ -0,0 +1,65 @@
+package com.openreqs.openreqs.service.cache;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Marca d'água de alterações para ETags: avança a cada escrita confirmada que pode mudar
+ * alguma resposta de requisito, então responder a If-None-Match custa só uma comparação.
+ *
+ * Avança depois do commit: uma leitura entre o commit e o avanço devolve dados novos com
+ * a marca antiga, o que só custa um 200 a mais; o contrário deixaria o cliente com dados velhos.
+ */
+@Component
+public class ChangeWatermark {
+
+    // Os contadores recomeçam a cada inicialização; a época evita repetir ETags antigas
+    private final String epoch = Long.toString(System.currentTimeMillis(), 36);
+    private final AtomicLong requirements = new AtomicLong();
+    private final AtomicLong stakeholders = new AtomicLong();
+
+    /**
+     * ETag das coleções de requisitos (listagens paginadas)
+     */
+    public String collectionTag() {
+        return "\"c" + epoch + "-" + requirements.get() + "\"";
+    }
+
+    /**
+     * Parte da ETag de um requisito que depende de dados de outras entidades:
+     * só o stakeholder de origem ou, nas formas expandidas, qualquer escrita
+     */
+    public String dependentPart(boolean expanded) {
+        return "-s" + epoch + "." + stakeholders.get() + (expanded ? "-w" + requirements.get() : "");
+    }
+
+    public void advanceAfterCommit() {
+        afterCommit(requirements::incrementAndGet);
+    }
+
+    /**
+     * Stakeholders aparecem dentro das respostas de requisitos, então também avançam a marca geral
+     */
+    public void advanceStakeholdersAfterCommit() {
+        afterCommit(() -> {
+            stakeholders.incrementAndGet();
+            requirements.incrementAndGet();
+        });
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
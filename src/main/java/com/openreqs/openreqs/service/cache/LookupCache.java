@@ -0,0 +1,89 @@
+package com.openreqs.openreqs.service.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.openreqs.openreqs.dto.CacheStatistics;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * Acesso aos caches de consulta com invalidação pontual.
+ *
+ * A invalidação acontece na hora e de novo ao fim da transação: assim uma leitura
+ * concorrente que carregou o valor antigo antes do commit não o deixa no cache.
+ */
+@Component
+@RequiredArgsConstructor
+public class LookupCache {
+
+    private final CaffeineCacheManager cacheManager;
+
+    /**
+     * Valor em cache ou carregado pelo loader; resultados vazios não são guardados
+     */
+    @SuppressWarnings("unchecked")
+    public <V> Optional<V> get(String cacheName, Object key, Supplier<Optional<V>> loader) {
+        return Optional.ofNullable((V) nativeCache(cacheName).get(key, k -> loader.get().orElse(null)));
+    }
+
+    public void evict(String cacheName, Object key) {
+        Cache<Object, Object> cache = nativeCache(cacheName);
+        cache.invalidate(key);
+        afterCompletion(() -> cache.invalidate(key));
+    }
+
+    /**
+     * Remove as entradas cujo valor satisfaz o predicado (ex.: requisitos de um stakeholder alterado)
+     */
+    public void evictIf(String cacheName, Predicate<Object> predicate) {
+        Cache<Object, Object> cache = nativeCache(cacheName);
+        cache.asMap().values().removeIf(predicate);
+        afterCompletion(() -> cache.asMap().values().removeIf(predicate));
+    }
+
+    public List<CacheStatistics> statistics() {
+        return cacheManager.getCacheNames().stream()
+                .sorted()
+                .map(name -> {
+                    Cache<Object, Object> cache = nativeCache(name);
+                    CacheStats stats = cache.stats();
+                    return CacheStatistics.builder()
+                            .name(name)
+                            .size(cache.estimatedSize())
+                            .hitCount(stats.hitCount())
+                            .missCount(stats.missCount())
+                            .hitRate(stats.hitRate())
+                            .loadCount(stats.loadCount())
+                            .averageLoadPenaltyMillis(stats.averageLoadPenalty() / 1_000_000.0)
+                            .evictionCount(stats.evictionCount())
+                            .evictionWeight(stats.evictionWeight())
+                            .build();
+                })
+                .toList();
+    }
+
+    private Cache<Object, Object> nativeCache(String cacheName) {
+        return ((CaffeineCache) cacheManager.getCache(cacheName)).getNativeCache();
+    }
+
+    private static void afterCompletion(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                action.run();
+            }
+        });
+    }
+}
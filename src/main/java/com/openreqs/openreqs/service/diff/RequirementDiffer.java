@@ -0,0 +1,100 @@
+package com.openreqs.openreqs.service.diff;
+
+import com.openreqs.openreqs.dto.FieldChange;
+import com.openreqs.openreqs.dto.RequirementDiff;
+import com.openreqs.openreqs.dto.TextSegment;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * IREB Syllabus - Unidade 6: Gerenciamento de Requisitos (comparação de versões)
+ * Monta a diferença de um requisito entre dois lados já alinhados pelo requirementId.
+ * Sem estado: pode ser chamado por várias threads ao mesmo tempo.
+ */
+public final class RequirementDiffer {
+
+    private RequirementDiffer() {
+    }
+
+    public static RequirementDiff added(RequirementState after) {
+        return RequirementDiff.builder()
+                .requirementId(after.requirementId())
+                .change(RequirementDiff.Change.ADDED)
+                .toVersion(after.version())
+                .addedDependencies(after.dependencies())
+                .build();
+    }
+
+    public static RequirementDiff removed(RequirementState before) {
+        return RequirementDiff.builder()
+                .requirementId(before.requirementId())
+                .change(RequirementDiff.Change.REMOVED)
+                .fromVersion(before.version())
+                .removedDependencies(before.dependencies())
+                .build();
+    }
+
+    /**
+     * Diferença entre os dois lados; change é UNCHANGED se nada mudou
+     */
+    public static RequirementDiff compare(RequirementState before, RequirementState after) {
+        List<FieldChange> fields = new ArrayList<>();
+        field(fields, "version", before.version(), after.version());
+        field(fields, "type", before.type(), after.type());
+        field(fields, "status", before.status(), after.status());
+        field(fields, "priority", before.priority(), after.priority());
+        field(fields, "sourceId", before.sourceId(), after.sourceId());
+
+        List<TextSegment> description = text(before.description(), after.description());
+        List<TextSegment> rationale = text(before.rationale(), after.rationale());
+        List<TextSegment> fitCriterion = text(before.fitCriterion(), after.fitCriterion());
+
+        List<String> addedDependencies = null;
+        List<String> removedDependencies = null;
+        if (before.dependencies() != null && after.dependencies() != null) {
+            addedDependencies = missingFrom(after.dependencies(), before.dependencies());
+            removedDependencies = missingFrom(before.dependencies(), after.dependencies());
+        }
+
+        boolean modified = !fields.isEmpty() || description != null || rationale != null || fitCriterion != null;
+        boolean relinked = (addedDependencies != null && !addedDependencies.isEmpty())
+                || (removedDependencies != null && !removedDependencies.isEmpty());
+        RequirementDiff.Change change = modified ? RequirementDiff.Change.MODIFIED
+                : relinked ? RequirementDiff.Change.RELINKED
+                : RequirementDiff.Change.UNCHANGED;
+
+        return RequirementDiff.builder()
+                .requirementId(after.requirementId())
+                .change(change)
+                .fromVersion(before.version())
+                .toVersion(after.version())
+                .fields(fields.isEmpty() ? null : fields)
+                .description(description)
+                .rationale(rationale)
+                .fitCriterion(fitCriterion)
+                .addedDependencies(relinked ? addedDependencies : null)
+                .removedDependencies(relinked ? removedDependencies : null)
+                .build();
+    }
+
+    private static void field(List<FieldChange> fields, String name, Object before, Object after) {
+        if (!Objects.equals(before, after)) {
+            fields.add(new FieldChange(name, before == null ? null : before.toString(),
+                    after == null ? null : after.toString()));
+        }
+    }
+
+    private static List<TextSegment> text(String before, String after) {
+        return Objects.equals(before, after) ? null : WordDiff.diff(before, after);
+    }
+
+    private static List<String> missingFrom(List<String> values, List<String> other) {
+        Set<String> result = new LinkedHashSet<>(values);
+        result.removeAll(new LinkedHashSet<>(other));
+        return new ArrayList<>(result);
+    }
+}
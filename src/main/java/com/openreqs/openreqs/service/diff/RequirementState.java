@@ -0,0 +1,37 @@
+package com.openreqs.openreqs.service.diff;
+
+import com.openreqs.openreqs.domain.enums.RequirementStatus;
+import com.openreqs.openreqs.domain.enums.RequirementType;
+import com.openreqs.openreqs.dto.RequirementVersionResponse;
+import com.openreqs.openreqs.service.baseline.BaselineSnapshot;
+
+import java.util.List;
+
+/**
+ * Um lado da comparação: o conteúdo do requisito numa baseline ou numa versão.
+ * dependencies é null quando a origem não guarda as dependências (versões do histórico)
+ */
+public record RequirementState(String requirementId,
+                               String version,
+                               String description,
+                               String rationale,
+                               String fitCriterion,
+                               RequirementType type,
+                               RequirementStatus status,
+                               Integer priority,
+                               Long sourceId,
+                               List<String> dependencies) {
+
+    public static RequirementState of(BaselineSnapshot snapshot, int row) {
+        return new RequirementState(snapshot.requirementId(row), snapshot.version(row),
+                snapshot.description(row), snapshot.rationale(row), snapshot.fitCriterion(row),
+                snapshot.type(row), snapshot.status(row), snapshot.priority(row), snapshot.sourceId(row),
+                snapshot.dependencies(row));
+    }
+
+    public static RequirementState of(RequirementVersionResponse version) {
+        return new RequirementState(version.getRequirementId(), version.getVersion(),
+                version.getDescription(), version.getRationale(), version.getFitCriterion(),
+                version.getType(), version.getStatus(), version.getPriority(), version.getSourceId(), null);
+    }
+}
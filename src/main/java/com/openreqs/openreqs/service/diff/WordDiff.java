@@ -0,0 +1,182 @@
+package com.openreqs.openreqs.service.diff;
+
+import com.openreqs.openreqs.dto.TextSegment;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Diff por palavras (algoritmo de Myers, O((n + m) * d)) entre dois textos.
+ *
+ * Os textos são quebrados em palavras, espaços e sinais de pontuação, de modo que juntar os
+ * trechos EQUAL e DELETE reproduz o texto antigo e juntar EQUAL e INSERT reproduz o novo.
+ * O início e o fim em comum são retirados antes; se o número de edições passar de
+ * MAX_EDITS, o trecho do meio é reportado como uma substituição inteira.
+ */
+public final class WordDiff {
+
+    static final int MAX_EDITS = 512;
+
+    private static final Pattern TOKEN = Pattern.compile("[\\p{L}\\p{N}_]+|\\s+|.", Pattern.DOTALL);
+
+    private WordDiff() {
+    }
+
+    /**
+     * Trechos do diff, com operações iguais consecutivas unidas; vazio se os textos são iguais
+     */
+    public static List<TextSegment> diff(String before, String after) {
+        if (Objects.equals(before, after)) {
+            return List.of();
+        }
+        // Os tokens viram inteiros para que a comparação no laço principal seja ==
+        Map<String, Integer> codes = new HashMap<>();
+        List<String> tokens = new ArrayList<>();
+        int[] a = encode(before, codes, tokens);
+        int[] b = encode(after, codes, tokens);
+
+        int prefix = 0;
+        while (prefix < a.length && prefix < b.length && a[prefix] == b[prefix]) {
+            prefix++;
+        }
+        int suffix = 0;
+        while (suffix < a.length - prefix && suffix < b.length - prefix
+                && a[a.length - 1 - suffix] == b[b.length - 1 - suffix]) {
+            suffix++;
+        }
+
+        Segments segments = new Segments(tokens);
+        for (int i = 0; i < prefix; i++) {
+            segments.add(TextSegment.Operation.EQUAL, a[i]);
+        }
+        middle(a, prefix, a.length - suffix, b, prefix, b.length - suffix, segments);
+        for (int i = a.length - suffix; i < a.length; i++) {
+            segments.add(TextSegment.Operation.EQUAL, a[i]);
+        }
+        return segments.build();
+    }
+
+    private static void middle(int[] a, int aFrom, int aTo, int[] b, int bFrom, int bTo, Segments segments) {
+        int n = aTo - aFrom;
+        int m = bTo - bFrom;
+        int max = Math.min(n + m, MAX_EDITS);
+        int offset = max + 1;
+        int[] v = new int[2 * max + 3];
+        List<int[]> trace = new ArrayList<>();
+
+        for (int d = 0; d <= max; d++) {
+            trace.add(v.clone());
+            for (int k = -d; k <= d; k += 2) {
+                int x = k == -d || (k != d && v[offset + k - 1] < v[offset + k + 1])
+                        ? v[offset + k + 1]
+                        : v[offset + k - 1] + 1;
+                int y = x - k;
+                while (x < n && y < m && a[aFrom + x] == b[bFrom + y]) {
+                    x++;
+                    y++;
+                }
+                v[offset + k] = x;
+                if (x >= n && y >= m) {
+                    backtrack(trace, offset, a, aFrom, n, b, bFrom, m, segments);
+                    return;
+                }
+            }
+        }
+
+        // Textos muito diferentes: substituição inteira
+        for (int i = aFrom; i < aTo; i++) {
+            segments.add(TextSegment.Operation.DELETE, a[i]);
+        }
+        for (int i = bFrom; i < bTo; i++) {
+            segments.add(TextSegment.Operation.INSERT, b[i]);
+        }
+    }
+
+    private static void backtrack(List<int[]> trace, int offset, int[] a, int aFrom, int n,
+                                  int[] b, int bFrom, int m, Segments segments) {
+        List<int[]> edits = new ArrayList<>();
+        int x = n;
+        int y = m;
+        for (int d = trace.size() - 1; d >= 0; d--) {
+            int[] v = trace.get(d);
+            int k = x - y;
+            int previousK = k == -d || (k != d && v[offset + k - 1] < v[offset + k + 1]) ? k + 1 : k - 1;
+            int previousX = v[offset + previousK];
+            int previousY = previousX - previousK;
+            while (x > previousX && y > previousY) {
+                edits.add(new int[]{TextSegment.Operation.EQUAL.ordinal(), a[aFrom + x - 1]});
+                x--;
+                y--;
+            }
+            if (d > 0) {
+                if (x == previousX) {
+                    edits.add(new int[]{TextSegment.Operation.INSERT.ordinal(), b[bFrom + y - 1]});
+                } else {
+                    edits.add(new int[]{TextSegment.Operation.DELETE.ordinal(), a[aFrom + x - 1]});
+                }
+            }
+            x = previousX;
+            y = previousY;
+        }
+        Collections.reverse(edits);
+        for (int[] edit : edits) {
+            segments.add(TextSegment.Operation.values()[edit[0]], edit[1]);
+        }
+    }
+
+    private static int[] encode(String text, Map<String, Integer> codes, List<String> tokens) {
+        if (text == null || text.isEmpty()) {
+            return new int[0];
+        }
+        List<Integer> encoded = new ArrayList<>();
+        Matcher matcher = TOKEN.matcher(text);
+        while (matcher.find()) {
+            encoded.add(codes.computeIfAbsent(matcher.group(), token -> {
+                tokens.add(token);
+                return tokens.size() - 1;
+            }));
+        }
+        return encoded.stream().mapToInt(Integer::intValue).toArray();
+    }
+
+    /**
+     * Acumula tokens, unindo os de mesma operação num único trecho
+     */
+    private static final class Segments {
+
+        private final List<String> tokens;
+        private final List<TextSegment> segments = new ArrayList<>();
+        private TextSegment.Operation operation;
+        private final StringBuilder text = new StringBuilder();
+
+        private Segments(List<String> tokens) {
+            this.tokens = tokens;
+        }
+
+        void add(TextSegment.Operation tokenOperation, int token) {
+            if (tokenOperation != operation) {
+                flush();
+                operation = tokenOperation;
+            }
+            text.append(tokens.get(token));
+        }
+
+        List<TextSegment> build() {
+            flush();
+            return segments;
+        }
+
+        private void flush() {
+            if (operation != null && !text.isEmpty()) {
+                segments.add(new TextSegment(operation, text.toString()));
+            }
+            text.setLength(0);
+        }
+    }
+}
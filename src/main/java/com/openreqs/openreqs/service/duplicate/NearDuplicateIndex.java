@@ -0,0 +1,299 @@
+package com.openreqs.openreqs.service.duplicate;
+
+import com.openreqs.openreqs.domain.entity.Requirement;
+import com.openreqs.openreqs.repository.RequirementRepository;
+import com.openreqs.openreqs.service.quality.text.TextNormalizer;
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManager;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Stream;
+
+/**
+ * IREB Syllabus - Unidade 4: Documentação de Requisitos (requisitos duplicados)
+ * Índice MinHash/LSH sobre as descrições dos requisitos não arquivados.
+ *
+ * A descrição é normalizada (minúsculas, sem acento, só palavras) e quebrada em shingles
+ * de SHINGLE_SIZE palavras. A assinatura guarda o menor hash de cada uma das SIGNATURE_SIZE
+ * funções; a fração de posições iguais entre duas assinaturas estima a similaridade de
+ * Jaccard dos shingles. A assinatura é dividida em BANDS faixas e cada faixa vira uma chave
+ * de bucket: só requisitos que dividem algum bucket são comparados, então a consulta
+ * não depende do total de requisitos. Cada consulta compara no máximo max-candidates
+ * requisitos, para que buckets muito cheios (textos padronizados) não a tornem linear.
+ *
+ * Carregado na inicialização e mantido pelo RequirementService após o commit de cada
+ * criação, atualização ou arquivamento, como o índice de busca.
+ */
+@Component
+public class NearDuplicateIndex {
+
+    static final int SHINGLE_SIZE = 3;
+    static final int SIGNATURE_SIZE = 64;
+    // 16 faixas de 4 linhas: pares com similaridade 0,8 viram candidatos com probabilidade > 99,9%
+    static final int BANDS = 16;
+    static final int ROWS = SIGNATURE_SIZE / BANDS;
+
+    // Sementes fixas: as assinaturas precisam ser estáveis entre reinicializações
+    private static final long[] SEEDS = new SplittableRandom(0x4F52L).longs(SIGNATURE_SIZE).toArray();
+
+    private final RequirementRepository requirementRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final EntityManager entityManager;
+    private final double threshold;
+    private final int maxResults;
+    private final int maxCandidates;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<Long, Entry> entries = new HashMap<>();
+    // (faixa, hash da faixa) → IDs dos requisitos no bucket
+    private final Map<Long, Bucket> buckets = new HashMap<>();
+
+    public NearDuplicateIndex(RequirementRepository requirementRepository,
+                              TransactionTemplate transactionTemplate,
+                              EntityManager entityManager,
+                              @Value("${openreqs.duplicates.threshold:0.8}") double threshold,
+                              @Value("${openreqs.duplicates.max-results:5}") int maxResults,
+                              @Value("${openreqs.duplicates.max-candidates:1000}") int maxCandidates) {
+        this.requirementRepository = requirementRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.entityManager = entityManager;
+        this.threshold = threshold;
+        this.maxResults = maxResults;
+        this.maxCandidates = Math.max(1, maxCandidates);
+    }
+
+    @PostConstruct
+    public void load() {
+        transactionTemplate.executeWithoutResult(status -> {
+            try (Stream<Requirement> requirements = requirementRepository.streamActiveAfter(0L)) {
+                requirements.forEach(requirement -> {
+                    index(requirement.getId(), requirement.getRequirementId(), requirement.getDescription());
+                    entityManager.detach(requirement);
+                });
+            }
+        });
+    }
+
+    /**
+     * Inclui ou substitui o requisito. A assinatura é calculada fora do lock
+     */
+    public void index(long id, String requirementId, String description) {
+        int[] signature = signature(description);
+
+        lock.writeLock().lock();
+        try {
+            removeEntry(id);
+            if (signature != null) {
+                entries.put(id, new Entry(requirementId, signature));
+                for (int band = 0; band < BANDS; band++) {
+                    buckets.computeIfAbsent(bucketKey(signature, band), key -> new Bucket()).add(id);
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(long id) {
+        lock.writeLock().lock();
+        try {
+            removeEntry(id);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return entries.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Requisitos com similaridade estimada de pelo menos o limite configurado,
+     * do mais parecido para o menos parecido
+     */
+    public List<Match> findSimilar(String description, Long excludeId) {
+        int[] signature = signature(description);
+        if (signature == null) {
+            return List.of();
+        }
+
+        List<Match> matches = new ArrayList<>();
+        lock.readLock().lock();
+        try {
+            Set<Long> candidates = new HashSet<>();
+            for (int band = 0; band < BANDS && candidates.size() < maxCandidates; band++) {
+                Bucket bucket = buckets.get(bucketKey(signature, band));
+                if (bucket == null) {
+                    continue;
+                }
+                for (int i = 0; i < bucket.size && candidates.size() < maxCandidates; i++) {
+                    long candidate = bucket.ids[i];
+                    if (excludeId == null || candidate != excludeId) {
+                        candidates.add(candidate);
+                    }
+                }
+            }
+            for (Long candidate : candidates) {
+                Entry entry = entries.get(candidate);
+                double similarity = similarity(signature, entry.signature());
+                if (similarity >= threshold) {
+                    matches.add(new Match(candidate, entry.requirementId(), similarity));
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        matches.sort(Comparator.comparingDouble(Match::similarity).reversed().thenComparingLong(Match::id));
+        return matches.size() > maxResults ? matches.subList(0, maxResults) : matches;
+    }
+
+    /**
+     * Assinatura MinHash da descrição, ou null se não houver nenhuma palavra.
+     * Textos com menos de SHINGLE_SIZE palavras viram um único shingle
+     */
+    static int[] signature(String description) {
+        List<String> words = words(description);
+        if (words.isEmpty()) {
+            return null;
+        }
+        int[] signature = new int[SIGNATURE_SIZE];
+        Arrays.fill(signature, Integer.MAX_VALUE);
+        int shingles = Math.max(1, words.size() - SHINGLE_SIZE + 1);
+        for (int start = 0; start < shingles; start++) {
+            long shingle = hash(words, start, Math.min(words.size(), start + SHINGLE_SIZE));
+            for (int i = 0; i < SIGNATURE_SIZE; i++) {
+                int value = (int) (mix(shingle ^ SEEDS[i]) >>> 33);
+                if (value < signature[i]) {
+                    signature[i] = value;
+                }
+            }
+        }
+        return signature;
+    }
+
+    static double similarity(int[] signature, int[] other) {
+        int equal = 0;
+        for (int i = 0; i < SIGNATURE_SIZE; i++) {
+            if (signature[i] == other[i]) {
+                equal++;
+            }
+        }
+        return (double) equal / SIGNATURE_SIZE;
+    }
+
+    private static List<String> words(String text) {
+        List<String> words = new ArrayList<>();
+        if (text == null) {
+            return words;
+        }
+        int i = 0;
+        while (i < text.length()) {
+            while (i < text.length() && !TextNormalizer.isWordChar(text.charAt(i))) {
+                i++;
+            }
+            int start = i;
+            while (i < text.length() && TextNormalizer.isWordChar(text.charAt(i))) {
+                i++;
+            }
+            if (start < i) {
+                words.add(TextNormalizer.fold(text.substring(start, i)));
+            }
+        }
+        return words;
+    }
+
+    // FNV-1a de 64 bits sobre as palavras do shingle, separadas por um espaço
+    private static long hash(List<String> words, int from, int to) {
+        long hash = 0xcbf29ce484222325L;
+        for (int w = from; w < to; w++) {
+            String word = words.get(w);
+            for (int i = 0; i < word.length(); i++) {
+                hash = (hash ^ word.charAt(i)) * 0x100000001b3L;
+            }
+            hash = (hash ^ ' ') * 0x100000001b3L;
+        }
+        return hash;
+    }
+
+    // Finalizador do SplitMix64: espalha os bits para que cada semente gere uma função de hash independente
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+        z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+        return z ^ (z >>> 31);
+    }
+
+    private static long bucketKey(int[] signature, int band) {
+        long key = band;
+        for (int i = band * ROWS; i < (band + 1) * ROWS; i++) {
+            key = mix(key * 31 + signature[i]);
+        }
+        return key;
+    }
+
+    private void removeEntry(long id) {
+        Entry previous = entries.remove(id);
+        if (previous == null) {
+            return;
+        }
+        for (int band = 0; band < BANDS; band++) {
+            long key = bucketKey(previous.signature(), band);
+            Bucket bucket = buckets.get(key);
+            if (bucket != null && bucket.remove(id) && bucket.size == 0) {
+                buckets.remove(key);
+            }
+        }
+    }
+
+    /**
+     * IDs de um bucket em array que cresce sob demanda; a remoção troca pelo último
+     */
+    private static final class Bucket {
+        private long[] ids = new long[4];
+        private int size;
+
+        void add(long id) {
+            if (size == ids.length) {
+                ids = Arrays.copyOf(ids, size * 2);
+            }
+            ids[size++] = id;
+        }
+
+        boolean remove(long id) {
+            for (int i = 0; i < size; i++) {
+                if (ids[i] == id) {
+                    ids[i] = ids[--size];
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+
+    private record Entry(String requirementId, int[] signature) {
+    }
+
+    /**
+     * Requisito parecido e a similaridade de Jaccard estimada (0 a 1)
+     */
+    public record Match(long id, String requirementId, double similarity) {
+    }
+}
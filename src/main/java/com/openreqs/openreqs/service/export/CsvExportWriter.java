@@ -0,0 +1,93 @@
+package com.openreqs.openreqs.service.export;
+
+import com.openreqs.openreqs.repository.DependencyExportRow;
+import com.openreqs.openreqs.repository.RequirementExportRow;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * CSV (RFC 4180): a tabela de requisitos, uma linha em branco e a tabela de dependências,
+ * cada uma com seu cabeçalho
+ */
+class CsvExportWriter implements ExportWriter {
+
+    private static final String REQUIREMENT_HEADER = "id,requirementId,description,rationale,fitCriterion,"
+            + "type,status,priority,version,archived,sourceId,sourceName,createdAt,lastUpdated";
+    private static final String DEPENDENCY_HEADER = "id,requirementId,dependsOnId,dependsOnRequirementId";
+    private static final String LINE_END = "\r\n";
+
+    private final Writer writer;
+
+    CsvExportWriter(OutputStream out) {
+        this.writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), 64 * 1024);
+    }
+
+    @Override
+    public void start() throws IOException {
+        writer.write(REQUIREMENT_HEADER);
+        writer.write(LINE_END);
+    }
+
+    @Override
+    public void writeRequirement(RequirementExportRow row) throws IOException {
+        writeRow(row.id(), row.requirementId(), row.description(), row.rationale(), row.fitCriterion(),
+                row.type(), row.status(), row.priority(), row.version(), row.archived(),
+                row.sourceId(), row.sourceName(), row.createdAt(), row.lastUpdated());
+    }
+
+    @Override
+    public void startDependencies() throws IOException {
+        writer.write(LINE_END);
+        writer.write(DEPENDENCY_HEADER);
+        writer.write(LINE_END);
+    }
+
+    @Override
+    public void writeDependency(DependencyExportRow row) throws IOException {
+        writeRow(row.id(), row.requirementId(), row.dependsOnId(), row.dependsOnRequirementId());
+    }
+
+    @Override
+    public void finish() throws IOException {
+        writer.flush();
+    }
+
+    private void writeRow(Object... values) throws IOException {
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            if (values[i] != null) {
+                writeField(values[i].toString());
+            }
+        }
+        writer.write(LINE_END);
+    }
+
+    // Aspas só quando o campo tem separador, aspas ou quebra de linha; aspas internas são dobradas
+    private void writeField(String value) throws IOException {
+        boolean quote = false;
+        for (int i = 0; i < value.length() && !quote; i++) {
+            char c = value.charAt(i);
+            quote = c == ',' || c == '"' || c == '\n' || c == '\r';
+        }
+        if (!quote) {
+            writer.write(value);
+            return;
+        }
+        writer.write('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '"') {
+                writer.write('"');
+            }
+            writer.write(c);
+        }
+        writer.write('"');
+    }
+}
@@ -0,0 +1,41 @@
+package com.openreqs.openreqs.service.export;
+
+import com.openreqs.openreqs.dto.ExportFormat;
+import com.openreqs.openreqs.repository.DependencyExportRow;
+import com.openreqs.openreqs.repository.RequirementExportRow;
+import tools.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Serializador incremental de uma exportação: cada linha é escrita assim que chega e nada
+ * além do buffer de saída fica em memória. A ordem das chamadas é sempre start,
+ * writeRequirement*, startDependencies, writeDependency*, finish.
+ */
+public interface ExportWriter {
+
+    void start() throws IOException;
+
+    void writeRequirement(RequirementExportRow row) throws IOException;
+
+    /**
+     * Fecha a seção de requisitos e abre a de dependências
+     */
+    void startDependencies() throws IOException;
+
+    void writeDependency(DependencyExportRow row) throws IOException;
+
+    /**
+     * Completa o documento e descarrega o buffer; o stream de saída continua aberto
+     */
+    void finish() throws IOException;
+
+    static ExportWriter create(ExportFormat format, OutputStream out, ObjectMapper objectMapper) throws IOException {
+        return switch (format) {
+            case CSV -> new CsvExportWriter(out);
+            case JSONL -> new JsonLinesExportWriter(out, objectMapper);
+            case REQIF -> new ReqIfExportWriter(out);
+        };
+    }
+}
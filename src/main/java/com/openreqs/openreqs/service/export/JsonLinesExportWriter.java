@@ -0,0 +1,80 @@
+package com.openreqs.openreqs.service.export;
+
+import com.openreqs.openreqs.repository.DependencyExportRow;
+import com.openreqs.openreqs.repository.RequirementExportRow;
+import tools.jackson.core.JsonGenerator;
+import tools.jackson.databind.ObjectMapper;
+
+import java.io.OutputStream;
+
+/**
+ * JSON Lines: um objeto por linha, com "record" igual a "requirement" ou "dependency"
+ */
+class JsonLinesExportWriter implements ExportWriter {
+
+    private final JsonGenerator generator;
+    private boolean empty = true;
+
+    JsonLinesExportWriter(OutputStream out, ObjectMapper objectMapper) {
+        this.generator = objectMapper.writer().withRootValueSeparator("\n").createGenerator(out);
+    }
+
+    @Override
+    public void start() {
+    }
+
+    @Override
+    public void writeRequirement(RequirementExportRow row) {
+        generator.writeStartObject();
+        generator.writeStringProperty("record", "requirement");
+        generator.writeNumberProperty("id", row.id());
+        generator.writeStringProperty("requirementId", row.requirementId());
+        generator.writeStringProperty("description", row.description());
+        generator.writeStringProperty("rationale", row.rationale());
+        generator.writeStringProperty("fitCriterion", row.fitCriterion());
+        writeString("type", row.type());
+        writeString("status", row.status());
+        if (row.priority() != null) {
+            generator.writeNumberProperty("priority", row.priority());
+        }
+        generator.writeStringProperty("version", row.version());
+        generator.writeBooleanProperty("archived", Boolean.TRUE.equals(row.archived()));
+        if (row.sourceId() != null) {
+            generator.writeNumberProperty("sourceId", row.sourceId());
+        }
+        generator.writeStringProperty("sourceName", row.sourceName());
+        writeString("createdAt", row.createdAt());
+        writeString("lastUpdated", row.lastUpdated());
+        generator.writeEndObject();
+        empty = false;
+    }
+
+    @Override
+    public void startDependencies() {
+    }
+
+    @Override
+    public void writeDependency(DependencyExportRow row) {
+        generator.writeStartObject();
+        generator.writeStringProperty("record", "dependency");
+        generator.writeNumberProperty("id", row.id());
+        generator.writeStringProperty("requirementId", row.requirementId());
+        generator.writeNumberProperty("dependsOnId", row.dependsOnId());
+        generator.writeStringProperty("dependsOnRequirementId", row.dependsOnRequirementId());
+        generator.writeEndObject();
+        empty = false;
+    }
+
+    @Override
+    public void finish() {
+        // O separador vai entre os objetos; a última linha também termina em \n
+        if (!empty) {
+            generator.writeRaw('\n');
+        }
+        generator.flush();
+    }
+
+    private void writeString(String name, Object value) {
+        generator.writeStringProperty(name, value == null ? null : value.toString());
+    }
+}
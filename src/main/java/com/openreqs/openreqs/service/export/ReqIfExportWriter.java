@@ -0,0 +1,232 @@
+package com.openreqs.openreqs.service.export;
+
+import com.openreqs.openreqs.repository.DependencyExportRow;
+import com.openreqs.openreqs.repository.RequirementExportRow;
+
+import javax.xml.stream.XMLOutputFactory;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamWriter;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * ReqIF 1.2 escrito com StAX: cada requisito vira um SPEC-OBJECT e cada dependência um
+ * SPEC-RELATION "depende de". Todos os atributos usam um único tipo texto; a seção
+ * SPECIFICATIONS (hierarquia de documento) não é gerada, já que os requisitos não têm uma
+ */
+class ReqIfExportWriter implements ExportWriter {
+
+    private static final String NAMESPACE = "http://www.omg.org/spec/ReqIF/20110401/reqif.xsd";
+    private static final String TOOL_ID = "OpenReqs";
+    private static final String STRING_TYPE = "dt-string";
+    private static final String REQUIREMENT_TYPE = "sot-requirement";
+    private static final String DEPENDS_ON_TYPE = "srt-depends-on";
+
+    // Atributo → valor no requisito; a ordem é a das colunas nas ferramentas que importam o arquivo
+    private static final Map<String, Function<RequirementExportRow, Object>> ATTRIBUTES = new LinkedHashMap<>();
+
+    static {
+        ATTRIBUTES.put("requirementId", RequirementExportRow::requirementId);
+        ATTRIBUTES.put("description", RequirementExportRow::description);
+        ATTRIBUTES.put("rationale", RequirementExportRow::rationale);
+        ATTRIBUTES.put("fitCriterion", RequirementExportRow::fitCriterion);
+        ATTRIBUTES.put("type", RequirementExportRow::type);
+        ATTRIBUTES.put("status", RequirementExportRow::status);
+        ATTRIBUTES.put("priority", RequirementExportRow::priority);
+        ATTRIBUTES.put("version", RequirementExportRow::version);
+        ATTRIBUTES.put("archived", RequirementExportRow::archived);
+        ATTRIBUTES.put("source", RequirementExportRow::sourceName);
+    }
+
+    private final Writer out;
+    private final XMLStreamWriter xml;
+    private final String exportedAt = LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS).toString();
+
+    ReqIfExportWriter(OutputStream out) throws IOException {
+        this.out = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), 64 * 1024);
+        try {
+            this.xml = XMLOutputFactory.newFactory().createXMLStreamWriter(this.out);
+        } catch (XMLStreamException e) {
+            throw new IOException(e);
+        }
+    }
+
+    @Override
+    public void start() throws IOException {
+        try {
+            xml.writeStartDocument("UTF-8", "1.0");
+            xml.writeStartElement("REQ-IF");
+            xml.writeDefaultNamespace(NAMESPACE);
+
+            xml.writeStartElement("THE-HEADER");
+            xml.writeStartElement("REQ-IF-HEADER");
+            xml.writeAttribute("IDENTIFIER", "export-" + UUID.randomUUID());
+            element("CREATION-TIME", exportedAt);
+            element("REQ-IF-TOOL-ID", TOOL_ID);
+            element("REQ-IF-VERSION", "1.0");
+            element("SOURCE-TOOL-ID", TOOL_ID);
+            element("TITLE", "Requisitos");
+            xml.writeEndElement();
+            xml.writeEndElement();
+
+            xml.writeStartElement("CORE-CONTENT");
+            xml.writeStartElement("REQ-IF-CONTENT");
+            writeDefinitions();
+            xml.writeStartElement("SPEC-OBJECTS");
+        } catch (XMLStreamException e) {
+            throw new IOException(e);
+        }
+    }
+
+    @Override
+    public void writeRequirement(RequirementExportRow row) throws IOException {
+        try {
+            xml.writeStartElement("SPEC-OBJECT");
+            xml.writeAttribute("IDENTIFIER", objectId(row.id()));
+            xml.writeAttribute("LAST-CHANGE", String.valueOf(row.lastUpdated() != null ? row.lastUpdated() : exportedAt));
+            xml.writeAttribute("LONG-NAME", clean(row.requirementId()));
+            xml.writeStartElement("VALUES");
+            for (Map.Entry<String, Function<RequirementExportRow, Object>> attribute : ATTRIBUTES.entrySet()) {
+                Object value = attribute.getValue().apply(row);
+                if (value == null) {
+                    continue;
+                }
+                xml.writeStartElement("ATTRIBUTE-VALUE-STRING");
+                xml.writeAttribute("THE-VALUE", clean(value.toString()));
+                xml.writeStartElement("DEFINITION");
+                element("ATTRIBUTE-DEFINITION-STRING-REF", attributeId(attribute.getKey()));
+                xml.writeEndElement();
+                xml.writeEndElement();
+            }
+            xml.writeEndElement();
+            typeRef("SPEC-OBJECT-TYPE-REF", REQUIREMENT_TYPE);
+            xml.writeEndElement();
+            xml.writeCharacters("\n");
+        } catch (XMLStreamException e) {
+            throw new IOException(e);
+        }
+    }
+
+    @Override
+    public void startDependencies() throws IOException {
+        try {
+            xml.writeEndElement();
+            xml.writeStartElement("SPEC-RELATIONS");
+        } catch (XMLStreamException e) {
+            throw new IOException(e);
+        }
+    }
+
+    @Override
+    public void writeDependency(DependencyExportRow row) throws IOException {
+        try {
+            xml.writeStartElement("SPEC-RELATION");
+            xml.writeAttribute("IDENTIFIER", "rel-" + row.id() + "-" + row.dependsOnId());
+            xml.writeAttribute("LAST-CHANGE", exportedAt);
+            xml.writeStartElement("SOURCE");
+            element("SPEC-OBJECT-REF", objectId(row.id()));
+            xml.writeEndElement();
+            xml.writeStartElement("TARGET");
+            element("SPEC-OBJECT-REF", objectId(row.dependsOnId()));
+            xml.writeEndElement();
+            typeRef("SPEC-RELATION-TYPE-REF", DEPENDS_ON_TYPE);
+            xml.writeEndElement();
+            xml.writeCharacters("\n");
+        } catch (XMLStreamException e) {
+            throw new IOException(e);
+        }
+    }
+
+    @Override
+    public void finish() throws IOException {
+        try {
+            // SPEC-RELATIONS, REQ-IF-CONTENT, CORE-CONTENT e REQ-IF
+            xml.writeEndDocument();
+            xml.flush();
+            out.flush();
+        } catch (XMLStreamException e) {
+            throw new IOException(e);
+        }
+    }
+
+    private void writeDefinitions() throws XMLStreamException {
+        xml.writeStartElement("DATATYPES");
+        xml.writeEmptyElement("DATATYPE-DEFINITION-STRING");
+        xml.writeAttribute("IDENTIFIER", STRING_TYPE);
+        xml.writeAttribute("LAST-CHANGE", exportedAt);
+        xml.writeAttribute("LONG-NAME", "Texto");
+        xml.writeAttribute("MAX-LENGTH", "4000");
+        xml.writeEndElement();
+
+        xml.writeStartElement("SPEC-TYPES");
+        xml.writeStartElement("SPEC-OBJECT-TYPE");
+        xml.writeAttribute("IDENTIFIER", REQUIREMENT_TYPE);
+        xml.writeAttribute("LAST-CHANGE", exportedAt);
+        xml.writeAttribute("LONG-NAME", "Requisito");
+        xml.writeStartElement("SPEC-ATTRIBUTES");
+        for (String attribute : ATTRIBUTES.keySet()) {
+            xml.writeStartElement("ATTRIBUTE-DEFINITION-STRING");
+            xml.writeAttribute("IDENTIFIER", attributeId(attribute));
+            xml.writeAttribute("LAST-CHANGE", exportedAt);
+            xml.writeAttribute("LONG-NAME", attribute);
+            typeRef("DATATYPE-DEFINITION-STRING-REF", STRING_TYPE);
+            xml.writeEndElement();
+        }
+        xml.writeEndElement();
+        xml.writeEndElement();
+
+        xml.writeEmptyElement("SPEC-RELATION-TYPE");
+        xml.writeAttribute("IDENTIFIER", DEPENDS_ON_TYPE);
+        xml.writeAttribute("LAST-CHANGE", exportedAt);
+        xml.writeAttribute("LONG-NAME", "Depende de");
+        xml.writeEndElement();
+    }
+
+    private void typeRef(String refElement, String identifier) throws XMLStreamException {
+        xml.writeStartElement("TYPE");
+        element(refElement, identifier);
+        xml.writeEndElement();
+    }
+
+    private void element(String name, String text) throws XMLStreamException {
+        xml.writeStartElement(name);
+        xml.writeCharacters(text);
+        xml.writeEndElement();
+    }
+
+    private static String objectId(Long id) {
+        return "req-" + id;
+    }
+
+    private static String attributeId(String attribute) {
+        return "ad-" + attribute;
+    }
+
+    // Caracteres de controle não são válidos em XML 1.0, nem escapados
+    private static String clean(String value) {
+        if (value == null) {
+            return "";
+        }
+        StringBuilder cleaned = null;
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            boolean valid = c >= 0x20 || c == '\t' || c == '\n' || c == '\r';
+            if (!valid && cleaned == null) {
+                cleaned = new StringBuilder(value.length()).append(value, 0, i);
+            } else if (valid && cleaned != null) {
+                cleaned.append(c);
+            }
+        }
+        return cleaned == null ? value : cleaned.toString();
+    }
+}
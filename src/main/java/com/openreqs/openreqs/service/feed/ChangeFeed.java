@@ -0,0 +1,384 @@
+package com.openreqs.openreqs.service.feed;
+
+import com.openreqs.openreqs.domain.entity.Requirement;
+import com.openreqs.openreqs.domain.entity.RequirementChange;
+import com.openreqs.openreqs.domain.enums.ChangeType;
+import com.openreqs.openreqs.dto.RequirementChangePage;
+import com.openreqs.openreqs.dto.RequirementChangeResponse;
+import com.openreqs.openreqs.repository.RequirementChangeRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.persistence.EntityManager;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.context.request.async.DeferredResult;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NavigableMap;
+import java.util.NavigableSet;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * IREB Syllabus - Unidade 6: Gerenciamento de Requisitos (rastreamento de mudanças)
+ * Log de mudanças dos requisitos (outbox) e sua distribuição por SSE e long-poll.
+ *
+ * Os eventos são gravados na transação da alteração. Uma sequência só fica visível aos
+ * leitores quando todas as menores já terminaram (commit ou rollback), então quem
+ * continua de um número nunca perde um evento confirmado depois da sua leitura.
+ *
+ * Quem grava só registra a sequência e, ao fim da transação, agenda a distribuição.
+ * A distribuição lê o banco uma vez por rodada para um buffer com os eventos mais
+ * recentes; cada assinante é atendido a partir dele em sua própria tarefa, então um
+ * cliente lento não atrasa os demais nem as gravações. As tarefas rodam em executores
+ * próprios e limitados: o feed não disputa threads com o resto da aplicação, e um
+ * assinante que não cabe na fila de entregas é encerrado (o cliente reconecta com o
+ * último ID recebido).
+ */
+@Component
+public class ChangeFeed {
+
+    private final RequirementChangeRepository changeRepository;
+    private final EntityManager entityManager;
+    // Uma rodada de distribuição por vez; as entregas aos assinantes em um pool limitado
+    private final ExecutorService dispatcher;
+    private final ThreadPoolExecutor deliveries;
+    private final int bufferSize;
+    private final int pageSize;
+    private final Duration sseTimeout;
+    private final Duration pollTimeout;
+
+    // Sequências reservadas por transações em aberto; guardadas pelo monitor de inFlight
+    private final NavigableSet<Long> inFlight = new TreeSet<>();
+    private long lastReserved;
+    // Reservas em andamento (sequência ainda não conhecida), pelo lastReserved do início:
+    // a sequência que cada uma receber será maior que esse piso
+    private final NavigableMap<Long, Integer> reserving = new TreeMap<>();
+
+    // Buffer: contém todos os eventos em (coveredAfter, loadedUpTo]
+    private final ConcurrentSkipListMap<Long, RequirementChangeResponse> recent = new ConcurrentSkipListMap<>();
+    private volatile long coveredAfter;
+    private volatile long loadedUpTo;
+
+    private final AtomicBoolean dispatchPending = new AtomicBoolean();
+    private final Set<Subscription> subscriptions = ConcurrentHashMap.newKeySet();
+    private final Set<Waiter> waiters = ConcurrentHashMap.newKeySet();
+
+    public ChangeFeed(RequirementChangeRepository changeRepository,
+                      EntityManager entityManager,
+                      @Value("${openreqs.feed.buffer-size:4096}") int bufferSize,
+                      @Value("${openreqs.feed.page-size:500}") int pageSize,
+                      @Value("${openreqs.feed.sse-timeout:PT30M}") Duration sseTimeout,
+                      @Value("${openreqs.feed.poll-timeout:PT30S}") Duration pollTimeout,
+                      @Value("${openreqs.feed.delivery-threads:4}") int deliveryThreads,
+                      @Value("${openreqs.feed.delivery-queue:1024}") int deliveryQueue) {
+        this.changeRepository = changeRepository;
+        this.entityManager = entityManager;
+        this.dispatcher = Executors.newSingleThreadExecutor(threads("change-feed-dispatch"));
+        int threads = Math.max(1, deliveryThreads);
+        this.deliveries = new ThreadPoolExecutor(threads, threads, 60, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(Math.max(1, deliveryQueue)), threads("change-feed-delivery"));
+        this.deliveries.allowCoreThreadTimeOut(true);
+        this.bufferSize = Math.max(1, bufferSize);
+        this.pageSize = Math.max(1, pageSize);
+        this.sseTimeout = sseTimeout;
+        this.pollTimeout = pollTimeout;
+    }
+
+    @PostConstruct
+    public void load() {
+        long last = changeRepository.findTopByOrderBySequenceDesc()
+                .map(RequirementChange::getSequence)
+                .orElse(0L);
+        synchronized (inFlight) {
+            lastReserved = last;
+        }
+        coveredAfter = last;
+        loadedUpTo = last;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        dispatcher.shutdownNow();
+        deliveries.shutdownNow();
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void record(ChangeType type, Requirement requirement) {
+        record(type, requirement, null);
+    }
+
+    /**
+     * Grava o evento na transação corrente; sem transação não há o que registrar
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void record(ChangeType type, Requirement requirement, Long dependsOnId) {
+        RequirementChange change = RequirementChange.builder()
+                .type(type)
+                .requirementRef(requirement.getId())
+                .requirementId(requirement.getRequirementId())
+                .dependsOnRef(dependsOnId)
+                .version(requirement.getVersion())
+                .status(requirement.getStatus())
+                .occurredAt(LocalDateTime.now())
+                .build();
+
+        // A reserva da sequência (uma ida ao banco a cada bloco) fica fora do monitor; enquanto
+        // ela não volta, o piso impede que algum leitor passe da sequência que ela vai receber
+        long floor;
+        synchronized (inFlight) {
+            floor = lastReserved;
+            reserving.merge(floor, 1, Integer::sum);
+        }
+        Long sequence = null;
+        try {
+            entityManager.persist(change);
+            sequence = change.getSequence();
+        } finally {
+            synchronized (inFlight) {
+                reserving.computeIfPresent(floor, (key, count) -> count == 1 ? null : count - 1);
+                if (sequence != null) {
+                    inFlight.add(sequence);
+                    lastReserved = Math.max(lastReserved, sequence);
+                }
+            }
+        }
+
+        long reserved = sequence;
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                synchronized (inFlight) {
+                    inFlight.remove(reserved);
+                }
+                // Também no rollback: a sequência desfeita pode estar segurando outras já confirmadas
+                signal();
+            }
+        });
+    }
+
+    /**
+     * Eventos depois de `after`, até `limit`; o cursor devolvido pula sequências desfeitas
+     */
+    public RequirementChangePage read(long after, int limit) {
+        int size = Math.max(1, Math.min(limit, pageSize));
+        long upTo = loadedUpTo;
+        if (after >= upTo) {
+            return page(List.of(), size, after);
+        }
+        if (after >= coveredAfter) {
+            List<RequirementChangeResponse> changes = new ArrayList<>(size);
+            for (RequirementChangeResponse change : recent.subMap(after, false, upTo, true).values()) {
+                if (changes.size() == size) {
+                    break;
+                }
+                changes.add(change);
+            }
+            // Se o buffer foi aparado durante a leitura, pode ter faltado algo: vai ao banco
+            if (after >= coveredAfter) {
+                return page(changes, size, upTo);
+            }
+        }
+
+        long visible = visibleUpTo();
+        List<RequirementChangeResponse> changes = changeRepository
+                .findBySequenceGreaterThanAndSequenceLessThanEqualOrderBySequenceAsc(after, visible, Limit.of(size))
+                .stream()
+                .map(ChangeFeed::toResponse)
+                .toList();
+        return page(changes, size, Math.max(after, visible));
+    }
+
+    /**
+     * Assinatura SSE a partir de `after`: primeiro os eventos já gravados, depois os novos
+     */
+    public SseEmitter subscribe(long after) {
+        SseEmitter emitter = new SseEmitter(sseTimeout.toMillis());
+        Subscription subscription = new Subscription(emitter, after);
+        subscriptions.add(subscription);
+        emitter.onCompletion(() -> subscriptions.remove(subscription));
+        emitter.onTimeout(emitter::complete);
+        emitter.onError(error -> subscriptions.remove(subscription));
+        schedule(subscription);
+        return emitter;
+    }
+
+    /**
+     * Long-poll: responde assim que houver eventos depois de `after` ou, no tempo limite,
+     * com a lista vazia
+     */
+    public DeferredResult<RequirementChangePage> poll(long after, int limit) {
+        RequirementChangePage current = read(after, limit);
+        DeferredResult<RequirementChangePage> result =
+                new DeferredResult<>(pollTimeout.toMillis(), () -> current);
+        if (!current.getChanges().isEmpty()) {
+            result.setResult(current);
+            return result;
+        }
+
+        Waiter waiter = new Waiter(current.getNext(), limit, result);
+        waiters.add(waiter);
+        result.onCompletion(() -> waiters.remove(waiter));
+        // Uma distribuição pode ter terminado entre a leitura e o registro
+        if (loadedUpTo > waiter.after()) {
+            answer(waiter);
+        }
+        return result;
+    }
+
+    private void signal() {
+        if (dispatchPending.compareAndSet(false, true)) {
+            try {
+                dispatcher.execute(this::dispatch);
+            } catch (RejectedExecutionException shuttingDown) {
+                dispatchPending.set(false);
+            }
+        }
+    }
+
+    private void dispatch() {
+        // Liberado antes de ler: um commit durante a rodada agenda outra
+        dispatchPending.set(false);
+        refresh();
+        subscriptions.forEach(this::schedule);
+        waiters.forEach(this::answer);
+    }
+
+    /**
+     * Traz para o buffer os eventos até a maior sequência visível e apara o excesso
+     */
+    synchronized void refresh() {
+        long visible = visibleUpTo();
+        long position = loadedUpTo;
+        while (position < visible) {
+            List<RequirementChange> changes = changeRepository
+                    .findBySequenceGreaterThanAndSequenceLessThanEqualOrderBySequenceAsc(
+                            position, visible, Limit.of(pageSize));
+            changes.forEach(change -> recent.put(change.getSequence(), toResponse(change)));
+            position = changes.size() < pageSize ? visible : changes.get(changes.size() - 1).getSequence();
+            loadedUpTo = position;
+        }
+        while (recent.size() > bufferSize) {
+            coveredAfter = recent.pollFirstEntry().getKey();
+        }
+    }
+
+    private long visibleUpTo() {
+        synchronized (inFlight) {
+            long visible = inFlight.isEmpty() ? lastReserved : inFlight.first() - 1;
+            return reserving.isEmpty() ? visible : Math.min(visible, reserving.firstKey());
+        }
+    }
+
+    private void schedule(Subscription subscription) {
+        if (subscription.scheduled.compareAndSet(false, true)) {
+            try {
+                deliveries.execute(() -> deliver(subscription));
+            } catch (RejectedExecutionException overloaded) {
+                subscriptions.remove(subscription);
+                subscription.scheduled.set(false);
+                subscription.emitter.completeWithError(overloaded);
+            }
+        }
+    }
+
+    private void deliver(Subscription subscription) {
+        try {
+            RequirementChangePage page;
+            do {
+                page = read(subscription.cursor, pageSize);
+                for (RequirementChangeResponse change : page.getChanges()) {
+                    subscription.emitter.send(SseEmitter.event()
+                            .id(String.valueOf(change.getSequence()))
+                            .name(change.getType().name())
+                            .data(change, MediaType.APPLICATION_JSON));
+                }
+                subscription.cursor = page.getNext();
+            } while (page.getChanges().size() == pageSize);
+        } catch (IOException | IllegalStateException disconnected) {
+            subscriptions.remove(subscription);
+            subscription.emitter.completeWithError(disconnected);
+            return;
+        } finally {
+            subscription.scheduled.set(false);
+        }
+        // Eventos que chegaram durante o envio
+        if (loadedUpTo > subscription.cursor && subscriptions.contains(subscription)) {
+            schedule(subscription);
+        }
+    }
+
+    private void answer(Waiter waiter) {
+        RequirementChangePage page = read(waiter.after(), waiter.limit());
+        if (!page.getChanges().isEmpty()) {
+            waiter.result().setResult(page);
+        }
+    }
+
+    private static ThreadFactory threads(String prefix) {
+        AtomicInteger counter = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, prefix + "-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    private static RequirementChangePage page(List<RequirementChangeResponse> changes, int size, long end) {
+        long next = changes.size() == size ? changes.get(changes.size() - 1).getSequence() : end;
+        return RequirementChangePage.builder()
+                .changes(changes)
+                .next(next)
+                .build();
+    }
+
+    private static RequirementChangeResponse toResponse(RequirementChange change) {
+        return RequirementChangeResponse.builder()
+                .sequence(change.getSequence())
+                .type(change.getType())
+                .id(change.getRequirementRef())
+                .requirementId(change.getRequirementId())
+                .dependsOnId(change.getDependsOnRef())
+                .version(change.getVersion())
+                .status(change.getStatus())
+                .occurredAt(change.getOccurredAt())
+                .build();
+    }
+
+    private static final class Subscription {
+        private final SseEmitter emitter;
+        private final AtomicBoolean scheduled = new AtomicBoolean();
+        private volatile long cursor;
+
+        private Subscription(SseEmitter emitter, long cursor) {
+            this.emitter = emitter;
+            this.cursor = cursor;
+        }
+    }
+
+    private record Waiter(long after, int limit, DeferredResult<RequirementChangePage> result) {
+    }
+}
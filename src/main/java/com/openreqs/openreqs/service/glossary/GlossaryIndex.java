@@ -0,0 +1,120 @@
+package com.openreqs.openreqs.service.glossary;
+
+import com.openreqs.openreqs.domain.entity.ProjectGlossary;
+import com.openreqs.openreqs.repository.ProjectGlossaryRepository;
+import com.openreqs.openreqs.service.quality.text.TermMatcher;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * IREB Syllabus - Unidade 1: Glossário
+ * Índice em memória do glossário do projeto para busca e autocompletar.
+ *
+ * As leituras usam o snapshot publicado no momento, sem lock. O snapshot é sempre montado
+ * do zero, com todos os termos, e publicado de uma vez (copy-on-write), então uma busca
+ * nunca enxerga um índice pela metade.
+ *
+ * A montagem roda no applicationTaskExecutor, fora da thread da requisição e do monitor do
+ * índice. Alterações que chegam enquanto uma montagem está pendente entram nela: uma rajada
+ * de escritas custa uma ou duas montagens, não uma por termo. As leituras passam a ver a
+ * alteração assim que a montagem seguinte ao commit termina.
+ */
+@Component
+public class GlossaryIndex {
+
+    private final ProjectGlossaryRepository glossaryRepository;
+    private final Executor rebuildExecutor;
+
+    // Guardados pelo monitor do índice; só os métodos de escrita os alteram
+    private final Map<Long, ProjectGlossary> termsById = new HashMap<>();
+    private long version;
+    private long publishedVersion;
+
+    private final AtomicBoolean rebuildPending = new AtomicBoolean();
+    private volatile GlossarySnapshot snapshot = GlossarySnapshot.EMPTY;
+
+    public GlossaryIndex(ProjectGlossaryRepository glossaryRepository,
+                         @Qualifier("applicationTaskExecutor") Executor rebuildExecutor) {
+        this.glossaryRepository = glossaryRepository;
+        this.rebuildExecutor = rebuildExecutor;
+    }
+
+    /**
+     * Carga inicial, na própria thread: o índice já sobe completo
+     */
+    @PostConstruct
+    public synchronized void load() {
+        termsById.clear();
+        glossaryRepository.findAll().forEach(term -> termsById.put(term.getId(), term));
+        version++;
+        publish(GlossarySnapshot.build(termsById.values()), version);
+    }
+
+    /**
+     * Inclui ou substitui o termo e agenda a publicação de um novo snapshot
+     */
+    public synchronized void put(ProjectGlossary term) {
+        termsById.put(term.getId(), term);
+        changed();
+    }
+
+    public synchronized void remove(Long id) {
+        if (termsById.remove(id) != null) {
+            changed();
+        }
+    }
+
+    public int size() {
+        return snapshot.size();
+    }
+
+    public List<ProjectGlossary> search(String keyword) {
+        return snapshot.search(keyword);
+    }
+
+    public List<ProjectGlossary> autocomplete(String prefix, int limit) {
+        return snapshot.autocomplete(prefix, limit);
+    }
+
+    private void changed() {
+        version++;
+        if (rebuildPending.compareAndSet(false, true)) {
+            rebuildExecutor.execute(this::rebuild);
+        }
+    }
+
+    private void rebuild() {
+        // Alterações feitas depois daqui agendam outra montagem
+        rebuildPending.set(false);
+        List<ProjectGlossary> terms;
+        long built;
+        synchronized (this) {
+            terms = List.copyOf(termsById.values());
+            built = version;
+        }
+        publish(GlossarySnapshot.build(terms), built);
+    }
+
+    // Montagens concorrentes podem terminar fora de ordem: só a mais nova é publicada
+    private synchronized void publish(GlossarySnapshot built, long builtVersion) {
+        if (builtVersion > publishedVersion) {
+            snapshot = built;
+            publishedVersion = builtVersion;
+        }
+    }
+
+    /**
+     * Autômato com os termos e siglas do snapshot atual. Quem analisa vários textos deve
+     * obtê-lo uma vez, para que todos sejam vistos contra o mesmo glossário
+     */
+    public TermMatcher<ProjectGlossary> termMatcher() {
+        return snapshot.termMatcher();
+    }
+}
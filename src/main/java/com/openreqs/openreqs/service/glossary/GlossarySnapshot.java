@@ -0,0 +1,360 @@
+package com.openreqs.openreqs.service.glossary;
+
+import com.openreqs.openreqs.domain.entity.ProjectGlossary;
+import com.openreqs.openreqs.service.quality.text.TermMatcher;
+import com.openreqs.openreqs.service.quality.text.TextNormalizer;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Versão imutável do índice do glossário. Termos e siglas ficam numa trie de prefixos
+ * compacta (arrays primitivos) e o texto completo, incluindo a definição, num índice
+ * de trigramas. Todo o texto é comparado já normalizado (minúsculas, sem acento).
+ * Termos e siglas também são compilados num autômato para localizá-los em textos livres;
+ * o autômato também ignora caixa, e o GlossaryChecker descarta as ocorrências de sigla
+ * cuja grafia difere da cadastrada.
+ */
+final class GlossarySnapshot {
+
+    static final GlossarySnapshot EMPTY = build(List.of());
+
+    private static final int GRAM = 3;
+    // Separa termo, sigla e definição para que uma busca não case atravessando campos
+    private static final char FIELD_SEPARATOR = '\u0000';
+
+    // Entradas em ordem alfabética do termo normalizado; o índice no array é o ID interno
+    private final ProjectGlossary[] entries;
+    private final String[] foldedTerms;
+    private final String[] foldedAcronyms;
+    private final String[] searchTexts;
+    private final Map<Long, int[]> trigramPostings;
+    private final TermMatcher<ProjectGlossary> termMatcher;
+
+    // Trie sobre as chaves ordenadas: cada nó cobre o intervalo [from, to) de chaves com o seu prefixo
+    private final int[] keyEntries;
+    private final int[] nodeFrom;
+    private final int[] nodeTo;
+    private final int[] nodeEdgeStart;
+    private final int[] nodeEdgeCount;
+    private final char[] edgeChars;
+    private final int[] edgeTargets;
+
+    private GlossarySnapshot(ProjectGlossary[] entries, String[] foldedTerms, String[] foldedAcronyms,
+                             String[] searchTexts, Map<Long, int[]> trigramPostings,
+                             TermMatcher<ProjectGlossary> termMatcher, int[] keyEntries, TrieBuilder trie) {
+        this.entries = entries;
+        this.foldedTerms = foldedTerms;
+        this.foldedAcronyms = foldedAcronyms;
+        this.searchTexts = searchTexts;
+        this.trigramPostings = trigramPostings;
+        this.termMatcher = termMatcher;
+        this.keyEntries = keyEntries;
+        this.nodeFrom = Arrays.copyOf(trie.nodeFrom, trie.nodeCount);
+        this.nodeTo = Arrays.copyOf(trie.nodeTo, trie.nodeCount);
+        this.nodeEdgeStart = Arrays.copyOf(trie.nodeEdgeStart, trie.nodeCount);
+        this.nodeEdgeCount = Arrays.copyOf(trie.nodeEdgeCount, trie.nodeCount);
+        this.edgeChars = Arrays.copyOf(trie.edgeChars, trie.edgeCount);
+        this.edgeTargets = Arrays.copyOf(trie.edgeTargets, trie.edgeCount);
+    }
+
+    static GlossarySnapshot build(Collection<ProjectGlossary> terms) {
+        ProjectGlossary[] entries = terms.toArray(new ProjectGlossary[0]);
+        Arrays.sort(entries, Comparator.comparing((ProjectGlossary term) -> TextNormalizer.fold(term.getTerm()))
+                .thenComparing(ProjectGlossary::getId));
+
+        int size = entries.length;
+        String[] foldedTerms = new String[size];
+        String[] foldedAcronyms = new String[size];
+        String[] searchTexts = new String[size];
+        List<Key> keys = new ArrayList<>(size * 2);
+        TermMatcher.Builder<ProjectGlossary> matcher = TermMatcher.builder();
+        Map<Long, IntList> grams = new HashMap<>();
+
+        for (int i = 0; i < size; i++) {
+            ProjectGlossary entry = entries[i];
+            foldedTerms[i] = foldOrEmpty(entry.getTerm());
+            foldedAcronyms[i] = foldOrEmpty(entry.getAcronym());
+            searchTexts[i] = foldedTerms[i] + FIELD_SEPARATOR + foldedAcronyms[i]
+                    + FIELD_SEPARATOR + foldOrEmpty(entry.getDefinition());
+
+            keys.add(new Key(foldedTerms[i], i));
+            matcher.add(foldedTerms[i], entry);
+            matcher.add(foldedAcronyms[i], entry);
+            if (!foldedAcronyms[i].isEmpty() && !foldedAcronyms[i].equals(foldedTerms[i])) {
+                keys.add(new Key(foldedAcronyms[i], i));
+            }
+
+            String text = searchTexts[i];
+            for (int g = 0; g + GRAM <= text.length(); g++) {
+                IntList postings = grams.computeIfAbsent(gram(text, g), k -> new IntList());
+                // Entradas são percorridas em ordem, então basta comparar com a última
+                if (postings.size == 0 || postings.values[postings.size - 1] != i) {
+                    postings.add(i);
+                }
+            }
+        }
+
+        Map<Long, int[]> trigramPostings = new HashMap<>(grams.size() * 2);
+        grams.forEach((gram, postings) -> trigramPostings.put(gram, postings.toArray()));
+
+        keys.sort(Comparator.comparing(Key::text).thenComparingInt(Key::entry));
+        String[] keyTexts = new String[keys.size()];
+        int[] keyEntries = new int[keys.size()];
+        for (int k = 0; k < keys.size(); k++) {
+            keyTexts[k] = keys.get(k).text();
+            keyEntries[k] = keys.get(k).entry();
+        }
+        TrieBuilder trie = new TrieBuilder(keyTexts);
+
+        return new GlossarySnapshot(entries, foldedTerms, foldedAcronyms, searchTexts, trigramPostings,
+                matcher.build(), keyEntries, trie);
+    }
+
+    int size() {
+        return entries.length;
+    }
+
+    List<ProjectGlossary> entries() {
+        return List.of(entries);
+    }
+
+    TermMatcher<ProjectGlossary> termMatcher() {
+        return termMatcher;
+    }
+
+    /**
+     * Termos cujo termo, sigla ou definição contém o texto informado. Ordem: termo igual,
+     * termo ou sigla começando com o texto, termo contendo o texto e, por fim, só a definição.
+     */
+    List<ProjectGlossary> search(String keyword) {
+        String query = foldOrEmpty(keyword).strip();
+        if (query.isEmpty()) {
+            return entries();
+        }
+
+        int[] candidates = candidates(query);
+        List<int[]> matches = new ArrayList<>();
+        for (int entry : candidates) {
+            if (searchTexts[entry].contains(query)) {
+                matches.add(new int[]{rank(entry, query), entry});
+            }
+        }
+        // Dentro da mesma faixa, a posição no array já é a ordem alfabética
+        matches.sort(Comparator.<int[]>comparingInt(match -> match[0]).thenComparingInt(match -> match[1]));
+
+        List<ProjectGlossary> result = new ArrayList<>(matches.size());
+        matches.forEach(match -> result.add(entries[match[1]]));
+        return result;
+    }
+
+    /**
+     * Até limit termos cujo termo ou sigla começa com o prefixo, em ordem alfabética.
+     * Custa O(tamanho do prefixo + limit), independentemente do tamanho do glossário.
+     */
+    List<ProjectGlossary> autocomplete(String prefix, int limit) {
+        String query = foldOrEmpty(prefix).stripLeading();
+        int node = 0;
+        for (int i = 0; i < query.length() && node >= 0; i++) {
+            node = child(node, query.charAt(i));
+        }
+        if (node < 0 || limit <= 0) {
+            return List.of();
+        }
+
+        List<ProjectGlossary> result = new ArrayList<>(Math.min(limit, nodeTo[node] - nodeFrom[node]));
+        // Um termo pode aparecer duas vezes no intervalo (pelo termo e pela sigla)
+        int[] seen = new int[limit];
+        for (int k = nodeFrom[node]; k < nodeTo[node] && result.size() < limit; k++) {
+            int entry = keyEntries[k];
+            if (!contains(seen, result.size(), entry)) {
+                seen[result.size()] = entry;
+                result.add(entries[entry]);
+            }
+        }
+        return result;
+    }
+
+    private int[] candidates(String query) {
+        if (query.length() < GRAM) {
+            int[] all = new int[entries.length];
+            Arrays.setAll(all, i -> i);
+            return all;
+        }
+
+        // Interseção das listas de trigramas, começando pela menor
+        List<int[]> lists = new ArrayList<>();
+        for (int g = 0; g + GRAM <= query.length(); g++) {
+            int[] postings = trigramPostings.get(gram(query, g));
+            if (postings == null) {
+                return new int[0];
+            }
+            lists.add(postings);
+        }
+        lists.sort(Comparator.comparingInt(postings -> postings.length));
+
+        int[] result = lists.get(0);
+        for (int l = 1; l < lists.size() && result.length > 0; l++) {
+            result = intersect(result, lists.get(l));
+        }
+        return result;
+    }
+
+    private int rank(int entry, String query) {
+        String term = foldedTerms[entry];
+        if (term.equals(query)) {
+            return 0;
+        }
+        if (term.startsWith(query) || foldedAcronyms[entry].startsWith(query)) {
+            return 1;
+        }
+        return term.contains(query) ? 2 : 3;
+    }
+
+    private int child(int node, char c) {
+        int from = nodeEdgeStart[node];
+        int index = Arrays.binarySearch(edgeChars, from, from + nodeEdgeCount[node], c);
+        return index >= 0 ? edgeTargets[index] : -1;
+    }
+
+    private static int[] intersect(int[] a, int[] b) {
+        int[] out = new int[Math.min(a.length, b.length)];
+        int i = 0;
+        int j = 0;
+        int n = 0;
+        while (i < a.length && j < b.length) {
+            if (a[i] < b[j]) {
+                i++;
+            } else if (a[i] > b[j]) {
+                j++;
+            } else {
+                out[n++] = a[i];
+                i++;
+                j++;
+            }
+        }
+        return Arrays.copyOf(out, n);
+    }
+
+    private static boolean contains(int[] values, int size, int value) {
+        for (int i = 0; i < size; i++) {
+            if (values[i] == value) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static long gram(String text, int start) {
+        return ((long) text.charAt(start) << 32) | ((long) text.charAt(start + 1) << 16) | text.charAt(start + 2);
+    }
+
+    private static String foldOrEmpty(String text) {
+        return text == null ? "" : TextNormalizer.fold(text);
+    }
+
+    private record Key(String text, int entry) {
+    }
+
+    /**
+     * Monta a trie em profundidade a partir das chaves já ordenadas: os filhos de cada nó
+     * são os grupos contíguos de chaves com o mesmo caractere na posição seguinte,
+     * e as arestas de um nó ocupam posições consecutivas (ordenadas) nos arrays de arestas.
+     */
+    private static final class TrieBuilder {
+
+        private final String[] keys;
+        private int[] nodeFrom = new int[64];
+        private int[] nodeTo = new int[64];
+        private int[] nodeEdgeStart = new int[64];
+        private int[] nodeEdgeCount = new int[64];
+        private char[] edgeChars = new char[64];
+        private int[] edgeTargets = new int[64];
+        private int nodeCount;
+        private int edgeCount;
+
+        TrieBuilder(String[] keys) {
+            this.keys = keys;
+            build(newNode(0, keys.length), 0);
+        }
+
+        private void build(int node, int depth) {
+            int from = nodeFrom[node];
+            int to = nodeTo[node];
+            // Chaves que terminam neste nó vêm primeiro na ordenação
+            int start = from;
+            while (start < to && keys[start].length() == depth) {
+                start++;
+            }
+
+            int childCount = 0;
+            for (int k = start; k < to; k++) {
+                if (k == start || keys[k].charAt(depth) != keys[k - 1].charAt(depth)) {
+                    childCount++;
+                }
+            }
+            int edgeStart = reserveEdges(childCount);
+            nodeEdgeStart[node] = edgeStart;
+            nodeEdgeCount[node] = childCount;
+
+            int edge = edgeStart;
+            int groupStart = start;
+            while (groupStart < to) {
+                char c = keys[groupStart].charAt(depth);
+                int groupEnd = groupStart + 1;
+                while (groupEnd < to && keys[groupEnd].charAt(depth) == c) {
+                    groupEnd++;
+                }
+                int child = newNode(groupStart, groupEnd);
+                edgeChars[edge] = c;
+                edgeTargets[edge++] = child;
+                build(child, depth + 1);
+                groupStart = groupEnd;
+            }
+        }
+
+        private int newNode(int from, int to) {
+            if (nodeCount == nodeFrom.length) {
+                int size = nodeCount * 2;
+                nodeFrom = Arrays.copyOf(nodeFrom, size);
+                nodeTo = Arrays.copyOf(nodeTo, size);
+                nodeEdgeStart = Arrays.copyOf(nodeEdgeStart, size);
+                nodeEdgeCount = Arrays.copyOf(nodeEdgeCount, size);
+            }
+            nodeFrom[nodeCount] = from;
+            nodeTo[nodeCount] = to;
+            return nodeCount++;
+        }
+
+        private int reserveEdges(int count) {
+            while (edgeCount + count > edgeChars.length) {
+                edgeChars = Arrays.copyOf(edgeChars, edgeChars.length * 2);
+                edgeTargets = Arrays.copyOf(edgeTargets, edgeTargets.length * 2);
+            }
+            int start = edgeCount;
+            edgeCount += count;
+            return start;
+        }
+    }
+
+    private static final class IntList {
+        private int[] values = new int[4];
+        private int size;
+
+        void add(int value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = value;
+        }
+
+        int[] toArray() {
+            return Arrays.copyOf(values, size);
+        }
+    }
+}
@@ -0,0 +1,408 @@
+package com.openreqs.openreqs.service.graph;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * IREB Syllabus - Unidade 6: Relacionamentos entre Requisitos
+ * Grafo de dependências em memória com listas de adjacência em arrays de int.
+ *
+ * Mantém uma ordem topológica incremental (Pearce-Kelly): para toda aresta u → v,
+ * ord[u] &lt; ord[v]. Uma inserção que respeita a ordem custa O(1); caso contrário,
+ * só a região afetada entre ord[v] e ord[u] é visitada e reordenada.
+ *
+ * Não é thread-safe; o acesso concorrente é controlado por {@link DependencyGraphIndex}.
+ */
+public final class DependencyGraph {
+
+    public enum InsertResult { ADDED, ALREADY_PRESENT, CYCLE }
+
+    private static final int[] EMPTY = new int[0];
+
+    private final Map<Long, Integer> nodeIndex = new HashMap<>();
+    private long[] nodeIds;
+    // Arestas de saída (dependências) e de entrada (dependentes) de cada nó
+    private int[][] out;
+    private int[] outSize;
+    private int[][] in;
+    private int[] inSize;
+    // Posição de cada nó na ordem topológica e o nó em cada posição
+    private int[] ord;
+    private int[] nodeAt;
+    // Marcação de visita por época, evitando limpar o array a cada busca
+    private int[] mark;
+    private int epoch;
+    private int[] stack = new int[64];
+    // Nós visitados pela verificação de ciclo da última inclusão
+    private int lastSearchSize;
+    private int nodeCount;
+    private int edgeCount;
+
+    public DependencyGraph() {
+        this(64);
+    }
+
+    public DependencyGraph(int capacity) {
+        int size = Math.max(capacity, 16);
+        nodeIds = new long[size];
+        out = new int[size][];
+        outSize = new int[size];
+        in = new int[size][];
+        inSize = new int[size];
+        ord = new int[size];
+        nodeAt = new int[size];
+        mark = new int[size];
+    }
+
+    public int nodeCount() {
+        return nodeCount;
+    }
+
+    public int edgeCount() {
+        return edgeCount;
+    }
+
+    /**
+     * Nós visitados pela verificação de ciclo da última addEdge; 0 quando a ordem
+     * topológica já comportava a aresta
+     */
+    public int lastSearchSize() {
+        return lastSearchSize;
+    }
+
+    public boolean contains(long requirementId) {
+        return nodeIndex.containsKey(requirementId);
+    }
+
+    public boolean hasEdge(long requirementId, long dependsOnId) {
+        Integer u = nodeIndex.get(requirementId);
+        Integer v = nodeIndex.get(dependsOnId);
+        return u != null && v != null && indexOf(out[u], outSize[u], v) >= 0;
+    }
+
+    /**
+     * Dependências diretas, na ordem em que foram incluídas.
+     */
+    public long[] directDependencies(long requirementId) {
+        Integer node = nodeIndex.get(requirementId);
+        if (node == null) {
+            return new long[0];
+        }
+        long[] ids = new long[outSize[node]];
+        for (int i = 0; i < ids.length; i++) {
+            ids[i] = nodeIds[out[node][i]];
+        }
+        return ids;
+    }
+
+    /**
+     * Busca em largura pelos dependentes (arestas de entrada) até maxDepth níveis.
+     * Usa estado próprio, então pode rodar em paralelo com outras leituras.
+     */
+    public Traversal dependentsOf(long requirementId, int maxDepth) {
+        return breadthFirst(requirementId, maxDepth, in, inSize);
+    }
+
+    /**
+     * Busca em largura pelas dependências (arestas de saída) até maxDepth níveis.
+     */
+    public Traversal dependenciesOf(long requirementId, int maxDepth) {
+        return breadthFirst(requirementId, maxDepth, out, outSize);
+    }
+
+    private Traversal breadthFirst(long requirementId, int maxDepth, int[][] adjacency, int[] sizes) {
+        Traversal traversal = new Traversal();
+        Integer root = nodeIndex.get(requirementId);
+        if (root == null || maxDepth <= 0) {
+            return traversal;
+        }
+
+        BitSet visited = new BitSet(nodeCount);
+        visited.set(root);
+        int[] queue = new int[Math.max(16, sizes[root])];
+        int[] depthOf = new int[queue.length];
+        int head = 0;
+        int tail = 0;
+        queue[tail] = root;
+        depthOf[tail++] = 0;
+
+        while (head < tail) {
+            int node = queue[head];
+            int depth = depthOf[head++];
+            if (depth == maxDepth) {
+                continue;
+            }
+            int[] edges = adjacency[node];
+            for (int i = 0; i < sizes[node]; i++) {
+                int next = edges[i];
+                if (visited.get(next)) {
+                    continue;
+                }
+                visited.set(next);
+                if (tail == queue.length) {
+                    queue = Arrays.copyOf(queue, tail * 2);
+                    depthOf = Arrays.copyOf(depthOf, tail * 2);
+                }
+                queue[tail] = next;
+                depthOf[tail++] = depth + 1;
+                traversal.add(nodeIds[next], nodeIds[node], depth + 1);
+            }
+        }
+        return traversal;
+    }
+
+    public InsertResult addEdge(long requirementId, long dependsOnId) {
+        lastSearchSize = 0;
+        if (requirementId == dependsOnId) {
+            return InsertResult.CYCLE;
+        }
+        int u = node(requirementId);
+        int v = node(dependsOnId);
+        if (indexOf(out[u], outSize[u], v) >= 0) {
+            return InsertResult.ALREADY_PRESENT;
+        }
+
+        if (ord[u] > ord[v] && !reorder(u, v)) {
+            return InsertResult.CYCLE;
+        }
+
+        append(true, u, v);
+        append(false, v, u);
+        edgeCount++;
+        return InsertResult.ADDED;
+    }
+
+    public boolean removeEdge(long requirementId, long dependsOnId) {
+        Integer u = nodeIndex.get(requirementId);
+        Integer v = nodeIndex.get(dependsOnId);
+        if (u == null || v == null || !remove(out[u], outSize, u, v)) {
+            return false;
+        }
+        remove(in[v], inSize, v, u);
+        edgeCount--;
+        // Remover arestas nunca invalida a ordem topológica
+        return true;
+    }
+
+    /**
+     * Reordena a região afetada [ord[v], ord[u]] para acomodar a aresta u → v.
+     * Retorna false se v alcança u (a aresta fecharia um ciclo).
+     */
+    private boolean reorder(int u, int v) {
+        int lowerBound = ord[v];
+        int upperBound = ord[u];
+
+        IntBuffer forward = new IntBuffer();
+        int found = forwardSearch(v, u, upperBound, forward);
+        lastSearchSize = forward.size;
+        if (found < 0) {
+            return false;
+        }
+        IntBuffer backward = new IntBuffer();
+        backwardSearch(u, lowerBound, backward);
+        lastSearchSize += backward.size;
+
+        sortByOrd(forward);
+        sortByOrd(backward);
+
+        // As posições ocupadas pela região são redistribuídas: primeiro quem alcança u, depois quem v alcança
+        int total = forward.size + backward.size;
+        int[] positions = new int[total];
+        for (int i = 0; i < backward.size; i++) {
+            positions[i] = ord[backward.values[i]];
+        }
+        for (int i = 0; i < forward.size; i++) {
+            positions[backward.size + i] = ord[forward.values[i]];
+        }
+        Arrays.sort(positions);
+
+        for (int i = 0; i < total; i++) {
+            int node = i < backward.size ? backward.values[i] : forward.values[i - backward.size];
+            ord[node] = positions[i];
+            nodeAt[positions[i]] = node;
+        }
+        return true;
+    }
+
+    /**
+     * DFS pelas dependências a partir de start, limitada a ord &lt;= upperBound.
+     * Retorna -1 se encontrar target; caso contrário, a quantidade de nós visitados.
+     */
+    private int forwardSearch(int start, int target, int upperBound, IntBuffer visited) {
+        epoch++;
+        int top = 0;
+        push(top++, start);
+        mark[start] = epoch;
+        int count = 0;
+        while (top > 0) {
+            int node = stack[--top];
+            count++;
+            visited.add(node);
+            int[] edges = out[node];
+            for (int i = 0; i < outSize[node]; i++) {
+                int next = edges[i];
+                if (next == target) {
+                    return -1;
+                }
+                if (mark[next] != epoch && ord[next] < upperBound) {
+                    mark[next] = epoch;
+                    push(top++, next);
+                }
+            }
+        }
+        return count;
+    }
+
+    /**
+     * DFS pelos dependentes a partir de start, limitada a ord &gt; lowerBound.
+     */
+    private void backwardSearch(int start, int lowerBound, IntBuffer visited) {
+        epoch++;
+        int top = 0;
+        push(top++, start);
+        mark[start] = epoch;
+        while (top > 0) {
+            int node = stack[--top];
+            visited.add(node);
+            int[] edges = in[node];
+            for (int i = 0; i < inSize[node]; i++) {
+                int previous = edges[i];
+                if (mark[previous] != epoch && ord[previous] > lowerBound) {
+                    mark[previous] = epoch;
+                    push(top++, previous);
+                }
+            }
+        }
+    }
+
+    private void sortByOrd(IntBuffer nodes) {
+        // Ordena pelas posições atuais usando a própria ordem topológica como chave
+        int[] keys = new int[nodes.size];
+        for (int i = 0; i < nodes.size; i++) {
+            keys[i] = ord[nodes.values[i]];
+        }
+        Arrays.sort(keys);
+        for (int i = 0; i < nodes.size; i++) {
+            nodes.values[i] = nodeAt[keys[i]];
+        }
+    }
+
+    private void push(int position, int node) {
+        if (position == stack.length) {
+            stack = Arrays.copyOf(stack, stack.length * 2);
+        }
+        stack[position] = node;
+    }
+
+    private int node(long requirementId) {
+        Integer existing = nodeIndex.get(requirementId);
+        if (existing != null) {
+            return existing;
+        }
+        if (nodeCount == nodeIds.length) {
+            grow();
+        }
+        int node = nodeCount++;
+        nodeIds[node] = requirementId;
+        out[node] = EMPTY;
+        in[node] = EMPTY;
+        // Um nó novo não tem arestas, então pode ir para o fim da ordem
+        ord[node] = node;
+        nodeAt[node] = node;
+        nodeIndex.put(requirementId, node);
+        return node;
+    }
+
+    private void grow() {
+        int size = nodeIds.length * 2;
+        nodeIds = Arrays.copyOf(nodeIds, size);
+        out = Arrays.copyOf(out, size);
+        outSize = Arrays.copyOf(outSize, size);
+        in = Arrays.copyOf(in, size);
+        inSize = Arrays.copyOf(inSize, size);
+        ord = Arrays.copyOf(ord, size);
+        nodeAt = Arrays.copyOf(nodeAt, size);
+        mark = Arrays.copyOf(mark, size);
+    }
+
+    private void append(boolean outgoing, int node, int value) {
+        int[][] lists = outgoing ? out : in;
+        int[] sizes = outgoing ? outSize : inSize;
+        int[] list = lists[node];
+        if (sizes[node] == list.length) {
+            list = Arrays.copyOf(list, Math.max(4, list.length * 2));
+            lists[node] = list;
+        }
+        list[sizes[node]++] = value;
+    }
+
+    private static boolean remove(int[] list, int[] sizes, int node, int value) {
+        int index = indexOf(list, sizes[node], value);
+        if (index < 0) {
+            return false;
+        }
+        list[index] = list[--sizes[node]];
+        return true;
+    }
+
+    private static int indexOf(int[] list, int size, int value) {
+        for (int i = 0; i < size; i++) {
+            if (list[i] == value) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Resultado de uma travessia em arrays primitivos: requisito alcançado,
+     * requisito pelo qual foi alcançado e profundidade.
+     */
+    public static final class Traversal {
+        private long[] ids = new long[16];
+        private long[] parents = new long[16];
+        private int[] depths = new int[16];
+        private int size;
+
+        private void add(long id, long parent, int depth) {
+            if (size == ids.length) {
+                ids = Arrays.copyOf(ids, size * 2);
+                parents = Arrays.copyOf(parents, size * 2);
+                depths = Arrays.copyOf(depths, size * 2);
+            }
+            ids[size] = id;
+            parents[size] = parent;
+            depths[size++] = depth;
+        }
+
+        public int size() {
+            return size;
+        }
+
+        public long id(int index) {
+            return ids[index];
+        }
+
+        public long parent(int index) {
+            return parents[index];
+        }
+
+        public int depth(int index) {
+            return depths[index];
+        }
+    }
+
+    private static final class IntBuffer {
+        private int[] values = new int[16];
+        private int size;
+
+        void add(int value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = value;
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package com.openreqs.openreqs.service.graph;
+
+import com.openreqs.openreqs.repository.DependencyEdge;
+import com.openreqs.openreqs.repository.RequirementRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.function.IntConsumer;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Índice em memória da tabela requirement_dependencies, carregado na inicialização
+ * e mantido pelo TraceabilityService a cada inclusão ou remoção de dependência.
+ */
+@Component
+@RequiredArgsConstructor
+public class DependencyGraphIndex {
+
+    private final RequirementRepository requirementRepository;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private DependencyGraph graph = new DependencyGraph();
+
+    @PostConstruct
+    public void load() {
+        DependencyGraph loaded = new DependencyGraph();
+        for (DependencyEdge edge : requirementRepository.findAllDependencyEdges()) {
+            loaded.addEdge(edge.requirementId(), edge.dependsOnId());
+        }
+
+        lock.writeLock().lock();
+        try {
+            graph = loaded;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Verifica e inclui a aresta atomicamente, de modo que duas inclusões concorrentes
+     * não possam fechar um ciclo entre si.
+     */
+    public DependencyGraph.InsertResult addEdge(long requirementId, long dependsOnId) {
+        return addEdge(requirementId, dependsOnId, searched -> { });
+    }
+
+    /**
+     * Como addEdge, informando quantos nós a verificação de ciclo visitou
+     */
+    public DependencyGraph.InsertResult addEdge(long requirementId, long dependsOnId, IntConsumer searchedNodes) {
+        lock.writeLock().lock();
+        try {
+            DependencyGraph.InsertResult result = graph.addEdge(requirementId, dependsOnId);
+            searchedNodes.accept(graph.lastSearchSize());
+            return result;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public boolean removeEdge(long requirementId, long dependsOnId) {
+        lock.writeLock().lock();
+        try {
+            return graph.removeEdge(requirementId, dependsOnId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Todos os requisitos que dependem, direta ou transitivamente, do requisito informado
+     */
+    public DependencyGraph.Traversal dependentsOf(long requirementId, int maxDepth) {
+        lock.readLock().lock();
+        try {
+            return graph.dependentsOf(requirementId, maxDepth);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public DependencyGraph.Traversal dependenciesOf(long requirementId, int maxDepth) {
+        lock.readLock().lock();
+        try {
+            return graph.dependenciesOf(requirementId, maxDepth);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public long[] directDependencies(long requirementId) {
+        lock.readLock().lock();
+        try {
+            return graph.directDependencies(requirementId);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public boolean hasEdge(long requirementId, long dependsOnId) {
+        lock.readLock().lock();
+        try {
+            return graph.hasEdge(requirementId, dependsOnId);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+}
@@ -0,0 +1,149 @@
+package com.openreqs.openreqs.service.history;
+
+import com.openreqs.openreqs.domain.entity.Requirement;
+import com.openreqs.openreqs.domain.entity.RequirementVersion;
+import com.openreqs.openreqs.dto.RequirementVersionResponse;
+import com.openreqs.openreqs.repository.RequirementVersionRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * IREB Syllabus - Unidade 6: Gerenciamento de Requisitos (versionamento)
+ * Histórico de versões: grava a versão que está sendo substituída e reconstrói
+ * qualquer versão anterior por número ou por data.
+ *
+ * Cada versão guarda seus textos como delta da anterior; a cada KEYFRAME_INTERVAL versões
+ * uma é gravada completa, então reconstruir uma versão lê no máximo esse número de linhas.
+ */
+@Component
+@RequiredArgsConstructor
+public class RequirementHistory {
+
+    static final int KEYFRAME_INTERVAL = 16;
+
+    private final RequirementVersionRepository versionRepository;
+
+    /**
+     * Grava o conteúdo atual do requisito como versão encerrada em {@code supersededAt}.
+     * Deve ser chamado antes de o requisito passar para a próxima versão, com a linha do
+     * requisito travada: o número de sequência é o último gravado mais um.
+     */
+    public void recordSuperseded(Requirement current, LocalDateTime supersededAt) {
+        String requirementId = current.getRequirementId();
+        int sequence = versionRepository.findTopByRequirementIdOrderBySequenceDesc(requirementId)
+                .map(last -> last.getSequence() + 1)
+                .orElse(1);
+
+        RequirementVersion.RequirementVersionBuilder version = RequirementVersion.builder()
+                .requirementId(requirementId)
+                .version(current.getVersion())
+                .sequence(sequence)
+                .type(current.getType())
+                .status(current.getStatus())
+                .priority(current.getPriority())
+                .sourceId(current.getSource() != null ? current.getSource().getId() : null)
+                .validFrom(versionSince(current))
+                .validTo(supersededAt);
+
+        if (isKeyframe(sequence)) {
+            version.description(TextDelta.full(current.getDescription()))
+                    .rationale(TextDelta.full(current.getRationale()))
+                    .fitCriterion(TextDelta.full(current.getFitCriterion()));
+        } else {
+            RequirementVersionResponse previous = reconstruct(requirementId, sequence - 1);
+            version.description(TextDelta.encode(previous.getDescription(), current.getDescription()))
+                    .rationale(TextDelta.encode(previous.getRationale(), current.getRationale()))
+                    .fitCriterion(TextDelta.encode(previous.getFitCriterion(), current.getFitCriterion()));
+        }
+        versionRepository.save(version.build());
+    }
+
+    /**
+     * Todas as versões anteriores, da mais antiga para a mais recente
+     */
+    public List<RequirementVersionResponse> history(String requirementId) {
+        List<RequirementVersionResponse> versions = new ArrayList<>();
+        RequirementVersionResponse previous = null;
+        for (RequirementVersion version : versionRepository.findByRequirementIdOrderBySequenceAsc(requirementId)) {
+            previous = decode(version, previous);
+            versions.add(previous);
+        }
+        return versions;
+    }
+
+    public Optional<RequirementVersionResponse> findVersion(String requirementId, String version) {
+        return versionRepository.findByRequirementIdAndVersion(requirementId, version)
+                .map(found -> reconstruct(requirementId, found.getSequence()));
+    }
+
+    /**
+     * Versão anterior vigente na data, se houver
+     */
+    public Optional<RequirementVersionResponse> findAsOf(String requirementId, LocalDateTime date) {
+        return versionRepository.findFirstByRequirementIdAndValidToGreaterThanOrderByValidToAsc(requirementId, date)
+                .filter(found -> !found.getValidFrom().isAfter(date))
+                .map(found -> reconstruct(requirementId, found.getSequence()));
+    }
+
+    /**
+     * A versão vigente, lida da tabela de requisitos
+     */
+    public static RequirementVersionResponse currentVersion(Requirement requirement) {
+        return RequirementVersionResponse.builder()
+                .requirementId(requirement.getRequirementId())
+                .version(requirement.getVersion())
+                .description(requirement.getDescription())
+                .rationale(requirement.getRationale())
+                .fitCriterion(requirement.getFitCriterion())
+                .type(requirement.getType())
+                .status(requirement.getStatus())
+                .priority(requirement.getPriority())
+                .sourceId(requirement.getSource() != null ? requirement.getSource().getId() : null)
+                .validFrom(versionSince(requirement))
+                .current(true)
+                .build();
+    }
+
+    public static LocalDateTime versionSince(Requirement requirement) {
+        return requirement.getVersionSince() != null ? requirement.getVersionSince() : requirement.getCreatedAt();
+    }
+
+    private RequirementVersionResponse reconstruct(String requirementId, int sequence) {
+        int keyframe = sequence - (sequence - 1) % KEYFRAME_INTERVAL;
+        RequirementVersionResponse result = null;
+        for (RequirementVersion version : versionRepository
+                .findByRequirementIdAndSequenceBetweenOrderBySequenceAsc(requirementId, keyframe, sequence)) {
+            result = decode(version, result);
+        }
+        if (result == null) {
+            throw new IllegalStateException("Histórico incompleto para " + requirementId + " na versão " + sequence);
+        }
+        return result;
+    }
+
+    private static RequirementVersionResponse decode(RequirementVersion version, RequirementVersionResponse previous) {
+        return RequirementVersionResponse.builder()
+                .requirementId(version.getRequirementId())
+                .version(version.getVersion())
+                .description(TextDelta.apply(previous != null ? previous.getDescription() : null, version.getDescription()))
+                .rationale(TextDelta.apply(previous != null ? previous.getRationale() : null, version.getRationale()))
+                .fitCriterion(TextDelta.apply(previous != null ? previous.getFitCriterion() : null, version.getFitCriterion()))
+                .type(version.getType())
+                .status(version.getStatus())
+                .priority(version.getPriority())
+                .sourceId(version.getSourceId())
+                .validFrom(version.getValidFrom())
+                .validTo(version.getValidTo())
+                .current(false)
+                .build();
+    }
+
+    private static boolean isKeyframe(int sequence) {
+        return (sequence - 1) % KEYFRAME_INTERVAL == 0;
+    }
+}
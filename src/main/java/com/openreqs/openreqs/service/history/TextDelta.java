@@ -0,0 +1,59 @@
+package com.openreqs.openreqs.service.history;
+
+/**
+ * Codificação de um texto em relação à versão anterior.
+ *
+ * Edições de requisito costumam ser locais, então basta guardar o tamanho do prefixo
+ * e do sufixo em comum e o trecho do meio: "+prefixo,sufixo,meio". Quando o delta não
+ * compensa, ou não há base, o texto vai inteiro: "=texto". Null continua null.
+ */
+final class TextDelta {
+
+    private TextDelta() {
+    }
+
+    static String full(String text) {
+        return text == null ? null : "=" + text;
+    }
+
+    static String encode(String base, String target) {
+        if (target == null) {
+            return null;
+        }
+        if (base == null) {
+            return full(target);
+        }
+
+        int max = Math.min(base.length(), target.length());
+        int prefix = 0;
+        while (prefix < max && base.charAt(prefix) == target.charAt(prefix)) {
+            prefix++;
+        }
+        int suffix = 0;
+        while (suffix < max - prefix
+                && base.charAt(base.length() - 1 - suffix) == target.charAt(target.length() - 1 - suffix)) {
+            suffix++;
+        }
+
+        String delta = "+" + prefix + "," + suffix + "," + target.substring(prefix, target.length() - suffix);
+        return delta.length() < target.length() + 1 ? delta : full(target);
+    }
+
+    static String apply(String base, String encoded) {
+        if (encoded == null) {
+            return null;
+        }
+        if (encoded.charAt(0) == '=') {
+            return encoded.substring(1);
+        }
+        if (base == null) {
+            throw new IllegalStateException("Delta de texto sem versão base");
+        }
+
+        int firstComma = encoded.indexOf(',');
+        int secondComma = encoded.indexOf(',', firstComma + 1);
+        int prefix = Integer.parseInt(encoded.substring(1, firstComma));
+        int suffix = Integer.parseInt(encoded.substring(firstComma + 1, secondComma));
+        return base.substring(0, prefix) + encoded.substring(secondComma + 1) + base.substring(base.length() - suffix);
+    }
+}
@@ -0,0 +1,85 @@
+package com.openreqs.openreqs.service.metrics;
+
+import org.hibernate.event.spi.PostLoadEvent;
+import org.hibernate.event.spi.PostLoadEventListener;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Contadores de comandos SQL e entidades carregadas na requisição HTTP em curso.
+ *
+ * Os ganchos do Hibernate incrementam os contadores ligados à thread atual. Uma requisição
+ * liga os seus em begin() e, se continua em outra thread (streaming), liga os mesmos lá
+ * com bind(); fora disso (tarefas agendadas, distribuição do feed) nada é contado.
+ */
+public final class PersistenceCounters {
+
+    private static final ThreadLocal<Counts> CURRENT = new ThreadLocal<>();
+
+    private PersistenceCounters() {
+    }
+
+    /**
+     * Totais de uma requisição, compartilháveis entre as threads que a atendem
+     */
+    public static final class Counts {
+        private final LongAdder statements = new LongAdder();
+        private final LongAdder entityLoads = new LongAdder();
+
+        public long statements() {
+            return statements.sum();
+        }
+
+        public long entityLoads() {
+            return entityLoads.sum();
+        }
+    }
+
+    public static Counts begin() {
+        Counts counts = new Counts();
+        CURRENT.set(counts);
+        return counts;
+    }
+
+    public static void bind(Counts counts) {
+        CURRENT.set(counts);
+    }
+
+    public static void unbind() {
+        CURRENT.remove();
+    }
+
+    /**
+     * Contadores ligados à thread, ou null se nenhuma contagem está ativa
+     */
+    public static Counts current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * Registrado em hibernate.session_factory.statement_inspector; não altera o SQL
+     */
+    public static final class StatementCounter implements StatementInspector {
+
+        @Override
+        public String inspect(String sql) {
+            Counts counts = CURRENT.get();
+            if (counts != null) {
+                counts.statements.increment();
+            }
+            return sql;
+        }
+    }
+
+    public static final class EntityLoadCounter implements PostLoadEventListener {
+
+        @Override
+        public void onPostLoad(PostLoadEvent event) {
+            Counts counts = CURRENT.get();
+            if (counts != null) {
+                counts.entityLoads.increment();
+            }
+        }
+    }
+}
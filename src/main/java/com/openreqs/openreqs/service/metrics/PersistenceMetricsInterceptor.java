@@ -0,0 +1,102 @@
+package com.openreqs.openreqs.service.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.DispatcherType;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.async.CallableProcessingInterceptor;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Publica por endpoint quantos comandos SQL e quantas entidades cada requisição custou
+ * (openreqs.request.statements e openreqs.request.entity.loads).
+ *
+ * Os contadores ficam num atributo da requisição. Respostas em streaming
+ * (StreamingResponseBody) continuam numa tarefa assíncrona que, como interceptor de
+ * Callable, liga os mesmos contadores à sua thread; a amostra é registrada uma única vez,
+ * no fim do redespacho assíncrono. Os medidores são criados uma vez por método e URI.
+ */
+@RequiredArgsConstructor
+public class PersistenceMetricsInterceptor implements AsyncHandlerInterceptor, CallableProcessingInterceptor {
+
+    private static final String COUNTS_ATTRIBUTE = PersistenceMetricsInterceptor.class.getName() + ".counts";
+
+    private final MeterRegistry meterRegistry;
+    private final Map<Endpoint, Summaries> summaries = new ConcurrentHashMap<>();
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        Object started = request.getAttribute(COUNTS_ATTRIBUTE);
+        if (request.getDispatcherType() == DispatcherType.ASYNC && started instanceof PersistenceCounters.Counts counts) {
+            PersistenceCounters.bind(counts);
+        } else {
+            request.setAttribute(COUNTS_ATTRIBUTE, PersistenceCounters.begin());
+        }
+        return true;
+    }
+
+    @Override
+    public void afterConcurrentHandlingStarted(HttpServletRequest request, HttpServletResponse response,
+                                               Object handler) {
+        // Só desliga da thread: a contagem continua na tarefa e termina no redespacho
+        PersistenceCounters.unbind();
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler,
+                                Exception ex) {
+        PersistenceCounters.unbind();
+        if (!(request.getAttribute(COUNTS_ATTRIBUTE) instanceof PersistenceCounters.Counts counts)) {
+            return;
+        }
+        request.removeAttribute(COUNTS_ATTRIBUTE);
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        Summaries endpoint = summaries.computeIfAbsent(
+                new Endpoint(request.getMethod(), pattern != null ? pattern.toString() : "UNKNOWN"),
+                this::summaries);
+        endpoint.statements().record(counts.statements());
+        endpoint.entityLoads().record(counts.entityLoads());
+    }
+
+    @Override
+    public <T> void preProcess(NativeWebRequest request, Callable<T> task) {
+        if (request.getAttribute(COUNTS_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST)
+                instanceof PersistenceCounters.Counts counts) {
+            PersistenceCounters.bind(counts);
+        }
+    }
+
+    @Override
+    public <T> void postProcess(NativeWebRequest request, Callable<T> task, Object concurrentResult) {
+        PersistenceCounters.unbind();
+    }
+
+    private Summaries summaries(Endpoint endpoint) {
+        return new Summaries(
+                summary("openreqs.request.statements", "Comandos SQL por requisição", endpoint),
+                summary("openreqs.request.entity.loads", "Entidades carregadas por requisição", endpoint));
+    }
+
+    private DistributionSummary summary(String name, String description, Endpoint endpoint) {
+        return DistributionSummary.builder(name)
+                .description(description)
+                .tag("method", endpoint.method())
+                .tag("uri", endpoint.uri())
+                .register(meterRegistry);
+    }
+
+    private record Endpoint(String method, String uri) {
+    }
+
+    private record Summaries(DistributionSummary statements, DistributionSummary entityLoads) {
+    }
+}
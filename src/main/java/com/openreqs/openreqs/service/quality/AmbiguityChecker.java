@@ -1,125 +1,119 @@
 package com.openreqs.openreqs.service.quality;
 
+import com.openreqs.openreqs.domain.enums.RequirementField;
+import com.openreqs.openreqs.dto.QualityFinding;
 import com.openreqs.openreqs.dto.RequirementRequest;
-import com.openreqs.openreqs.exception.RequirementViolationException;
+import com.openreqs.openreqs.service.quality.text.AnalyzedRequirement;
+import com.openreqs.openreqs.service.quality.text.AnalyzedText;
+import com.openreqs.openreqs.service.quality.text.TermMatcher;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.annotation.Order;
 import org.springframework.stereotype.Component;
 
-import java.util.Arrays;
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
-import java.util.regex.Pattern;
+import java.util.function.Function;
 
 /**
  * IREB Syllabus - Unidade 5.4: Documentação em Linguagem Natural
- * Verifica ambiguidades conforme o Handbook do IREB
+ * Verifica ambiguidades conforme o Handbook do IREB.
+ * As listas de palavras vêm do dicionário publicado pelo AmbiguityDictionaryRegistry
+ * para o projeto e o idioma do requisito.
  */
 @Component
+@Order(1)
 public class AmbiguityChecker implements QualityRule {
 
-    // Palavras perigosas (subjetivas)
-    private static final List<String> SUBJECTIVE_WORDS = Arrays.asList(
-            "rápido", "lento", "fácil", "difícil", "simples", "complexo",
-            "intuitivo", "amigável", "bonito", "feio", "melhor", "pior",
-            "eficiente", "suficiente", "adequado"
-    );
+    private final Function<RequirementRequest, AmbiguityDictionary> dictionary;
 
-    // Quantificadores universais (geralmente problemáticos)
-    private static final List<String> UNIVERSAL_QUANTIFIERS = Arrays.asList(
-            "todos", "sempre", "nunca", "qualquer", "nenhum", "cada"
-    );
+    @Autowired
+    public AmbiguityChecker(AmbiguityDictionaryRegistry registry) {
+        this(request -> registry.select(request.getProject(), request.getLanguage()));
+    }
 
-    // Verbos imprecisos (falta de ação específica)
-    private static final List<String> VAGUE_VERBS = Arrays.asList(
-            "processar", "manipular", "tratar", "gerenciar", "lidar com"
-    );
+    // Testes escolhem o dicionário diretamente
+    AmbiguityChecker(Function<RequirementRequest, AmbiguityDictionary> dictionary) {
+        this.dictionary = dictionary;
+    }
 
     @Override
-    public void validate(RequirementRequest request) {
-        String description = request.getDescription().toLowerCase();
-
-        checkSubjectiveWords(description);
-        checkUniversalQuantifiers(description);
-        checkVagueVerbs(description);
-        checkNominalizations(description);
-        checkSuperlatives(description);
+    public List<QualityFinding> inspect(AnalyzedRequirement requirement) {
+        AnalyzedText description = requirement.field(RequirementField.DESCRIPTION);
+        List<QualityFinding> findings = new ArrayList<>();
+
+        // Lido uma vez: uma recompilação durante a análise não mistura dicionários
+        AmbiguityDictionary current = dictionary.apply(requirement.getRequest());
+        checkTerms(current, description, findings);
+        checkNominalizations(current, description, findings);
+        checkSuperlatives(current, description, findings);
+        return findings;
     }
 
-    private void checkSubjectiveWords(String text) {
-        for (String word : SUBJECTIVE_WORDS) {
-            if (text.contains(word)) {
-                throw new RequirementViolationException(
-                        String.format("Ambiguidade detectada: '%s'. Esta palavra é subjetiva.", word),
-                        "SUBJECTIVITY",
-                        word,
-                        "Substitua por métricas objetivas. Ex: 'rápido' → 'responder em menos de 2 segundos'"
-                );
-            }
+    private void checkTerms(AmbiguityDictionary dictionary, AnalyzedText text, List<QualityFinding> findings) {
+        List<TermMatcher.Match<TermCategory>> matches = dictionary.termMatcher().findAll(text.original());
+        // A ordem do enum define a prioridade entre categorias; dentro dela, a posição no texto
+        matches.sort(Comparator.comparing((TermMatcher.Match<TermCategory> m) -> m.payload())
+                .thenComparingInt(TermMatcher.Match::start));
+
+        for (TermMatcher.Match<TermCategory> match : matches) {
+            String term = text.lowerCase().substring(match.start(), match.end());
+            TermCategory category = match.payload();
+            findings.add(finding(category.name(), String.format(category.messageTemplate, term),
+                    term, category.suggestion, match.start(), match.end()));
         }
     }
 
-    private void checkUniversalQuantifiers(String text) {
-        for (String quantifier : UNIVERSAL_QUANTIFIERS) {
-            Pattern pattern = Pattern.compile("\\b" + quantifier + "\\b");
-            if (pattern.matcher(text).find()) {
-                throw new RequirementViolationException(
-                        String.format("Quantificador universal detectado: '%s'. Verifique se realmente não há exceções.", quantifier),
-                        "UNIVERSAL_QUANTIFIER",
-                        quantifier,
-                        "Considere usar termos como 'na maioria dos casos', 'geralmente', ou especifique exceções"
-                );
+    private void checkNominalizations(AmbiguityDictionary dictionary, AnalyzedText text,
+                                      List<QualityFinding> findings) {
+        for (int i = 0; i < text.tokenCount(); i++) {
+            if (dictionary.hasNominalizationSuffix(text, i)) {
+                String nominalization = text.token(i);
+                findings.add(finding(
+                        "NOMINALIZATION",
+                        String.format("Nominalização detectada: '%s'. Pode ocultar ações.", nominalization),
+                        nominalization,
+                        "Use a forma verbal. Ex: 'realização do cálculo' → 'o sistema deve calcular'",
+                        text.tokenStart(i), text.tokenEnd(i)));
             }
         }
     }
 
-    private void checkVagueVerbs(String text) {
-        for (String verb : VAGUE_VERBS) {
-            if (text.contains(verb)) {
-                throw new RequirementViolationException(
-                        String.format("Verbo vago detectado: '%s'. Ação não especificada.", verb),
-                        "VAGUE_ACTION",
-                        verb,
-                        "Especifique a ação exata. Ex: 'processar' → 'validar, calcular e armazenar'"
-                );
+    private void checkSuperlatives(AmbiguityDictionary dictionary, AnalyzedText text, List<QualityFinding> findings) {
+        for (int i = 0; i < text.tokenCount(); i++) {
+            int end;
+            if (dictionary.hasSuperlativeSuffix(text, i)) {
+                end = text.tokenEnd(i);
+            } else if (dictionary.isIntensifier(text.token(i)) && i + 1 < text.tokenCount()
+                    && text.separatedByWhitespace(i)) {
+                end = text.tokenEnd(i + 1);
+            } else {
+                continue;
             }
-        }
-    }
-
-    private void checkNominalizations(String text) {
-        // Verifica substantivos derivados de verbos (terminações comções)
-        Pattern nominalizationPattern = Pattern.compile(
-                "\\b(\\w*)(ação|amento|imento|ção|são|tura|ência|ância)\\b",
-                Pattern.CASE_INSENSITIVE
-        );
-
-        var matcher = nominalizationPattern.matcher(text);
-        if (matcher.find()) {
-            String nominalization = matcher.group();
-            throw new RequirementViolationException(
-                    String.format("Nominalização detectada: '%s'. Pode ocultar ações.", nominalization),
-                    "NOMINALIZATION",
-                    nominalization,
-                    "Use a forma verbal. Ex: 'realização do cálculo' → 'o sistema deve calcular'"
-            );
-        }
-    }
-
-    private void checkSuperlatives(String text) {
-        Pattern superlativePattern = Pattern.compile(
-                "\\b\\w+(íssimo|érrimo|ílimo|zinho|inho)\\b|\\b(muito|pouco)\\s+\\w+\\b",
-                Pattern.CASE_INSENSITIVE
-        );
-
-        var matcher = superlativePattern.matcher(text);
-        if (matcher.find()) {
-            String superlative = matcher.group();
-            throw new RequirementViolationException(
-                    String.format("Superlativo detectado: '%s'. É subjetivo.", superlative),
+            String superlative = text.lowerCase().substring(text.tokenStart(i), end);
+            findings.add(finding(
                     "SUPERLATIVE",
+                    String.format("Superlativo detectado: '%s'. É subjetivo.", superlative),
                     superlative,
-                    "Especifique com números ou critérios objetivos"
-            );
+                    "Especifique com números ou critérios objetivos",
+                    text.tokenStart(i), end));
         }
     }
 
+    private QualityFinding finding(String violationType, String message, String content,
+                                   String suggestion, int start, int end) {
+        return QualityFinding.builder()
+                .ruleName(getRuleName())
+                .violationType(violationType)
+                .message(message)
+                .problematicContent(content)
+                .suggestion(suggestion)
+                .field(RequirementField.DESCRIPTION)
+                .start(start)
+                .end(end)
+                .build();
+    }
+
     @Override
     public String getRuleName() {
         return "Ambiguity Checker";
@@ -129,4 +123,24 @@ public class AmbiguityChecker implements QualityRule {
     public String getRuleDescription() {
         return "Verifica ambiguidades em requisitos documentados em linguagem natural conforme IREB";
     }
-}
\ No newline at end of file
+
+    enum TermCategory {
+        SUBJECTIVITY(
+                "Ambiguidade detectada: '%s'. Esta palavra é subjetiva.",
+                "Substitua por métricas objetivas. Ex: 'rápido' → 'responder em menos de 2 segundos'"),
+        UNIVERSAL_QUANTIFIER(
+                "Quantificador universal detectado: '%s'. Verifique se realmente não há exceções.",
+                "Considere usar termos como 'na maioria dos casos', 'geralmente', ou especifique exceções"),
+        VAGUE_ACTION(
+                "Verbo vago detectado: '%s'. Ação não especificada.",
+                "Especifique a ação exata. Ex: 'processar' → 'validar, calcular e armazenar'");
+
+        private final String messageTemplate;
+        private final String suggestion;
+
+        TermCategory(String messageTemplate, String suggestion) {
+            this.messageTemplate = messageTemplate;
+            this.suggestion = suggestion;
+        }
+    }
+}
@@ -0,0 +1,193 @@
+package com.openreqs.openreqs.service.quality;
+
+import com.openreqs.openreqs.domain.enums.DictionaryCategory;
+import com.openreqs.openreqs.service.quality.text.AnalyzedText;
+import com.openreqs.openreqs.service.quality.text.TermMatcher;
+import com.openreqs.openreqs.service.quality.text.TextNormalizer;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * IREB Syllabus - Unidade 5.4: Documentação em Linguagem Natural
+ * Dicionário compilado da verificação de ambiguidade: imutável depois de montado, então
+ * pode ser lido por qualquer número de validações enquanto outro é compilado.
+ *
+ * Palavras e expressões ficam num único autômato; as terminações, agrupadas por tamanho
+ * e ordenadas, são buscadas sem criar substrings.
+ */
+public final class AmbiguityDictionary {
+
+    /**
+     * Listas embutidas, usadas nas categorias sem palavras cadastradas
+     */
+    public static final Map<DictionaryCategory, List<String>> BUILT_IN = builtIn();
+
+    public static final AmbiguityDictionary DEFAULT = compile("default", "pt-BR", Map.of());
+
+    private final String project;
+    private final String language;
+    private final int termCount;
+    private final TermMatcher<AmbiguityChecker.TermCategory> termMatcher;
+    private final Set<String> intensifiers;
+    private final SuffixList nominalizationSuffixes;
+    private final SuffixList superlativeSuffixes;
+
+    private AmbiguityDictionary(String project, String language, int termCount,
+                                TermMatcher<AmbiguityChecker.TermCategory> termMatcher, Set<String> intensifiers,
+                                SuffixList nominalizationSuffixes, SuffixList superlativeSuffixes) {
+        this.project = project;
+        this.language = language;
+        this.termCount = termCount;
+        this.termMatcher = termMatcher;
+        this.intensifiers = intensifiers;
+        this.nominalizationSuffixes = nominalizationSuffixes;
+        this.superlativeSuffixes = superlativeSuffixes;
+    }
+
+    /**
+     * Compila as listas informadas; categorias ausentes usam a lista embutida
+     */
+    public static AmbiguityDictionary compile(String project, String language,
+                                              Map<DictionaryCategory, ? extends Collection<String>> terms) {
+        Map<DictionaryCategory, Collection<String>> lists = new EnumMap<>(DictionaryCategory.class);
+        lists.putAll(BUILT_IN);
+        lists.putAll(terms);
+
+        TermMatcher<AmbiguityChecker.TermCategory> termMatcher = TermMatcher.<AmbiguityChecker.TermCategory>builder()
+                .addAll(lists.get(DictionaryCategory.SUBJECTIVE_WORDS), AmbiguityChecker.TermCategory.SUBJECTIVITY)
+                .addAll(lists.get(DictionaryCategory.UNIVERSAL_QUANTIFIERS),
+                        AmbiguityChecker.TermCategory.UNIVERSAL_QUANTIFIER)
+                .addAll(lists.get(DictionaryCategory.VAGUE_VERBS), AmbiguityChecker.TermCategory.VAGUE_ACTION)
+                .build();
+        Set<String> intensifiers = new HashSet<>();
+        lists.get(DictionaryCategory.INTENSIFIERS).forEach(word -> intensifiers.add(TextNormalizer.lowerCase(word.strip())));
+
+        int termCount = lists.values().stream().mapToInt(Collection::size).sum();
+        return new AmbiguityDictionary(project, language, termCount, termMatcher, Set.copyOf(intensifiers),
+                new SuffixList(lists.get(DictionaryCategory.NOMINALIZATION_SUFFIXES)),
+                new SuffixList(lists.get(DictionaryCategory.SUPERLATIVE_SUFFIXES)));
+    }
+
+    public String project() {
+        return project;
+    }
+
+    public String language() {
+        return language;
+    }
+
+    public int termCount() {
+        return termCount;
+    }
+
+    TermMatcher<AmbiguityChecker.TermCategory> termMatcher() {
+        return termMatcher;
+    }
+
+    boolean isIntensifier(String token) {
+        return intensifiers.contains(token);
+    }
+
+    boolean hasNominalizationSuffix(AnalyzedText text, int token) {
+        return nominalizationSuffixes.matches(text, token, 0);
+    }
+
+    // Exige ao menos um caractere antes da terminação
+    boolean hasSuperlativeSuffix(AnalyzedText text, int token) {
+        return superlativeSuffixes.matches(text, token, 1);
+    }
+
+    private static Map<DictionaryCategory, List<String>> builtIn() {
+        Map<DictionaryCategory, List<String>> lists = new EnumMap<>(DictionaryCategory.class);
+        lists.put(DictionaryCategory.SUBJECTIVE_WORDS, List.of(
+                "rápido", "lento", "fácil", "difícil", "simples", "complexo",
+                "intuitivo", "amigável", "bonito", "feio", "melhor", "pior",
+                "eficiente", "suficiente", "adequado"));
+        lists.put(DictionaryCategory.UNIVERSAL_QUANTIFIERS, List.of(
+                "todos", "sempre", "nunca", "qualquer", "nenhum", "cada"));
+        lists.put(DictionaryCategory.VAGUE_VERBS, List.of(
+                "processar", "manipular", "tratar", "gerenciar", "lidar com"));
+        lists.put(DictionaryCategory.INTENSIFIERS, List.of("muito", "pouco"));
+        lists.put(DictionaryCategory.NOMINALIZATION_SUFFIXES, List.of(
+                "ação", "amento", "imento", "ção", "são", "tura", "ência", "ância"));
+        lists.put(DictionaryCategory.SUPERLATIVE_SUFFIXES, List.of(
+                "íssimo", "érrimo", "ílimo", "zinho", "inho"));
+        return Map.copyOf(lists);
+    }
+
+    /**
+     * Terminações agrupadas por tamanho, cada grupo ordenado para busca binária
+     * comparando direto o texto minúsculo do token
+     */
+    private static final class SuffixList {
+
+        private final int[] lengths;
+        private final String[][] suffixes;
+
+        SuffixList(Collection<String> values) {
+            Map<Integer, Set<String>> byLength = new TreeMap<>();
+            for (String value : values) {
+                String suffix = TextNormalizer.lowerCase(value.strip());
+                if (!suffix.isEmpty()) {
+                    byLength.computeIfAbsent(suffix.length(), length -> new HashSet<>()).add(suffix);
+                }
+            }
+            this.lengths = new int[byLength.size()];
+            this.suffixes = new String[byLength.size()][];
+            int i = 0;
+            for (Map.Entry<Integer, Set<String>> group : byLength.entrySet()) {
+                lengths[i] = group.getKey();
+                suffixes[i] = group.getValue().toArray(new String[0]);
+                Arrays.sort(suffixes[i]);
+                i++;
+            }
+        }
+
+        // minPrefix: quantidade mínima de caracteres antes da terminação
+        boolean matches(AnalyzedText text, int token, int minPrefix) {
+            int end = text.tokenEnd(token);
+            int tokenLength = end - text.tokenStart(token);
+            for (int i = 0; i < lengths.length && lengths[i] + minPrefix <= tokenLength; i++) {
+                if (contains(suffixes[i], text.lowerCase(), end - lengths[i])) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        private static boolean contains(String[] sorted, String text, int start) {
+            int low = 0;
+            int high = sorted.length - 1;
+            while (low <= high) {
+                int middle = (low + high) >>> 1;
+                int comparison = compare(sorted[middle], text, start);
+                if (comparison < 0) {
+                    low = middle + 1;
+                } else if (comparison > 0) {
+                    high = middle - 1;
+                } else {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        // Compara o sufixo com text[start, start + suffix.length()), que tem o mesmo tamanho
+        private static int compare(String suffix, String text, int start) {
+            for (int i = 0; i < suffix.length(); i++) {
+                int difference = suffix.charAt(i) - text.charAt(start + i);
+                if (difference != 0) {
+                    return difference;
+                }
+            }
+            return 0;
+        }
+    }
+}
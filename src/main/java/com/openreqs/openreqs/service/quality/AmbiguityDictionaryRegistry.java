@@ -0,0 +1,120 @@
+package com.openreqs.openreqs.service.quality;
+
+import com.openreqs.openreqs.domain.entity.RuleDictionaryEntry;
+import com.openreqs.openreqs.domain.enums.DictionaryCategory;
+import com.openreqs.openreqs.dto.DictionaryCompilation;
+import com.openreqs.openreqs.repository.RuleDictionaryEntryRepository;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * IREB Syllabus - Unidade 5.4: Documentação em Linguagem Natural
+ * Dicionários compilados das regras de qualidade, um por projeto e idioma.
+ *
+ * As validações leem o dicionário ativo publicado no momento, sem lock. A recompilação
+ * monta todos os dicionários a partir do banco e os publica de uma vez (copy-on-write),
+ * então uma validação em andamento nunca enxerga um conjunto de regras pela metade.
+ * Cada validação usa o dicionário do projeto e idioma informados no RequirementRequest;
+ * campos vazios ou um par sem dicionário compilado caem no ativo, escolhido por
+ * openreqs.quality.dictionary.project e .language.
+ */
+@Component
+public class AmbiguityDictionaryRegistry {
+
+    private final RuleDictionaryEntryRepository dictionaryRepository;
+    private final String activeProject;
+    private final String activeLanguage;
+
+    private volatile Published published;
+
+    public AmbiguityDictionaryRegistry(RuleDictionaryEntryRepository dictionaryRepository,
+                                       @Value("${openreqs.quality.dictionary.project:default}") String activeProject,
+                                       @Value("${openreqs.quality.dictionary.language:pt-BR}") String activeLanguage) {
+        this.dictionaryRepository = dictionaryRepository;
+        this.activeProject = activeProject;
+        this.activeLanguage = activeLanguage;
+        this.published = new Published(Map.of(), AmbiguityDictionary.DEFAULT, List.of());
+    }
+
+    @PostConstruct
+    public void load() {
+        recompile();
+    }
+
+    /**
+     * Dicionário do projeto e idioma, com o ativo como padrão para o que faltar; sem
+     * palavras cadastradas, o das listas embutidas
+     */
+    public AmbiguityDictionary select(String project, String language) {
+        Published snapshot = published;
+        if (isBlank(project) && isBlank(language)) {
+            return snapshot.active();
+        }
+        AmbiguityDictionary dictionary = snapshot.dictionaries().get(key(
+                isBlank(project) ? activeProject : project,
+                isBlank(language) ? activeLanguage : language));
+        return dictionary != null ? dictionary : snapshot.active();
+    }
+
+    public List<DictionaryCompilation> compilations() {
+        return published.compilations();
+    }
+
+    /**
+     * Lê todas as palavras cadastradas, compila um dicionário por projeto e idioma e publica
+     * o conjunto. Serializado para que duas recompilações não publiquem fora de ordem
+     */
+    public synchronized List<DictionaryCompilation> recompile() {
+        Map<String, Map<DictionaryCategory, List<String>>> grouped = new LinkedHashMap<>();
+        for (RuleDictionaryEntry entry : dictionaryRepository.findAll()) {
+            grouped.computeIfAbsent(key(entry.getProject(), entry.getLanguage()),
+                            key -> new EnumMap<>(DictionaryCategory.class))
+                    .computeIfAbsent(entry.getCategory(), category -> new ArrayList<>())
+                    .add(entry.getTerm());
+        }
+        grouped.putIfAbsent(key(activeProject, activeLanguage), Map.of());
+
+        Map<String, AmbiguityDictionary> dictionaries = new LinkedHashMap<>();
+        List<DictionaryCompilation> compilations = new ArrayList<>();
+        grouped.forEach((key, terms) -> {
+            String[] parts = key.split("/", 2);
+            long start = System.nanoTime();
+            AmbiguityDictionary dictionary = AmbiguityDictionary.compile(parts[0], parts[1], terms);
+            double millis = (System.nanoTime() - start) / 1_000_000.0;
+            dictionaries.put(key, dictionary);
+            compilations.add(DictionaryCompilation.builder()
+                    .project(parts[0])
+                    .language(parts[1])
+                    .active(parts[0].equals(activeProject) && parts[1].equals(activeLanguage))
+                    .termCount(dictionary.termCount())
+                    .compileMillis(millis)
+                    .build());
+        });
+
+        published = new Published(Map.copyOf(dictionaries), dictionaries.get(key(activeProject, activeLanguage)),
+                List.copyOf(compilations));
+        return published.compilations();
+    }
+
+    private static boolean isBlank(String value) {
+        return value == null || value.isBlank();
+    }
+
+    private static String key(String project, String language) {
+        return project + "/" + language;
+    }
+
+    /**
+     * Tudo o que uma recompilação publica, trocado numa única escrita volátil
+     */
+    private record Published(Map<String, AmbiguityDictionary> dictionaries, AmbiguityDictionary active,
+                             List<DictionaryCompilation> compilations) {
+    }
+}
@@ -1,85 +1,131 @@
 package com.openreqs.openreqs.service.quality;
 
-import com.openreqs.openreqs.dto.RequirementRequest;
-import com.openreqs.openreqs.exception.RequirementViolationException;
+import com.openreqs.openreqs.domain.enums.RequirementField;
+import com.openreqs.openreqs.dto.QualityFinding;
+import com.openreqs.openreqs.service.quality.text.AnalyzedRequirement;
+import com.openreqs.openreqs.service.quality.text.AnalyzedText;
+import org.springframework.core.annotation.Order;
 import org.springframework.stereotype.Component;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Pattern;
+
 /**
  * IREB Syllabus - Unidade 5.3: Atributos de Requisitos
  * Verifica se o requisito está completo com todos os atributos necessários
  */
 @Component
+@Order(2)
 public class CompletenessChecker implements QualityRule {
 
+    private static final Pattern ID_FORMAT = Pattern.compile("^REQ-\\d{3}$");
+
     @Override
-    public void validate(RequirementRequest request) {
-        checkIdFormat(request.getRequirementId());
-        checkDescriptionLength(request.getDescription());
-        checkRationale(request.getRationale());
-        checkFitCriterion(request.getFitCriterion());
+    public List<QualityFinding> inspect(AnalyzedRequirement requirement) {
+        List<QualityFinding> findings = new ArrayList<>();
+        checkIdFormat(requirement.field(RequirementField.REQUIREMENT_ID), findings);
+        checkDescriptionLength(requirement.field(RequirementField.DESCRIPTION), findings);
+        checkRationale(requirement.field(RequirementField.RATIONALE), findings);
+        checkFitCriterion(requirement.field(RequirementField.FIT_CRITERION), findings);
+        return findings;
     }
 
-    private void checkIdFormat(String requirementId) {
-        if (!requirementId.matches("^REQ-\\d{3}$")) {
-            throw new RequirementViolationException(
+    private void checkIdFormat(AnalyzedText requirementId, List<QualityFinding> findings) {
+        if (!ID_FORMAT.matcher(requirementId.original()).matches()) {
+            findings.add(finding(
                     "Formato de ID inválido",
                     "ID_FORMAT",
-                    requirementId,
-                    "Use o formato: REQ-001, REQ-002, etc."
-            );
+                    requirementId.original(),
+                    "Use o formato: REQ-001, REQ-002, etc.",
+                    RequirementField.REQUIREMENT_ID,
+                    requirementId.length()
+            ));
         }
     }
 
-    private void checkDescriptionLength(String description) {
+    private void checkDescriptionLength(AnalyzedText description, List<QualityFinding> findings) {
         if (description.length() < 10) {
-            throw new RequirementViolationException(
+            findings.add(finding(
                     "Descrição muito curta",
                     "DESCRIPTION_LENGTH",
-                    description,
-                    "A descrição deve ter pelo menos 10 caracteres"
-            );
+                    description.original(),
+                    "A descrição deve ter pelo menos 10 caracteres",
+                    RequirementField.DESCRIPTION,
+                    description.length()
+            ));
         }
 
         if (description.length() > 2000) {
-            throw new RequirementViolationException(
+            findings.add(finding(
                     "Descrição muito longa",
                     "DESCRIPTION_LENGTH",
                     String.valueOf(description.length()),
-                    "Limite a descrição a 2000 caracteres"
-            );
+                    "Limite a descrição a 2000 caracteres",
+                    RequirementField.DESCRIPTION,
+                    description.length()
+            ));
         }
     }
 
-    private void checkRationale(String rationale) {
-        if (rationale == null || rationale.trim().length() < 10) {
-            throw new RequirementViolationException(
+    private void checkRationale(AnalyzedText rationale, List<QualityFinding> findings) {
+        if (rationale.original().trim().length() < 10) {
+            findings.add(finding(
                     "Justificativa insuficiente",
                     "RATIONALE_INCOMPLETE",
-                    rationale,
-                    "Explique POR QUE este requisito é necessário (mínimo 10 caracteres)"
-            );
+                    rationale.original(),
+                    "Explique POR QUE este requisito é necessário (mínimo 10 caracteres)",
+                    RequirementField.RATIONALE,
+                    rationale.length()
+            ));
         }
     }
 
-    private void checkFitCriterion(String fitCriterion) {
-        if (fitCriterion != null && fitCriterion.trim().length() > 0) {
+    private void checkFitCriterion(AnalyzedText fitCriterion, List<QualityFinding> findings) {
+        if (!fitCriterion.isBlank()) {
             // Verifica se o critério de aceitação é testável
-            String lowerCriterion = fitCriterion.toLowerCase();
+            String lowerCriterion = fitCriterion.lowerCase();
             boolean isTestable = lowerCriterion.contains("deve") ||
                     lowerCriterion.contains("pode") ||
                     lowerCriterion.contains("verificar") ||
                     lowerCriterion.contains("validar") ||
-                    lowerCriterion.matches(".*\\d+.*"); // Contém números
+                    containsDigit(lowerCriterion);
 
             if (!isTestable) {
-                throw new RequirementViolationException(
+                findings.add(finding(
                         "Critério de aceitação não testável",
                         "FIT_CRITERION_NOT_TESTABLE",
-                        fitCriterion,
-                        "Especifique como validar o requisito. Ex: 'Tempo de resposta < 2 segundos'"
-                );
+                        fitCriterion.original(),
+                        "Especifique como validar o requisito. Ex: 'Tempo de resposta < 2 segundos'",
+                        RequirementField.FIT_CRITERION,
+                        fitCriterion.length()
+                ));
+            }
+        }
+    }
+
+    private boolean containsDigit(String text) {
+        for (int i = 0; i < text.length(); i++) {
+            if (Character.isDigit(text.charAt(i))) {
+                return true;
             }
         }
+        return false;
+    }
+
+    // As verificações de completude se aplicam ao campo inteiro
+    private QualityFinding finding(String message, String violationType, String content,
+                                   String suggestion, RequirementField field, int length) {
+        return QualityFinding.builder()
+                .ruleName(getRuleName())
+                .violationType(violationType)
+                .message(message)
+                .problematicContent(content)
+                .suggestion(suggestion)
+                .field(field)
+                .start(0)
+                .end(length)
+                .build();
     }
 
     @Override
@@ -91,4 +137,4 @@ public class CompletenessChecker implements QualityRule {
     public String getRuleDescription() {
         return "Verifica se o requisito possui todos os atributos necessários conforme IREB";
     }
-}
\ No newline at end of file
+}
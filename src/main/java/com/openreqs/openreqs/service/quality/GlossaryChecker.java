@@ -0,0 +1,188 @@
+package com.openreqs.openreqs.service.quality;
+
+import com.openreqs.openreqs.domain.entity.ProjectGlossary;
+import com.openreqs.openreqs.domain.enums.RequirementField;
+import com.openreqs.openreqs.dto.GlossaryLink;
+import com.openreqs.openreqs.dto.QualityFinding;
+import com.openreqs.openreqs.service.glossary.GlossaryIndex;
+import com.openreqs.openreqs.service.quality.text.AnalyzedRequirement;
+import com.openreqs.openreqs.service.quality.text.AnalyzedText;
+import com.openreqs.openreqs.service.quality.text.TermMatcher;
+import com.openreqs.openreqs.service.quality.text.TextNormalizer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * IREB Syllabus - Unidade 1: Glossário
+ * Localiza termos e siglas do glossário na descrição e no critério de aceitação e
+ * aponta, como avisos, siglas que o glossário não define.
+ *
+ * O glossário inteiro fica compilado num autômato publicado pelo GlossaryIndex junto com o
+ * snapshot; cada campo é percorrido uma única vez, qualquer que seja o tamanho do glossário.
+ * Os termos encontrados não são violações: vão para QualityReport.glossaryTerms. As siglas
+ * também não invalidam o requisito (API, SLA e afins são comuns em textos corretos): vão
+ * para QualityReport.warnings.
+ */
+@Component
+@Order(3)
+public class GlossaryChecker implements QualityRule {
+
+    private static final RequirementField[] FIELDS = {RequirementField.DESCRIPTION, RequirementField.FIT_CRITERION};
+    private static final int MAX_ACRONYM_LENGTH = 10;
+
+    private final GlossaryIndex glossaryIndex;
+    private final boolean flagUndefinedAcronyms;
+
+    public GlossaryChecker(GlossaryIndex glossaryIndex,
+                           @Value("${openreqs.quality.glossary.flag-undefined-acronyms:true}") boolean flagUndefinedAcronyms) {
+        this.glossaryIndex = glossaryIndex;
+        this.flagUndefinedAcronyms = flagUndefinedAcronyms;
+    }
+
+    /**
+     * Nenhuma violação: tudo o que a regra aponta é aviso
+     */
+    @Override
+    public List<QualityFinding> inspect(AnalyzedRequirement requirement) {
+        return List.of();
+    }
+
+    @Override
+    public RuleResult evaluate(AnalyzedRequirement requirement) {
+        // Um único snapshot para todos os campos, mesmo que o glossário mude durante a análise
+        TermMatcher<ProjectGlossary> matcher = glossaryIndex.termMatcher();
+        List<QualityFinding> warnings = new ArrayList<>();
+        List<GlossaryLink> links = new ArrayList<>();
+
+        for (RequirementField field : FIELDS) {
+            AnalyzedText text = requirement.field(field);
+            List<TermMatcher.Match<ProjectGlossary>> found = matcher.findAll(text.original());
+            found.removeIf(match -> !keepsAcronymCase(text, match));
+            List<TermMatcher.Match<ProjectGlossary>> matches = longestMatches(found);
+            for (TermMatcher.Match<ProjectGlossary> match : matches) {
+                ProjectGlossary term = match.payload();
+                links.add(GlossaryLink.builder()
+                        .termId(term.getId())
+                        .term(term.getTerm())
+                        .acronym(term.getAcronym())
+                        .text(text.substring(match.start(), match.end()))
+                        .field(field)
+                        .start(match.start())
+                        .end(match.end())
+                        .build());
+            }
+            if (flagUndefinedAcronyms) {
+                checkAcronyms(text, field, matches, warnings);
+            }
+        }
+
+        return new RuleResult(List.of(), warnings, links);
+    }
+
+    /**
+     * Siglas sem ocorrência do glossário cobrindo-as; cada sigla é apontada uma vez por campo
+     */
+    private void checkAcronyms(AnalyzedText text, RequirementField field,
+                               List<TermMatcher.Match<ProjectGlossary>> matches, List<QualityFinding> warnings) {
+        Set<String> reported = new HashSet<>();
+        int next = 0;
+        for (int i = 0; i < text.tokenCount(); i++) {
+            int start = text.tokenStart(i);
+            int end = text.tokenEnd(i);
+            while (next < matches.size() && matches.get(next).end() <= start) {
+                next++;
+            }
+            boolean covered = next < matches.size() && matches.get(next).start() <= start;
+            if (covered || !isAcronym(text, start, end) || isRequirementReference(text, end)) {
+                continue;
+            }
+            String acronym = text.substring(start, end);
+            if (reported.add(acronym)) {
+                warnings.add(QualityFinding.builder()
+                        .ruleName(getRuleName())
+                        .violationType("UNDEFINED_ACRONYM")
+                        .message(String.format("Sigla não definida no glossário: '%s'.", acronym))
+                        .problematicContent(acronym)
+                        .suggestion("Cadastre a sigla no glossário ou escreva o termo por extenso")
+                        .field(field)
+                        .start(start)
+                        .end(end)
+                        .build());
+            }
+        }
+    }
+
+    /**
+     * O autômato compara o texto sem caixa nem acento; uma ocorrência pela sigla só vale com
+     * a grafia cadastrada, para que "TI" não case com o pronome "ti" nem "SE" com a conjunção
+     */
+    private static boolean keepsAcronymCase(AnalyzedText text, TermMatcher.Match<ProjectGlossary> match) {
+        ProjectGlossary term = match.payload();
+        String acronym = term.getAcronym();
+        if (acronym == null || !match.term().equals(TextNormalizer.fold(acronym))
+                || match.term().equals(TextNormalizer.fold(term.getTerm()))) {
+            return true;
+        }
+        return text.substring(match.start(), match.end()).equals(acronym);
+    }
+
+    /**
+     * Mantém a ocorrência mais longa onde termos se sobrepõem ("pedido" dentro de "pedido de compra"),
+     * em ordem de posição
+     */
+    private static List<TermMatcher.Match<ProjectGlossary>> longestMatches(
+            List<TermMatcher.Match<ProjectGlossary>> matches) {
+        matches.sort(Comparator.comparingInt((TermMatcher.Match<ProjectGlossary> match) -> match.start())
+                .thenComparing(Comparator.comparingInt((TermMatcher.Match<ProjectGlossary> match) -> match.end())
+                        .reversed()));
+        List<TermMatcher.Match<ProjectGlossary>> longest = new ArrayList<>(matches.size());
+        int coveredUntil = 0;
+        for (TermMatcher.Match<ProjectGlossary> match : matches) {
+            if (match.start() >= coveredUntil) {
+                longest.add(match);
+                coveredUntil = match.end();
+            }
+        }
+        return longest;
+    }
+
+    // Duas ou mais letras maiúsculas, sem minúsculas, opcionalmente com dígitos (ex.: API, SLA, ISO9001)
+    private static boolean isAcronym(AnalyzedText text, int start, int end) {
+        if (end - start < 2 || end - start > MAX_ACRONYM_LENGTH) {
+            return false;
+        }
+        int upperCase = 0;
+        for (int i = start; i < end; i++) {
+            char c = text.original().charAt(i);
+            if (Character.isUpperCase(c)) {
+                upperCase++;
+            } else if (!Character.isDigit(c)) {
+                return false;
+            }
+        }
+        return upperCase >= 2;
+    }
+
+    // Referências a outros requisitos (REQ-001) não são siglas
+    private static boolean isRequirementReference(AnalyzedText text, int end) {
+        String original = text.original();
+        return end + 1 < original.length() && original.charAt(end) == '-' && Character.isDigit(original.charAt(end + 1));
+    }
+
+    @Override
+    public String getRuleName() {
+        return "Glossary Checker";
+    }
+
+    @Override
+    public String getRuleDescription() {
+        return "Relaciona os termos do glossário usados no requisito e aponta siglas não definidas";
+    }
+}
@@ -1,14 +1,41 @@
 package com.openreqs.openreqs.service.quality;
 
+import com.openreqs.openreqs.dto.QualityFinding;
 import com.openreqs.openreqs.dto.RequirementRequest;
 import com.openreqs.openreqs.exception.RequirementViolationException;
+import com.openreqs.openreqs.service.quality.text.AnalyzedRequirement;
+
+import java.util.List;
 
 /**
  * IREB Syllabus - Unidade 5: Padrões de Qualidade
  * Interface para todas as regras de validação de requisitos
  */
 public interface QualityRule {
-    void validate(RequirementRequest request) throws RequirementViolationException;
+
+    /**
+     * Modo relatório: retorna todas as violações encontradas, em ordem de prioridade.
+     */
+    List<QualityFinding> inspect(AnalyzedRequirement requirement);
+
+    /**
+     * Resultado completo usado pelo QualityService: além das violações, avisos e termos
+     * do glossário. Regras que só produzem violações não precisam sobrescrever.
+     */
+    default RuleResult evaluate(AnalyzedRequirement requirement) {
+        return RuleResult.of(inspect(requirement));
+    }
+
+    /**
+     * Modo estrito: lança a primeira violação encontrada.
+     */
+    default void validate(RequirementRequest request) throws RequirementViolationException {
+        List<QualityFinding> findings = inspect(AnalyzedRequirement.of(request));
+        if (!findings.isEmpty()) {
+            throw new RequirementViolationException(findings.get(0));
+        }
+    }
+
     String getRuleName();
     String getRuleDescription();
-}
\ No newline at end of file
+}
@@ -0,0 +1,19 @@
+package com.openreqs.openreqs.service.quality;
+
+import com.openreqs.openreqs.dto.GlossaryLink;
+import com.openreqs.openreqs.dto.QualityFinding;
+
+import java.util.List;
+
+/**
+ * Resultado de uma regra sobre um requisito: violações (invalidam o requisito), avisos
+ * (só informam) e termos do glossário encontrados no texto
+ */
+public record RuleResult(List<QualityFinding> findings,
+                         List<QualityFinding> warnings,
+                         List<GlossaryLink> glossaryTerms) {
+
+    public static RuleResult of(List<QualityFinding> findings) {
+        return new RuleResult(findings, List.of(), List.of());
+    }
+}
@@ -0,0 +1,37 @@
+package com.openreqs.openreqs.service.quality.text;
+
+import com.openreqs.openreqs.domain.enums.RequirementField;
+import com.openreqs.openreqs.dto.RequirementRequest;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Forma tokenizada de um RequirementRequest, construída uma única vez e
+ * compartilhada por todas as regras de qualidade registradas.
+ */
+public final class AnalyzedRequirement {
+
+    private final RequirementRequest request;
+    private final Map<RequirementField, AnalyzedText> fields = new EnumMap<>(RequirementField.class);
+
+    private AnalyzedRequirement(RequirementRequest request) {
+        this.request = request;
+        fields.put(RequirementField.REQUIREMENT_ID, AnalyzedText.of(request.getRequirementId()));
+        fields.put(RequirementField.DESCRIPTION, AnalyzedText.of(request.getDescription()));
+        fields.put(RequirementField.RATIONALE, AnalyzedText.of(request.getRationale()));
+        fields.put(RequirementField.FIT_CRITERION, AnalyzedText.of(request.getFitCriterion()));
+    }
+
+    public static AnalyzedRequirement of(RequirementRequest request) {
+        return new AnalyzedRequirement(request);
+    }
+
+    public RequirementRequest getRequest() {
+        return request;
+    }
+
+    public AnalyzedText field(RequirementField field) {
+        return fields.get(field);
+    }
+}
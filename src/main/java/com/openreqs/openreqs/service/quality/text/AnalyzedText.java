@@ -0,0 +1,109 @@
+package com.openreqs.openreqs.service.quality.text;
+
+import java.util.Arrays;
+
+/**
+ * Texto de um campo já preparado para as regras de qualidade: original, minúsculo
+ * (mesmo comprimento do original) e segmentado em palavras.
+ * Os offsets dos tokens valem para todas as formas do texto.
+ */
+public final class AnalyzedText {
+
+    private final String original;
+    private final String lowerCase;
+    private final int[] tokenStarts;
+    private final int[] tokenEnds;
+    private final int tokenCount;
+
+    private AnalyzedText(String original) {
+        this.original = original;
+        this.lowerCase = TextNormalizer.lowerCase(original);
+
+        int[] starts = new int[16];
+        int[] ends = new int[16];
+        int count = 0;
+        int i = 0;
+        while (i < original.length()) {
+            while (i < original.length() && !TextNormalizer.isWordChar(original.charAt(i))) {
+                i++;
+            }
+            if (i == original.length()) {
+                break;
+            }
+            int start = i;
+            while (i < original.length() && TextNormalizer.isWordChar(original.charAt(i))) {
+                i++;
+            }
+            if (count == starts.length) {
+                starts = Arrays.copyOf(starts, count * 2);
+                ends = Arrays.copyOf(ends, count * 2);
+            }
+            starts[count] = start;
+            ends[count] = i;
+            count++;
+        }
+        this.tokenStarts = starts;
+        this.tokenEnds = ends;
+        this.tokenCount = count;
+    }
+
+    public static AnalyzedText of(String text) {
+        return new AnalyzedText(text == null ? "" : text);
+    }
+
+    public String original() {
+        return original;
+    }
+
+    public String lowerCase() {
+        return lowerCase;
+    }
+
+    public int length() {
+        return original.length();
+    }
+
+    public boolean isBlank() {
+        return original.isBlank();
+    }
+
+    public int tokenCount() {
+        return tokenCount;
+    }
+
+    public int tokenStart(int index) {
+        return tokenStarts[index];
+    }
+
+    public int tokenEnd(int index) {
+        return tokenEnds[index];
+    }
+
+    /**
+     * Token em minúsculas.
+     */
+    public String token(int index) {
+        return lowerCase.substring(tokenStarts[index], tokenEnds[index]);
+    }
+
+    public boolean tokenEndsWith(int index, String suffix) {
+        int start = tokenEnds[index] - suffix.length();
+        return start >= tokenStarts[index] && lowerCase.startsWith(suffix, start);
+    }
+
+    /**
+     * Verifica se entre dois tokens consecutivos só há espaços em branco.
+     */
+    public boolean separatedByWhitespace(int index) {
+        for (int i = tokenEnds[index]; i < tokenStarts[index + 1]; i++) {
+            if (!Character.isWhitespace(original.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public String substring(int start, int end) {
+        return original.substring(start, end);
+    }
+}
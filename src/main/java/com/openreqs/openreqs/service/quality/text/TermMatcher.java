@@ -0,0 +1,221 @@
+package com.openreqs.openreqs.service.quality.text;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * Autômato Aho-Corasick imutável para localizar vários termos numa única passagem.
+ * Os termos e o texto são normalizados com {@link TextNormalizer} (minúsculas, sem acento)
+ * e só são aceitas ocorrências delimitadas por fronteira de palavra.
+ *
+ * @param <T> informação associada a cada termo (categoria, entrada do glossário, ...)
+ */
+public final class TermMatcher<T> {
+
+    private static final int ROOT = 0;
+
+    // Transições em formato compacto: as arestas do nó n ficam em [edgeStart[n], edgeStart[n + 1]),
+    // ordenadas pelo caractere para busca binária
+    private final int[] edgeStart;
+    private final char[] edgeChars;
+    private final int[] edgeTargets;
+    private final int[] failure;
+    // Termo que termina no nó (-1 se nenhum) e próximo nó de saída na cadeia de falhas
+    private final int[] terminal;
+    private final int[] outputLink;
+    private final String[] terms;
+    private final List<T> payloads;
+
+    private TermMatcher(int[] edgeStart, char[] edgeChars, int[] edgeTargets, int[] failure, int[] terminal,
+                        int[] outputLink, String[] terms, List<T> payloads) {
+        this.edgeStart = edgeStart;
+        this.edgeChars = edgeChars;
+        this.edgeTargets = edgeTargets;
+        this.failure = failure;
+        this.terminal = terminal;
+        this.outputLink = outputLink;
+        this.terms = terms;
+        this.payloads = payloads;
+    }
+
+    public static <T> Builder<T> builder() {
+        return new Builder<>();
+    }
+
+    public int size() {
+        return terms.length;
+    }
+
+    /**
+     * Retorna todas as ocorrências em ordem de posição final.
+     */
+    public List<Match<T>> findAll(CharSequence text) {
+        List<Match<T>> matches = new ArrayList<>();
+        scan(text, matches::add);
+        return matches;
+    }
+
+    /**
+     * Percorre o texto uma única vez, entregando cada ocorrência ao consumidor.
+     */
+    public void scan(CharSequence text, Consumer<Match<T>> consumer) {
+        int state = ROOT;
+        for (int i = 0; i < text.length(); i++) {
+            char c = TextNormalizer.fold(text.charAt(i));
+            int next = transition(state, c);
+            while (next < 0 && state != ROOT) {
+                state = failure[state];
+                next = transition(state, c);
+            }
+            state = next < 0 ? ROOT : next;
+
+            int output = terminal[state] >= 0 ? state : outputLink[state];
+            while (output > ROOT) {
+                int termIndex = terminal[output];
+                int end = i + 1;
+                int start = end - terms[termIndex].length();
+                if (TextNormalizer.isWholeWord(text, start, end)) {
+                    consumer.accept(new Match<>(start, end, terms[termIndex], payloads.get(termIndex)));
+                }
+                output = outputLink[output];
+            }
+        }
+    }
+
+    private int transition(int state, char c) {
+        return transition(edgeStart, edgeChars, edgeTargets, state, c);
+    }
+
+    private static int transition(int[] edgeStart, char[] edgeChars, int[] edgeTargets, int state, char c) {
+        int index = Arrays.binarySearch(edgeChars, edgeStart[state], edgeStart[state + 1], c);
+        return index >= 0 ? edgeTargets[index] : -1;
+    }
+
+    /**
+     * Ocorrência de um termo: offsets [start, end) no texto original.
+     */
+    public record Match<T>(int start, int end, String term, T payload) {
+    }
+
+    public static final class Builder<T> {
+
+        private final Map<String, T> entries = new LinkedHashMap<>();
+
+        private Builder() {
+        }
+
+        /**
+         * Adiciona um termo. Termos que normalizam para a mesma forma mantêm a primeira entrada.
+         */
+        public Builder<T> add(String term, T payload) {
+            String normalized = TextNormalizer.fold(term.strip());
+            if (!normalized.isEmpty()) {
+                entries.putIfAbsent(normalized, payload);
+            }
+            return this;
+        }
+
+        public Builder<T> addAll(Iterable<String> terms, T payload) {
+            for (String term : terms) {
+                add(term, payload);
+            }
+            return this;
+        }
+
+        /**
+         * Compila o autômato. Os termos são inseridos em ordem alfabética, de modo que os filhos
+         * de cada nó surgem já ordenados e a trie é montada em arrays primitivos, sem mapas por nó.
+         */
+        public TermMatcher<T> build() {
+            String[] terms = entries.keySet().toArray(new String[0]);
+            List<T> payloads = Collections.unmodifiableList(new ArrayList<>(entries.values()));
+            Integer[] order = new Integer[terms.length];
+            Arrays.setAll(order, i -> i);
+            Arrays.sort(order, (a, b) -> terms[a].compareTo(terms[b]));
+
+            int capacity = 1;
+            for (String term : terms) {
+                capacity += term.length();
+            }
+            int[] parent = new int[capacity];
+            char[] label = new char[capacity];
+            int[] terminal = new int[capacity];
+            Arrays.fill(terminal, -1);
+            int nodeCount = 1;
+
+            // Caminho do termo anterior: os nós do prefixo em comum são reaproveitados
+            int[] path = new int[1];
+            String previous = "";
+            for (int t : order) {
+                String term = terms[t];
+                int common = 0;
+                int limit = Math.min(previous.length(), term.length());
+                while (common < limit && previous.charAt(common) == term.charAt(common)) {
+                    common++;
+                }
+                if (path.length < term.length() + 1) {
+                    path = Arrays.copyOf(path, term.length() + 1);
+                }
+                for (int i = common; i < term.length(); i++) {
+                    parent[nodeCount] = path[i];
+                    label[nodeCount] = term.charAt(i);
+                    path[i + 1] = nodeCount++;
+                }
+                terminal[path[term.length()]] = t;
+                previous = term;
+            }
+
+            // Arestas agrupadas por nó de origem; dentro do grupo, na ordem de criação (alfabética)
+            int[] edgeStart = new int[nodeCount + 1];
+            for (int n = 1; n < nodeCount; n++) {
+                edgeStart[parent[n] + 1]++;
+            }
+            for (int n = 0; n < nodeCount; n++) {
+                edgeStart[n + 1] += edgeStart[n];
+            }
+            char[] edgeChars = new char[Math.max(0, nodeCount - 1)];
+            int[] edgeTargets = new int[edgeChars.length];
+            int[] fill = Arrays.copyOf(edgeStart, nodeCount);
+            for (int n = 1; n < nodeCount; n++) {
+                int edge = fill[parent[n]]++;
+                edgeChars[edge] = label[n];
+                edgeTargets[edge] = n;
+            }
+
+            // Links de falha e de saída calculados em largura (BFS)
+            int[] failure = new int[nodeCount];
+            int[] outputLink = new int[nodeCount];
+            int[] queue = new int[nodeCount];
+            int head = 0;
+            int tail = 0;
+            for (int e = edgeStart[ROOT]; e < edgeStart[ROOT + 1]; e++) {
+                queue[tail++] = edgeTargets[e];
+            }
+            while (head < tail) {
+                int node = queue[head++];
+                for (int e = edgeStart[node]; e < edgeStart[node + 1]; e++) {
+                    char c = edgeChars[e];
+                    int child = edgeTargets[e];
+                    int fallback = failure[node];
+                    int target = transition(edgeStart, edgeChars, edgeTargets, fallback, c);
+                    while (target < 0 && fallback != ROOT) {
+                        fallback = failure[fallback];
+                        target = transition(edgeStart, edgeChars, edgeTargets, fallback, c);
+                    }
+                    failure[child] = target < 0 ? ROOT : target;
+                    outputLink[child] = terminal[failure[child]] >= 0
+                            ? failure[child] : outputLink[failure[child]];
+                    queue[tail++] = child;
+                }
+            }
+
+            return new TermMatcher<>(edgeStart, edgeChars, edgeTargets, failure,
+                    Arrays.copyOf(terminal, nodeCount), outputLink, terms, payloads);
+        }
+    }
+}
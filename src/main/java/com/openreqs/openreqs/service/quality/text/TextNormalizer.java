@@ -0,0 +1,78 @@
+package com.openreqs.openreqs.service.quality.text;
+
+/**
+ * Normalização de texto para as regras de qualidade.
+ * Converte para minúsculas e remove acentos caractere a caractere,
+ * preservando o comprimento para que os offsets continuem válidos no texto original.
+ */
+public final class TextNormalizer {
+
+    private static final char[] FOLD = new char[0x180];
+
+    static {
+        for (char c = 0; c < FOLD.length; c++) {
+            FOLD[c] = Character.toLowerCase(c);
+        }
+        map("àáâãäåÀÁÂÃÄÅāĀăĂąĄ", 'a');
+        map("çÇćĆčČ", 'c');
+        map("èéêëÈÉÊËēĒęĘěĚ", 'e');
+        map("ìíîïÌÍÎÏīĪ", 'i');
+        map("ñÑńŃ", 'n');
+        map("òóôõöÒÓÔÕÖōŌ", 'o');
+        map("ùúûüÙÚÛÜūŪ", 'u');
+        map("ýÿÝ", 'y');
+    }
+
+    private TextNormalizer() {
+    }
+
+    private static void map(String chars, char target) {
+        for (int i = 0; i < chars.length(); i++) {
+            FOLD[chars.charAt(i)] = target;
+        }
+    }
+
+    /**
+     * Minúscula sem acento. Espaços em branco viram ' ' para que termos compostos
+     * ("lidar com") casem mesmo com quebras de linha ou tabulação.
+     */
+    public static char fold(char c) {
+        if (c < FOLD.length) {
+            char folded = FOLD[c];
+            return folded == '\t' || folded == '\n' || folded == '\r' ? ' ' : folded;
+        }
+        return Character.isWhitespace(c) ? ' ' : Character.toLowerCase(c);
+    }
+
+    public static String fold(CharSequence text) {
+        char[] out = new char[text.length()];
+        for (int i = 0; i < out.length; i++) {
+            out[i] = fold(text.charAt(i));
+        }
+        return new String(out);
+    }
+
+    /**
+     * Minúsculas caractere a caractere (ao contrário de String.toLowerCase,
+     * nunca altera o comprimento do texto).
+     */
+    public static String lowerCase(CharSequence text) {
+        char[] out = new char[text.length()];
+        for (int i = 0; i < out.length; i++) {
+            out[i] = Character.toLowerCase(text.charAt(i));
+        }
+        return new String(out);
+    }
+
+    public static boolean isWordChar(char c) {
+        return Character.isLetterOrDigit(c) || c == '_';
+    }
+
+    /**
+     * Verifica se o trecho [start, end) está delimitado por fronteiras de palavra.
+     */
+    public static boolean isWholeWord(CharSequence text, int start, int end) {
+        return (start == 0 || !isWordChar(text.charAt(start - 1)))
+                && (end == text.length() || !isWordChar(text.charAt(end)));
+    }
+}
@@ -0,0 +1,54 @@
+package com.openreqs.openreqs.service.search;
+
+import com.openreqs.openreqs.service.quality.text.TextNormalizer;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Análise de texto para a busca: segmenta em palavras, remove acentos e stopwords
+ * e reduz cada palavra ao radical, preservando os offsets para o destaque.
+ */
+final class PortugueseAnalyzer {
+
+    private static final Set<String> STOPWORDS = Set.of(
+            "a", "o", "as", "os", "um", "uma", "uns", "umas", "de", "do", "da", "dos", "das",
+            "em", "no", "na", "nos", "nas", "por", "pelo", "pela", "para", "com", "sem",
+            "e", "ou", "que", "se", "ao", "aos", "seu", "sua", "seus", "suas", "ser", "esta",
+            "este", "isso", "isto", "como", "mais", "ja", "nao", "sao", "entre", "sobre"
+    );
+
+    private PortugueseAnalyzer() {
+    }
+
+    static List<Token> analyze(String text) {
+        List<Token> tokens = new ArrayList<>();
+        if (text == null) {
+            return tokens;
+        }
+        int i = 0;
+        while (i < text.length()) {
+            while (i < text.length() && !TextNormalizer.isWordChar(text.charAt(i))) {
+                i++;
+            }
+            int start = i;
+            while (i < text.length() && TextNormalizer.isWordChar(text.charAt(i))) {
+                i++;
+            }
+            if (start < i) {
+                String folded = TextNormalizer.fold(text.substring(start, i));
+                if (!STOPWORDS.contains(folded)) {
+                    tokens.add(new Token(PortugueseStemmer.stem(folded), start, i));
+                }
+            }
+        }
+        return tokens;
+    }
+
+    /**
+     * Termo já normalizado e a posição [start, end) da palavra original
+     */
+    record Token(String term, int start, int end) {
+    }
+}
@@ -0,0 +1,68 @@
+package com.openreqs.openreqs.service.search;
+
+/**
+ * Stemmer leve para português, inspirado no RSLP (Orengo &amp; Huyck):
+ * redução de plural, de feminino, de sufixos nominais e verbais comuns e da vogal final.
+ * Opera sobre texto já sem acento (ver TextNormalizer.fold).
+ */
+final class PortugueseStemmer {
+
+    private static final int MIN_STEM = 3;
+
+    // Pares sufixo → substituição, aplicados na ordem; vence a primeira regra que casar
+    private static final String[][] PLURAL = {
+            {"coes", "cao"}, {"oes", "ao"}, {"aes", "ao"}, {"ais", "al"}, {"eis", "el"},
+            {"ois", "ol"}, {"ns", "m"}, {"res", "r"}, {"les", "l"}, {"zes", "z"}, {"s", ""}
+    };
+
+    private static final String[][] FEMININE = {
+            {"ona", "ao"}, {"ora", "or"}, {"inha", "inho"}, {"esa", "es"}, {"osa", "oso"},
+            {"ica", "ico"}, {"ada", "ado"}, {"ida", "ido"}, {"iva", "ivo"}, {"eira", "eiro"}
+    };
+
+    private static final String[] SUFFIXES = {
+            "amentos", "imentos", "amento", "imento", "idades", "idade", "mente",
+            "acao", "icao", "cao", "ador", "edor", "idor", "ante", "ivel", "avel",
+            "ando", "endo", "indo", "ado", "ido", "ivo", "oso",
+            "ar", "er", "ir", "am", "em"
+    };
+
+    private PortugueseStemmer() {
+    }
+
+    static String stem(String word) {
+        if (word.length() < MIN_STEM + 1) {
+            return word;
+        }
+        String stem = replaceSuffix(word, PLURAL);
+        stem = replaceSuffix(stem, FEMININE);
+        stem = removeSuffix(stem);
+        return removeFinalVowel(stem);
+    }
+
+    private static String replaceSuffix(String word, String[][] rules) {
+        for (String[] rule : rules) {
+            if (word.endsWith(rule[0]) && word.length() - rule[0].length() >= MIN_STEM) {
+                return word.substring(0, word.length() - rule[0].length()) + rule[1];
+            }
+        }
+        return word;
+    }
+
+    private static String removeSuffix(String word) {
+        for (String suffix : SUFFIXES) {
+            if (word.endsWith(suffix) && word.length() - suffix.length() >= MIN_STEM) {
+                return word.substring(0, word.length() - suffix.length());
+            }
+        }
+        return word;
+    }
+
+    private static String removeFinalVowel(String word) {
+        char last = word.charAt(word.length() - 1);
+        if ((last == 'a' || last == 'e' || last == 'o') && word.length() > MIN_STEM) {
+            return word.substring(0, word.length() - 1);
+        }
+        return word;
+    }
+}
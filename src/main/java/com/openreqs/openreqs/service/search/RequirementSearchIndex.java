@@ -0,0 +1,269 @@
+package com.openreqs.openreqs.service.search;
+
+import com.openreqs.openreqs.domain.entity.Requirement;
+import com.openreqs.openreqs.domain.enums.RequirementField;
+import com.openreqs.openreqs.repository.RequirementRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Stream;
+
+/**
+ * Índice invertido em memória sobre descrição, justificativa e critério de aceitação
+ * dos requisitos não arquivados, com ranking BM25.
+ *
+ * Carregado na inicialização e mantido pelo RequirementService após o commit de cada
+ * criação, atualização, arquivamento ou nova versão.
+ */
+@Component
+@RequiredArgsConstructor
+public class RequirementSearchIndex {
+
+    // Parâmetros usuais do BM25
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+
+    // A descrição pesa mais que os campos de apoio na frequência do termo
+    private static final Map<RequirementField, Float> FIELD_WEIGHTS = Map.of(
+            RequirementField.DESCRIPTION, 1.0f,
+            RequirementField.RATIONALE, 0.5f,
+            RequirementField.FIT_CRITERION, 0.5f);
+
+    private static final int FRAGMENT_LENGTH = 200;
+    private static final int FRAGMENT_LEAD = 60;
+
+    private final RequirementRepository requirementRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final EntityManager entityManager;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    // termo → (requisito → frequência ponderada)
+    private final Map<String, Map<Long, Float>> postings = new HashMap<>();
+    private final Map<Long, Document> documents = new HashMap<>();
+    private double totalLength;
+
+    @PostConstruct
+    public void load() {
+        transactionTemplate.executeWithoutResult(status -> {
+            try (Stream<Requirement> requirements = requirementRepository.streamActiveAfter(0L)) {
+                requirements.forEach(requirement -> {
+                    index(requirement.getId(), requirement.getDescription(),
+                            requirement.getRationale(), requirement.getFitCriterion());
+                    entityManager.detach(requirement);
+                });
+            }
+        });
+    }
+
+    /**
+     * Inclui ou substitui o documento do requisito. A análise do texto acontece fora do lock.
+     */
+    public void index(long requirementId, String description, String rationale, String fitCriterion) {
+        Document document = analyze(description, rationale, fitCriterion);
+
+        lock.writeLock().lock();
+        try {
+            removeDocument(requirementId);
+            documents.put(requirementId, document);
+            totalLength += document.length();
+            document.frequencies().forEach((term, frequency) ->
+                    postings.computeIfAbsent(term, t -> new HashMap<>()).put(requirementId, frequency));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(long requirementId) {
+        lock.writeLock().lock();
+        try {
+            removeDocument(requirementId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return documents.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Termos da consulta já analisados (sem acento, sem stopwords e reduzidos ao radical)
+     */
+    public Set<String> queryTerms(String query) {
+        Set<String> terms = new LinkedHashSet<>();
+        PortugueseAnalyzer.analyze(query).forEach(token -> terms.add(token.term()));
+        return terms;
+    }
+
+    /**
+     * Retorna os resultados de [offset, offset + limit) ordenados por relevância
+     * (empate resolvido pelo ID) e o total de requisitos que casam com a consulta.
+     */
+    public SearchResult search(Set<String> queryTerms, int offset, int limit) {
+        Map<Long, Double> scores = new HashMap<>();
+
+        lock.readLock().lock();
+        try {
+            int documentCount = documents.size();
+            double averageLength = documentCount == 0 ? 0 : totalLength / documentCount;
+            for (String term : queryTerms) {
+                Map<Long, Float> termPostings = postings.get(term);
+                if (termPostings == null) {
+                    continue;
+                }
+                int documentFrequency = termPostings.size();
+                double idf = Math.log(1 + (documentCount - documentFrequency + 0.5) / (documentFrequency + 0.5));
+                termPostings.forEach((requirementId, frequency) -> {
+                    double norm = K1 * (1 - B + B * documents.get(requirementId).length() / averageLength);
+                    double score = idf * frequency * (K1 + 1) / (frequency + norm);
+                    scores.merge(requirementId, score, Double::sum);
+                });
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        Comparator<ScoredRequirement> byRelevance = Comparator
+                .comparingDouble(ScoredRequirement::score).reversed()
+                .thenComparingLong(ScoredRequirement::requirementId);
+        int wanted = (int) Math.min((long) offset + limit, scores.size());
+
+        // Top-k: mantém apenas os `wanted` melhores num heap cujo topo é o pior deles
+        PriorityQueue<ScoredRequirement> top = new PriorityQueue<>(Math.max(1, wanted), byRelevance.reversed());
+        scores.forEach((requirementId, score) -> {
+            ScoredRequirement candidate = new ScoredRequirement(requirementId, score);
+            if (top.size() < wanted) {
+                top.add(candidate);
+            } else if (wanted > 0 && byRelevance.compare(candidate, top.peek()) < 0) {
+                top.poll();
+                top.add(candidate);
+            }
+        });
+
+        List<ScoredRequirement> ranked = new ArrayList<>(top);
+        ranked.sort(byRelevance);
+        List<ScoredRequirement> page = offset >= ranked.size()
+                ? List.of()
+                : ranked.subList(offset, ranked.size());
+        return new SearchResult(scores.size(), page);
+    }
+
+    /**
+     * Trechos de cada campo com os termos da consulta marcados com &lt;em&gt;;
+     * campos sem ocorrência ficam de fora.
+     */
+    public Map<RequirementField, String> highlights(Requirement requirement, Set<String> queryTerms) {
+        Map<RequirementField, String> highlights = new EnumMap<>(RequirementField.class);
+        putHighlight(highlights, RequirementField.DESCRIPTION, requirement.getDescription(), queryTerms);
+        putHighlight(highlights, RequirementField.RATIONALE, requirement.getRationale(), queryTerms);
+        putHighlight(highlights, RequirementField.FIT_CRITERION, requirement.getFitCriterion(), queryTerms);
+        return highlights;
+    }
+
+    private static void putHighlight(Map<RequirementField, String> highlights, RequirementField field,
+                                     String text, Set<String> queryTerms) {
+        String fragment = highlight(text, queryTerms);
+        if (fragment != null) {
+            highlights.put(field, fragment);
+        }
+    }
+
+    static String highlight(String text, Set<String> queryTerms) {
+        List<PortugueseAnalyzer.Token> matches = PortugueseAnalyzer.analyze(text).stream()
+                .filter(token -> queryTerms.contains(token.term()))
+                .toList();
+        if (matches.isEmpty()) {
+            return null;
+        }
+
+        int from = 0;
+        int to = text.length();
+        if (text.length() > FRAGMENT_LENGTH) {
+            from = Math.max(0, matches.get(0).start() - FRAGMENT_LEAD);
+            to = Math.min(text.length(), from + FRAGMENT_LENGTH);
+        }
+
+        StringBuilder fragment = new StringBuilder();
+        if (from > 0) {
+            fragment.append("...");
+        }
+        int position = from;
+        for (PortugueseAnalyzer.Token match : matches) {
+            if (match.start() < from) {
+                continue;
+            }
+            if (match.end() > to) {
+                break;
+            }
+            fragment.append(text, position, match.start())
+                    .append("<em>").append(text, match.start(), match.end()).append("</em>");
+            position = match.end();
+        }
+        fragment.append(text, position, to);
+        if (to < text.length()) {
+            fragment.append("...");
+        }
+        return fragment.toString();
+    }
+
+    private void removeDocument(long requirementId) {
+        Document previous = documents.remove(requirementId);
+        if (previous == null) {
+            return;
+        }
+        totalLength -= previous.length();
+        for (String term : previous.frequencies().keySet()) {
+            Map<Long, Float> termPostings = postings.get(term);
+            termPostings.remove(requirementId);
+            if (termPostings.isEmpty()) {
+                postings.remove(term);
+            }
+        }
+    }
+
+    private static Document analyze(String description, String rationale, String fitCriterion) {
+        Map<String, Float> frequencies = new HashMap<>();
+        float length = 0;
+        length += addField(frequencies, description, FIELD_WEIGHTS.get(RequirementField.DESCRIPTION));
+        length += addField(frequencies, rationale, FIELD_WEIGHTS.get(RequirementField.RATIONALE));
+        length += addField(frequencies, fitCriterion, FIELD_WEIGHTS.get(RequirementField.FIT_CRITERION));
+        return new Document(frequencies, length);
+    }
+
+    private static float addField(Map<String, Float> frequencies, String text, float weight) {
+        List<PortugueseAnalyzer.Token> tokens = PortugueseAnalyzer.analyze(text);
+        tokens.forEach(token -> frequencies.merge(token.term(), weight, Float::sum));
+        return tokens.size() * weight;
+    }
+
+    private record Document(Map<String, Float> frequencies, float length) {
+    }
+
+    public record ScoredRequirement(long requirementId, double score) {
+    }
+
+    /**
+     * Página de resultados ranqueados e total de requisitos que casam com a consulta
+     */
+    public record SearchResult(int totalHits, List<ScoredRequirement> hits) {
+    }
+}
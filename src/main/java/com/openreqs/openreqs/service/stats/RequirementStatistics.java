@@ -0,0 +1,232 @@
+package com.openreqs.openreqs.service.stats;
+
+import com.openreqs.openreqs.domain.entity.Requirement;
+import com.openreqs.openreqs.domain.enums.RequirementStatus;
+import com.openreqs.openreqs.domain.enums.RequirementType;
+import com.openreqs.openreqs.dto.RequirementStatisticsResponse;
+import com.openreqs.openreqs.repository.RequirementCount;
+import com.openreqs.openreqs.repository.RequirementRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Contadores de requisitos por status, tipo, prioridade e stakeholder, mantidos em memória.
+ *
+ * Cada alteração confirmada aplica só a diferença entre o antes e o depois do requisito,
+ * então a leitura não depende da quantidade de requisitos. Uma reconciliação periódica
+ * recalcula tudo com uma consulta agregada e corrige eventuais desvios.
+ *
+ * A reconciliação e as alterações se excluem por um ReadWriteLock: cada transação segura
+ * a leitura do commit até aplicar sua diferença, e a consulta mais a troca dos contadores
+ * seguram a escrita. Assim toda alteração ou entra na consulta e é aplicada nos contadores
+ * descartados, ou fica fora dela e é aplicada nos novos; nunca se perde nem conta duas vezes.
+ */
+@Component
+@RequiredArgsConstructor
+public class RequirementStatistics {
+
+    private final RequirementRepository requirementRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    private final ReadWriteLock reconcileLock = new ReentrantReadWriteLock();
+    private volatile Counters counters = new Counters();
+    private volatile LocalDateTime reconciledAt;
+    private volatile long lastDrift;
+
+    /**
+     * Atributos contados de um requisito num dado momento
+     */
+    public record Facet(RequirementStatus status, RequirementType type, Integer priority, Long sourceId,
+                        boolean archived) {
+
+        public static Facet of(Requirement requirement) {
+            return new Facet(requirement.getStatus(), requirement.getType(), requirement.getPriority(),
+                    requirement.getSource() != null ? requirement.getSource().getId() : null,
+                    Boolean.TRUE.equals(requirement.getIsArchived()));
+        }
+    }
+
+    @PostConstruct
+    public void load() {
+        reconcile();
+    }
+
+    /**
+     * Aplica a mudança de {@code before} (null para requisito novo) para o estado atual
+     * do requisito quando a transação confirmar; um rollback não altera os contadores
+     */
+    public void recordAfterCommit(Facet before, Requirement requirement) {
+        Facet after = Facet.of(requirement);
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            record(before, after);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            private boolean locked;
+
+            // Do commit até a diferença ser aplicada nenhuma reconciliação consulta o banco
+            @Override
+            public void beforeCommit(boolean readOnly) {
+                reconcileLock.readLock().lock();
+                locked = true;
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                if (!locked) {
+                    return;
+                }
+                try {
+                    if (status == STATUS_COMMITTED) {
+                        apply(before, after);
+                    }
+                } finally {
+                    reconcileLock.readLock().unlock();
+                }
+            }
+        });
+    }
+
+    public void record(Facet before, Facet after) {
+        reconcileLock.readLock().lock();
+        try {
+            apply(before, after);
+        } finally {
+            reconcileLock.readLock().unlock();
+        }
+    }
+
+    private void apply(Facet before, Facet after) {
+        if (Objects.equals(before, after)) {
+            return;
+        }
+        Counters current = counters;
+        if (before != null) {
+            current.add(before, -1);
+        }
+        if (after != null) {
+            current.add(after, 1);
+        }
+    }
+
+    public RequirementStatisticsResponse snapshot() {
+        Counters current = counters;
+        return RequirementStatisticsResponse.builder()
+                .total(current.total.sum())
+                .archived(current.archived.sum())
+                .byStatus(nonZero(current.byStatus, () -> new EnumMap<>(RequirementStatus.class)))
+                .byType(nonZero(current.byType, () -> new EnumMap<>(RequirementType.class)))
+                .byPriority(nonZero(current.byPriority, TreeMap::new))
+                .bySource(nonZero(current.bySource, TreeMap::new))
+                .reconciledAt(reconciledAt)
+                .lastDrift(lastDrift)
+                .build();
+    }
+
+    /**
+     * Recalcula os contadores a partir do banco e publica o resultado de uma vez
+     */
+    @Scheduled(fixedDelayString = "${openreqs.statistics.reconcile-interval:PT5M}",
+            initialDelayString = "${openreqs.statistics.reconcile-interval:PT5M}")
+    public void reconcile() {
+        reconcileLock.writeLock().lock();
+        try {
+            Counters fresh = transactionTemplate.execute(status -> {
+                Counters rebuilt = new Counters();
+                for (RequirementCount count : requirementRepository.countActiveByAttributes()) {
+                    rebuilt.add(new Facet(count.status(), count.type(), count.priority(), count.sourceId(), false),
+                            count.count());
+                }
+                rebuilt.archived.add(requirementRepository.countByIsArchivedTrue());
+                return rebuilt;
+            });
+            lastDrift = drift(counters, fresh);
+            counters = fresh;
+            reconciledAt = LocalDateTime.now();
+        } finally {
+            reconcileLock.writeLock().unlock();
+        }
+    }
+
+    private static long drift(Counters previous, Counters fresh) {
+        long drift = Math.abs(previous.total.sum() - fresh.total.sum())
+                + Math.abs(previous.archived.sum() - fresh.archived.sum());
+        drift += drift(previous.byStatus, fresh.byStatus);
+        drift += drift(previous.byType, fresh.byType);
+        drift += drift(previous.byPriority, fresh.byPriority);
+        drift += drift(previous.bySource, fresh.bySource);
+        return drift;
+    }
+
+    private static <K> long drift(Map<K, LongAdder> previous, Map<K, LongAdder> fresh) {
+        Set<K> keys = Stream.concat(previous.keySet().stream(), fresh.keySet().stream()).collect(Collectors.toSet());
+        long drift = 0;
+        for (K key : keys) {
+            drift += Math.abs(sum(previous, key) - sum(fresh, key));
+        }
+        return drift;
+    }
+
+    private static <K> long sum(Map<K, LongAdder> counts, K key) {
+        LongAdder count = counts.get(key);
+        return count != null ? count.sum() : 0;
+    }
+
+    private static <K> Map<K, Long> nonZero(Map<K, LongAdder> counts, Supplier<Map<K, Long>> factory) {
+        Map<K, Long> result = factory.get();
+        counts.forEach((key, count) -> {
+            long value = count.sum();
+            if (value != 0) {
+                result.put(key, value);
+            }
+        });
+        return result;
+    }
+
+    private static final class Counters {
+
+        private final LongAdder total = new LongAdder();
+        private final LongAdder archived = new LongAdder();
+        private final Map<RequirementStatus, LongAdder> byStatus = new ConcurrentHashMap<>();
+        private final Map<RequirementType, LongAdder> byType = new ConcurrentHashMap<>();
+        private final Map<Integer, LongAdder> byPriority = new ConcurrentHashMap<>();
+        private final Map<Long, LongAdder> bySource = new ConcurrentHashMap<>();
+
+        void add(Facet facet, long delta) {
+            if (facet.archived()) {
+                archived.add(delta);
+                return;
+            }
+            total.add(delta);
+            increment(byStatus, facet.status(), delta);
+            increment(byType, facet.type(), delta);
+            increment(byPriority, facet.priority(), delta);
+            increment(bySource, facet.sourceId(), delta);
+        }
+
+        private static <K> void increment(Map<K, LongAdder> counts, K key, long delta) {
+            if (key != null) {
+                counts.computeIfAbsent(key, k -> new LongAdder()).add(delta);
+            }
+        }
+    }
+}
@@ -0,0 +1,160 @@
+package com.openreqs.openreqs.controller;
+
+import com.openreqs.openreqs.domain.entity.Stakeholder;
+import com.openreqs.openreqs.domain.enums.RequirementType;
+import com.openreqs.openreqs.dto.RequirementRequest;
+import com.openreqs.openreqs.dto.RequirementResponse;
+import com.openreqs.openreqs.repository.StakeholderRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.ResultActions;
+import tools.jackson.databind.ObjectMapper;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.not;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class RequirementControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private StakeholderRepository stakeholderRepository;
+
+    private Long sourceId;
+
+    @BeforeEach
+    void setUp() {
+        String email = "etag@openreqs.dev";
+        sourceId = stakeholderRepository.findAll().stream()
+                .filter(stakeholder -> stakeholder.getEmail().equals(email))
+                .findFirst()
+                .orElseGet(() -> stakeholderRepository.save(Stakeholder.builder()
+                        .name("Analista de Cache")
+                        .role("Analista")
+                        .email(email)
+                        .build()))
+                .getId();
+    }
+
+    @Test
+    void conditionalGetAnswersNotModifiedUntilTheRequirementChanges() throws Exception {
+        Long id = create("REQ-310");
+
+        String etag = mockMvc.perform(get("/api/requirements/{id}", id))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        assertThat(etag).startsWith("\"").endsWith("\"");
+
+        mockMvc.perform(get("/api/requirements/{id}", id).header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, etag));
+        mockMvc.perform(get("/api/requirements/req-id/{requirementId}", "REQ-310")
+                        .header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified());
+
+        update(id, "REQ-310", etag).andExpect(status().isOk());
+
+        mockMvc.perform(get("/api/requirements/{id}", id).header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, not(etag)));
+    }
+
+    @Test
+    void staleIfMatchIsRejectedWithPreconditionFailed() throws Exception {
+        Long id = create("REQ-311");
+        String original = mockMvc.perform(get("/api/requirements/{id}", id).param("expand", "ids"))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        // Uma ETag de outra forma da resposta vale enquanto o requisito em si não mudar
+        String expanded = mockMvc.perform(get("/api/requirements/{id}", id).param("expand", "full"))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        MvcResult first = update(id, "REQ-311", expanded)
+                .andExpect(status().isOk())
+                .andExpect(header().exists(HttpHeaders.ETAG))
+                .andReturn();
+
+        update(id, "REQ-311", original).andExpect(status().isPreconditionFailed());
+        update(id, "REQ-311", "W/" + first.getResponse().getHeader(HttpHeaders.ETAG))
+                .andExpect(status().isPreconditionFailed());
+        update(id, "REQ-311", first.getResponse().getHeader(HttpHeaders.ETAG)).andExpect(status().isOk());
+    }
+
+    @Test
+    void collectionTagChangesWithAnyCommittedWrite() throws Exception {
+        String etag = mockMvc.perform(get("/api/requirements"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        mockMvc.perform(get("/api/requirements").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified());
+
+        create("REQ-312");
+
+        mockMvc.perform(get("/api/requirements").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void acronymMissingFromTheGlossaryDoesNotBlockCreation() throws Exception {
+        RequirementRequest request = request("REQ-313", "registrar");
+        request.setDescription("O sistema deve registrar o pedido REQ-313 na API do ERP");
+
+        mockMvc.perform(post("/api/requirements/validate")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.valid").value(true))
+                .andExpect(jsonPath("$.warnings[*].problematicContent").value(contains("API", "ERP")));
+        mockMvc.perform(post("/api/requirements")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isCreated());
+    }
+
+    private Long create(String requirementId) throws Exception {
+        String body = mockMvc.perform(post("/api/requirements")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request(requirementId, "registrar"))))
+                .andExpect(status().isCreated())
+                .andReturn().getResponse().getContentAsString();
+        return objectMapper.readValue(body, RequirementResponse.class).getId();
+    }
+
+    private ResultActions update(Long id, String requirementId, String ifMatch) throws Exception {
+        return mockMvc.perform(put("/api/requirements/{id}", id)
+                .header(HttpHeaders.IF_MATCH, ifMatch)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request(requirementId, "arquivar"))));
+    }
+
+    private RequirementRequest request(String requirementId, String action) {
+        return RequirementRequest.builder()
+                .requirementId(requirementId)
+                .description("O sistema deve " + action + " o pedido " + requirementId + " no histórico")
+                .rationale("Necessário para a auditoria de pedidos")
+                .fitCriterion("O pedido aparece no histórico em até 2 segundos")
+                .type(RequirementType.FUNCTIONAL)
+                .priority(2)
+                .sourceId(sourceId)
+                .build();
+    }
+}
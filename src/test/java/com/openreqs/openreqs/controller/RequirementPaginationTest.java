@@ -0,0 +1,132 @@
+package com.openreqs.openreqs.controller;
+
+import com.openreqs.openreqs.domain.entity.Stakeholder;
+import com.openreqs.openreqs.domain.enums.RequirementType;
+import com.openreqs.openreqs.dto.RequirementRequest;
+import com.openreqs.openreqs.dto.RequirementResponse;
+import com.openreqs.openreqs.repository.RequirementRepository;
+import com.openreqs.openreqs.repository.StakeholderRepository;
+import com.openreqs.openreqs.service.RequirementService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import tools.jackson.databind.ObjectMapper;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// Banco próprio para que os IDs e o total de requisitos não dependam das outras classes de teste
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:paginationdb",
+        "openreqs.pagination.default-size=2",
+        "openreqs.pagination.max-size=3"})
+@AutoConfigureMockMvc
+class RequirementPaginationTest {
+
+    private static final String NEXT_CURSOR = "X-Next-Cursor";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private RequirementService requirementService;
+
+    @Autowired
+    private RequirementRepository requirementRepository;
+
+    @Autowired
+    private StakeholderRepository stakeholderRepository;
+
+    private final List<Long> ids = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        Long source = stakeholderRepository.findAll().stream().findFirst()
+                .orElseGet(() -> stakeholderRepository.save(Stakeholder.builder()
+                        .name("Analista de Paginação")
+                        .role("Analista")
+                        .email("paginas@openreqs.dev")
+                        .build()))
+                .getId();
+        for (int i = 501; i <= 506; i++) {
+            String requirementId = "REQ-" + i;
+            ids.add(requirementRepository.findIdByRequirementId(requirementId)
+                    .orElseGet(() -> requirementService.createRequirement(requirement(requirementId, source)).getId()));
+        }
+    }
+
+    @Test
+    void cursorWalksPagesAndSizeIsClampedToTheMaximum() throws Exception {
+        mockMvc.perform(get("/api/requirements"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(2))
+                .andExpect(jsonPath("$[1].id").value(ids.get(1)))
+                .andExpect(header().string(NEXT_CURSOR, String.valueOf(ids.get(1))))
+                .andExpect(header().string(HttpHeaders.LINK, containsString("after=" + ids.get(1))));
+
+        // 50 pedidos, 3 servidos: ainda resta um
+        mockMvc.perform(get("/api/requirements").param("after", String.valueOf(ids.get(1))).param("size", "50"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(3))
+                .andExpect(jsonPath("$[0].id").value(ids.get(2)))
+                .andExpect(header().string(NEXT_CURSOR, String.valueOf(ids.get(4))));
+
+        mockMvc.perform(get("/api/requirements").param("after", String.valueOf(ids.get(4))).param("size", "3"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(1))
+                .andExpect(jsonPath("$[0].requirementId").value("REQ-506"))
+                .andExpect(header().doesNotExist(NEXT_CURSOR))
+                .andExpect(header().doesNotExist(HttpHeaders.LINK));
+    }
+
+    @Test
+    void ndjsonExportWritesOneRequirementPerLineFromTheCursor() throws Exception {
+        MvcResult started = mockMvc.perform(get("/api/requirements")
+                        .param("after", String.valueOf(ids.get(0)))
+                        .accept(MediaType.APPLICATION_NDJSON))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        String body = mockMvc.perform(asyncDispatch(started))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_NDJSON))
+                .andReturn().getResponse().getContentAsString();
+
+        // Sem limite de página: todos os requisitos depois do cursor, um objeto por linha
+        List<String> requirementIds = body.lines()
+                .map(line -> objectMapper.readValue(line, RequirementResponse.class).getRequirementId())
+                .toList();
+        assertThat(requirementIds).containsExactly("REQ-502", "REQ-503", "REQ-504", "REQ-505", "REQ-506");
+    }
+
+    private static RequirementRequest requirement(String requirementId, Long sourceId) {
+        return RequirementRequest.builder()
+                .requirementId(requirementId)
+                .description("O sistema deve listar o pedido " + requirementId + " na página")
+                .rationale("Necessário para a navegação pelos pedidos")
+                .fitCriterion("A página aparece em até 2 segundos")
+                .type(RequirementType.FUNCTIONAL)
+                .priority(2)
+                .sourceId(sourceId)
+                .build();
+    }
+}
@@ -0,0 +1,127 @@
+package com.openreqs.openreqs.controller;
+
+import com.openreqs.openreqs.domain.entity.Stakeholder;
+import com.openreqs.openreqs.domain.enums.RequirementType;
+import com.openreqs.openreqs.dto.RequirementRequest;
+import com.openreqs.openreqs.repository.StakeholderRepository;
+import com.openreqs.openreqs.service.RequirementService;
+import com.openreqs.openreqs.service.TraceabilityService;
+import com.openreqs.openreqs.service.cache.CacheNames;
+import com.openreqs.openreqs.service.cache.LookupCache;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class RequirementStatementCountTest {
+
+    private static final String BY_REQUIREMENT_ID = "/api/requirements/req-id/{requirementId}";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private RequirementService requirementService;
+
+    @Autowired
+    private TraceabilityService traceabilityService;
+
+    @Autowired
+    private LookupCache lookupCache;
+
+    @Autowired
+    private StakeholderRepository stakeholderRepository;
+
+    @Test
+    void getByRequirementIdKeepsItsStatementCountColdAndWarm() throws Exception {
+        Long analyst = stakeholder("Analista de Consultas", "consultas@openreqs.dev");
+        Long manager = stakeholder("Gerente de Consultas", "gerencia.consultas@openreqs.dev");
+        Long first = requirementService.createRequirement(requirement("REQ-810", analyst)).getId();
+        Long second = requirementService.createRequirement(requirement("REQ-812", manager)).getId();
+        Long dependent = requirementService.createRequirement(requirement("REQ-811", analyst)).getId();
+        traceabilityService.addDependency(dependent, first);
+        traceabilityService.addDependency(dependent, second);
+
+        // Frio: a ETag lê a projeção e o plano de detalhe traz requisito, origens e dependências
+        evict(analyst, manager);
+        assertThat(statements("1")).isEqualTo(2);
+        // Quente: o requisito vem do cache e as dependências, com as origens, numa só consulta
+        assertThat(statements("1")).isEqualTo(2);
+
+        evict(analyst, manager);
+        assertThat(statements("ids")).isEqualTo(2);
+        assertThat(statements("ids")).isEqualTo(1);
+
+        evict(analyst, manager);
+        assertThat(statements("full")).isEqualTo(3);
+        assertThat(statements("full")).isEqualTo(2);
+    }
+
+    /**
+     * Esvazia o requisito e as origens do cache de consulta: sem os planos de carga,
+     * cada origem custaria uma consulta a mais
+     */
+    private void evict(Long... stakeholders) {
+        lookupCache.evict(CacheNames.REQUIREMENTS, "REQ-811");
+        for (Long stakeholder : stakeholders) {
+            lookupCache.evict(CacheNames.STAKEHOLDERS, stakeholder);
+        }
+    }
+
+    /**
+     * Comandos SQL que a requisição registrou em openreqs.request.statements
+     */
+    private long statements(String expand) throws Exception {
+        DistributionSummary summary = summary();
+        double before = summary == null ? 0 : summary.totalAmount();
+        long count = summary == null ? 0 : summary.count();
+
+        mockMvc.perform(get(BY_REQUIREMENT_ID, "REQ-811").param("expand", expand))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.requirementId").value("REQ-811"));
+
+        summary = summary();
+        assertThat(summary.count()).isEqualTo(count + 1);
+        return (long) (summary.totalAmount() - before);
+    }
+
+    private DistributionSummary summary() {
+        return meterRegistry.find("openreqs.request.statements")
+                .tag("method", "GET")
+                .tag("uri", "/api/requirements/req-id/{requirementId}")
+                .summary();
+    }
+
+    private Long stakeholder(String name, String email) {
+        return stakeholderRepository.save(Stakeholder.builder()
+                .name(name)
+                .role("Analista")
+                .email(email)
+                .build()).getId();
+    }
+
+    private static RequirementRequest requirement(String requirementId, Long sourceId) {
+        return RequirementRequest.builder()
+                .requirementId(requirementId)
+                .description("O sistema deve consultar o pedido " + requirementId)
+                .rationale("Necessário para a consulta dos pedidos")
+                .fitCriterion("O pedido aparece em até 2 segundos")
+                .type(RequirementType.FUNCTIONAL)
+                .priority(2)
+                .sourceId(sourceId)
+                .build();
+    }
+}
@@ -0,0 +1,94 @@
+package com.openreqs.openreqs.service;
+
+import com.openreqs.openreqs.domain.enums.RequirementField;
+import com.openreqs.openreqs.dto.QualityFinding;
+import com.openreqs.openreqs.dto.QualityReport;
+import com.openreqs.openreqs.dto.RequirementRequest;
+import com.openreqs.openreqs.exception.RequirementViolationException;
+import com.openreqs.openreqs.service.quality.QualityRule;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.List;
+import java.util.concurrent.Executor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatNoException;
+import static org.assertj.core.api.Assertions.catchThrowableOfType;
+import static org.assertj.core.api.Assertions.tuple;
+
+@SpringBootTest
+class QualityServiceTest {
+
+    // Viola a regra de ambiguidade (descrição) e a de completude (justificativa)
+    private static final RequirementRequest TWO_RULES_BROKEN = RequirementRequest.builder()
+            .requirementId("REQ-710")
+            .description("O sistema deve ser rápido ao responder")
+            .rationale("Curta")
+            .fitCriterion("A resposta chega em até 2 segundos")
+            .build();
+
+    @Autowired
+    private QualityService qualityService;
+
+    @Autowired
+    private List<QualityRule> qualityRules;
+
+    @Autowired
+    @Qualifier("applicationTaskExecutor")
+    private Executor ruleExecutor;
+
+    @Test
+    void reportListsFindingsOfEveryRuleInRuleOrder() {
+        QualityService concurrent = new QualityService(qualityRules, new SimpleMeterRegistry(), ruleExecutor, true);
+
+        for (QualityReport report : List.of(
+                qualityService.analyze(TWO_RULES_BROKEN),
+                qualityService.analyzeInline(TWO_RULES_BROKEN),
+                concurrent.analyze(TWO_RULES_BROKEN))) {
+            assertThat(report.getValid()).isFalse();
+            assertThat(report.getViolationCount()).isEqualTo(2);
+            assertThat(report.getRulesApplied()).containsExactlyElementsOf(
+                    qualityRules.stream().map(QualityRule::getRuleName).toList());
+            assertThat(report.getFindings())
+                    .extracting(QualityFinding::getRuleName, QualityFinding::getField)
+                    .containsExactly(
+                            tuple("Ambiguity Checker", RequirementField.DESCRIPTION),
+                            tuple("Completeness Checker", RequirementField.RATIONALE));
+        }
+    }
+
+    @Test
+    void enforceThrowsOnceWithTheFindingsOfTheReport() {
+        List<QualityFinding> reported = qualityService.analyze(TWO_RULES_BROKEN).getFindings();
+
+        RequirementViolationException violation = catchThrowableOfType(RequirementViolationException.class,
+                () -> qualityService.enforce(TWO_RULES_BROKEN));
+
+        assertThat(violation.getFindings())
+                .extracting(QualityFinding::getRuleName, QualityFinding::getViolationType)
+                .containsExactlyElementsOf(reported.stream()
+                        .map(finding -> tuple(finding.getRuleName(), finding.getViolationType()))
+                        .toList());
+        assertThat(violation.getViolationType()).isEqualTo(reported.get(0).getViolationType());
+    }
+
+    @Test
+    void validRequirementPassesAnalysisAndEnforcement() {
+        RequirementRequest valid = RequirementRequest.builder()
+                .requirementId("REQ-711")
+                .description("O sistema deve registrar o pedido do cliente")
+                .rationale("Necessário para o faturamento mensal")
+                .fitCriterion("O pedido aparece na lista em até 2 segundos")
+                .build();
+
+        QualityReport report = qualityService.analyze(valid);
+
+        assertThat(report.getValid()).isTrue();
+        assertThat(report.getFindings()).isEmpty();
+        assertThatNoException().isThrownBy(() -> qualityService.enforce(valid));
+    }
+}
@@ -0,0 +1,122 @@
+package com.openreqs.openreqs.service;
+
+import com.openreqs.openreqs.domain.entity.Stakeholder;
+import com.openreqs.openreqs.dto.BatchItemResult;
+import com.openreqs.openreqs.dto.BatchResult;
+import com.openreqs.openreqs.dto.RequirementRequest;
+import com.openreqs.openreqs.repository.RequirementRepository;
+import com.openreqs.openreqs.repository.StakeholderRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+@SpringBootTest
+class RequirementBatchServiceTest {
+
+    private static final String RATIONALE = "Necessário para a auditoria de pedidos";
+
+    @Autowired
+    private RequirementBatchService batchService;
+
+    @Autowired
+    private RequirementRepository requirementRepository;
+
+    @Autowired
+    private StakeholderRepository stakeholderRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void rejectsInvalidItemsBeforeWritingAnything() {
+        Long sourceId = stakeholder("lote-rejeicao@openreqs.dev");
+        batchService.createRequirements(List.of(request("REQ-110", sourceId)));
+
+        BatchResult result = batchService.createRequirements(Arrays.asList(
+                request("REQ-111", sourceId),
+                null,
+                request("REQ-110", sourceId),
+                request("REQ-111", sourceId),
+                request("REQ-112", 999_999L),
+                request("REQ-113", sourceId, "O sistema deve ser rápido", RATIONALE),
+                request("REQ-114", sourceId, "O sistema deve arquivar o pedido REQ-114", "")));
+
+        assertThat(result.getItems()).extracting(BatchItemResult::getIndex, BatchItemResult::getStatus)
+                .containsExactly(
+                        tuple(0, BatchItemResult.Status.CREATED),
+                        tuple(1, BatchItemResult.Status.REJECTED),
+                        tuple(2, BatchItemResult.Status.REJECTED),
+                        tuple(3, BatchItemResult.Status.REJECTED),
+                        tuple(4, BatchItemResult.Status.REJECTED),
+                        tuple(5, BatchItemResult.Status.REJECTED),
+                        tuple(6, BatchItemResult.Status.REJECTED));
+        assertThat(result.getItems()).extracting(BatchItemResult::getError)
+                .startsWith(null, "Item vazio", "Requisito já existe: REQ-110",
+                        "Requisito repetido no lote: REQ-111", "Stakeholder não encontrado",
+                        "Requisito viola regras de qualidade");
+        assertThat(result.getItems().get(6).getError()).contains("A justificativa é obrigatória");
+        assertThat(result.getItems().get(5).getFindings()).isNotEmpty();
+        assertThat(result.getCreated()).isEqualTo(1);
+        assertThat(result.getNotCreated()).isEqualTo(6);
+        assertThat(requirementRepository.findExistingRequirementIds(List.of("REQ-112", "REQ-113", "REQ-114")))
+                .isEmpty();
+    }
+
+    @Test
+    void failedChunkIsReplayedItemByItemToIsolateTheBadRow() {
+        Long sourceId = stakeholder("lote-falha@openreqs.dev");
+        // Só o banco recusa este item: ele passa pela validação e derruba o bloco inteiro
+        jdbcTemplate.execute("ALTER TABLE requirements ADD CONSTRAINT batch_test_guard "
+                + "CHECK (description NOT LIKE '%recusado pelo banco%')");
+        try {
+            BatchResult result = batchService.createRequirements(List.of(
+                    request("REQ-120", sourceId),
+                    request("REQ-121", sourceId, "O sistema deve gravar o registro recusado pelo banco", RATIONALE),
+                    request("REQ-122", sourceId)));
+
+            assertThat(result.getItems())
+                    .extracting(BatchItemResult::getRequirementId, BatchItemResult::getStatus)
+                    .containsExactly(
+                            tuple("REQ-120", BatchItemResult.Status.CREATED),
+                            tuple("REQ-121", BatchItemResult.Status.FAILED),
+                            tuple("REQ-122", BatchItemResult.Status.CREATED));
+            assertThat(result.getItems().get(1).getError()).containsIgnoringCase("BATCH_TEST_GUARD");
+            assertThat(result.getItems().get(0).getId()).isNotNull();
+            assertThat(requirementRepository.findExistingRequirementIds(List.of("REQ-120", "REQ-121", "REQ-122")))
+                    .containsExactlyInAnyOrder("REQ-120", "REQ-122");
+        } finally {
+            jdbcTemplate.execute("ALTER TABLE requirements DROP CONSTRAINT batch_test_guard");
+        }
+    }
+
+    private Long stakeholder(String email) {
+        return stakeholderRepository.save(Stakeholder.builder()
+                .name("Analista de Lote")
+                .role("Analista")
+                .email(email)
+                .build()).getId();
+    }
+
+    private static RequirementRequest request(String requirementId, Long sourceId) {
+        return request(requirementId, sourceId,
+                "O sistema deve registrar o pedido " + requirementId + " no histórico", RATIONALE);
+    }
+
+    private static RequirementRequest request(String requirementId, Long sourceId, String description,
+                                              String rationale) {
+        return RequirementRequest.builder()
+                .requirementId(requirementId)
+                .description(description)
+                .rationale(rationale)
+                .fitCriterion("O pedido aparece no histórico em até 2 segundos")
+                .sourceId(sourceId)
+                .build();
+    }
+}
@@ -0,0 +1,151 @@
+package com.openreqs.openreqs.service;
+
+import com.openreqs.openreqs.dto.LintResult;
+import com.openreqs.openreqs.dto.QualityReport;
+import com.openreqs.openreqs.dto.RequirementRequest;
+import com.openreqs.openreqs.service.quality.AmbiguityChecker;
+import com.openreqs.openreqs.service.quality.AmbiguityDictionaryRegistry;
+import com.openreqs.openreqs.service.quality.CompletenessChecker;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class RequirementLintServiceTest {
+
+    private final JsonMapper objectMapper = JsonMapper.builder().build();
+    // Blocos pequenos e vários workers para que os blocos terminem fora de ordem; o registro
+    // de dicionários sem carga serve só as listas embutidas
+    private final RequirementLintService lintService = new RequirementLintService(
+            new QualityService(List.of(new AmbiguityChecker(new AmbiguityDictionaryRegistry(null, "default", "pt-BR")),
+                    new CompletenessChecker()),
+                    new SimpleMeterRegistry(), Runnable::run, false),
+            objectMapper, 4, 3);
+
+    @AfterEach
+    void tearDown() {
+        lintService.destroy();
+    }
+
+    @Test
+    void ndjsonReportsEveryLineOnceWithItsOwnResult() {
+        StringBuilder body = new StringBuilder();
+        for (int i = 0; i < 40; i++) {
+            if (i == 7) {
+                body.append("{ isto não é JSON\n");
+            } else if (i % 5 == 0) {
+                body.append(json(request(i, "O sistema deve ser rápido na exportação"))).append('\n');
+            } else {
+                body.append(json(request(i, "O sistema deve exportar o relatório em PDF"))).append('\n');
+            }
+            // Linhas em branco não contam como itens
+            if (i == 20) {
+                body.append("\n   \n");
+            }
+        }
+
+        List<LintResult> results = lint(body.toString(), true);
+
+        assertThat(results).extracting(LintResult::getIndex)
+                .containsExactlyInAnyOrderElementsOf(IntStream.range(0, 40).boxed().toList());
+        results.sort(Comparator.comparing(LintResult::getIndex));
+        assertThat(results.get(7).getValid()).isFalse();
+        assertThat(results.get(7).getError()).startsWith("JSON inválido");
+        for (int i = 0; i < 40; i++) {
+            if (i == 7) {
+                continue;
+            }
+            LintResult result = results.get(i);
+            assertThat(result.getRequirementId()).isEqualTo(requirementId(i));
+            assertThat(result.getValid()).as(result.getRequirementId()).isEqualTo(i % 5 != 0);
+        }
+    }
+
+    @Test
+    void jsonArrayTreatsNullItemsAsErrorsAndRejectsOtherBodies() {
+        String body = "[" + json(request(1, "O sistema deve exportar o relatório em PDF")) + ", null, "
+                + json(request(3, "O sistema deve ser rápido")) + "]";
+
+        List<LintResult> results = lint(body, false);
+        results.sort(Comparator.comparing(LintResult::getIndex));
+
+        assertThat(results).extracting(LintResult::getValid).containsExactly(true, false, false);
+        assertThat(results.get(1).getError()).isEqualTo("Item vazio");
+        assertThat(results.get(2).getFindings()).isNotEmpty();
+        assertThatThrownBy(() -> lint("{\"requirementId\": \"REQ-001\"}", false))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void jsonArrayReportsMistypedElementAndKeepsReading() {
+        String body = "[" + json(request(1, "O sistema deve exportar o relatório em PDF")) + ", "
+                + "{\"requirementId\": \"REQ-002\", \"priority\": \"x\", \"dependencies\": [1, {\"a\": 2}]}, "
+                + json(request(3, "O sistema deve exportar o relatório em CSV")) + "]";
+
+        List<LintResult> results = lint(body, false);
+        results.sort(Comparator.comparing(LintResult::getIndex));
+
+        assertThat(results).extracting(LintResult::getIndex).containsExactly(0, 1, 2);
+        assertThat(results).extracting(LintResult::getValid).containsExactly(true, false, true);
+        assertThat(results.get(1).getError()).startsWith("JSON inválido");
+        assertThat(results.get(2).getRequirementId()).isEqualTo("REQ-003");
+    }
+
+    @Test
+    void analyzeAllKeepsInputOrder() {
+        List<RequirementRequest> requests = Arrays.asList(
+                request(1, "O sistema deve ser rápido"),
+                null,
+                request(3, "O sistema deve exportar o relatório em PDF"));
+
+        List<QualityReport> reports = lintService.analyzeAll(requests);
+
+        assertThat(reports).hasSize(3);
+        assertThat(reports.get(0).getValid()).isFalse();
+        assertThat(reports.get(1)).isNull();
+        assertThat(reports.get(2).getRequirementId()).isEqualTo("REQ-003");
+        assertThat(reports.get(2).getValid()).isTrue();
+    }
+
+    private List<LintResult> lint(String body, boolean ndjson) {
+        ByteArrayInputStream in = new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        if (ndjson) {
+            lintService.lintNdjson(in, out);
+        } else {
+            lintService.lintJsonArray(in, out);
+        }
+        return out.toString(StandardCharsets.UTF_8).lines()
+                .map(line -> objectMapper.readValue(line, LintResult.class))
+                .collect(Collectors.toList());
+    }
+
+    private String json(RequirementRequest request) {
+        return objectMapper.writeValueAsString(request);
+    }
+
+    private static RequirementRequest request(int number, String description) {
+        return RequirementRequest.builder()
+                .requirementId(requirementId(number))
+                .description(description)
+                .rationale("Necessário para a auditoria fiscal")
+                .fitCriterion("O arquivo deve abrir em até 2 segundos")
+                .build();
+    }
+
+    private static String requirementId(int number) {
+        return String.format("REQ-%03d", number);
+    }
+}
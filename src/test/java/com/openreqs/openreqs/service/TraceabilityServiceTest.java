@@ -0,0 +1,133 @@
+package com.openreqs.openreqs.service;
+
+import com.openreqs.openreqs.domain.entity.Stakeholder;
+import com.openreqs.openreqs.domain.enums.RequirementType;
+import com.openreqs.openreqs.dto.ImpactAnalysisEntry;
+import com.openreqs.openreqs.dto.RequirementRequest;
+import com.openreqs.openreqs.repository.RequirementRepository;
+import com.openreqs.openreqs.repository.StakeholderRepository;
+import com.openreqs.openreqs.service.cache.ChangeWatermark;
+import com.openreqs.openreqs.service.cache.LookupCache;
+import com.openreqs.openreqs.service.feed.ChangeFeed;
+import com.openreqs.openreqs.service.graph.DependencyGraphIndex;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+
+@SpringBootTest
+class TraceabilityServiceTest {
+
+    @Autowired
+    private TraceabilityService traceabilityService;
+
+    @Autowired
+    private RequirementService requirementService;
+
+    @Autowired
+    private StakeholderRepository stakeholderRepository;
+
+    @Autowired
+    private RequirementRepository requirementRepository;
+
+    @Autowired
+    private DependencyGraphIndex dependencyGraph;
+
+    @Autowired
+    private LookupCache lookupCache;
+
+    @Autowired
+    private ChangeWatermark changeWatermark;
+
+    @Autowired
+    private ChangeFeed changeFeed;
+
+    @Test
+    void impactOfDiamondVisitsEachDependentOnceAtItsShortestDepth() {
+        Map<String, Long> ids = create("REQ-410", "REQ-411", "REQ-412", "REQ-413");
+        depends(ids, "REQ-411", "REQ-410");
+        depends(ids, "REQ-412", "REQ-410");
+        depends(ids, "REQ-413", "REQ-411");
+        depends(ids, "REQ-413", "REQ-412");
+
+        assertThat(traceabilityService.getImpactAnalysis("REQ-410", null))
+                .extracting(ImpactAnalysisEntry::getRequirementId, ImpactAnalysisEntry::getDepth,
+                        ImpactAnalysisEntry::getDependsOn)
+                .containsExactly(
+                        tuple("REQ-411", 1, "REQ-410"),
+                        tuple("REQ-412", 1, "REQ-410"),
+                        tuple("REQ-413", 2, "REQ-411"));
+        assertThat(traceabilityService.getImpactAnalysis("REQ-413", null)).isEmpty();
+    }
+
+    @Test
+    void chainIsCutAtRequestedDepthAndAtConfiguredCap() {
+        Map<String, Long> ids = create("REQ-420", "REQ-421", "REQ-422", "REQ-423", "REQ-424", "REQ-425");
+        for (int i = 421; i <= 425; i++) {
+            depends(ids, "REQ-" + i, "REQ-" + (i - 1));
+        }
+
+        assertThat(requirementIds(traceabilityService.getImpactAnalysis("REQ-420", 2)))
+                .containsExactly("REQ-421", "REQ-422");
+        assertThat(requirementIds(traceabilityService.getImpactAnalysis("REQ-420", null)))
+                .containsExactly("REQ-421", "REQ-422", "REQ-423", "REQ-424", "REQ-425");
+
+        // Limite de 3 níveis e blocos de 2 requisitos: a resposta atravessa dois blocos
+        TraceabilityService capped = new TraceabilityService(requirementRepository, dependencyGraph,
+                new SimpleMeterRegistry(), lookupCache, changeWatermark, changeFeed, 3, 2);
+        assertThat(capped.getImpactAnalysis("REQ-420", 10))
+                .extracting(ImpactAnalysisEntry::getRequirementId, ImpactAnalysisEntry::getDepth,
+                        ImpactAnalysisEntry::getDependsOn)
+                .containsExactly(
+                        tuple("REQ-421", 1, "REQ-420"),
+                        tuple("REQ-422", 2, "REQ-421"),
+                        tuple("REQ-423", 3, "REQ-422"));
+        assertThat(requirementIds(capped.getImpactAnalysis("REQ-420", 0))).hasSize(3);
+    }
+
+    @Test
+    void unknownRequirementIsReported() {
+        assertThatThrownBy(() -> traceabilityService.getImpactAnalysis("REQ-499", null))
+                .hasMessage("Requisito não encontrado");
+    }
+
+    private Map<String, Long> create(String... requirementIds) {
+        Long source = stakeholderRepository.save(Stakeholder.builder()
+                .name("Analista de Impacto")
+                .role("Analista")
+                .email(requirementIds[0].toLowerCase() + "@openreqs.dev")
+                .build()).getId();
+        Map<String, Long> ids = new HashMap<>();
+        for (String requirementId : requirementIds) {
+            ids.put(requirementId, requirementService.createRequirement(RequirementRequest.builder()
+                    .requirementId(requirementId)
+                    .description("O sistema deve propagar o pedido " + requirementId + " aos dependentes")
+                    .rationale("Necessário para a análise de impacto")
+                    .fitCriterion("Os dependentes aparecem na análise em até 2 segundos")
+                    .type(RequirementType.FUNCTIONAL)
+                    .priority(2)
+                    .sourceId(source)
+                    .build()).getId());
+        }
+        return ids;
+    }
+
+    private void depends(Map<String, Long> ids, String requirementId, String dependsOn) {
+        traceabilityService.addDependency(ids.get(requirementId), ids.get(dependsOn));
+    }
+
+    private static List<String> requirementIds(List<ImpactAnalysisEntry> entries) {
+        List<String> requirementIds = new ArrayList<>();
+        entries.forEach(entry -> requirementIds.add(entry.getRequirementId()));
+        return requirementIds;
+    }
+}
@@ -0,0 +1,97 @@
+package com.openreqs.openreqs.service.baseline;
+
+import com.openreqs.openreqs.domain.enums.RequirementStatus;
+import com.openreqs.openreqs.domain.enums.RequirementType;
+import com.openreqs.openreqs.repository.DependencyExportRow;
+import com.openreqs.openreqs.repository.RequirementExportRow;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class BaselineSnapshotTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void frozenRequirementsAndEdgesAreReadBackFromTheMappedFile() {
+        LocalDateTime updated = LocalDateTime.of(2025, 3, 1, 10, 15, 30, 123_456_000);
+        BaselineStore store = new BaselineStore(directory);
+        store.create("release-1.0", "Escopo aprovado", 0L, List.of(
+                row(7L, "REQ-002", "O sistema deve emitir o relatório de vendas", null, updated),
+                row(3L, "REQ-001", "O sistema deve registrar o pedido do cliente", 1L, updated),
+                row(9L, "REQ-003", "O sistema deve registrar o pedido do cliente", 1L, null)
+        ), List.of(
+                new DependencyExportRow(7L, "REQ-002", 3L, "REQ-001"),
+                new DependencyExportRow(7L, "REQ-002", 42L, "REQ-042"),
+                new DependencyExportRow(99L, "REQ-099", 3L, "REQ-001")
+        ));
+
+        BaselineSnapshot snapshot = new BaselineStore(directory).find("release-1.0").orElseThrow();
+        assertEquals("release-1.0", snapshot.name());
+        assertEquals(3, snapshot.size());
+        assertEquals(2, snapshot.edgeCount());
+
+        int row = snapshot.rowOf("REQ-002");
+        assertEquals(1, row);
+        assertEquals(7L, snapshot.id(row));
+        assertEquals(RequirementStatus.APPROVED, snapshot.status(row));
+        assertEquals(updated, snapshot.lastUpdated(row));
+        assertNull(snapshot.sourceId(row));
+        assertEquals(List.of("REQ-001", "REQ-042"), snapshot.dependencies(row));
+        assertEquals(List.of(), snapshot.dependencies(snapshot.rowOf("REQ-001")));
+        assertEquals(-1, snapshot.rowOf("REQ-004"));
+
+        assertEquals(List.of(0, 2), snapshot.rowsWithText(text -> text.contains("pedido")));
+    }
+
+    @Test
+    void baselinesAreNeverOverwritten() {
+        BaselineStore store = new BaselineStore(directory);
+        store.create("b1", null, 0L, List.of(), List.of());
+
+        assertThrows(RuntimeException.class, () -> store.create("b1", null, 0L, List.of(), List.of()));
+        assertThrows(IllegalArgumentException.class, () -> store.find("../b1"));
+        assertEquals(0, store.find("b1").orElseThrow().size());
+    }
+
+    @Test
+    void edgeTargetsFollowTheirTextSoBaselinesCompareRegardlessOfTheStringTable() {
+        BaselineStore store = new BaselineStore(directory);
+        List<DependencyExportRow> dependencies = List.of(
+                new DependencyExportRow(10L, "REQ-010", 11L, "REQ-011"),
+                new DependencyExportRow(10L, "REQ-010", 1L, "REQ-001"));
+        // Em "a" REQ-001 só aparece como destino e entra na tabela depois de REQ-011; em "b" antes
+        store.create("a", null, 0L, List.of(
+                row(10L, "REQ-010", "O sistema deve registrar o pedido do cliente", null, null),
+                row(11L, "REQ-011", "O sistema deve emitir o relatório de vendas", null, null)), dependencies);
+        store.create("b", null, 0L, List.of(
+                row(1L, "REQ-001", "O sistema deve cadastrar o cliente", null, null),
+                row(10L, "REQ-010", "O sistema deve registrar o pedido do cliente", null, null),
+                row(11L, "REQ-011", "O sistema deve emitir o relatório de vendas", null, null)), dependencies);
+
+        BaselineSnapshot a = store.find("a").orElseThrow();
+        BaselineSnapshot b = store.find("b").orElseThrow();
+        int rowA = a.rowOf("REQ-010");
+        int rowB = b.rowOf("REQ-010");
+
+        assertEquals(List.of("REQ-001", "REQ-011"), a.dependencies(rowA));
+        assertEquals(List.of("REQ-001", "REQ-011"), b.dependencies(rowB));
+        assertTrue(a.sameContent(rowA, b, rowB));
+    }
+
+    private static RequirementExportRow row(Long id, String requirementId, String description, Long sourceId,
+                                            LocalDateTime lastUpdated) {
+        return new RequirementExportRow(id, requirementId, description, "Justificativa", "", RequirementType.FUNCTIONAL,
+                RequirementStatus.APPROVED, 1, "v1.0", false, sourceId, sourceId == null ? null : "Ana",
+                lastUpdated, lastUpdated);
+    }
+}
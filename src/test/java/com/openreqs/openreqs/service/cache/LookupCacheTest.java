@@ -0,0 +1,148 @@
+package com.openreqs.openreqs.service.cache;
+
+import com.openreqs.openreqs.domain.entity.Stakeholder;
+import com.openreqs.openreqs.domain.enums.RequirementType;
+import com.openreqs.openreqs.dto.RequirementRequest;
+import com.openreqs.openreqs.dto.StakeholderRequest;
+import com.openreqs.openreqs.repository.StakeholderRepository;
+import com.openreqs.openreqs.service.RequirementService;
+import com.openreqs.openreqs.service.StakeholderService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.Cache;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+class LookupCacheTest {
+
+    @Autowired
+    private LookupCache lookupCache;
+
+    @Autowired
+    private CaffeineCacheManager cacheManager;
+
+    @Autowired
+    private RequirementService requirementService;
+
+    @Autowired
+    private StakeholderService stakeholderService;
+
+    @Autowired
+    private StakeholderRepository stakeholderRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    void readAfterUpdateServesTheNewValue() {
+        Stakeholder source = stakeholder("cache.leitura@openreqs.dev");
+        Long id = requirementService.createRequirement(requirement("REQ-610", "O sistema deve listar o pedido original", source.getId())).getId();
+
+        assertThat(requirementService.getRequirementByReqId("REQ-610", null).getDescription())
+                .isEqualTo("O sistema deve listar o pedido original");
+        assertThat(cached(CacheNames.REQUIREMENTS, "REQ-610")).isNotNull();
+
+        requirementService.updateRequirement(id, requirement("REQ-610", "O sistema deve listar o pedido revisto", source.getId()), null);
+        assertThat(requirementService.getRequirementByReqId("REQ-610", null).getDescription())
+                .isEqualTo("O sistema deve listar o pedido revisto");
+
+        // A troca do nome do stakeholder remove, por predicado, os requisitos que o trazem como origem
+        stakeholderService.updateStakeholder(source.getId(), StakeholderRequest.builder()
+                .name("Analista Renomeado")
+                .role("Analista")
+                .email("cache.leitura@openreqs.dev")
+                .influenceLevel("Alto")
+                .build());
+        assertThat(requirementService.getRequirementByReqId("REQ-610", null).getSource().getName())
+                .isEqualTo("Analista Renomeado");
+    }
+
+    @Test
+    void evictionsRunAgainWhenTheTransactionCompletes() {
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+
+        transaction.executeWithoutResult(status -> {
+            lookupCache.evict(CacheNames.GLOSSARY, "termo-antigo");
+            lookupCache.evictIf(CacheNames.GLOSSARY, "predicado-antigo"::equals);
+
+            // Leitura concorrente que carregou o valor anterior ao commit
+            lookupCache.get(CacheNames.GLOSSARY, "termo-antigo", () -> Optional.of("anterior"));
+            lookupCache.get(CacheNames.GLOSSARY, "outra-chave", () -> Optional.of("predicado-antigo"));
+            assertThat(cached(CacheNames.GLOSSARY, "termo-antigo")).isEqualTo("anterior");
+            assertThat(cached(CacheNames.GLOSSARY, "outra-chave")).isEqualTo("predicado-antigo");
+        });
+
+        assertThat(cached(CacheNames.GLOSSARY, "termo-antigo")).isNull();
+        assertThat(cached(CacheNames.GLOSSARY, "outra-chave")).isNull();
+    }
+
+    @Test
+    void rolledBackUpdateLeavesNoStaleEntry() {
+        Stakeholder source = stakeholder("cache.rollback@openreqs.dev");
+        Long id = requirementService.createRequirement(requirement("REQ-611", "O sistema deve manter o pedido confirmado", source.getId())).getId();
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+
+        transaction.executeWithoutResult(status -> {
+            requirementService.updateRequirement(id, requirement("REQ-611", "O sistema deve descartar o pedido revertido", source.getId()), null);
+            // A leitura dentro da transação vê e guarda o texto ainda não confirmado
+            requirementService.getRequirementByReqId("REQ-611", null);
+            assertThat(cached(CacheNames.REQUIREMENTS, "REQ-611")).isNotNull();
+            status.setRollbackOnly();
+        });
+
+        assertThat(cached(CacheNames.REQUIREMENTS, "REQ-611")).isNull();
+        assertThat(requirementService.getRequirementByReqId("REQ-611", null).getDescription())
+                .isEqualTo("O sistema deve manter o pedido confirmado");
+    }
+
+    @Test
+    void emptyResultsAreNotCached() {
+        AtomicInteger loads = new AtomicInteger();
+
+        Optional<String> missing = lookupCache.get(CacheNames.GLOSSARY, "termo-futuro", () -> {
+            loads.incrementAndGet();
+            return Optional.empty();
+        });
+        Optional<String> found = lookupCache.get(CacheNames.GLOSSARY, "termo-futuro", () -> {
+            loads.incrementAndGet();
+            return Optional.of("cadastrado");
+        });
+
+        assertThat(missing).isEmpty();
+        assertThat(found).contains("cadastrado");
+        assertThat(loads).hasValue(2);
+    }
+
+    private Object cached(String cacheName, Object key) {
+        Cache.ValueWrapper value = cacheManager.getCache(cacheName).get(key);
+        return value == null ? null : value.get();
+    }
+
+    private Stakeholder stakeholder(String email) {
+        return stakeholderRepository.save(Stakeholder.builder()
+                .name("Analista de Cache")
+                .role("Analista")
+                .email(email)
+                .build());
+    }
+
+    private static RequirementRequest requirement(String requirementId, String description, Long sourceId) {
+        return RequirementRequest.builder()
+                .requirementId(requirementId)
+                .description(description)
+                .rationale("Necessário para a consulta dos pedidos")
+                .fitCriterion("O pedido aparece em até 2 segundos")
+                .type(RequirementType.FUNCTIONAL)
+                .priority(2)
+                .sourceId(sourceId)
+                .build();
+    }
+}
@@ -0,0 +1,52 @@
+package com.openreqs.openreqs.service.diff;
+
+import com.openreqs.openreqs.dto.TextSegment;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class WordDiffTest {
+
+    @Test
+    void reportsChangedWordsAndRebuildsBothSides() {
+        String before = "O sistema deve responder em até 5 segundos, sempre.";
+        String after = "O sistema deve responder em até 2 segundos para 95% das consultas, sempre.";
+
+        List<TextSegment> segments = WordDiff.diff(before, after);
+
+        assertEquals(before, side(segments, TextSegment.Operation.INSERT));
+        assertEquals(after, side(segments, TextSegment.Operation.DELETE));
+        assertEquals(List.of(
+                        new TextSegment(TextSegment.Operation.EQUAL, "O sistema deve responder em até "),
+                        new TextSegment(TextSegment.Operation.DELETE, "5"),
+                        new TextSegment(TextSegment.Operation.INSERT, "2"),
+                        new TextSegment(TextSegment.Operation.EQUAL, " segundos"),
+                        new TextSegment(TextSegment.Operation.INSERT, " para 95% das consultas"),
+                        new TextSegment(TextSegment.Operation.EQUAL, ", sempre.")),
+                segments);
+    }
+
+    @Test
+    void fallsBackToReplacementWhenTextsDifferTooMuch() {
+        String before = "a ".repeat(WordDiff.MAX_EDITS);
+        String after = "b ".repeat(WordDiff.MAX_EDITS);
+
+        List<TextSegment> segments = WordDiff.diff(before, after);
+
+        assertEquals(before, side(segments, TextSegment.Operation.INSERT));
+        assertEquals(after, side(segments, TextSegment.Operation.DELETE));
+        assertTrue(WordDiff.diff("igual", "igual").isEmpty());
+    }
+
+    // Texto de um dos lados: todos os trechos exceto os da operação informada
+    private static String side(List<TextSegment> segments, TextSegment.Operation excluded) {
+        return segments.stream()
+                .filter(segment -> segment.getOperation() != excluded)
+                .map(TextSegment::getText)
+                .collect(Collectors.joining());
+    }
+}
@@ -0,0 +1,56 @@
+package com.openreqs.openreqs.service.duplicate;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class NearDuplicateIndexTest {
+
+    private static final String DESCRIPTION =
+            "O sistema deve enviar um e-mail de confirmação ao cliente em até 5 minutos após a aprovação do pedido";
+
+    @Test
+    void findsRewordedRequirementAndIgnoresUnrelatedOnes() {
+        NearDuplicateIndex index = new NearDuplicateIndex(null, null, null, 0.5, 5, 100);
+        index.index(1L, "REQ-001", DESCRIPTION);
+        index.index(2L, "REQ-002", "O relatório mensal de vendas deve ser exportado em PDF pelo gerente");
+        index.index(3L, "REQ-003", "o sistema deve enviar um E-MAIL de confirmacao ao cliente em ate 5 minutos "
+                + "apos a aprovacao do pedido!");
+
+        List<NearDuplicateIndex.Match> matches = index.findSimilar(
+                "O sistema deve enviar um e-mail de confirmação ao cliente em até 5 minutos após a aprovação do pedido.",
+                null);
+
+        assertEquals(List.of("REQ-001", "REQ-003"),
+                matches.stream().map(NearDuplicateIndex.Match::requirementId).toList());
+        assertEquals(1.0, matches.get(0).similarity());
+    }
+
+    @Test
+    void removedAndReindexedRequirementsLeaveNoStaleBuckets() {
+        NearDuplicateIndex index = new NearDuplicateIndex(null, null, null, 0.5, 5, 100);
+        index.index(1L, "REQ-001", DESCRIPTION);
+        index.index(1L, "REQ-001", "O gerente deve aprovar descontos acima de 10% do valor do pedido");
+
+        assertTrue(index.findSimilar(DESCRIPTION, null).isEmpty());
+        assertEquals(1, index.findSimilar("O gerente deve aprovar descontos acima de 10% do valor do pedido", 2L).size());
+        assertTrue(index.findSimilar("O gerente deve aprovar descontos acima de 10% do valor do pedido", 1L).isEmpty());
+
+        index.remove(1L);
+        assertEquals(0, index.size());
+    }
+
+    @Test
+    void candidatesPerQueryAreCapped() {
+        NearDuplicateIndex index = new NearDuplicateIndex(null, null, null, 0.5, 10, 3);
+        for (long id = 1; id <= 8; id++) {
+            index.index(id, "REQ-00" + id, DESCRIPTION);
+        }
+
+        assertEquals(3, index.findSimilar(DESCRIPTION, null).size());
+        assertTrue(index.findSimilar(DESCRIPTION, 1L).stream().noneMatch(match -> match.id() == 1L));
+    }
+}
@@ -0,0 +1,63 @@
+package com.openreqs.openreqs.service.export;
+
+import com.openreqs.openreqs.domain.enums.RequirementStatus;
+import com.openreqs.openreqs.domain.enums.RequirementType;
+import com.openreqs.openreqs.repository.DependencyExportRow;
+import com.openreqs.openreqs.repository.RequirementExportRow;
+import org.junit.jupiter.api.Test;
+import org.w3c.dom.Document;
+
+import javax.xml.parsers.DocumentBuilderFactory;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ExportWriterTest {
+
+    private static final RequirementExportRow REQUIREMENT = new RequirementExportRow(1L, "REQ-001",
+            "O sistema deve exibir \"Pedido, confirmado\"\nao cliente", "Justificativa\u0007", "", RequirementType.FUNCTIONAL,
+            RequirementStatus.DRAFT, 1, "v1.0", false, 7L, "Ana", LocalDateTime.of(2025, 1, 31, 18, 0),
+            LocalDateTime.of(2025, 2, 1, 9, 30));
+    private static final DependencyExportRow DEPENDENCY = new DependencyExportRow(1L, "REQ-001", 2L, "REQ-002");
+
+    @Test
+    void csvQuotesSpecialFieldsAndSeparatesTheDependencySection() throws IOException {
+        String csv = export(CsvExportWriter::new);
+
+        String[] sections = csv.split("\r\n\r\n");
+        assertEquals(2, sections.length);
+        assertTrue(sections[0].contains(",\"O sistema deve exibir \"\"Pedido, confirmado\"\"\nao cliente\","));
+        assertEquals("id,requirementId,dependsOnId,dependsOnRequirementId\r\n1,REQ-001,2,REQ-002\r\n", sections[1]);
+    }
+
+    @Test
+    void reqIfIsWellFormedWithObjectsAndRelations() throws Exception {
+        String reqIf = export(ReqIfExportWriter::new);
+
+        Document document = DocumentBuilderFactory.newInstance().newDocumentBuilder()
+                .parse(new ByteArrayInputStream(reqIf.getBytes(StandardCharsets.UTF_8)));
+        assertEquals(1, document.getElementsByTagName("SPEC-OBJECT").getLength());
+        assertEquals(1, document.getElementsByTagName("SPEC-RELATION").getLength());
+        assertEquals("req-2", document.getElementsByTagName("TARGET").item(0).getTextContent().trim());
+    }
+
+    private static String export(WriterFactory factory) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ExportWriter writer = factory.create(out);
+        writer.start();
+        writer.writeRequirement(REQUIREMENT);
+        writer.startDependencies();
+        writer.writeDependency(DEPENDENCY);
+        writer.finish();
+        return out.toString(StandardCharsets.UTF_8);
+    }
+
+    private interface WriterFactory {
+        ExportWriter create(ByteArrayOutputStream out) throws IOException;
+    }
+}
@@ -0,0 +1,103 @@
+package com.openreqs.openreqs.service.feed;
+
+import com.openreqs.openreqs.domain.entity.Requirement;
+import com.openreqs.openreqs.domain.enums.ChangeType;
+import com.openreqs.openreqs.dto.RequirementChangePage;
+import com.openreqs.openreqs.dto.RequirementChangeResponse;
+import com.openreqs.openreqs.service.metrics.PersistenceCounters;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.IllegalTransactionStateException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+class ChangeFeedTest {
+
+    @Autowired
+    private ChangeFeed feed;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    void uncommittedLowerSequenceHoldsBackCommittedHigherOneUntilRollback() {
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        feed.refresh();
+        long start = end();
+
+        transaction.executeWithoutResult(open -> {
+            feed.record(ChangeType.UPDATED, requirement(9001L, "REQ-901"));
+
+            // Outra transação grava uma sequência maior e confirma enquanto esta segue aberta
+            CompletableFuture.runAsync(() -> transaction.executeWithoutResult(
+                    committed -> feed.record(ChangeType.CREATED, requirement(9002L, "REQ-902")))).join();
+
+            feed.refresh();
+            RequirementChangePage held = feed.read(start, 10);
+            assertThat(held.getChanges()).isEmpty();
+            assertThat(held.getNext()).isEqualTo(start);
+
+            open.setRollbackOnly();
+        });
+
+        feed.refresh();
+        RequirementChangePage released = feed.read(start, 10);
+        assertThat(released.getChanges())
+                .extracting(RequirementChangeResponse::getRequirementId)
+                .containsExactly("REQ-902");
+        assertThat(released.getNext()).isEqualTo(released.getChanges().get(0).getSequence());
+    }
+
+    @Test
+    void bothOverloadsRequireATransaction() {
+        Requirement requirement = requirement(9003L, "REQ-903");
+
+        assertThatThrownBy(() -> feed.record(ChangeType.CREATED, requirement))
+                .isInstanceOf(IllegalTransactionStateException.class);
+        assertThatThrownBy(() -> feed.record(ChangeType.DEPENDENCY_ADDED, requirement, 9001L))
+                .isInstanceOf(IllegalTransactionStateException.class);
+    }
+
+    @Test
+    void eventsOfOneTransactionShareASequenceBlock() {
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+
+        transaction.executeWithoutResult(status -> {
+            PersistenceCounters.Counts counts = PersistenceCounters.begin();
+            try {
+                for (long id = 9004L; id < 9014L; id++) {
+                    feed.record(ChangeType.CREATED, requirement(id, "REQ-" + (id - 8100)));
+                }
+            } finally {
+                PersistenceCounters.unbind();
+            }
+            // Os INSERTs só saem no flush; no máximo um novo bloco foi reservado
+            assertThat(counts.statements()).isLessThanOrEqualTo(1);
+            status.setRollbackOnly();
+        });
+    }
+
+    private long end() {
+        long cursor = 0;
+        RequirementChangePage page;
+        do {
+            page = feed.read(cursor, 500);
+            cursor = page.getNext();
+        } while (!page.getChanges().isEmpty());
+        return cursor;
+    }
+
+    private static Requirement requirement(Long id, String requirementId) {
+        return Requirement.builder()
+                .id(id)
+                .requirementId(requirementId)
+                .build();
+    }
+}
@@ -0,0 +1,53 @@
+package com.openreqs.openreqs.service.glossary;
+
+import com.openreqs.openreqs.domain.entity.ProjectGlossary;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayDeque;
+import java.util.Queue;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class GlossaryIndexTest {
+
+    // Montagens ficam na fila até o teste rodá-las
+    private final Queue<Runnable> rebuilds = new ArrayDeque<>();
+    private final GlossaryIndex index = new GlossaryIndex(null, rebuilds::add);
+
+    @Test
+    void burstOfWritesIsPublishedByASingleRebuild() {
+        index.put(term(1L, "Requisito"));
+        index.put(term(2L, "Stakeholder"));
+        index.put(term(3L, "Glossário"));
+        index.remove(2L);
+
+        assertThat(rebuilds).hasSize(1);
+        assertThat(index.size()).isZero();
+
+        rebuilds.poll().run();
+        assertThat(index.size()).isEqualTo(2);
+        assertThat(index.autocomplete("", 10)).extracting(ProjectGlossary::getTerm)
+                .containsExactly("Glossário", "Requisito");
+    }
+
+    @Test
+    void writeAfterARebuildStartsSchedulesAnother() {
+        index.put(term(1L, "Requisito"));
+        Runnable first = rebuilds.poll();
+
+        first.run();
+        index.put(term(2L, "Stakeholder"));
+        Runnable second = rebuilds.poll();
+        assertThat(second).isNotNull();
+
+        assertThat(index.size()).isEqualTo(1);
+
+        second.run();
+        assertThat(index.size()).isEqualTo(2);
+        assertThat(rebuilds).isEmpty();
+    }
+
+    private static ProjectGlossary term(Long id, String term) {
+        return ProjectGlossary.builder().id(id).term(term).definition("Definição").build();
+    }
+}
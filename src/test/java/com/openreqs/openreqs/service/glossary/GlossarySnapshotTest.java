@@ -0,0 +1,50 @@
+package com.openreqs.openreqs.service.glossary;
+
+import com.openreqs.openreqs.domain.entity.ProjectGlossary;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class GlossarySnapshotTest {
+
+    private final GlossarySnapshot snapshot = GlossarySnapshot.build(List.of(
+            term(1L, "Requisito", null, "Condição ou capacidade necessária"),
+            term(2L, "Interface de Programação", "API", "Contrato de comunicação entre sistemas"),
+            term(3L, "Requisito Não Funcional", "RNF", "Atributo de qualidade do sistema"),
+            term(4L, "Stakeholder", null, null)));
+
+    @Test
+    void autocompletesTermsAndAcronymsInAlphabeticalOrder() {
+        assertThat(terms(snapshot.autocomplete("req", 10)))
+                .containsExactly("Requisito", "Requisito Não Funcional");
+        assertThat(terms(snapshot.autocomplete("requisito nao", 10))).containsExactly("Requisito Não Funcional");
+        assertThat(terms(snapshot.autocomplete("ap", 10))).containsExactly("Interface de Programação");
+        assertThat(terms(snapshot.autocomplete("r", 1))).containsExactly("Requisito");
+        assertThat(snapshot.autocomplete("xyz", 10)).isEmpty();
+    }
+
+    @Test
+    void searchesDefinitionsIgnoringAccentsAndNullDefinitions() {
+        assertThat(terms(snapshot.search("COMUNICACAO"))).containsExactly("Interface de Programação");
+        assertThat(terms(snapshot.search("stake"))).containsExactly("Stakeholder");
+        assertThat(terms(snapshot.search("si"))).isNotEmpty();
+    }
+
+    @Test
+    void ranksTermMatchesBeforeDefinitionMatches() {
+        assertThat(terms(snapshot.search("requisito")))
+                .containsExactly("Requisito", "Requisito Não Funcional");
+        assertThat(terms(snapshot.search("sistema")))
+                .containsExactly("Interface de Programação", "Requisito Não Funcional");
+    }
+
+    private static ProjectGlossary term(Long id, String term, String acronym, String definition) {
+        return ProjectGlossary.builder().id(id).term(term).acronym(acronym).definition(definition).build();
+    }
+
+    private static List<String> terms(List<ProjectGlossary> entries) {
+        return entries.stream().map(ProjectGlossary::getTerm).toList();
+    }
+}
@@ -0,0 +1,83 @@
+package com.openreqs.openreqs.service.graph;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DependencyGraphTest {
+
+    @Test
+    void rejectsSelfAndTransitiveCycles() {
+        DependencyGraph graph = new DependencyGraph();
+        assertThat(graph.addEdge(1, 1)).isEqualTo(DependencyGraph.InsertResult.CYCLE);
+
+        assertThat(graph.addEdge(1, 2)).isEqualTo(DependencyGraph.InsertResult.ADDED);
+        assertThat(graph.addEdge(2, 3)).isEqualTo(DependencyGraph.InsertResult.ADDED);
+        assertThat(graph.lastSearchSize()).isZero();
+        assertThat(graph.addEdge(1, 2)).isEqualTo(DependencyGraph.InsertResult.ALREADY_PRESENT);
+        assertThat(graph.addEdge(3, 1)).isEqualTo(DependencyGraph.InsertResult.CYCLE);
+        // A busca de 1 passou por 2 antes de chegar em 3
+        assertThat(graph.lastSearchSize()).isEqualTo(2);
+        assertThat(graph.edgeCount()).isEqualTo(2);
+    }
+
+    @Test
+    void reordersWhenEdgeGoesAgainstCurrentOrder() {
+        DependencyGraph graph = new DependencyGraph();
+        // 3 e 4 entram depois de 1 e 2, então 4 → 1 exige reordenação
+        graph.addEdge(1, 2);
+        graph.addEdge(3, 4);
+        assertThat(graph.addEdge(4, 1)).isEqualTo(DependencyGraph.InsertResult.ADDED);
+        assertThat(graph.addEdge(2, 3)).isEqualTo(DependencyGraph.InsertResult.CYCLE);
+        // Uma inserção recusada não altera o grafo
+        assertThat(graph.addEdge(2, 4)).isEqualTo(DependencyGraph.InsertResult.CYCLE);
+        assertThat(graph.edgeCount()).isEqualTo(3);
+        assertThat(graph.addEdge(3, 2)).isEqualTo(DependencyGraph.InsertResult.ADDED);
+    }
+
+    @Test
+    void removedEdgeNoLongerBlocksReverseEdge() {
+        DependencyGraph graph = new DependencyGraph();
+        graph.addEdge(1, 2);
+        assertThat(graph.removeEdge(1, 2)).isTrue();
+        assertThat(graph.addEdge(2, 1)).isEqualTo(DependencyGraph.InsertResult.ADDED);
+        assertThat(graph.hasEdge(1, 2)).isFalse();
+    }
+
+    @Test
+    void agreesWithFullSearchOnRandomInsertions() {
+        Random random = new Random(7);
+        int nodes = 60;
+        DependencyGraph graph = new DependencyGraph();
+        boolean[][] adjacency = new boolean[nodes][nodes];
+
+        for (int i = 0; i < 2000; i++) {
+            int from = random.nextInt(nodes);
+            int to = random.nextInt(nodes);
+            boolean cycle = from == to || reaches(adjacency, to, from, new boolean[nodes]);
+
+            DependencyGraph.InsertResult result = graph.addEdge(from, to);
+            if (cycle) {
+                assertThat(result).isEqualTo(DependencyGraph.InsertResult.CYCLE);
+            } else {
+                assertThat(result).isNotEqualTo(DependencyGraph.InsertResult.CYCLE);
+                adjacency[from][to] = true;
+            }
+        }
+    }
+
+    private boolean reaches(boolean[][] adjacency, int from, int target, boolean[] visited) {
+        if (from == target) {
+            return true;
+        }
+        visited[from] = true;
+        for (int next = 0; next < adjacency.length; next++) {
+            if (adjacency[from][next] && !visited[next] && reaches(adjacency, next, target, visited)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
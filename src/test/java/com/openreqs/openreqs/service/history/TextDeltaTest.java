@@ -0,0 +1,42 @@
+package com.openreqs.openreqs.service.history;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TextDeltaTest {
+
+    @Test
+    void localEditIsStoredAsDeltaAndRestored() {
+        String base = "O sistema deve registrar o pedido do cliente em até 2 segundos";
+        String target = "O sistema deve registrar o pedido do fornecedor em até 2 segundos";
+
+        String delta = TextDelta.encode(base, target);
+
+        assertTrue(delta.startsWith("+"));
+        assertTrue(delta.length() < target.length());
+        assertEquals(target, TextDelta.apply(base, delta));
+    }
+
+    @Test
+    void repeatedCharactersAtTheEditPointDoNotOverlap() {
+        assertEquals("aaa", TextDelta.apply("aa", TextDelta.encode("aa", "aaa")));
+        assertEquals("a", TextDelta.apply("aa", TextDelta.encode("aa", "a")));
+        assertEquals("", TextDelta.apply("abc", TextDelta.encode("abc", "")));
+    }
+
+    @Test
+    void unrelatedTextOrMissingBaseIsStoredInFull() {
+        assertEquals("=xyz", TextDelta.encode("abc", "xyz"));
+        assertEquals("=abc", TextDelta.encode(null, "abc"));
+        assertEquals("abc", TextDelta.apply(null, "=abc"));
+    }
+
+    @Test
+    void nullStaysNull() {
+        assertNull(TextDelta.encode("abc", null));
+        assertNull(TextDelta.apply("abc", null));
+    }
+}
@@ -0,0 +1,70 @@
+package com.openreqs.openreqs.service.quality;
+
+import com.openreqs.openreqs.dto.QualityFinding;
+import com.openreqs.openreqs.dto.RequirementRequest;
+import com.openreqs.openreqs.exception.RequirementViolationException;
+import com.openreqs.openreqs.service.quality.text.AnalyzedRequirement;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class AmbiguityCheckerTest {
+
+    private final AmbiguityChecker checker = new AmbiguityChecker(request -> AmbiguityDictionary.DEFAULT);
+
+    @Test
+    void detectsSubjectiveWordIgnoringAccents() {
+        assertThatThrownBy(() -> checker.validate(request("O sistema deve ser rapido para o usuario")))
+                .isInstanceOfSatisfying(RequirementViolationException.class, ex -> {
+                    assertThat(ex.getViolationType()).isEqualTo("SUBJECTIVITY");
+                    assertThat(ex.getProblematicContent()).isEqualTo("rapido");
+                });
+    }
+
+    @Test
+    void subjectiveWordsTakePriorityOverQuantifiers() {
+        assertThatThrownBy(() -> checker.validate(request("Todos os relatórios devem ser simples")))
+                .isInstanceOfSatisfying(RequirementViolationException.class, ex ->
+                        assertThat(ex.getViolationType()).isEqualTo("SUBJECTIVITY"));
+    }
+
+    @Test
+    void detectsMultiWordVagueVerb() {
+        assertThatThrownBy(() -> checker.validate(request("O sistema deve lidar com pedidos do cliente")))
+                .isInstanceOfSatisfying(RequirementViolationException.class, ex -> {
+                    assertThat(ex.getViolationType()).isEqualTo("VAGUE_ACTION");
+                    assertThat(ex.getProblematicContent()).isEqualTo("lidar com");
+                });
+    }
+
+    @Test
+    void ignoresTermsInsideLongerWords() {
+        assertThatCode(() -> checker.validate(request("O sistema deve exibir o saldo da cadastrada conta")))
+                .doesNotThrowAnyException();
+    }
+
+    @Test
+    void inspectReportsEveryFindingWithOffsets() {
+        String description = "O sistema deve ser rápido e sempre exibir a confirmação muito clara";
+        List<QualityFinding> findings = checker.inspect(AnalyzedRequirement.of(request(description)));
+
+        assertThat(findings).extracting(QualityFinding::getViolationType)
+                .containsExactly("SUBJECTIVITY", "UNIVERSAL_QUANTIFIER", "NOMINALIZATION", "SUPERLATIVE");
+        QualityFinding nominalization = findings.get(2);
+        assertThat(description.substring(nominalization.getStart(), nominalization.getEnd()))
+                .isEqualTo("confirmação");
+        assertThat(findings.get(3).getProblematicContent()).isEqualTo("muito clara");
+    }
+
+    private RequirementRequest request(String description) {
+        return RequirementRequest.builder()
+                .requirementId("REQ-001")
+                .description(description)
+                .rationale("Justificativa suficiente")
+                .build();
+    }
+}
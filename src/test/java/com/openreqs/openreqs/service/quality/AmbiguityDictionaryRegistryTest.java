@@ -0,0 +1,70 @@
+package com.openreqs.openreqs.service.quality;
+
+import com.openreqs.openreqs.domain.entity.RuleDictionaryEntry;
+import com.openreqs.openreqs.domain.enums.DictionaryCategory;
+import com.openreqs.openreqs.dto.QualityFinding;
+import com.openreqs.openreqs.dto.RequirementRequest;
+import com.openreqs.openreqs.repository.RuleDictionaryEntryRepository;
+import com.openreqs.openreqs.service.QualityService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+class AmbiguityDictionaryRegistryTest {
+
+    private static final String DESCRIPTION = "O checkout deve ser intuitivo e ágil";
+
+    @Autowired
+    private AmbiguityDictionaryRegistry registry;
+
+    @Autowired
+    private RuleDictionaryEntryRepository dictionaryRepository;
+
+    @Autowired
+    private QualityService qualityService;
+
+    @Test
+    void eachProjectIsValidatedWithItsOwnDictionary() {
+        List<RuleDictionaryEntry> entries = dictionaryRepository.saveAll(List.of(
+                entry("loja", "intuitivo"),
+                entry("banco", "ágil")));
+        try {
+            registry.recompile();
+
+            assertThat(ambiguities("loja", null)).containsExactly("intuitivo");
+            assertThat(ambiguities("banco", "pt-BR")).containsExactly("ágil");
+            // Par sem dicionário compilado: o ativo, com as listas embutidas
+            assertThat(ambiguities("banco", "en")).isEqualTo(ambiguities(null, null));
+        } finally {
+            dictionaryRepository.deleteAll(entries);
+            registry.recompile();
+        }
+    }
+
+    private List<String> ambiguities(String project, String language) {
+        return qualityService.analyzeInline(RequirementRequest.builder()
+                        .requirementId("REQ-001")
+                        .description(DESCRIPTION)
+                        .project(project)
+                        .language(language)
+                        .build())
+                .getFindings().stream()
+                .filter(finding -> "SUBJECTIVITY".equals(finding.getViolationType()))
+                .map(QualityFinding::getProblematicContent)
+                .toList();
+    }
+
+    private static RuleDictionaryEntry entry(String project, String term) {
+        return RuleDictionaryEntry.builder()
+                .project(project)
+                .language("pt-BR")
+                .category(DictionaryCategory.SUBJECTIVE_WORDS)
+                .term(term)
+                .build();
+    }
+}
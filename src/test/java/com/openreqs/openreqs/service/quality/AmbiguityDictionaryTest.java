@@ -0,0 +1,53 @@
+package com.openreqs.openreqs.service.quality;
+
+import com.openreqs.openreqs.domain.enums.DictionaryCategory;
+import com.openreqs.openreqs.dto.QualityFinding;
+import com.openreqs.openreqs.dto.RequirementRequest;
+import com.openreqs.openreqs.service.quality.text.AnalyzedRequirement;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AmbiguityDictionaryTest {
+
+    @Test
+    void customCategoriesReplaceBuiltInListsAndOthersAreKept() {
+        AmbiguityDictionary dictionary = AmbiguityDictionary.compile("loja", "en", Map.of(
+                DictionaryCategory.SUBJECTIVE_WORDS, List.of("user-friendly", "fast"),
+                DictionaryCategory.NOMINALIZATION_SUFFIXES, List.of("ment")));
+        AmbiguityChecker checker = new AmbiguityChecker(request -> dictionary);
+
+        assertThat(types(checker, "The checkout must be fast and user-friendly")).containsExactly(
+                "SUBJECTIVITY", "SUBJECTIVITY");
+        assertThat(types(checker, "O sistema deve ser rápido")).isEmpty();
+        assertThat(types(checker, "Payment must be confirmed")).containsExactly("NOMINALIZATION");
+        // Quantificadores não foram cadastrados: continua a lista embutida
+        assertThat(types(checker, "Todos os pedidos")).containsExactly("UNIVERSAL_QUANTIFIER");
+    }
+
+    @Test
+    void checkerSeesTheDictionaryPublishedAtTheStartOfEachAnalysis() {
+        AtomicReference<AmbiguityDictionary> published = new AtomicReference<>(AmbiguityDictionary.DEFAULT);
+        AmbiguityChecker checker = new AmbiguityChecker(request -> published.get());
+        assertThat(types(checker, "O relatório deve ser legível")).isEmpty();
+
+        published.set(AmbiguityDictionary.compile("default", "pt-BR",
+                Map.of(DictionaryCategory.SUBJECTIVE_WORDS, List.of("legível"))));
+
+        assertThat(types(checker, "O relatório deve ser legivel")).containsExactly("SUBJECTIVITY");
+    }
+
+    private static List<String> types(AmbiguityChecker checker, String description) {
+        return checker.inspect(AnalyzedRequirement.of(RequirementRequest.builder()
+                        .requirementId("REQ-001")
+                        .description(description)
+                        .build()))
+                .stream()
+                .map(QualityFinding::getViolationType)
+                .toList();
+    }
+}
@@ -0,0 +1,84 @@
+package com.openreqs.openreqs.service.quality;
+
+import com.openreqs.openreqs.domain.entity.ProjectGlossary;
+import com.openreqs.openreqs.domain.enums.RequirementField;
+import com.openreqs.openreqs.dto.GlossaryLink;
+import com.openreqs.openreqs.dto.QualityFinding;
+import com.openreqs.openreqs.dto.RequirementRequest;
+import com.openreqs.openreqs.service.glossary.GlossaryIndex;
+import com.openreqs.openreqs.service.quality.text.AnalyzedRequirement;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+class GlossaryCheckerTest {
+
+    private final GlossaryIndex glossaryIndex = new GlossaryIndex(null, Runnable::run);
+    private final GlossaryChecker checker = new GlossaryChecker(glossaryIndex, true);
+
+    @Test
+    void linksLongestTermsAndWarnsAboutUndefinedAcronyms() {
+        glossaryIndex.put(term(1L, "Pedido", null));
+        glossaryIndex.put(term(2L, "Pedido de Compra", "PC"));
+        glossaryIndex.put(term(3L, "Nota Fiscal Eletrônica", "NF-e"));
+
+        AnalyzedRequirement requirement = AnalyzedRequirement.of(RequirementRequest.builder()
+                .requirementId("REQ-001")
+                .description("O pedido de compra deve gerar a NF-e via API, conforme REQ-002")
+                .fitCriterion("O PC aparece no ERP e na API")
+                .build());
+        RuleResult result = checker.evaluate(requirement);
+
+        assertThat(result.glossaryTerms())
+                .extracting(GlossaryLink::getTermId, GlossaryLink::getText, GlossaryLink::getField)
+                .containsExactly(
+                        tuple(2L, "pedido de compra", RequirementField.DESCRIPTION),
+                        tuple(3L, "NF-e", RequirementField.DESCRIPTION),
+                        tuple(2L, "PC", RequirementField.FIT_CRITERION));
+        assertThat(result.findings()).isEmpty();
+        assertThat(result.warnings())
+                .extracting(QualityFinding::getProblematicContent, QualityFinding::getField)
+                .containsExactly(
+                        tuple("API", RequirementField.DESCRIPTION),
+                        tuple("ERP", RequirementField.FIT_CRITERION),
+                        tuple("API", RequirementField.FIT_CRITERION));
+    }
+
+    @Test
+    void seesTermsAddedAfterConstruction() {
+        RuleResult before = checker.evaluate(analyzed("Integração com o ERP do cliente"));
+        assertThat(before.warnings()).hasSize(1);
+
+        glossaryIndex.put(term(4L, "Enterprise Resource Planning", "ERP"));
+
+        RuleResult after = checker.evaluate(analyzed("Integração com o ERP do cliente"));
+        assertThat(after.warnings()).isEmpty();
+        assertThat(after.glossaryTerms()).extracting(GlossaryLink::getTermId).containsExactly(4L);
+    }
+
+    @Test
+    void acronymsMatchOnlyWithTheirRegisteredCase() {
+        glossaryIndex.put(term(5L, "Tecnologia da Informação", "TI"));
+        glossaryIndex.put(term(6L, "Sistema Especialista", "SE"));
+
+        RuleResult lowerCase = checker.evaluate(analyzed("Se o pedido chegar, o sistema avisa a ti e a TI"));
+        assertThat(lowerCase.glossaryTerms())
+                .extracting(GlossaryLink::getTermId, GlossaryLink::getText)
+                .containsExactly(tuple(5L, "TI"));
+
+        // O termo por extenso continua casando sem distinção de caixa
+        RuleResult spelledOut = checker.evaluate(analyzed("O sistema especialista consulta a TI"));
+        assertThat(spelledOut.glossaryTerms())
+                .extracting(GlossaryLink::getTermId, GlossaryLink::getText)
+                .containsExactly(tuple(6L, "sistema especialista"), tuple(5L, "TI"));
+    }
+
+    private static AnalyzedRequirement analyzed(String description) {
+        return AnalyzedRequirement.of(RequirementRequest.builder().requirementId("REQ-001").description(description).build());
+    }
+
+    private static ProjectGlossary term(Long id, String term, String acronym) {
+        return ProjectGlossary.builder().id(id).term(term).acronym(acronym).definition("Definição").build();
+    }
+}
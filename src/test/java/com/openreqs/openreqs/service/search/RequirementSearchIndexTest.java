@@ -0,0 +1,62 @@
+package com.openreqs.openreqs.service.search;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RequirementSearchIndexTest {
+
+    // O carregamento inicial não é usado nestes testes
+    private final RequirementSearchIndex index = new RequirementSearchIndex(null, null, null);
+
+    @Test
+    void matchesAcrossAccentsAndInflections() {
+        index.index(1, "O sistema deve realizar a validação da senha do usuário", null, null);
+        index.index(2, "O sistema deve exportar relatórios mensais", null, null);
+
+        assertThat(ids(index.search(index.queryTerms("validacao"), 0, 10))).containsExactly(1L);
+        assertThat(ids(index.search(index.queryTerms("validar senhas"), 0, 10))).containsExactly(1L);
+        assertThat(ids(index.search(index.queryTerms("relatório"), 0, 10))).containsExactly(2L);
+    }
+
+    @Test
+    void ranksDescriptionAboveSupportingFieldsAndPaginates() {
+        index.index(1, "O sistema deve enviar notificações", "Auditoria exigida pelo cliente", null);
+        index.index(2, "O sistema deve manter trilha de auditoria", null, null);
+        index.index(3, "O sistema deve gerar relatórios", null, "Relatório auditado pela equipe");
+
+        RequirementSearchIndex.SearchResult first = index.search(index.queryTerms("auditoria"), 0, 1);
+        assertThat(first.totalHits()).isEqualTo(2);
+        assertThat(ids(first)).containsExactly(2L);
+        assertThat(ids(index.search(index.queryTerms("auditoria"), 1, 1))).containsExactly(1L);
+        assertThat(ids(index.search(index.queryTerms("auditoria"), 2, 1))).isEmpty();
+    }
+
+    @Test
+    void reindexAndRemoveReplaceThePreviousDocument() {
+        index.index(1, "O sistema deve cadastrar clientes", null, null);
+        index.index(1, "O sistema deve cadastrar fornecedores", null, null);
+        assertThat(index.search(index.queryTerms("clientes"), 0, 10).totalHits()).isZero();
+        assertThat(index.search(index.queryTerms("fornecedor"), 0, 10).totalHits()).isEqualTo(1);
+
+        index.remove(1);
+        assertThat(index.size()).isZero();
+        assertThat(index.search(index.queryTerms("fornecedor"), 0, 10).totalHits()).isZero();
+    }
+
+    @Test
+    void highlightsMatchedWordsInOriginalText() {
+        Set<String> terms = index.queryTerms("validacao");
+        assertThat(RequirementSearchIndex.highlight("Exige Validação manual", terms))
+                .isEqualTo("Exige <em>Validação</em> manual");
+        assertThat(RequirementSearchIndex.highlight("Sem relação", terms)).isNull();
+    }
+
+    private static Long[] ids(RequirementSearchIndex.SearchResult result) {
+        return result.hits().stream()
+                .map(RequirementSearchIndex.ScoredRequirement::requirementId)
+                .toArray(Long[]::new);
+    }
+}
@@ -0,0 +1,138 @@
+package com.openreqs.openreqs.service.stats;
+
+import com.openreqs.openreqs.domain.entity.Stakeholder;
+import com.openreqs.openreqs.domain.enums.RequirementStatus;
+import com.openreqs.openreqs.domain.enums.RequirementType;
+import com.openreqs.openreqs.dto.RequirementRequest;
+import com.openreqs.openreqs.dto.RequirementStatisticsResponse;
+import com.openreqs.openreqs.repository.StakeholderRepository;
+import com.openreqs.openreqs.service.RequirementBatchService;
+import com.openreqs.openreqs.service.RequirementService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+class RequirementStatisticsTest {
+
+    @Autowired
+    private RequirementStatistics statistics;
+
+    @Autowired
+    private RequirementService requirementService;
+
+    @Autowired
+    private RequirementBatchService batchService;
+
+    @Autowired
+    private StakeholderRepository stakeholderRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    void incrementalCountersMatchReconciliationAfterEveryKindOfWrite() {
+        statistics.reconcile();
+        RequirementStatisticsResponse before = statistics.snapshot();
+        Long owner = stakeholder("contadores-1@openreqs.dev");
+        Long other = stakeholder("contadores-2@openreqs.dev");
+
+        Long first = requirementService.createRequirement(request("REQ-210", owner, RequirementType.FUNCTIONAL, 1)).getId();
+        Long second = requirementService.createRequirement(request("REQ-211", owner, RequirementType.FUNCTIONAL, 2)).getId();
+        Long third = requirementService.createRequirement(request("REQ-212", other, RequirementType.CONSTRAINT, 3)).getId();
+
+        // Edição que muda tipo e prioridade; aprovação seguida de edição, que abre nova versão em DRAFT
+        requirementService.updateRequirement(first, request("REQ-210", owner, RequirementType.QUALITY, 3), null);
+        requirementService.changeStatus(second, RequirementStatus.REVIEW, null);
+        requirementService.changeStatus(second, RequirementStatus.APPROVED, null);
+        requirementService.updateRequirement(second, request("REQ-211", owner, RequirementType.FUNCTIONAL, 1), null);
+        requirementService.changeStatus(second, RequirementStatus.REVIEW, null);
+        requirementService.deleteRequirement(third);
+        batchService.createRequirements(List.of(
+                request("REQ-213", other, RequirementType.FUNCTIONAL, 2),
+                request("REQ-214", other, RequirementType.FUNCTIONAL, 2)));
+
+        // Escritas desfeitas não contam
+        assertThatThrownBy(() -> requirementService.createRequirement(
+                request("REQ-215", 999_999L, RequirementType.FUNCTIONAL, 1)))
+                .hasMessage("Stakeholder não encontrado");
+
+        RequirementStatisticsResponse incremental = statistics.snapshot();
+        assertThat(incremental.getTotal()).isEqualTo(before.getTotal() + 4);
+        assertThat(incremental.getArchived()).isEqualTo(before.getArchived() + 1);
+        assertThat(incremental.getBySource()).containsEntry(owner, 2L).containsEntry(other, 2L);
+
+        statistics.reconcile();
+        RequirementStatisticsResponse reconciled = statistics.snapshot();
+        assertThat(reconciled.getLastDrift()).isZero();
+        assertThat(reconciled).usingRecursiveComparison()
+                .ignoringFields("reconciledAt", "lastDrift")
+                .isEqualTo(incremental);
+    }
+
+    @Test
+    void writeCommittedWhileReconciliationRunsIsCountedExactlyOnce() throws Exception {
+        Long owner = stakeholder("contadores-3@openreqs.dev");
+        statistics.reconcile();
+        long before = statistics.snapshot().getTotal();
+
+        // A reconciliação começa logo após o commit, antes de a diferença ser aplicada
+        AtomicReference<CompletableFuture<Void>> reconciliation = new AtomicReference<>();
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    reconciliation.set(CompletableFuture.runAsync(statistics::reconcile));
+                    try {
+                        reconciliation.get().get(500, TimeUnit.MILLISECONDS);
+                    } catch (TimeoutException expected) {
+                        // Esperando o fim da transação: é o que deve acontecer
+                    } catch (InterruptedException | ExecutionException e) {
+                        throw new IllegalStateException(e);
+                    }
+                }
+            });
+            requirementService.createRequirement(request("REQ-216", owner, RequirementType.FUNCTIONAL, 2));
+        });
+        reconciliation.get().get(10, TimeUnit.SECONDS);
+
+        assertThat(statistics.snapshot().getTotal()).isEqualTo(before + 1);
+        statistics.reconcile();
+        assertThat(statistics.snapshot().getLastDrift()).isZero();
+    }
+
+    private Long stakeholder(String email) {
+        return stakeholderRepository.save(Stakeholder.builder()
+                .name("Analista de Contagem")
+                .role("Analista")
+                .email(email)
+                .build()).getId();
+    }
+
+    private static RequirementRequest request(String requirementId, Long sourceId, RequirementType type,
+                                              int priority) {
+        return RequirementRequest.builder()
+                .requirementId(requirementId)
+                .description("O sistema deve contabilizar o pedido " + requirementId + " no painel")
+                .rationale("Necessário para o acompanhamento gerencial")
+                .fitCriterion("O painel deve mostrar o pedido em até 5 segundos")
+                .type(type)
+                .priority(priority)
+                .sourceId(sourceId)
+                .build();
+    }
+}